@@ -12,6 +12,8 @@ plugins {
     id("io.spring.dependency-management") version "1.1.6"
     // Java 플러그인: Java 컴파일 및 빌드 지원
     java
+    // JMH 플러그인: src/jmh 소스셋 기반 마이크로 벤치마크 (./gradlew jmh)
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 // ===================================================
@@ -41,6 +43,10 @@ object Versions {
     
     // Utility
     const val LOMBOK = "1.18.34"
+    const val JCTOOLS = "4.0.5"
+
+    // Benchmark
+    const val JMH = "1.37"
 }
 
 // ===================================================
@@ -99,16 +105,25 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-aop")
     // Actuator: 애플리케이션 모니터링 및 관리 (헬스체크, 메트릭스 등)
     implementation("org.springframework.boot:spring-boot-starter-actuator")
+    // Micrometer Prometheus 레지스트리: /actuator/prometheus 엔드포인트 노출
+    runtimeOnly("io.micrometer:micrometer-registry-prometheus")
+    // Cache 추상화 스타터 (@Cacheable 등) + Caffeine 로컬 캐시 구현체 (버전은 Spring Boot BOM 관리)
+    implementation("org.springframework.boot:spring-boot-starter-cache")
+    implementation("com.github.ben-manes.caffeine:caffeine")
 
     // -------------------- Spring Cloud (OpenFeign) --------------------
     // OpenFeign: 선언적 HTTP 클라이언트 (외부 API 호출)
     implementation("org.springframework.cloud:spring-cloud-starter-openfeign")
+    // Feign HTTP 엔진: Apache HttpClient 5 (커넥션 풀) / JDK HttpClient (HTTP/2) - 버전은 Spring Cloud BOM 관리
+    implementation("io.github.openfeign:feign-hc5")
+    implementation("io.github.openfeign:feign-java11")
 
     // -------------------- Database Drivers --------------------
     // Oracle JDBC 드라이버 (Primary 데이터소스용)
     runtimeOnly("com.oracle.database.jdbc:ojdbc11:${Versions.ORACLE}")
     // PostgreSQL JDBC 드라이버 (GPDB1, GPDB2용)
-    runtimeOnly("org.postgresql:postgresql:${Versions.POSTGRESQL}")
+    // COPY 기반 대량 적재에서 PgJDBC CopyManager API를 직접 사용하므로 컴파일 의존성으로 선언
+    implementation("org.postgresql:postgresql:${Versions.POSTGRESQL}")
     // H2 인메모리 데이터베이스 (로컬 개발용)
     runtimeOnly("com.h2database:h2:${Versions.H2}")
 
@@ -129,6 +144,10 @@ dependencies {
     // Logstash Logback Encoder: JSON 형식 로그 출력 (운영 환경용)
     implementation("net.logstash.logback:logstash-logback-encoder:${Versions.LOGSTASH_ENCODER}")
 
+    // -------------------- Concurrency --------------------
+    // JCTools: 고성능 lock-free 큐 (분석 데이터 쓰기 지연 버퍼용 MPSC 큐)
+    implementation("org.jctools:jctools-core:${Versions.JCTOOLS}")
+
     // -------------------- Lombok --------------------
     // Lombok: 보일러플레이트 코드 자동 생성 (Getter, Setter, Builder 등)
     compileOnly("org.projectlombok:lombok:${Versions.LOMBOK}")
@@ -178,3 +197,29 @@ tasks.named("clean") {
         file(querydslDir).deleteRecursively()
     }
 }
+
+// ===================================================
+// JMH 벤치마크 설정
+// ===================================================
+// src/jmh/java 의 벤치마크를 실행합니다.
+// 실행: ./gradlew jmh
+// 특정 벤치마크만 실행: ./gradlew jmh -Pjmh.includes=AnalyticsIngest
+// 결과 파일: build/reports/jmh/results.json (-Pjmh.resultsFile=경로 로 변경 가능)
+// 할당량 측정: ./gradlew jmh -Pjmh.profilers=gc
+// 실제 DB 대상 측정: ./gradlew jmh -Pjmh.profile=dev (기본: local, H2 인메모리)
+// ===================================================
+jmh {
+    jmhVersion.set(Versions.JMH)
+    fork.set(1)
+    warmupIterations.set(2)
+    iterations.set(3)
+    // 커밋 간 비교가 가능하도록 JSON 형식으로 결과를 저장합니다
+    resultFormat.set("JSON")
+    resultsFile.set(
+        (project.findProperty("jmh.resultsFile") as String?)?.let { file(it) }
+            ?: layout.buildDirectory.file("reports/jmh/results.json").get().asFile
+    )
+    (project.findProperty("jmh.includes") as String?)?.let { includes.set(listOf(it)) }
+    (project.findProperty("jmh.profilers") as String?)?.let { profilers.set(it.split(",")) }
+    (project.findProperty("jmh.profile") as String?)?.let { jvmArgsAppend.add("-Dbenchmark.profile=$it") }
+}
@@ -0,0 +1,88 @@
+#!/usr/bin/env bash
+# ===================================================
+# 플랫폼 스레드 / 가상 스레드 모드 처리량 비교
+# ===================================================
+# 애플리케이션을 두 모드로 차례로 기동하고 같은 k6 부하를 걸어
+# 초당 요청 수(http_reqs)와 응답 시간을 비교합니다.
+#
+# 외부 API는 고정 지연(UPSTREAM_DELAY_MS, 기본 50ms) 스텁(loadtest/upstream-stub.py)으로 대체합니다.
+#
+# 사전 요구사항: JDK 21, k6 (https://k6.io), python3
+# 사용법: [UPSTREAM_DELAY_MS=50] ./loadtest/compare-thread-modes.sh [VUS] [DURATION]
+# 결과: build/loadtest/{platform,virtual}.json, 비교표(PR 첨부용): build/loadtest/summary.md
+# ===================================================
+set -euo pipefail
+
+VUS="${1:-400}"
+DURATION="${2:-60s}"
+PORT=8080
+BASE_URL="http://localhost:${PORT}"
+OUT_DIR="build/loadtest"
+UPSTREAM_PORT=18080
+UPSTREAM_DELAY_MS="${UPSTREAM_DELAY_MS:-50}"
+
+cd "$(dirname "$0")/.."
+
+JAVA_MAJOR="$(java -XshowSettings:properties -version 2>&1 | awk -F'= ' '/java.specification.version/ {print $2}')"
+if [ "${JAVA_MAJOR%%.*}" -lt 21 ]; then
+    echo "가상 스레드 모드는 JDK 21 이상이 필요합니다 (현재: ${JAVA_MAJOR})" >&2
+    exit 1
+fi
+./gradlew -q bootJar
+JAR="$(ls build/libs/*.jar | grep -v plain | head -n 1)"
+mkdir -p "${OUT_DIR}"
+
+python3 loadtest/upstream-stub.py "${UPSTREAM_PORT}" "${UPSTREAM_DELAY_MS}" &
+UPSTREAM_PID=$!
+trap 'kill ${UPSTREAM_PID} 2>/dev/null || true' EXIT
+
+run_mode() {
+    local mode="$1" virtual="$2"
+    echo "=== ${mode} (spring.threads.virtual.enabled=${virtual}) ==="
+    java -jar "${JAR}" \
+        --server.port="${PORT}" \
+        --external.api.sample.url="http://localhost:${UPSTREAM_PORT}" \
+        --spring.threads.virtual.enabled="${virtual}" \
+        --spring.jpa.show-sql=false \
+        --logging.level.root=WARN > "${OUT_DIR}/${mode}.log" 2>&1 &
+    local pid=$!
+    trap 'kill ${pid} ${UPSTREAM_PID} 2>/dev/null || true' EXIT
+
+    until curl -sf "${BASE_URL}/actuator/health" > /dev/null; do sleep 1; done
+
+    k6 run --quiet -e BASE_URL="${BASE_URL}" -e VUS="${VUS}" -e DURATION="${DURATION}" \
+        --summary-export "${OUT_DIR}/${mode}.json" loadtest/thread-modes.js
+
+    kill "${pid}"
+    wait "${pid}" 2>/dev/null || true
+    trap 'kill ${UPSTREAM_PID} 2>/dev/null || true' EXIT
+}
+
+run_mode platform false
+run_mode virtual true
+
+summary_row() {
+    python3 - "$1" "$2" <<'PY'
+import json, sys
+m = json.load(open(sys.argv[2]))["metrics"]
+d = m["http_req_duration"]
+print(f'| {sys.argv[1]} | {m["http_reqs"]["rate"]:.1f} | {d["p(50)"]:.1f} | {d["p(95)"]:.1f} | {d["p(99)"]:.1f} | '
+      f'{m["http_req_failed"]["value"] * 100:.2f}% |')
+PY
+}
+
+{
+    echo "### 요청 처리 모드 비교 (VUS=${VUS}, DURATION=${DURATION})"
+    echo
+    echo "- 커밋: $(git rev-parse --short HEAD 2>/dev/null || echo unknown)"
+    echo "- JDK: ${JAVA_MAJOR}, CPU: $(nproc 2>/dev/null || sysctl -n hw.ncpu)"
+    echo "- 외부 API: 고정 지연 스텁 ${UPSTREAM_DELAY_MS}ms (캐시 미스 ID로 조회)"
+    echo
+    echo "| 모드 | req/s | p50 (ms) | p95 (ms) | p99 (ms) | 실패율 |"
+    echo "|------|------:|---------:|---------:|---------:|-------:|"
+    summary_row platform "${OUT_DIR}/platform.json"
+    summary_row virtual "${OUT_DIR}/virtual.json"
+} > "${OUT_DIR}/summary.md"
+
+echo
+cat "${OUT_DIR}/summary.md"
@@ -0,0 +1,60 @@
+// ===================================================
+// 요청 처리 모드(플랫폼 스레드 / 가상 스레드) 처리량 비교용 k6 스크립트
+// ===================================================
+// 외부 API 호출(Feign)과 GPDB 조회/저장이 섞인 요청을 일정 동시 사용자 수로 보냅니다.
+//
+// 외부 API 조회는 매번 다른 게시글 ID로 보내 CachingSampleExternalApiClient 캐시에 적중하지 않게 하므로,
+// 모든 요청이 실제 외부 호출(I/O 대기)을 거칩니다. 어떤 ID든 응답하는 고정 지연 스텁
+// (loadtest/upstream-stub.py)을 외부 API로 지정해야 하며, compare-thread-modes.sh가 함께 기동합니다.
+//
+// 실행 예시:
+//   k6 run -e BASE_URL=http://localhost:8080 -e VUS=400 loadtest/thread-modes.js
+//
+// 두 모드 비교는 loadtest/compare-thread-modes.sh를 사용하세요.
+// ===================================================
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+
+export const options = {
+    scenarios: {
+        mixed: {
+            executor: 'constant-vus',
+            vus: Number(__ENV.VUS || 400),
+            duration: __ENV.DURATION || '60s',
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export function setup() {
+    // 조회 대상 데이터 준비
+    const events = [];
+    for (let i = 0; i < 500; i++) {
+        events.push({ eventType: `LOAD_TEST_${i % 10}`, eventData: `payload-${i}` });
+    }
+    const body = JSON.stringify({ events });
+    const params = { headers: { 'Content-Type': 'application/json' } };
+    http.post(`${BASE_URL}/api/v1/external/gpdb1/analytics/batch`, body, params);
+    http.post(`${BASE_URL}/api/v1/external/gpdb2/analytics/batch`, body, params);
+}
+
+export default function () {
+    const roll = Math.random();
+    let res;
+    if (roll < 0.4) {
+        // 외부 API 호출 (I/O 대기 위주, 캐시 미스가 되도록 ID를 넓은 범위에서 선택)
+        res = http.get(`${BASE_URL}/api/v1/external/posts/${1 + Math.floor(Math.random() * 1_000_000_000)}`);
+    } else if (roll < 0.7) {
+        res = http.get(`${BASE_URL}/api/v1/external/gpdb1/analytics/page?size=50`);
+    } else if (roll < 0.9) {
+        res = http.get(`${BASE_URL}/api/v1/external/gpdb2/analytics?eventType=LOAD_TEST_${Math.floor(Math.random() * 10)}`);
+    } else {
+        res = http.post(`${BASE_URL}/api/v1/external/gpdb1/analytics?eventType=LOAD_TEST&eventData=k6`);
+    }
+    check(res, { 'status is 2xx': (r) => r.status >= 200 && r.status < 300 });
+}
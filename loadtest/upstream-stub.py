@@ -0,0 +1,53 @@
+#!/usr/bin/env python3
+# ===================================================
+# 외부 샘플 API(jsonplaceholder) 대체 스텁 - 부하 테스트용
+# ===================================================
+# 모든 요청에 고정 지연 후 게시글 JSON을 응답합니다.
+# 외부 API 호출 구간이 실제 I/O 대기(고정 지연)를 갖고, 어떤 ID든 200으로 응답하므로
+# 캐시되지 않은 ID를 조회해도 실패하지 않습니다.
+#
+# 사용법: python3 loadtest/upstream-stub.py [PORT] [DELAY_MS]
+# ===================================================
+import json
+import re
+import sys
+import time
+from http.server import BaseHTTPRequestHandler, ThreadingHTTPServer
+
+PORT = int(sys.argv[1]) if len(sys.argv) > 1 else 18080
+DELAY_SECONDS = (int(sys.argv[2]) if len(sys.argv) > 2 else 50) / 1000.0
+POST_BY_ID = re.compile(r'^/posts/(\d+)$')
+
+
+def post(post_id):
+    return {'id': post_id, 'userId': post_id % 10 + 1, 'title': f'post {post_id}', 'body': 'stub'}
+
+
+class Handler(BaseHTTPRequestHandler):
+    protocol_version = 'HTTP/1.1'
+
+    def do_GET(self):
+        time.sleep(DELAY_SECONDS)
+        path, _, query = self.path.partition('?')
+        match = POST_BY_ID.match(path)
+        if match:
+            payload = post(int(match.group(1)))
+        elif path == '/posts':
+            payload = [post(i) for i in range(1, 101)]
+        else:
+            self.send_error(404)
+            return
+        body = json.dumps(payload).encode('utf-8')
+        self.send_response(200)
+        self.send_header('Content-Type', 'application/json')
+        self.send_header('Content-Length', str(len(body)))
+        self.end_headers()
+        self.wfile.write(body)
+
+    def log_message(self, format, *args):
+        pass
+
+
+ThreadingHTTPServer.daemon_threads = True
+ThreadingHTTPServer.request_queue_size = 1024
+ThreadingHTTPServer(('127.0.0.1', PORT), Handler).serve_forever()
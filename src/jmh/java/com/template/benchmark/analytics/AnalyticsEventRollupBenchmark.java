@@ -0,0 +1,69 @@
+package com.template.benchmark.analytics;
+
+import com.template.application.external.AnalyticsEventRollup;
+import com.template.application.external.AnalyticsRollupSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 실시간 집계 기록/조회 비용 벤치마크 (ns/op)
+ * <p>
+ * 스프링 컨텍스트 없이 {@link AnalyticsEventRollup}을 직접 생성합니다.
+ * <ul>
+ * <li>record: 단일 스레드 기록 비용 (저장 요청마다 추가되는 비용)</li>
+ * <li>contended: 8개 스레드가 동시에 기록하는 동안 1개 스레드가 60분 스냅샷 조회</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+public class AnalyticsEventRollupBenchmark {
+
+    private static final String[] EVENT_TYPES = {
+            "PAGE_VIEW", "CLICK", "PURCHASE", "SIGN_UP", "POST_TITLE", "POST_BODY", "SEARCH", "LOGOUT"
+    };
+
+    private AnalyticsEventRollup rollup;
+
+    @Setup
+    public void setUp() {
+        rollup = new AnalyticsEventRollup(60, 1000);
+    }
+
+    @Benchmark
+    public void record() {
+        rollup.record("gpdb1", nextEventType());
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(8)
+    public void contendedRecord() {
+        rollup.record(ThreadLocalRandom.current().nextBoolean() ? "gpdb1" : "gpdb2", nextEventType());
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(1)
+    public AnalyticsRollupSnapshot contendedSnapshot() {
+        return rollup.snapshot(60);
+    }
+
+    private static String nextEventType() {
+        return EVENT_TYPES[ThreadLocalRandom.current().nextInt(EVENT_TYPES.length)];
+    }
+}
@@ -0,0 +1,93 @@
+package com.template.benchmark.analytics;
+
+import com.template.benchmark.support.BenchmarkContext;
+import com.template.domain.analytics.AnalyticsData;
+import com.template.domain.analytics.AnalyticsDataRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 분석 데이터 적재 처리량 벤치마크 (rows/sec)
+ * <p>
+ * GPDB1 리포지토리(local 프로파일의 H2)를 대상으로 두 가지 적재 방식을 비교합니다.
+ * <ul>
+ * <li>saveOneByOne: 기존 API 방식 - 이벤트 1건당 트랜잭션 1회, INSERT 1회</li>
+ * <li>saveAllBatched: 일괄 API 방식 - 1회 트랜잭션, pooled 시퀀스 + JDBC 배치 INSERT</li>
+ * </ul>
+ * {@code @OperationsPerInvocation}으로 결과 단위가 초당 저장 행 수(rows/sec)가 됩니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+public class AnalyticsIngestBenchmark {
+
+    private static final int ROWS = 1_000;
+    private static final String EVENT_TYPE = "BENCHMARK";
+
+    private ConfigurableApplicationContext context;
+    private AnalyticsDataRepository repository;
+    private TransactionTemplate transactionTemplate;
+    private JdbcTemplate jdbcTemplate;
+    private List<AnalyticsData> rows;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        repository = context.getBean("gpdb1AnalyticsDataRepository", AnalyticsDataRepository.class);
+        transactionTemplate = new TransactionTemplate(
+                context.getBean("gpdb1TransactionManager", PlatformTransactionManager.class));
+        jdbcTemplate = new JdbcTemplate(context.getBean("gpdb1DataSource", DataSource.class));
+        rows = IntStream.range(0, ROWS)
+                .mapToObj(i -> AnalyticsData.create(EVENT_TYPE, "payload-" + i))
+                .toList();
+    }
+
+    /**
+     * 반복마다 벤치마크가 저장한 행을 지워 테이블 크기가 측정에 영향을 주지 않도록 합니다.
+     * 실제 DB 프로파일(-Pjmh.profile)에서도 기존 데이터는 지우지 않도록 벤치마크 이벤트 유형만 삭제합니다.
+     */
+    @TearDown(Level.Iteration)
+    public void deleteSaved() {
+        jdbcTemplate.update("DELETE FROM analytics_data WHERE eventType = ?", EVENT_TYPE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void saveOneByOne() {
+        for (AnalyticsData row : rows) {
+            transactionTemplate.executeWithoutResult(status -> repository.save(row));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public Integer saveAllBatched() {
+        return transactionTemplate.execute(status -> repository.saveAll(rows));
+    }
+}
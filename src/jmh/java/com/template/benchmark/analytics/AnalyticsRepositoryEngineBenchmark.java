@@ -0,0 +1,126 @@
+package com.template.benchmark.analytics;
+
+import com.template.benchmark.support.BenchmarkContext;
+import com.template.domain.analytics.AnalyticsData;
+import com.template.domain.analytics.AnalyticsDataRepository;
+import com.template.domain.common.page.KeysetPage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 분석 데이터 리포지토리 엔진 비교 벤치마크: JPA vs JDBC (us/op)
+ * <p>
+ * GPDB1은 JPA 엔진, GPDB2는 JDBC 엔진으로 컨텍스트를 띄워 같은 작업을 비교합니다.
+ * (기본은 둘 다 local 프로파일의 H2, 시작 비용은 {@link AnalyticsRepositoryEngineStartupBenchmark})
+ * <ul>
+ * <li>save: 단건 저장 (트랜잭션 1회)</li>
+ * <li>saveAll: {@value #BATCH}건 일괄 저장 (트랜잭션 1회, 배치 INSERT)</li>
+ * <li>findById: 임의 ID 단건 조회</li>
+ * <li>findPage: 키셋 첫 페이지 {@value #PAGE_SIZE}건 조회</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 5)
+public class AnalyticsRepositoryEngineBenchmark {
+
+    private static final int SEED_ROWS = 10_000;
+    private static final int BATCH = 100;
+    private static final int PAGE_SIZE = 100;
+
+    /**
+     * 벤치마크가 저장하는 이벤트 유형 (정리 시 이 유형만 삭제하여 기존 데이터를 보존)
+     */
+    private static final String SEED_EVENT_TYPE_PREFIX = "BENCHMARK_";
+    private static final String SAVED_EVENT_TYPE = "BENCHMARK";
+
+    @Param({"JPA", "JDBC"})
+    private String engine;
+
+    private ConfigurableApplicationContext context;
+    private AnalyticsDataRepository repository;
+    private TransactionTemplate transactionTemplate;
+    private JdbcTemplate jdbcTemplate;
+    private List<Long> ids;
+    private List<AnalyticsData> batch;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start(
+                "analytics.repository.engine.gpdb1=JPA",
+                "analytics.repository.engine.gpdb2=JDBC");
+        String target = "JPA".equals(engine) ? "gpdb1" : "gpdb2";
+        repository = context.getBean(target + "AnalyticsDataRepository", AnalyticsDataRepository.class);
+        transactionTemplate = new TransactionTemplate(
+                context.getBean(target + "TransactionManager", PlatformTransactionManager.class));
+        jdbcTemplate = new JdbcTemplate(context.getBean(target + "DataSource", DataSource.class));
+
+        List<AnalyticsData> seed = IntStream.range(0, SEED_ROWS)
+                .mapToObj(i -> AnalyticsData.create(SEED_EVENT_TYPE_PREFIX + (i % 10), "payload-" + i))
+                .toList();
+        transactionTemplate.executeWithoutResult(status -> repository.saveAll(seed));
+        ids = jdbcTemplate.queryForList(
+                "SELECT id FROM analytics_data WHERE eventType LIKE ?", Long.class, SEED_EVENT_TYPE_PREFIX + "%");
+        batch = IntStream.range(0, BATCH)
+                .mapToObj(i -> AnalyticsData.create(SAVED_EVENT_TYPE, "batch-" + i))
+                .toList();
+    }
+
+    /**
+     * 반복마다 저장 벤치마크로 추가된 행을 지워 조회 대상 건수를 일정하게 유지합니다.
+     */
+    @TearDown(Level.Iteration)
+    public void deleteSaved() {
+        jdbcTemplate.update("DELETE FROM analytics_data WHERE eventType = ?", SAVED_EVENT_TYPE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbcTemplate.update("DELETE FROM analytics_data WHERE eventType LIKE ?", SEED_EVENT_TYPE_PREFIX + "%");
+        context.close();
+    }
+
+    @Benchmark
+    public AnalyticsData save() {
+        return transactionTemplate.execute(status -> repository.save(AnalyticsData.create(SAVED_EVENT_TYPE, "single")));
+    }
+
+    @Benchmark
+    public Integer saveAll() {
+        return transactionTemplate.execute(status -> repository.saveAll(batch));
+    }
+
+    @Benchmark
+    public Optional<AnalyticsData> findById() {
+        Long id = ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+        return transactionTemplate.execute(status -> repository.findById(id));
+    }
+
+    @Benchmark
+    public KeysetPage<AnalyticsData> findPage() {
+        return transactionTemplate.execute(status -> repository.findPageAfter(null, PAGE_SIZE));
+    }
+}
@@ -0,0 +1,53 @@
+package com.template.benchmark.analytics;
+
+import com.template.benchmark.support.BenchmarkContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 분석 데이터 리포지토리 엔진별 애플리케이션 시작 비용 벤치마크: JPA vs JDBC (ms/op)
+ * <p>
+ * 두 GPDB를 모두 같은 엔진으로 지정하고 컨텍스트 기동 시간을 측정합니다.
+ * JDBC 엔진은 GPDB용 EntityManagerFactory(Hibernate 메타모델)를 만들지 않으므로 그만큼 기동이 빨라야 합니다.
+ * 컨텍스트 종료는 측정에서 제외합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, batchSize = 1)
+@Measurement(iterations = 10, batchSize = 1)
+public class AnalyticsRepositoryEngineStartupBenchmark {
+
+    @Param({"JPA", "JDBC"})
+    private String engine;
+
+    private ConfigurableApplicationContext context;
+
+    @Benchmark
+    public ConfigurableApplicationContext start() {
+        context = BenchmarkContext.start(
+                "analytics.repository.engine.gpdb1=" + engine,
+                "analytics.repository.engine.gpdb2=" + engine);
+        return context;
+    }
+
+    @TearDown(Level.Invocation)
+    public void close() {
+        if (context != null) {
+            context.close();
+            context = null;
+        }
+    }
+}
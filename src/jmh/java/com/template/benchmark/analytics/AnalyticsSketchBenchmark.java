@@ -0,0 +1,90 @@
+package com.template.benchmark.analytics;
+
+import com.template.application.external.sketch.AnalyticsSketchProperties;
+import com.template.application.external.sketch.AnalyticsSketches;
+import com.template.domain.analytics.AnalyticsData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 확률적 스케치 갱신/조회 비용 벤치마크 (ns/op)
+ * <p>
+ * 스프링 컨텍스트 없이 {@link AnalyticsSketches}를 기본 설정(스냅샷 미사용)으로 생성합니다.
+ * eventData는 10만 종류를 Zipf에 가까운 분포(제곱 분포)로 뽑아 상위 항목이 생기도록 합니다.
+ * <ul>
+ * <li>record, recordContended: 단일/4개 스레드 갱신 비용 (저장 요청마다 추가되는 비용)</li>
+ * <li>cardinality, topPayloads: 이벤트 유형 하나 조회</li>
+ * <li>cardinalityAll: 모든 이벤트 유형 스케치 병합 후 조회</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+public class AnalyticsSketchBenchmark {
+
+    private static final int EVENT_TYPES = 8;
+    private static final int DISTINCT_PAYLOADS = 100_000;
+
+    private AnalyticsSketches sketches;
+    private AnalyticsData[] events;
+
+    @Setup
+    public void setUp() {
+        sketches = new AnalyticsSketches(new AnalyticsSketchProperties());
+        events = IntStream.range(0, 4096)
+                .mapToObj(i -> AnalyticsData.create("EVENT_" + (i % EVENT_TYPES), "payload-" + skewedPayload()))
+                .toArray(AnalyticsData[]::new);
+        for (int i = 0; i < 1_000_000; i++) {
+            sketches.record(events[i & (events.length - 1)]);
+        }
+    }
+
+    @Benchmark
+    public void record() {
+        sketches.record(nextEvent());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void recordContended() {
+        sketches.record(nextEvent());
+    }
+
+    @Benchmark
+    public AnalyticsSketches.Cardinality cardinality() {
+        return sketches.cardinality("EVENT_0");
+    }
+
+    @Benchmark
+    public AnalyticsSketches.TopPayloads topPayloads() {
+        return sketches.topPayloads("EVENT_0", 10);
+    }
+
+    @Benchmark
+    public AnalyticsSketches.Cardinality cardinalityAll() {
+        return sketches.cardinality(null);
+    }
+
+    private AnalyticsData nextEvent() {
+        return events[ThreadLocalRandom.current().nextInt(events.length)];
+    }
+
+    private static int skewedPayload() {
+        double r = ThreadLocalRandom.current().nextDouble();
+        return (int) (r * r * DISTINCT_PAYLOADS);
+    }
+}
@@ -0,0 +1,100 @@
+package com.template.benchmark.mapping;
+
+import com.template.domain.analytics.AnalyticsData;
+import com.template.domain.sample.Sample;
+import com.template.infrastructure.persistence.entity.AnalyticsDataEntity;
+import com.template.infrastructure.persistence.entity.SampleEntity;
+import com.template.infrastructure.persistence.mapper.AnalyticsDataMapper;
+import com.template.infrastructure.persistence.mapper.SampleMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 도메인 객체 생성 및 도메인 ↔ 엔티티 변환 비용 벤치마크 (ns/op)
+ * <p>
+ * 스프링 컨텍스트 없이 매퍼를 직접 생성하여 순수 변환 비용만 측정합니다.
+ * <ul>
+ * <li>sampleCreate, sampleUpdate: 도메인 팩토리/변경 메서드 (검증 + 빌더)</li>
+ * <li>sampleToEntity, sampleToDomain: {@link SampleMapper} 변환</li>
+ * <li>analyticsToEntity, analyticsToDomain: {@link AnalyticsDataMapper} 변환</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+public class DomainMappingBenchmark {
+
+    private SampleMapper sampleMapper;
+    private AnalyticsDataMapper analyticsDataMapper;
+
+    private Sample sample;
+    private SampleEntity sampleEntity;
+    private AnalyticsData analyticsData;
+    private AnalyticsDataEntity analyticsDataEntity;
+
+    @Setup
+    public void setUp() {
+        sampleMapper = new SampleMapper();
+        analyticsDataMapper = new AnalyticsDataMapper();
+
+        LocalDateTime now = LocalDateTime.now();
+        sample = Sample.builder()
+                .id(1L)
+                .title("벤치마크 제목")
+                .content("벤치마크 내용")
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        sampleEntity = sampleMapper.toEntity(sample);
+        analyticsData = AnalyticsData.builder()
+                .id(1L)
+                .eventType("BENCHMARK")
+                .eventData("{\"postId\":1}")
+                .occurredAt(now)
+                .createdAt(now)
+                .build();
+        analyticsDataEntity = analyticsDataMapper.toEntity(analyticsData);
+    }
+
+    @Benchmark
+    public Sample sampleCreate() {
+        return Sample.create("벤치마크 제목", "벤치마크 내용");
+    }
+
+    @Benchmark
+    public Sample sampleUpdate() {
+        return sample.update("수정된 제목", "수정된 내용");
+    }
+
+    @Benchmark
+    public SampleEntity sampleToEntity() {
+        return sampleMapper.toEntity(sample);
+    }
+
+    @Benchmark
+    public Sample sampleToDomain() {
+        return sampleMapper.toDomain(sampleEntity);
+    }
+
+    @Benchmark
+    public AnalyticsDataEntity analyticsToEntity() {
+        return analyticsDataMapper.toEntity(analyticsData);
+    }
+
+    @Benchmark
+    public AnalyticsData analyticsToDomain() {
+        return analyticsDataMapper.toDomain(analyticsDataEntity);
+    }
+}
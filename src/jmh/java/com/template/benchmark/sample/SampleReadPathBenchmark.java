@@ -0,0 +1,78 @@
+package com.template.benchmark.sample;
+
+import com.template.benchmark.support.BenchmarkContext;
+import com.template.domain.sample.Sample;
+import com.template.domain.sample.SampleRepository;
+import com.template.infrastructure.persistence.jpa.primary.SampleJpaRepository;
+import com.template.infrastructure.persistence.mapper.SampleMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 조회 경로 비교 벤치마크: 엔티티 로딩 + 매퍼 변환 vs 프로젝션 (us/op)
+ * <p>
+ * 같은 행 수를 두 경로로 조회합니다.
+ * <ul>
+ * <li>entityHydration: 관리 엔티티 로딩(스냅샷 포함) 후 {@link SampleMapper}로 도메인 변환 (기존 방식)</li>
+ * <li>projection: 컬럼을 도메인 객체로 바로 생성 (SampleRepository 조회 경로)</li>
+ * </ul>
+ * 할당량은 GC 프로파일러로 함께 측정합니다: {@code ./gradlew jmh -Pjmh.includes=SampleReadPath -Pjmh.profilers=gc}
+ * ({@code gc.alloc.rate.norm} = 호출당 할당 바이트)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 5)
+public class SampleReadPathBenchmark {
+
+    @Param({"100", "10000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private SampleRepository repository;
+    private SampleJpaRepository jpaRepository;
+    private SampleMapper mapper;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        repository = context.getBean(SampleRepository.class);
+        jpaRepository = context.getBean(SampleJpaRepository.class);
+        mapper = context.getBean(SampleMapper.class);
+        IntStream.range(0, rows)
+                .forEach(i -> repository.save(Sample.create("샘플 제목 " + i, "샘플 내용 " + i)));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Sample> entityHydration() {
+        return jpaRepository.findAll().stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Benchmark
+    public List<Sample> projection() {
+        return repository.findAll();
+    }
+}
@@ -0,0 +1,90 @@
+package com.template.benchmark.sample;
+
+import com.template.benchmark.support.BenchmarkContext;
+import com.template.domain.sample.Sample;
+import com.template.domain.sample.SampleRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 샘플 리포지토리 조회/저장 지연 벤치마크 (us/op)
+ * <p>
+ * Primary 리포지토리(local 프로파일의 H2)에 {@value #ROWS}건을 미리 저장한 뒤 측정합니다.
+ * <ul>
+ * <li>findById: 임의 ID 단건 조회</li>
+ * <li>findAll: 전체 조회 ({@value #ROWS}건 읽기 전용 프로젝션, 엔티티 로딩 없이 도메인 객체로 조회)</li>
+ * <li>save: 신규 저장 (반복마다 추가된 행은 삭제)</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 5)
+public class SampleRepositoryBenchmark {
+
+    private static final int ROWS = 1_000;
+
+    private ConfigurableApplicationContext context;
+    private SampleRepository repository;
+    private JdbcTemplate jdbcTemplate;
+    private List<Long> ids;
+    private long maxSeededId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        repository = context.getBean(SampleRepository.class);
+        jdbcTemplate = new JdbcTemplate(context.getBean("primaryDataSource", DataSource.class));
+        ids = IntStream.range(0, ROWS)
+                .mapToObj(i -> repository.save(Sample.create("샘플 제목 " + i, "샘플 내용 " + i)).getId())
+                .toList();
+        maxSeededId = ids.stream().mapToLong(Long::longValue).max().orElse(0L);
+    }
+
+    /**
+     * 반복마다 save로 추가된 행을 지워 findAll 대상 건수를 일정하게 유지합니다.
+     */
+    @TearDown(Level.Iteration)
+    public void deleteSaved() {
+        jdbcTemplate.update("DELETE FROM samples WHERE id > ?", maxSeededId);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<Sample> findById() {
+        return repository.findById(ids.get(ThreadLocalRandom.current().nextInt(ids.size())));
+    }
+
+    @Benchmark
+    public List<Sample> findAll() {
+        return repository.findAll();
+    }
+
+    @Benchmark
+    public Sample save() {
+        return repository.save(Sample.create("벤치마크 제목", "벤치마크 내용"));
+    }
+}
@@ -0,0 +1,91 @@
+package com.template.benchmark.serialization;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.template.api.support.response.ApiResponse;
+import com.template.api.v1.controller.sample.SampleResponseJsonCache;
+import com.template.api.v1.response.SampleResponse;
+import com.template.benchmark.support.BenchmarkContext;
+import com.template.domain.sample.Sample;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * 목록 응답 JSON 직렬화 비용 벤치마크 (us/op)
+ * <p>
+ * {@code ApiResponse<List<SampleResponse>>}를 목록 크기별로 byte[]로 직렬화합니다.
+ * 날짜 형식 등 실제 응답과 같은 설정을 쓰도록 애플리케이션 컨텍스트의 ObjectMapper를 사용합니다.
+ * <p>
+ * writeCached는 같은 목록을 {@link SampleResponseJsonCache}의 캐시된 바이트로 응답에 기록합니다. (캐시 적중 상태)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 5)
+public class ApiResponseSerializationBenchmark {
+
+    @Param({"1", "100", "1000", "10000"})
+    private int size;
+
+    private ConfigurableApplicationContext context;
+    private ObjectWriter writer;
+    private ApiResponse<List<SampleResponse>> response;
+    private SampleResponseJsonCache responseJsonCache;
+    private List<Sample> samples;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = BenchmarkContext.start();
+        writer = context.getBean(ObjectMapper.class).writer();
+
+        LocalDateTime now = LocalDateTime.now();
+        samples = LongStream.rangeClosed(1, size)
+                .mapToObj(id -> Sample.builder()
+                        .id(id)
+                        .title("샘플 제목 " + id)
+                        .content("샘플 내용 " + id)
+                        .createdAt(now)
+                        .updatedAt(now)
+                        .build())
+                .toList();
+        response = ApiResponse.success(samples.stream().map(SampleResponse::from).toList());
+
+        responseJsonCache = context.getBean(SampleResponseJsonCache.class);
+        responseJsonCache.writeAll(new MockHttpServletResponse(), samples);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return writer.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] writeCached() throws Exception {
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+        responseJsonCache.writeAll(servletResponse, samples);
+        return servletResponse.getContentAsByteArray();
+    }
+}
@@ -0,0 +1,58 @@
+package com.template.benchmark.support;
+
+import com.template.TemplateApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 벤치마크용 애플리케이션 컨텍스트 팩토리
+ * <p>
+ * local 프로파일(H2 인메모리)로 웹 서버 없이 애플리케이션 컨텍스트를 기동합니다.
+ * SQL/바인딩 로깅은 측정값을 왜곡하므로 모두 끕니다.
+ * <p>
+ * H2 인메모리 DB는 네트워크 왕복이 없어 INSERT 배치/시퀀스 할당 효과가 실제보다 작게 측정되므로,
+ * 실제 DB 기준 수치가 필요하면 {@code benchmark.profile} 시스템 속성으로 프로파일을 바꿉니다.
+ * (./gradlew jmh -Pjmh.profile=dev)
+ */
+public final class BenchmarkContext {
+
+    /**
+     * 벤치마크 프로파일 시스템 속성 (기본: local)
+     */
+    public static final String PROFILE_PROPERTY = "benchmark.profile";
+
+    private BenchmarkContext() {
+    }
+
+    /**
+     * 벤치마크용 컨텍스트 기동
+     *
+     * @return 기동된 애플리케이션 컨텍스트 (벤치마크 종료 시 close 필요)
+     */
+    public static ConfigurableApplicationContext start() {
+        return start(new String[0]);
+    }
+
+    /**
+     * 추가 속성을 지정하여 벤치마크용 컨텍스트 기동
+     *
+     * @param properties 추가 속성 ("key=value", 기본 속성보다 우선)
+     * @return 기동된 애플리케이션 컨텍스트 (벤치마크 종료 시 close 필요)
+     */
+    public static ConfigurableApplicationContext start(String... properties) {
+        return new SpringApplicationBuilder(TemplateApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles(System.getProperty(PROFILE_PROPERTY, "local"))
+                .properties(
+                        "spring.main.banner-mode=off",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.com.template=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.orm.jdbc.bind=WARN",
+                        "logging.level.org.springframework.web=WARN")
+                .properties(properties)
+                .run();
+    }
+}
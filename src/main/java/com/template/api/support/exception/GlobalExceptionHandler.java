@@ -2,6 +2,7 @@ package com.template.api.support.exception;
 
 import com.template.api.support.response.ApiResponse;
 import com.template.domain.common.exception.BusinessException;
+import com.template.domain.common.exception.TooManyRequestsException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -32,6 +33,17 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.failure(e.getMessage(), e.getErrorCode()));
     }
 
+    /**
+     * 처리 용량 초과 예외 처리 (HTTP 429)
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ApiResponse<Void>> handleTooManyRequestsException(TooManyRequestsException e) {
+        log.warn("[TooManyRequestsException] message={}, errorCode={}", e.getMessage(), e.getErrorCode());
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .body(ApiResponse.failure(e.getMessage(), e.getErrorCode()));
+    }
+
     /**
      * Validation 예외 처리
      */
@@ -0,0 +1,57 @@
+package com.template.api.support.page;
+
+import com.template.domain.common.exception.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 불투명(opaque) 커서 토큰 인코더/디코더
+ * <p>
+ * 키셋 페이지의 마지막 키 값들을 Base64 URL-safe 문자열로 감싸 클라이언트에 전달합니다.
+ * 클라이언트는 토큰 내용을 해석하지 않고 다음 요청에 그대로 돌려보내기만 하므로,
+ * 정렬 키가 바뀌어도 API 스펙은 유지됩니다.
+ */
+public final class CursorToken {
+
+    private static final String DELIMITER = "|";
+
+    private CursorToken() {
+    }
+
+    /**
+     * 키 값들을 커서 토큰으로 인코딩
+     *
+     * @param keys 커서 키 값 (구분자 '|'를 포함하지 않아야 함)
+     * @return 커서 토큰
+     */
+    public static String encode(String... keys) {
+        String raw = String.join(DELIMITER, keys);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 토큰을 키 값들로 디코딩
+     *
+     * @param token     커서 토큰
+     * @param keyCount  기대하는 키 개수
+     * @return 키 값 배열
+     * @throws BusinessException 토큰 형식이 올바르지 않은 경우 (INVALID_CURSOR)
+     */
+    public static String[] decode(String token, int keyCount) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] keys = raw.split("\\" + DELIMITER, -1);
+            if (keys.length != keyCount) {
+                throw invalid();
+            }
+            return keys;
+        } catch (IllegalArgumentException e) {
+            throw invalid();
+        }
+    }
+
+    private static BusinessException invalid() {
+        return new BusinessException("유효하지 않은 커서입니다.", "INVALID_CURSOR");
+    }
+}
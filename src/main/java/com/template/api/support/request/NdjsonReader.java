@@ -0,0 +1,94 @@
+package com.template.api.support.request;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.template.domain.common.exception.BusinessException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * NDJSON(application/x-ndjson) 요청 본문 읽기
+ * <p>
+ * 요청 본문 전체를 List로 역직렬화하지 않고, 한 줄(JSON 객체 하나)씩 읽어
+ * 지연 스트림으로 제공합니다. 본문 크기와 무관하게 힙 사용량이 일정합니다.
+ * <p>
+ * 각 행은 Bean Validation으로 검증되며, 형식 오류나 검증 실패 시
+ * 몇 번째 행인지 포함한 {@link BusinessException}이 발생합니다.
+ * <p>
+ * <b>주의:</b> 반환된 스트림은 요청 처리 중에 모두 소비하고 닫아야 합니다.
+ */
+public final class NdjsonReader {
+
+    private NdjsonReader() {
+    }
+
+    /**
+     * NDJSON 본문을 지정한 타입의 스트림으로 읽기
+     *
+     * @param objectMapper 애플리케이션 공통 ObjectMapper
+     * @param validator    행 단위 검증기
+     * @param inputStream  요청 본문
+     * @param type         행 타입
+     * @return 행 스트림
+     */
+    public static <T> Stream<T> read(ObjectMapper objectMapper, Validator validator,
+                                     InputStream inputStream, Class<T> type) throws IOException {
+        MappingIterator<T> values = objectMapper.readerFor(type).readValues(inputStream);
+        Iterator<T> validated = new Iterator<>() {
+            private long line;
+
+            @Override
+            public boolean hasNext() {
+                try {
+                    return values.hasNextValue();
+                } catch (JsonProcessingException e) {
+                    throw invalidLine(line + 1);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            @Override
+            public T next() {
+                line++;
+                T value;
+                try {
+                    value = values.nextValue();
+                } catch (JsonProcessingException e) {
+                    throw invalidLine(line);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                Set<ConstraintViolation<T>> violations = validator.validate(value);
+                if (!violations.isEmpty()) {
+                    throw new BusinessException(
+                            line + "번째 행: " + violations.iterator().next().getMessage(), "INVALID_NDJSON");
+                }
+                return value;
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(validated, Spliterator.ORDERED), false)
+                .onClose(() -> {
+                    try {
+                        values.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    private static BusinessException invalidLine(long line) {
+        return new BusinessException(line + "번째 행의 JSON 형식이 올바르지 않습니다.", "INVALID_NDJSON");
+    }
+}
@@ -0,0 +1,115 @@
+package com.template.api.support.response;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+
+/**
+ * NDJSON(application/x-ndjson) 스트리밍 응답 작성기
+ * <p>
+ * 대용량 조회 결과를 {@link ApiResponse}로 감싸 한 번에 직렬화하지 않고,
+ * 한 줄에 JSON 객체 하나씩 서블릿 출력 스트림에 바로 기록합니다.
+ * 응답 전체를 메모리에 올리지 않으므로 결과 크기와 무관하게 힙 사용량이 일정합니다.
+ * <p>
+ * <b>사용 예시:</b>
+ *
+ * <pre>
+ * {@code
+ * try (NdjsonWriter writer = NdjsonWriter.open(objectMapper, response)) {
+ *     service.exportAll(writer::write);
+ * }
+ * }
+ * </pre>
+ * <p>
+ * <b>주의:</b> 첫 행을 기록한 뒤에는 응답이 커밋되므로,
+ * 이후 발생한 예외는 공통 에러 응답으로 변환되지 않고 스트림이 중단됩니다.
+ */
+public final class NdjsonWriter implements Closeable {
+
+    /**
+     * 출력 버퍼를 클라이언트로 밀어내는 주기 (행 수)
+     */
+    private static final int FLUSH_INTERVAL = 500;
+
+    private final ObjectWriter objectWriter;
+    private final JsonGenerator generator;
+    private long count;
+
+    private NdjsonWriter(ObjectMapper objectMapper, OutputStream outputStream) throws IOException {
+        // 행마다 flush 하지 않도록 비활성화하고, FLUSH_INTERVAL 단위로 직접 flush 합니다
+        this.objectWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.generator = objectMapper.createGenerator(outputStream, JsonEncoding.UTF8);
+        // 루트 값 사이의 기본 구분자(공백) 대신 줄바꿈을 직접 기록합니다
+        this.generator.setRootValueSeparator(null);
+    }
+
+    /**
+     * HTTP 응답에 NDJSON 작성기 열기
+     *
+     * @param objectMapper 애플리케이션 공통 ObjectMapper (Jackson 설정 공유)
+     * @param response     서블릿 응답
+     * @return NDJSON 작성기
+     */
+    public static NdjsonWriter open(ObjectMapper objectMapper, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        return new NdjsonWriter(objectMapper, response.getOutputStream());
+    }
+
+    /**
+     * 객체 한 건을 한 줄로 기록
+     *
+     * @param value 기록할 객체
+     */
+    public void write(Object value) {
+        try {
+            objectWriter.writeValue(generator, value);
+            generator.writeRaw('\n');
+            if (++count % FLUSH_INTERVAL == 0) {
+                generator.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 청크 단위 기록 (청크를 모두 기록한 뒤 클라이언트로 flush)
+     * <p>
+     * 조회를 청크(페이지) 단위로 나누어 수행하는 경우, 청크마다 응답을 밀어내어
+     * 클라이언트가 다음 청크 조회를 기다리는 동안에도 받은 행을 처리할 수 있게 합니다.
+     *
+     * @param values 기록할 객체 목록
+     */
+    public void writeChunk(Collection<?> values) {
+        values.forEach(this::write);
+        try {
+            generator.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 지금까지 기록한 행 수
+     */
+    public long getCount() {
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
@@ -1,18 +1,59 @@
 package com.template.api.v1.controller.external;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.template.application.external.AnalyticsEtlResult;
+import com.template.application.external.AnalyticsRollupSnapshot;
+import com.template.application.external.AnalyticsSaveResult;
+import com.template.application.external.sketch.AnalyticsSketches;
 import com.template.application.external.ExternalDataService;
 import com.template.domain.analytics.AnalyticsData;
+import com.template.domain.analytics.AnalyticsDataCursor;
+import com.template.domain.analytics.AnalyticsDataSummary;
+import com.template.domain.analytics.AnalyticsDataTimeRange;
+import com.template.domain.analytics.AnalyticsEventTypeCount;
+import com.template.domain.analytics.AnalyticsHistogramBucket;
+import com.template.domain.analytics.AnalyticsTimeBucket;
+import com.template.domain.common.exception.BusinessException;
+import com.template.domain.common.page.KeysetPage;
 import com.template.infrastructure.external.sample.SampleExternalApiClient;
+import com.template.api.support.page.CursorToken;
 import com.template.api.support.response.ApiResponse;
+import com.template.api.support.request.NdjsonReader;
+import com.template.api.support.response.NdjsonWriter;
+import com.template.api.v1.request.AnalyticsDataBatchRequest;
+import com.template.api.v1.request.AnalyticsDataRequest;
+import com.template.api.v1.request.AnalyticsEtlRequest;
+import com.template.api.v1.response.AnalyticsDataBatchResponse;
+import com.template.api.v1.response.AnalyticsDataBulkLoadResponse;
+import com.template.api.v1.response.CursorPageResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * 외부 API 및 Multi-DB 샘플 컨트롤러
  * <p>
  * OpenFeign 외부 API 호출과 GPDB1/GPDB2 접근을 시연하는 API입니다.
+ * <p>
+ * 전체 조회(/analytics/all)는 {@code Accept: application/x-ndjson} 요청 시
+ * 서버 사이드 커서 기반 NDJSON 스트리밍으로 응답합니다.
+ * 대량 적재(/analytics/bulk-load)는 NDJSON 요청 본문을 한 줄씩 읽어 COPY로 적재합니다.
+ * 기간 조회(/analytics/range)는 발생 시간 구간 [from, to)를 키셋 페이지로 조회하며,
+ * {@code Accept: application/x-ndjson} 요청 시 구간 전체를 청크 단위로 나누어 스트리밍합니다.
+ * 집계(/analytics/stats/**)는 DB에서 GROUP BY로 계산한 결과만 반환합니다.
+ * /sharded/** 는 GPDB1, GPDB2를 하나의 샤딩된 저장소로 사용합니다.
+ * 실시간 집계(/analytics/stats)는 DB를 조회하지 않고 인스턴스 메모리의 최근 N분 집계를 반환합니다.
+ * 스케치(/analytics/sketches/**)는 고정 메모리 확률적 스케치로 고유 개수와 상위 항목의 근사값을 반환합니다.
  */
 @RestController
 @RequestMapping("/api/v1/external")
@@ -20,6 +61,8 @@ import java.util.List;
 public class ExternalDataController {
 
     private final ExternalDataService externalDataService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
 
     // ===================================================
     // OpenFeign 샘플 API
@@ -55,20 +98,53 @@ public class ExternalDataController {
 
     /**
      * GPDB1에 분석 데이터 저장
+     * <p>
+     * 쓰기 지연 버퍼에 추가되었거나 버려진 경우 202 (Accepted)와 status(QUEUED, DROPPED)로 응답합니다.
      */
     @PostMapping("/gpdb1/analytics")
-    public ApiResponse<AnalyticsData> saveToGpdb1(
+    public ApiResponse<AnalyticsSaveResult> saveToGpdb1(
             @RequestParam String eventType,
-            @RequestParam String eventData) {
-        return ApiResponse.success(externalDataService.saveToGpdb1(eventType, eventData));
+            @RequestParam String eventData,
+            HttpServletResponse response) {
+        return saveResponse(externalDataService.saveToGpdb1(eventType, eventData), response);
+    }
+
+    /**
+     * GPDB1에 분석 데이터 일괄 저장 (JDBC 배치 INSERT)
+     */
+    @PostMapping("/gpdb1/analytics/batch")
+    public ApiResponse<AnalyticsDataBatchResponse> saveAllToGpdb1(
+            @RequestBody @Valid AnalyticsDataBatchRequest request) {
+        List<AnalyticsData> data = request.getEvents().stream()
+                .map(AnalyticsDataRequest::toDomain)
+                .toList();
+        int savedCount = externalDataService.saveAllToGpdb1(data);
+        return ApiResponse.success(AnalyticsDataBatchResponse.of(savedCount));
     }
 
     /**
-     * GPDB1에서 이벤트 유형별 조회
+     * GPDB1에 분석 데이터 대량 적재 (NDJSON 요청 본문, COPY FROM STDIN)
+     */
+    @PostMapping(value = "/gpdb1/analytics/bulk-load", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ApiResponse<AnalyticsDataBulkLoadResponse> bulkLoadToGpdb1(HttpServletRequest request) throws IOException {
+        try (Stream<AnalyticsData> data = readNdjson(request)) {
+            long loadedCount = externalDataService.bulkLoadToGpdb1(data);
+            return ApiResponse.success(AnalyticsDataBulkLoadResponse.of(loadedCount));
+        }
+    }
+
+    /**
+     * GPDB1에서 이벤트 유형별 조회 (from, to 지정 시 발생 시간 구간 [from, to)로 제한)
      */
     @GetMapping("/gpdb1/analytics")
-    public ApiResponse<List<AnalyticsData>> getFromGpdb1(@RequestParam String eventType) {
-        return ApiResponse.success(externalDataService.getFromGpdb1ByEventType(eventType));
+    public ApiResponse<List<AnalyticsData>> getFromGpdb1(
+            @RequestParam String eventType,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to) {
+        if (from == null && to == null) {
+            return ApiResponse.success(externalDataService.getFromGpdb1ByEventType(eventType));
+        }
+        return ApiResponse.success(externalDataService.getFromGpdb1ByEventTypeAndRange(eventType, timeRange(from, to)));
     }
 
     /**
@@ -79,26 +155,145 @@ public class ExternalDataController {
         return ApiResponse.success(externalDataService.getAllFromGpdb1());
     }
 
+    /**
+     * GPDB1 커서 기반 페이지 조회 ((occurredAt, id) 오름차순)
+     */
+    @GetMapping("/gpdb1/analytics/page")
+    public ApiResponse<CursorPageResponse<AnalyticsData>> getPageFromGpdb1(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + CursorPageResponse.DEFAULT_SIZE) int size) {
+        KeysetPage<AnalyticsData> page = externalDataService.getPageFromGpdb1(
+                decodeCursor(cursor), CursorPageResponse.normalizeSize(size));
+        return ApiResponse.success(CursorPageResponse.of(page, data -> data, ExternalDataController::encodeCursor));
+    }
+
+    /**
+     * GPDB1 전체 데이터 스트리밍 조회 (NDJSON)
+     */
+    @GetMapping(value = "/gpdb1/analytics/all", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void streamAllFromGpdb1(HttpServletResponse response) throws IOException {
+        try (NdjsonWriter writer = NdjsonWriter.open(objectMapper, response)) {
+            externalDataService.exportAllFromGpdb1(writer::write);
+        }
+    }
+
+    /**
+     * GPDB1 발생 시간 구간 커서 기반 페이지 조회 ([from, to), (occurredAt, id) 오름차순)
+     */
+    @GetMapping("/gpdb1/analytics/range")
+    public ApiResponse<CursorPageResponse<AnalyticsData>> getRangePageFromGpdb1(
+            @RequestParam String from,
+            @RequestParam String to,
+            @RequestParam(required = false) String eventType,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + CursorPageResponse.DEFAULT_SIZE) int size) {
+        KeysetPage<AnalyticsData> page = externalDataService.getRangePageFromGpdb1(
+                timeRange(from, to), eventType, decodeCursor(cursor), CursorPageResponse.normalizeSize(size));
+        return ApiResponse.success(CursorPageResponse.of(page, data -> data, ExternalDataController::encodeCursor));
+    }
+
+    /**
+     * GPDB1 발생 시간 구간 청크 스트리밍 조회 (NDJSON)
+     */
+    @GetMapping(value = "/gpdb1/analytics/range", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void streamRangeFromGpdb1(
+            @RequestParam String from,
+            @RequestParam String to,
+            @RequestParam(required = false) String eventType,
+            HttpServletResponse response) throws IOException {
+        AnalyticsDataTimeRange range = timeRange(from, to);
+        try (NdjsonWriter writer = NdjsonWriter.open(objectMapper, response)) {
+            externalDataService.exportRangeFromGpdb1(range, eventType, writer::writeChunk);
+        }
+    }
+
+    /**
+     * GPDB1 이벤트 유형별 건수 (from, to 지정 시 발생 시간 구간 [from, to)로 제한)
+     */
+    @GetMapping("/gpdb1/analytics/stats/event-types")
+    public ApiResponse<List<AnalyticsEventTypeCount>> countByEventTypeFromGpdb1(
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to) {
+        return ApiResponse.success(externalDataService.countByEventTypeFromGpdb1(optionalTimeRange(from, to)));
+    }
+
+    /**
+     * GPDB1 발생 시간 히스토그램 (bucket: MINUTE, HOUR, DAY, MONTH)
+     */
+    @GetMapping("/gpdb1/analytics/stats/histogram")
+    public ApiResponse<List<AnalyticsHistogramBucket>> histogramFromGpdb1(
+            @RequestParam String from,
+            @RequestParam String to,
+            @RequestParam(defaultValue = "HOUR") String bucket,
+            @RequestParam(required = false) String eventType) {
+        return ApiResponse.success(externalDataService.histogramFromGpdb1(
+                timeRange(from, to), eventType, AnalyticsTimeBucket.from(bucket)));
+    }
+
+    /**
+     * GPDB1 건수와 최초/최종 발생 시간
+     */
+    @GetMapping("/gpdb1/analytics/stats/summary")
+    public ApiResponse<AnalyticsDataSummary> summarizeFromGpdb1(
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(required = false) String eventType) {
+        return ApiResponse.success(externalDataService.summarizeFromGpdb1(optionalTimeRange(from, to), eventType));
+    }
+
     // ===================================================
     // GPDB2 샘플 API
     // ===================================================
 
     /**
      * GPDB2에 분석 데이터 저장
+     * <p>
+     * 쓰기 지연 버퍼에 추가되었거나 버려진 경우 202 (Accepted)와 status(QUEUED, DROPPED)로 응답합니다.
      */
     @PostMapping("/gpdb2/analytics")
-    public ApiResponse<AnalyticsData> saveToGpdb2(
+    public ApiResponse<AnalyticsSaveResult> saveToGpdb2(
             @RequestParam String eventType,
-            @RequestParam String eventData) {
-        return ApiResponse.success(externalDataService.saveToGpdb2(eventType, eventData));
+            @RequestParam String eventData,
+            HttpServletResponse response) {
+        return saveResponse(externalDataService.saveToGpdb2(eventType, eventData), response);
+    }
+
+    /**
+     * GPDB2에 분석 데이터 일괄 저장 (JDBC 배치 INSERT)
+     */
+    @PostMapping("/gpdb2/analytics/batch")
+    public ApiResponse<AnalyticsDataBatchResponse> saveAllToGpdb2(
+            @RequestBody @Valid AnalyticsDataBatchRequest request) {
+        List<AnalyticsData> data = request.getEvents().stream()
+                .map(AnalyticsDataRequest::toDomain)
+                .toList();
+        int savedCount = externalDataService.saveAllToGpdb2(data);
+        return ApiResponse.success(AnalyticsDataBatchResponse.of(savedCount));
+    }
+
+    /**
+     * GPDB2에 분석 데이터 대량 적재 (NDJSON 요청 본문, COPY FROM STDIN)
+     */
+    @PostMapping(value = "/gpdb2/analytics/bulk-load", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ApiResponse<AnalyticsDataBulkLoadResponse> bulkLoadToGpdb2(HttpServletRequest request) throws IOException {
+        try (Stream<AnalyticsData> data = readNdjson(request)) {
+            long loadedCount = externalDataService.bulkLoadToGpdb2(data);
+            return ApiResponse.success(AnalyticsDataBulkLoadResponse.of(loadedCount));
+        }
     }
 
     /**
-     * GPDB2에서 이벤트 유형별 조회
+     * GPDB2에서 이벤트 유형별 조회 (from, to 지정 시 발생 시간 구간 [from, to)로 제한)
      */
     @GetMapping("/gpdb2/analytics")
-    public ApiResponse<List<AnalyticsData>> getFromGpdb2(@RequestParam String eventType) {
-        return ApiResponse.success(externalDataService.getFromGpdb2ByEventType(eventType));
+    public ApiResponse<List<AnalyticsData>> getFromGpdb2(
+            @RequestParam String eventType,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to) {
+        if (from == null && to == null) {
+            return ApiResponse.success(externalDataService.getFromGpdb2ByEventType(eventType));
+        }
+        return ApiResponse.success(externalDataService.getFromGpdb2ByEventTypeAndRange(eventType, timeRange(from, to)));
     }
 
     /**
@@ -109,6 +304,291 @@ public class ExternalDataController {
         return ApiResponse.success(externalDataService.getAllFromGpdb2());
     }
 
+    /**
+     * GPDB2 커서 기반 페이지 조회 ((occurredAt, id) 오름차순)
+     */
+    @GetMapping("/gpdb2/analytics/page")
+    public ApiResponse<CursorPageResponse<AnalyticsData>> getPageFromGpdb2(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + CursorPageResponse.DEFAULT_SIZE) int size) {
+        KeysetPage<AnalyticsData> page = externalDataService.getPageFromGpdb2(
+                decodeCursor(cursor), CursorPageResponse.normalizeSize(size));
+        return ApiResponse.success(CursorPageResponse.of(page, data -> data, ExternalDataController::encodeCursor));
+    }
+
+    /**
+     * GPDB2 전체 데이터 스트리밍 조회 (NDJSON)
+     */
+    @GetMapping(value = "/gpdb2/analytics/all", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void streamAllFromGpdb2(HttpServletResponse response) throws IOException {
+        try (NdjsonWriter writer = NdjsonWriter.open(objectMapper, response)) {
+            externalDataService.exportAllFromGpdb2(writer::write);
+        }
+    }
+
+    /**
+     * GPDB2 발생 시간 구간 커서 기반 페이지 조회 ([from, to), (occurredAt, id) 오름차순)
+     */
+    @GetMapping("/gpdb2/analytics/range")
+    public ApiResponse<CursorPageResponse<AnalyticsData>> getRangePageFromGpdb2(
+            @RequestParam String from,
+            @RequestParam String to,
+            @RequestParam(required = false) String eventType,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + CursorPageResponse.DEFAULT_SIZE) int size) {
+        KeysetPage<AnalyticsData> page = externalDataService.getRangePageFromGpdb2(
+                timeRange(from, to), eventType, decodeCursor(cursor), CursorPageResponse.normalizeSize(size));
+        return ApiResponse.success(CursorPageResponse.of(page, data -> data, ExternalDataController::encodeCursor));
+    }
+
+    /**
+     * GPDB2 발생 시간 구간 청크 스트리밍 조회 (NDJSON)
+     */
+    @GetMapping(value = "/gpdb2/analytics/range", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void streamRangeFromGpdb2(
+            @RequestParam String from,
+            @RequestParam String to,
+            @RequestParam(required = false) String eventType,
+            HttpServletResponse response) throws IOException {
+        AnalyticsDataTimeRange range = timeRange(from, to);
+        try (NdjsonWriter writer = NdjsonWriter.open(objectMapper, response)) {
+            externalDataService.exportRangeFromGpdb2(range, eventType, writer::writeChunk);
+        }
+    }
+
+    /**
+     * GPDB2 이벤트 유형별 건수 (from, to 지정 시 발생 시간 구간 [from, to)로 제한)
+     */
+    @GetMapping("/gpdb2/analytics/stats/event-types")
+    public ApiResponse<List<AnalyticsEventTypeCount>> countByEventTypeFromGpdb2(
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to) {
+        return ApiResponse.success(externalDataService.countByEventTypeFromGpdb2(optionalTimeRange(from, to)));
+    }
+
+    /**
+     * GPDB2 발생 시간 히스토그램 (bucket: MINUTE, HOUR, DAY, MONTH)
+     */
+    @GetMapping("/gpdb2/analytics/stats/histogram")
+    public ApiResponse<List<AnalyticsHistogramBucket>> histogramFromGpdb2(
+            @RequestParam String from,
+            @RequestParam String to,
+            @RequestParam(defaultValue = "HOUR") String bucket,
+            @RequestParam(required = false) String eventType) {
+        return ApiResponse.success(externalDataService.histogramFromGpdb2(
+                timeRange(from, to), eventType, AnalyticsTimeBucket.from(bucket)));
+    }
+
+    /**
+     * GPDB2 건수와 최초/최종 발생 시간
+     */
+    @GetMapping("/gpdb2/analytics/stats/summary")
+    public ApiResponse<AnalyticsDataSummary> summarizeFromGpdb2(
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(required = false) String eventType) {
+        return ApiResponse.success(externalDataService.summarizeFromGpdb2(optionalTimeRange(from, to), eventType));
+    }
+
+    // ===================================================
+    // 샤딩(GPDB1 + GPDB2) API
+    // ===================================================
+
+    /**
+     * 샤드 키로 정해진 GPDB에 분석 데이터 저장
+     */
+    @PostMapping("/sharded/analytics")
+    public ApiResponse<AnalyticsData> saveSharded(
+            @RequestParam String eventType,
+            @RequestParam String eventData) {
+        return ApiResponse.success(externalDataService.saveSharded(eventType, eventData));
+    }
+
+    /**
+     * 분석 데이터 일괄 저장 (샤드별 JDBC 배치 INSERT)
+     */
+    @PostMapping("/sharded/analytics/batch")
+    public ApiResponse<AnalyticsDataBatchResponse> saveAllSharded(
+            @RequestBody @Valid AnalyticsDataBatchRequest request) {
+        List<AnalyticsData> data = request.getEvents().stream()
+                .map(AnalyticsDataRequest::toDomain)
+                .toList();
+        int savedCount = externalDataService.saveAllSharded(data);
+        return ApiResponse.success(AnalyticsDataBatchResponse.of(savedCount));
+    }
+
+    /**
+     * 분석 데이터 대량 적재 (NDJSON 요청 본문, 샤드별 COPY FROM STDIN)
+     */
+    @PostMapping(value = "/sharded/analytics/bulk-load", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ApiResponse<AnalyticsDataBulkLoadResponse> bulkLoadSharded(HttpServletRequest request) throws IOException {
+        try (Stream<AnalyticsData> data = readNdjson(request)) {
+            long loadedCount = externalDataService.bulkLoadSharded(data);
+            return ApiResponse.success(AnalyticsDataBulkLoadResponse.of(loadedCount));
+        }
+    }
+
+    /**
+     * 이벤트 유형별 조회 (from, to 지정 시 발생 시간 구간 [from, to)로 제한)
+     */
+    @GetMapping("/sharded/analytics")
+    public ApiResponse<List<AnalyticsData>> getSharded(
+            @RequestParam String eventType,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to) {
+        if (from == null && to == null) {
+            return ApiResponse.success(externalDataService.getShardedByEventType(eventType));
+        }
+        return ApiResponse.success(externalDataService.getShardedByEventTypeAndRange(eventType, timeRange(from, to)));
+    }
+
+    /**
+     * 모든 샤드 전체 데이터 조회
+     */
+    @GetMapping("/sharded/analytics/all")
+    public ApiResponse<List<AnalyticsData>> getAllSharded() {
+        return ApiResponse.success(externalDataService.getAllSharded());
+    }
+
+    /**
+     * 모든 샤드 커서 기반 페이지 조회 ((occurredAt, id) 오름차순)
+     */
+    @GetMapping("/sharded/analytics/page")
+    public ApiResponse<CursorPageResponse<AnalyticsData>> getShardedPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + CursorPageResponse.DEFAULT_SIZE) int size) {
+        KeysetPage<AnalyticsData> page = externalDataService.getShardedPage(
+                decodeCursor(cursor), CursorPageResponse.normalizeSize(size));
+        return ApiResponse.success(CursorPageResponse.of(page, data -> data, ExternalDataController::encodeCursor));
+    }
+
+    /**
+     * 모든 샤드 전체 데이터 스트리밍 조회 (NDJSON)
+     */
+    @GetMapping(value = "/sharded/analytics/all", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void streamAllSharded(HttpServletResponse response) throws IOException {
+        try (NdjsonWriter writer = NdjsonWriter.open(objectMapper, response)) {
+            externalDataService.exportAllSharded(writer::write);
+        }
+    }
+
+    /**
+     * 모든 샤드 발생 시간 구간 커서 기반 페이지 조회 ([from, to), (occurredAt, id) 오름차순)
+     */
+    @GetMapping("/sharded/analytics/range")
+    public ApiResponse<CursorPageResponse<AnalyticsData>> getRangePageSharded(
+            @RequestParam String from,
+            @RequestParam String to,
+            @RequestParam(required = false) String eventType,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + CursorPageResponse.DEFAULT_SIZE) int size) {
+        KeysetPage<AnalyticsData> page = externalDataService.getShardedRangePage(
+                timeRange(from, to), eventType, decodeCursor(cursor), CursorPageResponse.normalizeSize(size));
+        return ApiResponse.success(CursorPageResponse.of(page, data -> data, ExternalDataController::encodeCursor));
+    }
+
+    /**
+     * 모든 샤드 발생 시간 구간 청크 스트리밍 조회 (NDJSON)
+     */
+    @GetMapping(value = "/sharded/analytics/range", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void streamRangeSharded(
+            @RequestParam String from,
+            @RequestParam String to,
+            @RequestParam(required = false) String eventType,
+            HttpServletResponse response) throws IOException {
+        AnalyticsDataTimeRange range = timeRange(from, to);
+        try (NdjsonWriter writer = NdjsonWriter.open(objectMapper, response)) {
+            externalDataService.exportRangeSharded(range, eventType, writer::writeChunk);
+        }
+    }
+
+    /**
+     * 모든 샤드 이벤트 유형별 건수 (from, to 지정 시 발생 시간 구간 [from, to)로 제한)
+     */
+    @GetMapping("/sharded/analytics/stats/event-types")
+    public ApiResponse<List<AnalyticsEventTypeCount>> countByEventTypeSharded(
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to) {
+        return ApiResponse.success(externalDataService.countByEventTypeSharded(optionalTimeRange(from, to)));
+    }
+
+    /**
+     * 모든 샤드 발생 시간 히스토그램 (bucket: MINUTE, HOUR, DAY, MONTH)
+     */
+    @GetMapping("/sharded/analytics/stats/histogram")
+    public ApiResponse<List<AnalyticsHistogramBucket>> histogramSharded(
+            @RequestParam String from,
+            @RequestParam String to,
+            @RequestParam(defaultValue = "HOUR") String bucket,
+            @RequestParam(required = false) String eventType) {
+        return ApiResponse.success(externalDataService.histogramSharded(
+                timeRange(from, to), eventType, AnalyticsTimeBucket.from(bucket)));
+    }
+
+    /**
+     * 모든 샤드 건수와 최초/최종 발생 시간
+     */
+    @GetMapping("/sharded/analytics/stats/summary")
+    public ApiResponse<AnalyticsDataSummary> summarizeSharded(
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(required = false) String eventType) {
+        return ApiResponse.success(externalDataService.summarizeSharded(optionalTimeRange(from, to), eventType));
+    }
+
+    // ===================================================
+    // 실시간 집계 API (메모리, DB 미조회)
+    // ===================================================
+
+    /**
+     * 최근 N분 저장 이벤트 집계 (기본 60분)
+     */
+    @GetMapping("/analytics/stats")
+    public ApiResponse<AnalyticsRollupSnapshot> getLiveStats(@RequestParam(defaultValue = "60") int window) {
+        return ApiResponse.success(externalDataService.getLiveStats(window));
+    }
+
+    // ===================================================
+    // 확률적 스케치 API (메모리, DB 미조회)
+    // ===================================================
+
+    /**
+     * 고유 eventData 개수 추정 (eventType 미지정 시 전체)
+     */
+    @GetMapping("/analytics/sketches/cardinality")
+    public ApiResponse<AnalyticsSketches.Cardinality> getPayloadCardinality(
+            @RequestParam(required = false) String eventType) {
+        return ApiResponse.success(externalDataService.getPayloadCardinality(eventType));
+    }
+
+    /**
+     * 가장 많은 eventData 상위 k개 (eventType 미지정 시 전체)
+     */
+    @GetMapping("/analytics/sketches/top-payloads")
+    public ApiResponse<AnalyticsSketches.TopPayloads> getTopPayloads(
+            @RequestParam(required = false) String eventType,
+            @RequestParam(defaultValue = "10") int k) {
+        return ApiResponse.success(externalDataService.getTopPayloads(eventType, k));
+    }
+
+    /**
+     * 특정 eventData 빈도 추정 (eventType 미지정 시 전체)
+     */
+    @GetMapping("/analytics/sketches/frequency")
+    public ApiResponse<AnalyticsSketches.Frequency> getPayloadFrequency(
+            @RequestParam(required = false) String eventType,
+            @RequestParam String eventData) {
+        return ApiResponse.success(externalDataService.getPayloadFrequency(eventType, eventData));
+    }
+
+    /**
+     * 가장 많은 이벤트 유형 상위 k개
+     */
+    @GetMapping("/analytics/sketches/top-event-types")
+    public ApiResponse<List<AnalyticsEventTypeCount>> getTopEventTypes(@RequestParam(defaultValue = "10") int k) {
+        return ApiResponse.success(externalDataService.getTopEventTypes(k));
+    }
+
     // ===================================================
     // 복합 API (외부 API + Multi-DB)
     // ===================================================
@@ -121,4 +601,68 @@ public class ExternalDataController {
         externalDataService.fetchAndStoreAnalytics(postId);
         return ApiResponse.success();
     }
+
+    /**
+     * 여러 게시글을 병렬 수집 후 GPDB에 저장 (다건 ETL)
+     */
+    @PostMapping("/etl")
+    public ApiResponse<AnalyticsEtlResult> fetchAndStoreAll(@RequestBody AnalyticsEtlRequest request) {
+        return ApiResponse.success(externalDataService.fetchAndStoreAnalytics(request.resolvePostIds()));
+    }
+
+    // ===================================================
+    // 요청 본문 / 응답 상태 / 커서 토큰 / 조회 구간 변환
+    // ===================================================
+
+    /**
+     * 단건 저장 응답 (DB 저장은 200, 버퍼 적재/버림은 202)
+     */
+    private static ApiResponse<AnalyticsSaveResult> saveResponse(
+            AnalyticsSaveResult result, HttpServletResponse response) {
+        if (result.status() != AnalyticsSaveResult.Status.SAVED) {
+            response.setStatus(HttpServletResponse.SC_ACCEPTED);
+        }
+        return ApiResponse.success(result);
+    }
+
+    private Stream<AnalyticsData> readNdjson(HttpServletRequest request) throws IOException {
+        return NdjsonReader.read(objectMapper, validator, request.getInputStream(), AnalyticsDataRequest.class)
+                .map(AnalyticsDataRequest::toDomain);
+    }
+
+    private static String encodeCursor(AnalyticsData data) {
+        return CursorToken.encode(data.getOccurredAt().toString(), String.valueOf(data.getId()));
+    }
+
+    /**
+     * ISO-8601 일시 문자열(예: 2026-10-01T00:00:00)로 조회 구간 생성
+     */
+    private static AnalyticsDataTimeRange timeRange(String from, String to) {
+        try {
+            return new AnalyticsDataTimeRange(
+                    from == null ? null : LocalDateTime.parse(from),
+                    to == null ? null : LocalDateTime.parse(to));
+        } catch (DateTimeParseException e) {
+            throw new BusinessException("유효하지 않은 조회 시각입니다. (예: 2026-10-01T00:00:00)", "INVALID_TIME_RANGE");
+        }
+    }
+
+    /**
+     * 선택 조회 구간 (from, to 모두 없으면 null = 전체 기간)
+     */
+    private static AnalyticsDataTimeRange optionalTimeRange(String from, String to) {
+        return from == null && to == null ? null : timeRange(from, to);
+    }
+
+    private static AnalyticsDataCursor decodeCursor(String cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        String[] keys = CursorToken.decode(cursor, 2);
+        try {
+            return new AnalyticsDataCursor(LocalDateTime.parse(keys[0]), Long.valueOf(keys[1]));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new BusinessException("유효하지 않은 커서입니다.", "INVALID_CURSOR");
+        }
+    }
 }
@@ -1,14 +1,23 @@
 package com.template.api.v1.controller.sample;
 
 import com.template.application.sample.SampleUseCase;
+import com.template.domain.common.exception.BusinessException;
 import com.template.domain.sample.Sample;
+import com.template.domain.sample.SampleCollectionVersion;
+import com.template.api.support.page.CursorToken;
 import com.template.api.support.response.ApiResponse;
 import com.template.api.v1.request.SampleRequest;
+import com.template.api.v1.response.CursorPageResponse;
 import com.template.api.v1.response.SampleResponse;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -23,6 +32,9 @@ import java.util.List;
  * <li>UseCase는 도메인 객체만 다룸</li>
  * <li>응답 DTO로 변환하여 반환</li>
  * </ul>
+ * <p>
+ * 단건/전체 조회는 {@link SampleResponseJsonCache}가 캐시된 JSON 바이트를 응답 스트림에 직접 기록하며,
+ * {@link SampleETags}로 ETag / 조건부 요청(304)을 처리합니다.
  */
 @RestController
 @RequestMapping("/api/v1/samples")
@@ -30,6 +42,8 @@ import java.util.List;
 public class SampleController {
 
     private final SampleUseCase sampleUseCase;
+    private final SampleResponseJsonCache responseJsonCache;
+    private final SampleETags sampleETags;
 
     /**
      * 샘플 생성
@@ -53,24 +67,64 @@ public class SampleController {
 
     /**
      * 샘플 상세 조회
+     * <p>
+     * ETag(id, updatedAt)를 응답하며, If-None-Match가 일치하면 본문 없이 304로 응답합니다.
      */
-    @GetMapping("/{id}")
-    public ApiResponse<SampleResponse> getById(@PathVariable Long id) {
+    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public void getById(@PathVariable Long id, WebRequest webRequest, HttpServletResponse response)
+            throws IOException {
         Sample sample = sampleUseCase.getById(id);
-        return ApiResponse.success(SampleResponse.from(sample));
+        if (sampleETags.checkItemNotModified(webRequest, sample)) {
+            return;
+        }
+        responseJsonCache.write(response, sample);
     }
 
     /**
      * 전체 샘플 조회
+     * <p>
+     * ETag(건수, 최종 수정 시간)를 응답합니다. If-None-Match가 있으면 집계 조회로 먼저 비교하여,
+     * 일치하면 전체 목록을 조회하지 않고 304로 응답합니다.
+     */
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public void getAll(WebRequest webRequest, HttpServletResponse response) throws IOException {
+        if (sampleETags.isConditional(webRequest)
+                && sampleETags.checkListNotModified(webRequest, sampleUseCase.getCollectionVersion())) {
+            return;
+        }
+        List<Sample> samples = sampleUseCase.getAll();
+        // 본문과 일치하도록 조회한 목록 기준으로 ETag를 다시 지정합니다
+        response.setHeader(HttpHeaders.ETAG, SampleETags.of(SampleCollectionVersion.of(samples)));
+        responseJsonCache.writeAll(response, samples);
+    }
+
+    /**
+     * 제목으로 샘플 검색 (부분 일치)
      */
-    @GetMapping
-    public ApiResponse<List<SampleResponse>> getAll() {
-        List<SampleResponse> responses = sampleUseCase.getAll().stream()
+    @GetMapping("/search")
+    public ApiResponse<List<SampleResponse>> searchByTitle(@RequestParam String title) {
+        List<SampleResponse> responses = sampleUseCase.searchByTitle(title).stream()
                 .map(SampleResponse::from)
                 .toList();
         return ApiResponse.success(responses);
     }
 
+    /**
+     * 샘플 커서 기반 페이지 조회
+     * <p>
+     * 첫 페이지는 cursor 없이 요청하고, 이후에는 응답의 nextCursor를 전달합니다.
+     */
+    @GetMapping("/page")
+    public ApiResponse<CursorPageResponse<SampleResponse>> getPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + CursorPageResponse.DEFAULT_SIZE) int size) {
+        Long afterId = cursor == null ? null : decodeCursor(cursor);
+        return ApiResponse.success(CursorPageResponse.of(
+                sampleUseCase.getPage(afterId, CursorPageResponse.normalizeSize(size)),
+                SampleResponse::from,
+                sample -> CursorToken.encode(String.valueOf(sample.getId()))));
+    }
+
     /**
      * 샘플 삭제
      */
@@ -79,4 +133,12 @@ public class SampleController {
         sampleUseCase.delete(id);
         return ApiResponse.success();
     }
+
+    private Long decodeCursor(String cursor) {
+        try {
+            return Long.valueOf(CursorToken.decode(cursor, 1)[0]);
+        } catch (NumberFormatException e) {
+            throw new BusinessException("유효하지 않은 커서입니다.", "INVALID_CURSOR");
+        }
+    }
 }
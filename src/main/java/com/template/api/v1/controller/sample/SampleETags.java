@@ -0,0 +1,110 @@
+package com.template.api.v1.controller.sample;
+
+import com.template.domain.sample.Sample;
+import com.template.domain.sample.SampleCollectionVersion;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 샘플 조회 ETag / 조건부 요청(If-None-Match) 처리
+ * <p>
+ * updatedAt 기반의 강한(strong) ETag를 만들고, 일치하면 304 Not Modified로 응답하도록 표시합니다.
+ * <ul>
+ * <li>단건: {@code "<id>-<updatedAt>"}</li>
+ * <li>전체 목록: {@code "n<count>-<max(updatedAt)>"} (행을 읽지 않는 집계 조회로 계산)</li>
+ * </ul>
+ * updatedAt은 나노초 단위 epoch(UTC 기준 환산)를 16진수로 표기합니다.
+ * <p>
+ * If-None-Match가 있는 요청만 집계하여 sample.conditional.requests 메트릭
+ * (endpoint=item|list, result=hit|miss)으로 노출합니다. hit는 304 응답 건수입니다.
+ */
+@Component
+public class SampleETags {
+
+    private static final String METRIC_NAME = "sample.conditional.requests";
+
+    private final Counter itemHits;
+    private final Counter itemMisses;
+    private final Counter listHits;
+    private final Counter listMisses;
+
+    public SampleETags(MeterRegistry meterRegistry) {
+        this.itemHits = counter(meterRegistry, "item", "hit");
+        this.itemMisses = counter(meterRegistry, "item", "miss");
+        this.listHits = counter(meterRegistry, "list", "hit");
+        this.listMisses = counter(meterRegistry, "list", "miss");
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String endpoint, String result) {
+        return Counter.builder(METRIC_NAME)
+                .description("If-None-Match 조건부 조회 결과 (hit: 304 응답)")
+                .tag("endpoint", endpoint)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    // ==================== ETag 계산 ====================
+
+    /**
+     * 단건 ETag
+     */
+    public static String of(Sample sample) {
+        return '"' + Long.toHexString(sample.getId()) + '-' + version(sample.getUpdatedAt()) + '"';
+    }
+
+    /**
+     * 전체 목록 ETag
+     */
+    public static String of(SampleCollectionVersion version) {
+        return "\"n" + Long.toHexString(version.count()) + '-' + version(version.lastUpdatedAt()) + '"';
+    }
+
+    private static String version(LocalDateTime updatedAt) {
+        if (updatedAt == null) {
+            return "0";
+        }
+        return Long.toHexString(updatedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + updatedAt.getNano());
+    }
+
+    // ==================== 조건부 요청 ====================
+
+    /**
+     * 요청에 If-None-Match 헤더가 있는지 여부
+     */
+    public boolean isConditional(WebRequest request) {
+        return request.getHeader(HttpHeaders.IF_NONE_MATCH) != null;
+    }
+
+    /**
+     * 단건 조건부 요청 확인 (ETag 헤더 설정, 일치 시 304 상태 설정)
+     *
+     * @return 304로 응답해야 하면 true (본문을 기록하지 않음)
+     */
+    public boolean checkItemNotModified(WebRequest request, Sample sample) {
+        return check(request, of(sample), itemHits, itemMisses);
+    }
+
+    /**
+     * 전체 목록 조건부 요청 확인 (ETag 헤더 설정, 일치 시 304 상태 설정)
+     *
+     * @return 304로 응답해야 하면 true (본문을 기록하지 않음)
+     */
+    public boolean checkListNotModified(WebRequest request, SampleCollectionVersion version) {
+        return check(request, of(version), listHits, listMisses);
+    }
+
+    private boolean check(WebRequest request, String etag, Counter hits, Counter misses) {
+        boolean conditional = isConditional(request);
+        boolean notModified = request.checkNotModified(etag);
+        if (conditional) {
+            (notModified ? hits : misses).increment();
+        }
+        return notModified;
+    }
+}
@@ -0,0 +1,194 @@
+package com.template.api.v1.controller.sample;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.template.api.support.response.ApiResponse;
+import com.template.api.v1.response.SampleResponse;
+import com.template.domain.sample.Sample;
+import com.template.domain.sample.SampleChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 샘플 응답 JSON 바이트 캐시
+ * <p>
+ * 샘플 단건의 JSON 직렬화 결과(UTF-8 바이트)를 샘플 ID별로 보관하고,
+ * {@link ApiResponse} 봉투(envelope)의 앞/뒤 바이트는 기동 시 한 번만 만들어 둡니다.
+ * 조회 응답은 캐시된 바이트를 서블릿 출력 스트림에 그대로 기록하므로,
+ * 적중 시 응답 DTO 생성과 Jackson 직렬화가 일어나지 않습니다.
+ * <p>
+ * <b>무효화:</b>
+ * <ul>
+ * <li>캐시 값은 직렬화 당시의 updatedAt(과 제목/내용)을 함께 보관하며, 조회한 샘플과 다르면 다시 직렬화합니다</li>
+ * <li>샘플 수정/삭제 시 {@link SampleChangedEvent}를 트랜잭션 커밋 이후 받아 해당 ID를 제거합니다</li>
+ * </ul>
+ * updatedAt은 flush 시점에 감사(auditing)로 채워지므로 수정 직후 반환된 샘플은 이전 값을 가질 수 있어,
+ * 제목/내용까지 비교하여 이전 바이트가 새 샘플에 쓰이지 않도록 합니다.
+ * 같은 이유로 목록 조회가 읽기 복제본에서 오래된 샘플을 읽어 바이트를 채우더라도,
+ * 그 바이트는 같은 버전의 샘플에만 쓰이고 Primary에서 읽은 최신 샘플에는 쓰이지 않습니다.
+ * <p>
+ * 봉투 바이트는 애플리케이션 공통 ObjectMapper로 만들므로 Jackson 설정(null 제외 등)이 그대로 반영되며,
+ * 캐시 통계는 cache.* 메트릭(cache=sample.response_json)으로 노출됩니다.
+ */
+@Component
+public class SampleResponseJsonCache {
+
+    /**
+     * 봉투 직렬화 시 data 자리에 넣는 표식 (직렬화 결과에서 이 위치를 기준으로 앞/뒤를 나눕니다)
+     */
+    private static final String DATA_PLACEHOLDER = "__sample_response_data__";
+
+    private static final byte ARRAY_START = '[';
+    private static final byte ARRAY_END = ']';
+    private static final byte SEPARATOR = ',';
+
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, Encoded> cache;
+
+    private final byte[] envelopePrefix;
+    private final byte[] envelopeSuffix;
+
+    public SampleResponseJsonCache(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${sample.response-cache.maximum-size:10000}") long maximumSize) {
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "sample.response_json");
+
+        byte[] envelope = encode(ApiResponse.success(DATA_PLACEHOLDER));
+        byte[] placeholder = encode(DATA_PLACEHOLDER);
+        int at = indexOf(envelope, placeholder);
+        if (at < 0) {
+            throw new IllegalStateException("ApiResponse 봉투에서 data 위치를 찾을 수 없습니다.");
+        }
+        this.envelopePrefix = Arrays.copyOfRange(envelope, 0, at);
+        this.envelopeSuffix = Arrays.copyOfRange(envelope, at + placeholder.length, envelope.length);
+    }
+
+    // ==================== 응답 기록 ====================
+
+    /**
+     * 단건 응답 기록 (ApiResponse&lt;SampleResponse&gt;)
+     *
+     * @param response 서블릿 응답
+     * @param sample   샘플
+     */
+    public void write(HttpServletResponse response, Sample sample) throws IOException {
+        byte[] data = encoded(sample);
+        ServletOutputStream out = open(response, envelopePrefix.length + data.length + envelopeSuffix.length);
+        out.write(envelopePrefix);
+        out.write(data);
+        out.write(envelopeSuffix);
+    }
+
+    /**
+     * 목록 응답 기록 (ApiResponse&lt;List&lt;SampleResponse&gt;&gt;)
+     * <p>
+     * 각 샘플의 캐시된 바이트를 배열로 이어 붙이며, 캐시에 없는 샘플만 직렬화합니다.
+     *
+     * @param response 서블릿 응답
+     * @param samples  샘플 목록
+     */
+    public void writeAll(HttpServletResponse response, List<Sample> samples) throws IOException {
+        byte[][] items = new byte[samples.size()][];
+        long length = envelopePrefix.length + envelopeSuffix.length + 2L + Math.max(0, items.length - 1);
+        for (int i = 0; i < items.length; i++) {
+            items[i] = encoded(samples.get(i));
+            length += items[i].length;
+        }
+
+        ServletOutputStream out = open(response, length);
+        out.write(envelopePrefix);
+        out.write(ARRAY_START);
+        for (int i = 0; i < items.length; i++) {
+            if (i > 0) {
+                out.write(SEPARATOR);
+            }
+            out.write(items[i]);
+        }
+        out.write(ARRAY_END);
+        out.write(envelopeSuffix);
+    }
+
+    // ==================== 무효화 ====================
+
+    /**
+     * 커밋된 샘플 변경 반영 (수정/삭제된 샘플의 바이트 제거)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSampleChanged(SampleChangedEvent event) {
+        cache.invalidate(event.id());
+    }
+
+    // ==================== 내부 ====================
+
+    private byte[] encoded(Sample sample) {
+        Encoded cached = cache.getIfPresent(sample.getId());
+        if (cached != null && cached.matches(sample)) {
+            return cached.json();
+        }
+        Encoded fresh = new Encoded(sample.getUpdatedAt(), sample.getTitle(), sample.getContent(),
+                encode(SampleResponse.from(sample)));
+        cache.put(sample.getId(), fresh);
+        return fresh.json();
+    }
+
+    private byte[] encode(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ServletOutputStream open(HttpServletResponse response, long contentLength) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLengthLong(contentLength);
+        return response.getOutputStream();
+    }
+
+    private static int indexOf(byte[] source, byte[] target) {
+        outer:
+        for (int i = 0; i <= source.length - target.length; i++) {
+            for (int j = 0; j < target.length; j++) {
+                if (source[i + j] != target[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    /**
+     * 직렬화된 샘플 (직렬화 당시의 버전 정보 포함)
+     */
+    private record Encoded(LocalDateTime updatedAt, String title, String content, byte[] json) {
+
+        boolean matches(Sample sample) {
+            return Objects.equals(updatedAt, sample.getUpdatedAt())
+                    && Objects.equals(title, sample.getTitle())
+                    && Objects.equals(content, sample.getContent());
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.template.api.v1.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 분석 데이터 일괄 저장 요청 DTO (프레젠테이션 레이어)
+ * <p>
+ * 한 번의 HTTP 요청으로 여러 이벤트를 전달하여 JDBC 배치 INSERT로 저장합니다.
+ * 요청 한 건이 하나의 트랜잭션으로 처리되므로 최대 건수를 제한합니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AnalyticsDataBatchRequest {
+
+    /**
+     * 요청당 최대 이벤트 건수
+     */
+    public static final int MAX_EVENTS = 10_000;
+
+    @Valid
+    @NotEmpty(message = "이벤트 목록은 비어 있을 수 없습니다.")
+    @Size(max = MAX_EVENTS, message = "한 번에 저장할 수 있는 이벤트는 최대 10000건입니다.")
+    private List<AnalyticsDataRequest> events;
+
+    public AnalyticsDataBatchRequest(List<AnalyticsDataRequest> events) {
+        this.events = events;
+    }
+}
@@ -0,0 +1,34 @@
+package com.template.api.v1.request;
+
+import com.template.domain.analytics.AnalyticsData;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 분석 데이터 저장 요청 DTO (프레젠테이션 레이어)
+ * <p>
+ * 일괄 저장 요청({@link AnalyticsDataBatchRequest})의 개별 이벤트 항목입니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AnalyticsDataRequest {
+
+    @NotBlank(message = "이벤트 유형은 필수입니다.")
+    private String eventType;
+
+    private String eventData;
+
+    public AnalyticsDataRequest(String eventType, String eventData) {
+        this.eventType = eventType;
+        this.eventData = eventData;
+    }
+
+    /**
+     * 요청 DTO → 도메인 객체 변환
+     */
+    public AnalyticsData toDomain() {
+        return AnalyticsData.create(eventType, eventData);
+    }
+}
@@ -0,0 +1,92 @@
+package com.template.api.v1.request;
+
+import com.template.domain.common.exception.BusinessException;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+/**
+ * 다건 ETL 요청 DTO (프레젠테이션 레이어)
+ * <p>
+ * 게시글 ID 목록(postIds) 또는 범위(fromPostId ~ toPostId, 양 끝 포함) 중 하나를 지정합니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AnalyticsEtlRequest {
+
+    /**
+     * 한 번에 요청할 수 있는 최대 게시글 수
+     */
+    public static final int MAX_POSTS = 1_000;
+
+    private List<Long> postIds;
+
+    private Long fromPostId;
+
+    private Long toPostId;
+
+    public AnalyticsEtlRequest(List<Long> postIds, Long fromPostId, Long toPostId) {
+        this.postIds = postIds;
+        this.fromPostId = fromPostId;
+        this.toPostId = toPostId;
+    }
+
+    /**
+     * 처리할 게시글 ID 목록 계산
+     */
+    public List<Long> resolvePostIds() {
+        boolean hasList = postIds != null && !postIds.isEmpty();
+        boolean hasRange = fromPostId != null || toPostId != null;
+        if (hasList == hasRange) {
+            throw new BusinessException("postIds 또는 fromPostId ~ toPostId 중 하나만 지정해야 합니다.", "INVALID_ETL_REQUEST");
+        }
+        if (hasList) {
+            validateIds(postIds);
+            validateSize(postIds.size());
+            return postIds;
+        }
+        if (fromPostId == null || toPostId == null || fromPostId > toPostId) {
+            throw new BusinessException("게시글 ID 범위가 올바르지 않습니다.", "INVALID_ETL_REQUEST");
+        }
+        validateSize(rangeSize(fromPostId, toPostId));
+        return LongStream.rangeClosed(fromPostId, toPostId).boxed().toList();
+    }
+
+    /**
+     * null, 중복 ID 거부 (중복 ID는 같은 게시글을 여러 번 저장하게 됨)
+     */
+    private static void validateIds(List<Long> ids) {
+        Set<Long> seen = new HashSet<>(ids.size() * 2);
+        for (Long id : ids) {
+            if (id == null) {
+                throw new BusinessException("postIds에 null을 포함할 수 없습니다.", "INVALID_ETL_REQUEST");
+            }
+            if (!seen.add(id)) {
+                throw new BusinessException("postIds에 중복된 ID가 있습니다: " + id, "INVALID_ETL_REQUEST");
+            }
+        }
+    }
+
+    /**
+     * 범위 크기 (from <= to), long 범위를 넘으면 Long.MAX_VALUE
+     */
+    private static long rangeSize(long from, long to) {
+        try {
+            return Math.addExact(Math.subtractExact(to, from), 1L);
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private static void validateSize(long size) {
+        if (size > MAX_POSTS) {
+            throw new BusinessException(
+                    "한 번에 최대 " + MAX_POSTS + "건까지 요청할 수 있습니다.", "INVALID_ETL_REQUEST");
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.template.api.v1.response;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 분석 데이터 일괄 저장 응답 DTO (프레젠테이션 레이어)
+ * <p>
+ * 저장된 행을 다시 돌려주지 않고 건수만 반환하여 응답 크기를 일정하게 유지합니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AnalyticsDataBatchResponse {
+
+    private int savedCount;
+
+    public AnalyticsDataBatchResponse(int savedCount) {
+        this.savedCount = savedCount;
+    }
+
+    /**
+     * 팩토리 메서드
+     */
+    public static AnalyticsDataBatchResponse of(int savedCount) {
+        return new AnalyticsDataBatchResponse(savedCount);
+    }
+}
@@ -0,0 +1,26 @@
+package com.template.api.v1.response;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 분석 데이터 대량 적재 응답 DTO (프레젠테이션 레이어)
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AnalyticsDataBulkLoadResponse {
+
+    private long loadedCount;
+
+    public AnalyticsDataBulkLoadResponse(long loadedCount) {
+        this.loadedCount = loadedCount;
+    }
+
+    /**
+     * 팩토리 메서드
+     */
+    public static AnalyticsDataBulkLoadResponse of(long loadedCount) {
+        return new AnalyticsDataBulkLoadResponse(loadedCount);
+    }
+}
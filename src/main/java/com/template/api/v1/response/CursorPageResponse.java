@@ -0,0 +1,65 @@
+package com.template.api.v1.response;
+
+import com.template.domain.common.page.KeysetPage;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지 응답 DTO (프레젠테이션 레이어)
+ * <p>
+ * 다음 페이지 요청 시 {@code nextCursor}를 cursor 파라미터로 그대로 전달합니다.
+ * 마지막 페이지에서는 nextCursor가 null(응답에서 생략)입니다.
+ *
+ * @param <T> 응답 항목 타입
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CursorPageResponse<T> {
+
+    /**
+     * 기본 페이지 크기
+     */
+    public static final int DEFAULT_SIZE = 20;
+
+    /**
+     * 최대 페이지 크기
+     */
+    public static final int MAX_SIZE = 1000;
+
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+
+    private CursorPageResponse(List<T> content, String nextCursor, boolean hasNext) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+
+    /**
+     * 도메인 페이지로부터 응답 DTO 생성
+     *
+     * @param page         키셋 페이지 결과
+     * @param converter    도메인 객체 → 응답 항목 변환 함수
+     * @param cursorEncoder 마지막 도메인 객체 → 커서 토큰 변환 함수
+     */
+    public static <D, T> CursorPageResponse<T> of(
+            KeysetPage<D> page,
+            Function<D, T> converter,
+            Function<D, String> cursorEncoder) {
+        List<T> content = page.content().stream().map(converter).toList();
+        String nextCursor = page.hasNext() ? cursorEncoder.apply(page.last()) : null;
+        return new CursorPageResponse<>(content, nextCursor, page.hasNext());
+    }
+
+    /**
+     * 요청 페이지 크기를 허용 범위(1 ~ MAX_SIZE)로 보정
+     */
+    public static int normalizeSize(int size) {
+        return Math.clamp(size, 1, MAX_SIZE);
+    }
+}
@@ -0,0 +1,49 @@
+package com.template.application.external;
+
+import java.util.List;
+
+/**
+ * 다건 ETL 처리 결과
+ * <p>
+ * 게시글별 처리 결과와 전체 요약을 함께 반환합니다.
+ * 일부 게시글이 실패해도 나머지는 그대로 저장되며, 실패 항목은 error에 원인이 기록됩니다.
+ *
+ * @param requested 요청 건수
+ * @param succeeded 성공 건수 (GPDB1, GPDB2 모두 저장)
+ * @param failed    실패 건수
+ * @param elapsedMs 전체 소요 시간 (밀리초)
+ * @param items     게시글별 처리 결과 (요청 순서 유지)
+ */
+public record AnalyticsEtlResult(
+        int requested,
+        int succeeded,
+        int failed,
+        long elapsedMs,
+        List<Item> items) {
+
+    public static AnalyticsEtlResult of(List<Item> items, long elapsedMs) {
+        int succeeded = (int) items.stream().filter(Item::success).count();
+        return new AnalyticsEtlResult(items.size(), succeeded, items.size() - succeeded, elapsedMs, items);
+    }
+
+    /**
+     * 게시글별 처리 결과
+     *
+     * @param postId      외부 API 게시글 ID
+     * @param gpdb1Stored GPDB1 제목 이벤트 저장 여부
+     * @param gpdb2Stored GPDB2 본문 이벤트 저장 여부
+     * @param error       실패 원인 (성공 시 null)
+     * @param elapsedMs   처리 소요 시간 (밀리초, 동시성 한도 대기 시간 제외)
+     */
+    public record Item(
+            Long postId,
+            boolean gpdb1Stored,
+            boolean gpdb2Stored,
+            String error,
+            long elapsedMs) {
+
+        public boolean success() {
+            return gpdb1Stored && gpdb2Stored;
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.template.application.external;
+
+import com.template.domain.analytics.AnalyticsData;
+import com.template.domain.analytics.AnalyticsEventTypeCount;
+import com.template.domain.analytics.AnalyticsHistogramBucket;
+import com.template.domain.common.exception.BusinessException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 분석 이벤트 실시간 집계 (프로세스 메모리, 분 단위 링 버퍼)
+ * <p>
+ * 저장 요청이 지나갈 때마다 현재 분(minute)의 버킷에 저장 대상별, 이벤트 유형별 건수를 더합니다.
+ * 운영 대시보드는 DB(MPP 클러스터)를 조회하지 않고 이 집계로 최근 N분 현황을 확인합니다.
+ * <p>
+ * <b>구조:</b>
+ * <ul>
+ * <li>분 버킷 링: 크기 analytics.rollup.minutes의 {@link AtomicReferenceArray}, 슬롯 = epoch 분 % 크기</li>
+ * <li>버킷 교체: 슬롯의 버킷이 지난 분이면 새 버킷으로 CAS 교체 (락 없음)</li>
+ * <li>건수: {@link LongAdder} (스레드별 셀로 분산되어 동시 증가 시 경합 없음)</li>
+ * </ul>
+ * <p>
+ * <b>주의:</b>
+ * 인스턴스별 집계이므로 여러 인스턴스로 운영하면 인스턴스마다 값이 다릅니다.
+ * 재시작 시 초기화되며, 분 경계에서 버킷이 교체되는 순간의 일부 건수는 유실될 수 있는 근사값입니다.
+ * 정확한 값이 필요하면 DB 집계 API(/analytics/stats/**)를 사용합니다.
+ * <p>
+ * 트랜잭션 안의 저장(일괄 저장, 대량 적재)은 커밋된 뒤에 기록하므로 커밋 시각의 분 버킷에 더해집니다.
+ * 입력을 메모리에 모을 수 없는 대량 적재는 {@link #newBatch(String)}로 이벤트 유형별 건수만 모아 두었다가 기록합니다.
+ */
+@Component
+public class AnalyticsEventRollup {
+
+    /**
+     * 버킷당 이벤트 유형 수 한도를 넘은 유형의 건수를 모으는 키
+     */
+    static final String OTHER_EVENT_TYPES = "_other";
+
+    private static final long MINUTE_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private final AtomicReferenceArray<MinuteBucket> ring;
+    private final int maxEventTypes;
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    /**
+     * @param minutes       보관할 분 버킷 수 (조회 가능한 최대 구간)
+     * @param maxEventTypes 버킷당 이벤트 유형 수 한도 (초과분은 {@value #OTHER_EVENT_TYPES}로 합산)
+     */
+    public AnalyticsEventRollup(
+            @Value("${analytics.rollup.minutes:60}") int minutes,
+            @Value("${analytics.rollup.max-event-types:1000}") int maxEventTypes) {
+        this.ring = new AtomicReferenceArray<>(minutes);
+        this.maxEventTypes = maxEventTypes;
+    }
+
+    /**
+     * 저장된 이벤트 1건 기록
+     *
+     * @param target    저장 대상 (gpdb1, gpdb2, sharded)
+     * @param eventType 이벤트 유형
+     */
+    public void record(String target, String eventType) {
+        record(target, eventType, 1);
+    }
+
+    /**
+     * 같은 이벤트 유형으로 저장된 이벤트 여러 건 기록
+     *
+     * @param target    저장 대상 (gpdb1, gpdb2, sharded)
+     * @param eventType 이벤트 유형
+     * @param count     건수
+     */
+    public void record(String target, String eventType, long count) {
+        if (count > 0) {
+            currentBucket(System.currentTimeMillis() / MINUTE_MILLIS).record(target, eventType, count, maxEventTypes);
+        }
+    }
+
+    /**
+     * 저장된 이벤트 목록 기록 (이벤트 유형별 건수로 묶어 기록)
+     *
+     * @param target 저장 대상 (gpdb1, gpdb2, sharded)
+     * @param data   저장된 이벤트 목록
+     */
+    public void recordAll(String target, List<AnalyticsData> data) {
+        Batch batch = newBatch(target);
+        data.forEach(batch::record);
+        batch.apply();
+    }
+
+    /**
+     * 나중에 한 번에 기록할 건수 묶음 생성 (트랜잭션 커밋 후 기록용)
+     *
+     * @param target 저장 대상 (gpdb1, gpdb2, sharded)
+     */
+    public Batch newBatch(String target) {
+        return new Batch(target);
+    }
+
+    /**
+     * 최근 windowMinutes분(현재 분 포함) 집계
+     *
+     * @param windowMinutes 집계 구간 (1 ~ analytics.rollup.minutes)
+     * @return 집계 스냅샷
+     */
+    public AnalyticsRollupSnapshot snapshot(int windowMinutes) {
+        if (windowMinutes < 1 || windowMinutes > ring.length()) {
+            throw new BusinessException(
+                    "집계 구간은 1분에서 " + ring.length() + "분 사이여야 합니다.", "INVALID_ROLLUP_WINDOW");
+        }
+        long currentMinute = System.currentTimeMillis() / MINUTE_MILLIS;
+        long fromMinute = currentMinute - windowMinutes + 1;
+
+        long total = 0;
+        Map<String, Long> byTarget = new TreeMap<>();
+        Map<String, Long> byEventType = new HashMap<>();
+        List<AnalyticsHistogramBucket> minutes = new ArrayList<>();
+        for (long minute = fromMinute; minute <= currentMinute; minute++) {
+            MinuteBucket bucket = ring.get(slot(minute));
+            if (bucket == null || bucket.minute != minute) {
+                continue;
+            }
+            long count = bucket.total.sum();
+            total += count;
+            minutes.add(new AnalyticsHistogramBucket(toDateTime(minute), count));
+            bucket.byTarget.forEach((key, adder) -> byTarget.merge(key, adder.sum(), Long::sum));
+            bucket.byEventType.forEach((key, adder) -> byEventType.merge(key, adder.sum(), Long::sum));
+        }
+
+        List<AnalyticsEventTypeCount> eventTypes = byEventType.entrySet().stream()
+                .map(entry -> new AnalyticsEventTypeCount(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingLong(AnalyticsEventTypeCount::count).reversed()
+                        .thenComparing(AnalyticsEventTypeCount::eventType))
+                .toList();
+        return new AnalyticsRollupSnapshot(windowMinutes, toDateTime(fromMinute), toDateTime(currentMinute + 1),
+                total, byTarget, eventTypes, minutes);
+    }
+
+    /**
+     * 현재 분의 버킷 (슬롯에 지난 분의 버킷이 있으면 새 버킷으로 교체)
+     */
+    private MinuteBucket currentBucket(long minute) {
+        int slot = slot(minute);
+        while (true) {
+            MinuteBucket bucket = ring.get(slot);
+            if (bucket != null && bucket.minute >= minute) {
+                // 시계가 뒤로 간 스레드는 이미 교체된 최신 버킷에 기록합니다
+                return bucket;
+            }
+            MinuteBucket fresh = new MinuteBucket(minute);
+            if (ring.compareAndSet(slot, bucket, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    private int slot(long minute) {
+        return (int) Math.floorMod(minute, (long) ring.length());
+    }
+
+    private LocalDateTime toDateTime(long minute) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(minute * MINUTE_MILLIS), zone);
+    }
+
+    /**
+     * 이벤트 유형별 건수 묶음
+     * <p>
+     * 적재 스트림을 여러 스레드가 소비해도 되도록 동시 갱신을 허용하며, apply는 한 번만 호출합니다.
+     * 이벤트 유형 수가 한도를 넘으면 {@value #OTHER_EVENT_TYPES}로 합산하므로 메모리는 건수와 무관합니다.
+     */
+    public final class Batch {
+
+        private final String target;
+        private final ConcurrentHashMap<String, LongAdder> counts = new ConcurrentHashMap<>();
+
+        private Batch(String target) {
+            this.target = target;
+        }
+
+        public void record(AnalyticsData data) {
+            MinuteBucket.counter(counts, data.getEventType(), maxEventTypes).increment();
+        }
+
+        /**
+         * 모아 둔 건수를 현재 분 버킷에 기록
+         */
+        public void apply() {
+            counts.forEach((eventType, count) -> AnalyticsEventRollup.this.record(target, eventType, count.sum()));
+            counts.clear();
+        }
+    }
+
+    /**
+     * 1분 구간의 건수
+     */
+    private static final class MinuteBucket {
+
+        private final long minute;
+        private final LongAdder total = new LongAdder();
+        private final ConcurrentHashMap<String, LongAdder> byTarget = new ConcurrentHashMap<>(4);
+        private final ConcurrentHashMap<String, LongAdder> byEventType = new ConcurrentHashMap<>();
+
+        private MinuteBucket(long minute) {
+            this.minute = minute;
+        }
+
+        private void record(String target, String eventType, long count, int maxEventTypes) {
+            total.add(count);
+            counter(byTarget, target, Integer.MAX_VALUE).add(count);
+            counter(byEventType, eventType, maxEventTypes).add(count);
+        }
+
+        /**
+         * 키별 카운터 (이미 있으면 락 없이 조회하며, 키 수가 한도를 넘으면 _other로 합산)
+         */
+        private static LongAdder counter(ConcurrentHashMap<String, LongAdder> counters, String key, int maxKeys) {
+            LongAdder adder = counters.get(key);
+            if (adder != null) {
+                return adder;
+            }
+            String effectiveKey = counters.size() < maxKeys ? key : OTHER_EVENT_TYPES;
+            return counters.computeIfAbsent(effectiveKey, k -> new LongAdder());
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.template.application.external;
+
+import com.template.domain.analytics.AnalyticsEventTypeCount;
+import com.template.domain.analytics.AnalyticsHistogramBucket;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 실시간 분석 이벤트 집계 스냅샷 (메모리 집계, DB 미조회)
+ *
+ * @param windowMinutes 집계 구간 (최근 N분, 현재 분 포함)
+ * @param from          집계 구간 시작 시각 (분 단위, 포함)
+ * @param to            집계 구간 종료 시각 (분 단위, 제외)
+ * @param total         구간 안의 전체 저장 건수
+ * @param byTarget      저장 대상(gpdb1, gpdb2, sharded)별 건수
+ * @param byEventType   이벤트 유형별 건수 (건수 내림차순)
+ * @param minutes       분 단위 건수 (시각 오름차순, 이벤트가 없는 분 제외)
+ */
+public record AnalyticsRollupSnapshot(
+        int windowMinutes,
+        LocalDateTime from,
+        LocalDateTime to,
+        long total,
+        Map<String, Long> byTarget,
+        List<AnalyticsEventTypeCount> byEventType,
+        List<AnalyticsHistogramBucket> minutes) {
+}
@@ -0,0 +1,43 @@
+package com.template.application.external;
+
+import com.template.domain.analytics.AnalyticsData;
+
+/**
+ * 분석 데이터 단건 저장 결과
+ * <p>
+ * 쓰기 지연 버퍼를 사용하면 요청 시점에는 저장이 끝나지 않으므로,
+ * 저장 여부를 status로 구분하여 반환합니다.
+ *
+ * @param data   저장된(또는 저장 대기 중이거나 버려진) 분석 데이터
+ * @param status 처리 결과
+ */
+public record AnalyticsSaveResult(AnalyticsData data, Status status) {
+
+    public static AnalyticsSaveResult saved(AnalyticsData data) {
+        return new AnalyticsSaveResult(data, Status.SAVED);
+    }
+
+    public static AnalyticsSaveResult queued(AnalyticsData data) {
+        return new AnalyticsSaveResult(data, Status.QUEUED);
+    }
+
+    public static AnalyticsSaveResult dropped(AnalyticsData data) {
+        return new AnalyticsSaveResult(data, Status.DROPPED);
+    }
+
+    public boolean isDropped() {
+        return status == Status.DROPPED;
+    }
+
+    /**
+     * 처리 결과
+     */
+    public enum Status {
+        /** DB에 저장됨 (ID, 생성일시 포함) */
+        SAVED,
+        /** 쓰기 지연 버퍼에 추가됨 (ID, 생성일시 없음) */
+        QUEUED,
+        /** 버퍼가 가득 차 DROP 정책으로 버려짐 (저장되지 않음) */
+        DROPPED
+    }
+}
@@ -1,14 +1,38 @@
 package com.template.application.external;
 
+import com.template.application.external.sketch.AnalyticsSketches;
 import com.template.domain.analytics.AnalyticsData;
+import com.template.domain.analytics.AnalyticsDataCursor;
 import com.template.domain.analytics.AnalyticsDataRepository;
+import com.template.domain.analytics.AnalyticsDataSummary;
+import com.template.domain.analytics.AnalyticsDataTimeRange;
+import com.template.domain.analytics.AnalyticsEventTypeCount;
+import com.template.domain.analytics.AnalyticsHistogramBucket;
+import com.template.domain.analytics.AnalyticsTimeBucket;
+import com.template.domain.common.exception.BusinessException;
+import com.template.domain.common.page.KeysetPage;
 import com.template.infrastructure.external.sample.SampleExternalApiClient;
+import com.template.infrastructure.persistence.writebehind.AnalyticsWriteBehindBuffer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * 외부 API 및 Multi-DB 사용 샘플 서비스
@@ -31,22 +55,67 @@ import java.util.List;
 @Service
 public class ExternalDataService {
 
+    private static final String DROPPED_MESSAGE = "쓰기 지연 버퍼가 가득 차 이벤트가 버려졌습니다.";
+
     private final SampleExternalApiClient externalApiClient;
     private final AnalyticsDataRepository gpdb1Repository;
     private final AnalyticsDataRepository gpdb2Repository;
+    private final AnalyticsDataRepository shardedRepository;
+    private final AnalyticsWriteBehindBuffer gpdb1WriteBehindBuffer;
+    private final AnalyticsWriteBehindBuffer gpdb2WriteBehindBuffer;
+    private final AnalyticsEventRollup eventRollup;
+    private final AnalyticsSketches sketches;
+    private final TransactionTemplate gpdb1ReadOnlyTransaction;
+    private final TransactionTemplate gpdb2ReadOnlyTransaction;
+
+    /**
+     * 기간 조회 스트리밍 시 한 번에(한 트랜잭션에서) 읽는 행 수
+     */
+    private final int rangeChunkSize;
+
+    /**
+     * 히스토그램 한 번에 계산할 수 있는 최대 구간 수 (구간 단위 대비 너무 긴 조회 기간 방지)
+     */
+    private final long maxHistogramBuckets;
+
+    /**
+     * 다건 ETL 동시 처리 한도 (모든 요청이 공유하며, 외부 API와 커넥션 풀을 보호합니다)
+     */
+    private final Semaphore etlPermits;
 
     /**
      * 생성자 주입
      * <p>
-     * GPDB1, GPDB2 리포지토리를 @Qualifier로 구분하여 주입받습니다.
+     * GPDB1, GPDB2, 샤딩 리포지토리와 쓰기 지연 버퍼를 @Qualifier로 구분하여 주입받습니다.
+     * 트랜잭션 매니저는 기간 조회를 청크마다 개별 읽기 전용 트랜잭션으로 나누어 실행할 때 사용합니다.
      */
     public ExternalDataService(
             SampleExternalApiClient externalApiClient,
             @Qualifier("gpdb1AnalyticsDataRepository") AnalyticsDataRepository gpdb1Repository,
-            @Qualifier("gpdb2AnalyticsDataRepository") AnalyticsDataRepository gpdb2Repository) {
+            @Qualifier("gpdb2AnalyticsDataRepository") AnalyticsDataRepository gpdb2Repository,
+            @Qualifier("shardedAnalyticsDataRepository") AnalyticsDataRepository shardedRepository,
+            @Qualifier("gpdb1WriteBehindBuffer") AnalyticsWriteBehindBuffer gpdb1WriteBehindBuffer,
+            @Qualifier("gpdb2WriteBehindBuffer") AnalyticsWriteBehindBuffer gpdb2WriteBehindBuffer,
+            AnalyticsEventRollup eventRollup,
+            AnalyticsSketches sketches,
+            @Qualifier("gpdb1TransactionManager") PlatformTransactionManager gpdb1TransactionManager,
+            @Qualifier("gpdb2TransactionManager") PlatformTransactionManager gpdb2TransactionManager,
+            @Value("${analytics.export.range-chunk-size:1000}") int rangeChunkSize,
+            @Value("${analytics.aggregation.max-buckets:10000}") long maxHistogramBuckets,
+            @Value("${analytics.etl.max-concurrency:16}") int etlMaxConcurrency) {
         this.externalApiClient = externalApiClient;
         this.gpdb1Repository = gpdb1Repository;
         this.gpdb2Repository = gpdb2Repository;
+        this.shardedRepository = shardedRepository;
+        this.gpdb1WriteBehindBuffer = gpdb1WriteBehindBuffer;
+        this.gpdb2WriteBehindBuffer = gpdb2WriteBehindBuffer;
+        this.eventRollup = eventRollup;
+        this.sketches = sketches;
+        this.gpdb1ReadOnlyTransaction = readOnly(gpdb1TransactionManager);
+        this.gpdb2ReadOnlyTransaction = readOnly(gpdb2TransactionManager);
+        this.rangeChunkSize = rangeChunkSize;
+        this.maxHistogramBuckets = maxHistogramBuckets;
+        this.etlPermits = new Semaphore(etlMaxConcurrency, true);
     }
 
     // ===================================================
@@ -96,17 +165,73 @@ public class ExternalDataService {
     /**
      * GPDB1에 분석 데이터 저장
      * <p>
-     * gpdb1TransactionManager를 사용하여 GPDB1에 데이터를 저장합니다.
+     * 쓰기 지연이 꺼져 있으면 리포지토리 트랜잭션(gpdb1TransactionManager)으로 즉시 저장합니다.
+     * 쓰기 지연이 켜져 있으면 버퍼에 넣고 바로 반환하며, 이때 반환 객체의 ID와 생성일시는 비어 있습니다.
+     * <p>
+     * 버퍼 경로에서 커넥션을 점유하지 않도록 메서드 단위 트랜잭션을 두지 않습니다.
+     * 저장(또는 버퍼 적재)에 성공한 이벤트만 실시간 집계({@link AnalyticsEventRollup})와 스케치에 기록하며,
+     * DROP 정책으로 버려진 이벤트는 기록하지 않고 DROPPED 상태로 반환합니다.
      *
      * @param eventType 이벤트 유형
      * @param eventData 이벤트 데이터
-     * @return 저장된 분석 데이터
+     * @return 저장 결과 (SAVED, QUEUED, DROPPED)
      */
-    @Transactional("gpdb1TransactionManager")
-    public AnalyticsData saveToGpdb1(String eventType, String eventData) {
-        log.info("[GPDB1] 분석 데이터 저장: eventType={}", eventType);
+    public AnalyticsSaveResult saveToGpdb1(String eventType, String eventData) {
+        log.debug("[GPDB1] 분석 데이터 저장: eventType={}", eventType);
         AnalyticsData data = AnalyticsData.create(eventType, eventData);
-        return gpdb1Repository.save(data);
+        AnalyticsSaveResult result;
+        if (!gpdb1WriteBehindBuffer.isEnabled()) {
+            result = AnalyticsSaveResult.saved(gpdb1Repository.save(data));
+        } else if (gpdb1WriteBehindBuffer.enqueue(data)) {
+            result = AnalyticsSaveResult.queued(data);
+        } else {
+            log.warn("[GPDB1] 쓰기 지연 버퍼 포화로 이벤트 버림: eventType={}", eventType);
+            return AnalyticsSaveResult.dropped(data);
+        }
+        eventRollup.record("gpdb1", eventType);
+        sketches.record(data);
+        return result;
+    }
+
+    /**
+     * GPDB1에 분석 데이터 일괄 저장
+     * <p>
+     * 하나의 트랜잭션에서 JDBC 배치 INSERT로 저장합니다. 실시간 집계와 스케치는 커밋된 뒤에 반영합니다.
+     *
+     * @param data 저장할 분석 데이터 목록
+     * @return 저장된 건수
+     */
+    @Transactional("gpdb1TransactionManager")
+    public int saveAllToGpdb1(List<AnalyticsData> data) {
+        log.info("[GPDB1] 분석 데이터 일괄 저장: {}건", data.size());
+        int saved = gpdb1Repository.saveAll(data);
+        afterCommit(() -> {
+            eventRollup.recordAll("gpdb1", data);
+            sketches.recordAll(data);
+        });
+        return saved;
+    }
+
+    /**
+     * GPDB1에 분석 데이터 대량 적재
+     * <p>
+     * PostgreSQL COPY로 스트리밍 적재하며, 하나의 트랜잭션으로 처리되어 실패 시 전체 롤백됩니다.
+     * 실시간 집계와 스케치 갱신은 묶음에 모아 두었다가 커밋된 뒤에 반영합니다.
+     *
+     * @param data 적재할 분석 데이터 스트림
+     * @return 적재된 건수
+     */
+    @Transactional("gpdb1TransactionManager")
+    public long bulkLoadToGpdb1(Stream<AnalyticsData> data) {
+        AnalyticsEventRollup.Batch rollupBatch = eventRollup.newBatch("gpdb1");
+        AnalyticsSketches.Batch sketchBatch = sketches.newBatch();
+        long loaded = gpdb1Repository.bulkLoad(data.peek(rollupBatch::record).peek(sketchBatch::record));
+        afterCommit(() -> {
+            rollupBatch.apply();
+            sketchBatch.apply();
+        });
+        log.info("[GPDB1] 분석 데이터 대량 적재 완료: {}건", loaded);
+        return loaded;
     }
 
     /**
@@ -132,6 +257,120 @@ public class ExternalDataService {
         return gpdb1Repository.findAll();
     }
 
+    /**
+     * GPDB1 커서 기반 페이지 조회
+     *
+     * @param after 이전 페이지의 마지막 커서 (첫 페이지는 null)
+     * @param size  페이지 크기
+     * @return 분석 데이터 페이지
+     */
+    @Transactional(value = "gpdb1TransactionManager", readOnly = true)
+    public KeysetPage<AnalyticsData> getPageFromGpdb1(AnalyticsDataCursor after, int size) {
+        return gpdb1Repository.findPageAfter(after, size);
+    }
+
+    /**
+     * GPDB1에서 이벤트 유형과 발생 시간 구간으로 조회
+     *
+     * @param eventType 이벤트 유형
+     * @param range     발생 시간 구간 [from, to)
+     * @return 분석 데이터 목록 ((occurredAt, id) 오름차순)
+     */
+    @Transactional(value = "gpdb1TransactionManager", readOnly = true)
+    public List<AnalyticsData> getFromGpdb1ByEventTypeAndRange(String eventType, AnalyticsDataTimeRange range) {
+        log.info("[GPDB1] 분석 데이터 기간 조회: eventType={}, range={}", eventType, range);
+        return gpdb1Repository.findByEventTypeAndOccurredAtBetween(eventType, range);
+    }
+
+    /**
+     * GPDB1 발생 시간 구간 커서 기반 페이지 조회
+     *
+     * @param range     발생 시간 구간 [from, to)
+     * @param eventType 이벤트 유형 (null이면 전체)
+     * @param after     이전 페이지의 마지막 커서 (첫 페이지는 null)
+     * @param size      페이지 크기
+     * @return 분석 데이터 페이지
+     */
+    @Transactional(value = "gpdb1TransactionManager", readOnly = true)
+    public KeysetPage<AnalyticsData> getRangePageFromGpdb1(
+            AnalyticsDataTimeRange range, String eventType, AnalyticsDataCursor after, int size) {
+        return gpdb1Repository.findPageByOccurredAtBetween(range, eventType, after, size);
+    }
+
+    /**
+     * GPDB1 전체 데이터 스트리밍 조회
+     * <p>
+     * 서버 사이드 커서로 읽은 행을 한 건씩 consumer에 전달합니다.
+     * 커서가 트랜잭션 안에서만 유효하므로 consumer는 이 메서드 안에서 동기적으로 호출됩니다.
+     *
+     * @param consumer 행 단위 처리기 (예: NDJSON 응답 작성기)
+     */
+    @Transactional(value = "gpdb1TransactionManager", readOnly = true)
+    public void exportAllFromGpdb1(Consumer<AnalyticsData> consumer) {
+        log.info("[GPDB1] 전체 분석 데이터 스트리밍 조회");
+        try (Stream<AnalyticsData> stream = gpdb1Repository.streamAll()) {
+            stream.forEach(consumer);
+        }
+    }
+
+    /**
+     * GPDB1 발생 시간 구간 청크 스트리밍 조회
+     * <p>
+     * 구간을 analytics.export.range-chunk-size 건씩 키셋 페이지로 나누어 읽고,
+     * 청크마다 개별 읽기 전용 트랜잭션을 사용하므로 청크 사이에는 커넥션을 점유하지 않습니다.
+     *
+     * @param range         발생 시간 구간 [from, to)
+     * @param eventType     이벤트 유형 (null이면 전체)
+     * @param chunkConsumer 청크 단위 처리기 (예: NDJSON 응답 작성기)
+     * @return 조회된 건수
+     */
+    public long exportRangeFromGpdb1(
+            AnalyticsDataTimeRange range, String eventType, Consumer<List<AnalyticsData>> chunkConsumer) {
+        log.info("[GPDB1] 분석 데이터 기간 스트리밍 조회: eventType={}, range={}", eventType, range);
+        return exportInChunks(
+                after -> gpdb1ReadOnlyTransaction.execute(
+                        status -> gpdb1Repository.findPageByOccurredAtBetween(range, eventType, after, rangeChunkSize)),
+                chunkConsumer);
+    }
+
+    /**
+     * GPDB1 이벤트 유형별 건수 (DB GROUP BY)
+     *
+     * @param range 발생 시간 구간 (null이면 전체 기간)
+     * @return 이벤트 유형별 건수
+     */
+    @Transactional(value = "gpdb1TransactionManager", readOnly = true)
+    public List<AnalyticsEventTypeCount> countByEventTypeFromGpdb1(AnalyticsDataTimeRange range) {
+        return gpdb1Repository.countByEventType(range);
+    }
+
+    /**
+     * GPDB1 발생 시간 히스토그램 (DB date_trunc + GROUP BY)
+     *
+     * @param range     발생 시간 구간
+     * @param eventType 이벤트 유형 (null이면 전체)
+     * @param bucket    구간 단위
+     * @return 구간별 건수
+     */
+    @Transactional(value = "gpdb1TransactionManager", readOnly = true)
+    public List<AnalyticsHistogramBucket> histogramFromGpdb1(
+            AnalyticsDataTimeRange range, String eventType, AnalyticsTimeBucket bucket) {
+        checkBucketCount(range, bucket);
+        return gpdb1Repository.histogram(range, eventType, bucket);
+    }
+
+    /**
+     * GPDB1 건수와 최초/최종 발생 시간
+     *
+     * @param range     발생 시간 구간 (null이면 전체 기간)
+     * @param eventType 이벤트 유형 (null이면 전체)
+     * @return 요약
+     */
+    @Transactional(value = "gpdb1TransactionManager", readOnly = true)
+    public AnalyticsDataSummary summarizeFromGpdb1(AnalyticsDataTimeRange range, String eventType) {
+        return gpdb1Repository.summarize(range, eventType);
+    }
+
     // ===================================================
     // GPDB2 접근 예시
     // ===================================================
@@ -139,17 +378,73 @@ public class ExternalDataService {
     /**
      * GPDB2에 분석 데이터 저장
      * <p>
-     * gpdb2TransactionManager를 사용하여 GPDB2에 데이터를 저장합니다.
+     * 쓰기 지연이 꺼져 있으면 리포지토리 트랜잭션(gpdb2TransactionManager)으로 즉시 저장합니다.
+     * 쓰기 지연이 켜져 있으면 버퍼에 넣고 바로 반환하며, 이때 반환 객체의 ID와 생성일시는 비어 있습니다.
+     * <p>
+     * 버퍼 경로에서 커넥션을 점유하지 않도록 메서드 단위 트랜잭션을 두지 않습니다.
+     * 저장(또는 버퍼 적재)에 성공한 이벤트만 실시간 집계({@link AnalyticsEventRollup})와 스케치에 기록하며,
+     * DROP 정책으로 버려진 이벤트는 기록하지 않고 DROPPED 상태로 반환합니다.
      *
      * @param eventType 이벤트 유형
      * @param eventData 이벤트 데이터
-     * @return 저장된 분석 데이터
+     * @return 저장 결과 (SAVED, QUEUED, DROPPED)
      */
-    @Transactional("gpdb2TransactionManager")
-    public AnalyticsData saveToGpdb2(String eventType, String eventData) {
-        log.info("[GPDB2] 분석 데이터 저장: eventType={}", eventType);
+    public AnalyticsSaveResult saveToGpdb2(String eventType, String eventData) {
+        log.debug("[GPDB2] 분석 데이터 저장: eventType={}", eventType);
         AnalyticsData data = AnalyticsData.create(eventType, eventData);
-        return gpdb2Repository.save(data);
+        AnalyticsSaveResult result;
+        if (!gpdb2WriteBehindBuffer.isEnabled()) {
+            result = AnalyticsSaveResult.saved(gpdb2Repository.save(data));
+        } else if (gpdb2WriteBehindBuffer.enqueue(data)) {
+            result = AnalyticsSaveResult.queued(data);
+        } else {
+            log.warn("[GPDB2] 쓰기 지연 버퍼 포화로 이벤트 버림: eventType={}", eventType);
+            return AnalyticsSaveResult.dropped(data);
+        }
+        eventRollup.record("gpdb2", eventType);
+        sketches.record(data);
+        return result;
+    }
+
+    /**
+     * GPDB2에 분석 데이터 일괄 저장
+     * <p>
+     * 하나의 트랜잭션에서 JDBC 배치 INSERT로 저장합니다. 실시간 집계와 스케치는 커밋된 뒤에 반영합니다.
+     *
+     * @param data 저장할 분석 데이터 목록
+     * @return 저장된 건수
+     */
+    @Transactional("gpdb2TransactionManager")
+    public int saveAllToGpdb2(List<AnalyticsData> data) {
+        log.info("[GPDB2] 분석 데이터 일괄 저장: {}건", data.size());
+        int saved = gpdb2Repository.saveAll(data);
+        afterCommit(() -> {
+            eventRollup.recordAll("gpdb2", data);
+            sketches.recordAll(data);
+        });
+        return saved;
+    }
+
+    /**
+     * GPDB2에 분석 데이터 대량 적재
+     * <p>
+     * PostgreSQL COPY로 스트리밍 적재하며, 하나의 트랜잭션으로 처리되어 실패 시 전체 롤백됩니다.
+     * 실시간 집계와 스케치 갱신은 묶음에 모아 두었다가 커밋된 뒤에 반영합니다.
+     *
+     * @param data 적재할 분석 데이터 스트림
+     * @return 적재된 건수
+     */
+    @Transactional("gpdb2TransactionManager")
+    public long bulkLoadToGpdb2(Stream<AnalyticsData> data) {
+        AnalyticsEventRollup.Batch rollupBatch = eventRollup.newBatch("gpdb2");
+        AnalyticsSketches.Batch sketchBatch = sketches.newBatch();
+        long loaded = gpdb2Repository.bulkLoad(data.peek(rollupBatch::record).peek(sketchBatch::record));
+        afterCommit(() -> {
+            rollupBatch.apply();
+            sketchBatch.apply();
+        });
+        log.info("[GPDB2] 분석 데이터 대량 적재 완료: {}건", loaded);
+        return loaded;
     }
 
     /**
@@ -175,6 +470,354 @@ public class ExternalDataService {
         return gpdb2Repository.findAll();
     }
 
+    /**
+     * GPDB2 커서 기반 페이지 조회
+     *
+     * @param after 이전 페이지의 마지막 커서 (첫 페이지는 null)
+     * @param size  페이지 크기
+     * @return 분석 데이터 페이지
+     */
+    @Transactional(value = "gpdb2TransactionManager", readOnly = true)
+    public KeysetPage<AnalyticsData> getPageFromGpdb2(AnalyticsDataCursor after, int size) {
+        return gpdb2Repository.findPageAfter(after, size);
+    }
+
+    /**
+     * GPDB2에서 이벤트 유형과 발생 시간 구간으로 조회
+     *
+     * @param eventType 이벤트 유형
+     * @param range     발생 시간 구간 [from, to)
+     * @return 분석 데이터 목록 ((occurredAt, id) 오름차순)
+     */
+    @Transactional(value = "gpdb2TransactionManager", readOnly = true)
+    public List<AnalyticsData> getFromGpdb2ByEventTypeAndRange(String eventType, AnalyticsDataTimeRange range) {
+        log.info("[GPDB2] 분석 데이터 기간 조회: eventType={}, range={}", eventType, range);
+        return gpdb2Repository.findByEventTypeAndOccurredAtBetween(eventType, range);
+    }
+
+    /**
+     * GPDB2 발생 시간 구간 커서 기반 페이지 조회
+     *
+     * @param range     발생 시간 구간 [from, to)
+     * @param eventType 이벤트 유형 (null이면 전체)
+     * @param after     이전 페이지의 마지막 커서 (첫 페이지는 null)
+     * @param size      페이지 크기
+     * @return 분석 데이터 페이지
+     */
+    @Transactional(value = "gpdb2TransactionManager", readOnly = true)
+    public KeysetPage<AnalyticsData> getRangePageFromGpdb2(
+            AnalyticsDataTimeRange range, String eventType, AnalyticsDataCursor after, int size) {
+        return gpdb2Repository.findPageByOccurredAtBetween(range, eventType, after, size);
+    }
+
+    /**
+     * GPDB2 전체 데이터 스트리밍 조회
+     * <p>
+     * 서버 사이드 커서로 읽은 행을 한 건씩 consumer에 전달합니다.
+     * 커서가 트랜잭션 안에서만 유효하므로 consumer는 이 메서드 안에서 동기적으로 호출됩니다.
+     *
+     * @param consumer 행 단위 처리기 (예: NDJSON 응답 작성기)
+     */
+    @Transactional(value = "gpdb2TransactionManager", readOnly = true)
+    public void exportAllFromGpdb2(Consumer<AnalyticsData> consumer) {
+        log.info("[GPDB2] 전체 분석 데이터 스트리밍 조회");
+        try (Stream<AnalyticsData> stream = gpdb2Repository.streamAll()) {
+            stream.forEach(consumer);
+        }
+    }
+
+    /**
+     * GPDB2 발생 시간 구간 청크 스트리밍 조회
+     * <p>
+     * 구간을 analytics.export.range-chunk-size 건씩 키셋 페이지로 나누어 읽고,
+     * 청크마다 개별 읽기 전용 트랜잭션을 사용하므로 청크 사이에는 커넥션을 점유하지 않습니다.
+     *
+     * @param range         발생 시간 구간 [from, to)
+     * @param eventType     이벤트 유형 (null이면 전체)
+     * @param chunkConsumer 청크 단위 처리기 (예: NDJSON 응답 작성기)
+     * @return 조회된 건수
+     */
+    public long exportRangeFromGpdb2(
+            AnalyticsDataTimeRange range, String eventType, Consumer<List<AnalyticsData>> chunkConsumer) {
+        log.info("[GPDB2] 분석 데이터 기간 스트리밍 조회: eventType={}, range={}", eventType, range);
+        return exportInChunks(
+                after -> gpdb2ReadOnlyTransaction.execute(
+                        status -> gpdb2Repository.findPageByOccurredAtBetween(range, eventType, after, rangeChunkSize)),
+                chunkConsumer);
+    }
+
+    /**
+     * GPDB2 이벤트 유형별 건수 (DB GROUP BY)
+     *
+     * @param range 발생 시간 구간 (null이면 전체 기간)
+     * @return 이벤트 유형별 건수
+     */
+    @Transactional(value = "gpdb2TransactionManager", readOnly = true)
+    public List<AnalyticsEventTypeCount> countByEventTypeFromGpdb2(AnalyticsDataTimeRange range) {
+        return gpdb2Repository.countByEventType(range);
+    }
+
+    /**
+     * GPDB2 발생 시간 히스토그램 (DB date_trunc + GROUP BY)
+     *
+     * @param range     발생 시간 구간
+     * @param eventType 이벤트 유형 (null이면 전체)
+     * @param bucket    구간 단위
+     * @return 구간별 건수
+     */
+    @Transactional(value = "gpdb2TransactionManager", readOnly = true)
+    public List<AnalyticsHistogramBucket> histogramFromGpdb2(
+            AnalyticsDataTimeRange range, String eventType, AnalyticsTimeBucket bucket) {
+        checkBucketCount(range, bucket);
+        return gpdb2Repository.histogram(range, eventType, bucket);
+    }
+
+    /**
+     * GPDB2 건수와 최초/최종 발생 시간
+     *
+     * @param range     발생 시간 구간 (null이면 전체 기간)
+     * @param eventType 이벤트 유형 (null이면 전체)
+     * @return 요약
+     */
+    @Transactional(value = "gpdb2TransactionManager", readOnly = true)
+    public AnalyticsDataSummary summarizeFromGpdb2(AnalyticsDataTimeRange range, String eventType) {
+        return gpdb2Repository.summarize(range, eventType);
+    }
+
+    // ===================================================
+    // 샤딩(GPDB1 + GPDB2) 접근 예시
+    // ===================================================
+    // 샤딩 리포지토리는 샤드별 트랜잭션을 직접 관리하므로 @Transactional을 두지 않습니다.
+    // 리포지토리 호출이 반환되면 샤드별 트랜잭션이 모두 커밋된 것이므로 그 뒤에 실시간 집계와 스케치에 반영합니다.
+    // 실시간 집계의 저장 대상은 샤드와 무관하게 sharded로 기록합니다.
+
+    /**
+     * 샤드 키로 정해진 GPDB에 분석 데이터 저장
+     *
+     * @param eventType 이벤트 유형
+     * @param eventData 이벤트 데이터
+     * @return 저장된 분석 데이터
+     */
+    public AnalyticsData saveSharded(String eventType, String eventData) {
+        log.debug("[Sharded] 분석 데이터 저장: eventType={}", eventType);
+        AnalyticsData saved = shardedRepository.save(AnalyticsData.create(eventType, eventData));
+        eventRollup.record("sharded", saved.getEventType());
+        sketches.record(saved);
+        return saved;
+    }
+
+    /**
+     * 분석 데이터 일괄 저장 (샤드별로 나누어 동시에 배치 INSERT)
+     *
+     * @param data 저장할 분석 데이터 목록
+     * @return 저장된 건수
+     */
+    public int saveAllSharded(List<AnalyticsData> data) {
+        log.info("[Sharded] 분석 데이터 일괄 저장: {}건", data.size());
+        int saved = shardedRepository.saveAll(data);
+        eventRollup.recordAll("sharded", data);
+        sketches.recordAll(data);
+        return saved;
+    }
+
+    /**
+     * 분석 데이터 대량 적재 (샤드별 COPY 동시 실행)
+     * <p>
+     * 샤드마다 하나의 트랜잭션으로 처리되며, 입력 오류 시 모든 샤드가 롤백됩니다.
+     *
+     * @param data 적재할 분석 데이터 스트림
+     * @return 적재된 건수
+     */
+    public long bulkLoadSharded(Stream<AnalyticsData> data) {
+        AnalyticsEventRollup.Batch rollupBatch = eventRollup.newBatch("sharded");
+        AnalyticsSketches.Batch sketchBatch = sketches.newBatch();
+        long loaded = shardedRepository.bulkLoad(data.peek(rollupBatch::record).peek(sketchBatch::record));
+        rollupBatch.apply();
+        sketchBatch.apply();
+        log.info("[Sharded] 분석 데이터 대량 적재 완료: {}건", loaded);
+        return loaded;
+    }
+
+    /**
+     * 이벤트 유형별 조회 (샤드 키가 이벤트 유형이면 단일 샤드 조회)
+     *
+     * @param eventType 이벤트 유형
+     * @return 분석 데이터 목록
+     */
+    public List<AnalyticsData> getShardedByEventType(String eventType) {
+        log.info("[Sharded] 분석 데이터 조회: eventType={}", eventType);
+        return shardedRepository.findByEventType(eventType);
+    }
+
+    /**
+     * 모든 샤드 전체 데이터 조회 ((occurredAt, id) 오름차순)
+     *
+     * @return 모든 분석 데이터
+     */
+    public List<AnalyticsData> getAllSharded() {
+        log.info("[Sharded] 전체 분석 데이터 조회");
+        return shardedRepository.findAll();
+    }
+
+    /**
+     * 모든 샤드 커서 기반 페이지 조회
+     *
+     * @param after 이전 페이지의 마지막 커서 (첫 페이지는 null)
+     * @param size  페이지 크기
+     * @return 분석 데이터 페이지
+     */
+    public KeysetPage<AnalyticsData> getShardedPage(AnalyticsDataCursor after, int size) {
+        return shardedRepository.findPageAfter(after, size);
+    }
+
+    /**
+     * 모든 샤드 전체 데이터 스트리밍 조회 ((occurredAt, id) 순서로 병합)
+     *
+     * @param consumer 행 단위 처리기 (예: NDJSON 응답 작성기)
+     */
+    public void exportAllSharded(Consumer<AnalyticsData> consumer) {
+        log.info("[Sharded] 전체 분석 데이터 스트리밍 조회");
+        try (Stream<AnalyticsData> stream = shardedRepository.streamAll()) {
+            stream.forEach(consumer);
+        }
+    }
+
+    /**
+     * 이벤트 유형과 발생 시간 구간으로 조회 (샤드 키가 이벤트 유형이면 단일 샤드 조회)
+     *
+     * @param eventType 이벤트 유형
+     * @param range     발생 시간 구간 [from, to)
+     * @return 분석 데이터 목록 ((occurredAt, id) 오름차순)
+     */
+    public List<AnalyticsData> getShardedByEventTypeAndRange(String eventType, AnalyticsDataTimeRange range) {
+        log.info("[Sharded] 분석 데이터 기간 조회: eventType={}, range={}", eventType, range);
+        return shardedRepository.findByEventTypeAndOccurredAtBetween(eventType, range);
+    }
+
+    /**
+     * 모든 샤드 발생 시간 구간 커서 기반 페이지 조회
+     *
+     * @param range     발생 시간 구간 [from, to)
+     * @param eventType 이벤트 유형 (null이면 전체)
+     * @param after     이전 페이지의 마지막 커서 (첫 페이지는 null)
+     * @param size      페이지 크기
+     * @return 분석 데이터 페이지
+     */
+    public KeysetPage<AnalyticsData> getShardedRangePage(
+            AnalyticsDataTimeRange range, String eventType, AnalyticsDataCursor after, int size) {
+        return shardedRepository.findPageByOccurredAtBetween(range, eventType, after, size);
+    }
+
+    /**
+     * 모든 샤드 발생 시간 구간 청크 스트리밍 조회 (청크마다 샤드별 페이지를 병합)
+     *
+     * @param range         발생 시간 구간 [from, to)
+     * @param eventType     이벤트 유형 (null이면 전체)
+     * @param chunkConsumer 청크 단위 처리기 (예: NDJSON 응답 작성기)
+     * @return 조회된 건수
+     */
+    public long exportRangeSharded(
+            AnalyticsDataTimeRange range, String eventType, Consumer<List<AnalyticsData>> chunkConsumer) {
+        log.info("[Sharded] 분석 데이터 기간 스트리밍 조회: eventType={}, range={}", eventType, range);
+        return exportInChunks(
+                after -> shardedRepository.findPageByOccurredAtBetween(range, eventType, after, rangeChunkSize),
+                chunkConsumer);
+    }
+
+    /**
+     * 모든 샤드 이벤트 유형별 건수 (샤드별 GROUP BY 결과 합산)
+     *
+     * @param range 발생 시간 구간 (null이면 전체 기간)
+     * @return 이벤트 유형별 건수
+     */
+    public List<AnalyticsEventTypeCount> countByEventTypeSharded(AnalyticsDataTimeRange range) {
+        return shardedRepository.countByEventType(range);
+    }
+
+    /**
+     * 모든 샤드 발생 시간 히스토그램 (샤드별 GROUP BY 결과 합산)
+     *
+     * @param range     발생 시간 구간
+     * @param eventType 이벤트 유형 (null이면 전체)
+     * @param bucket    구간 단위
+     * @return 구간별 건수
+     */
+    public List<AnalyticsHistogramBucket> histogramSharded(
+            AnalyticsDataTimeRange range, String eventType, AnalyticsTimeBucket bucket) {
+        checkBucketCount(range, bucket);
+        return shardedRepository.histogram(range, eventType, bucket);
+    }
+
+    /**
+     * 모든 샤드 건수와 최초/최종 발생 시간
+     *
+     * @param range     발생 시간 구간 (null이면 전체 기간)
+     * @param eventType 이벤트 유형 (null이면 전체)
+     * @return 요약
+     */
+    public AnalyticsDataSummary summarizeSharded(AnalyticsDataTimeRange range, String eventType) {
+        return shardedRepository.summarize(range, eventType);
+    }
+
+    // ===================================================
+    // 실시간 집계 (메모리, DB 미조회)
+    // ===================================================
+
+    /**
+     * 최근 N분 저장 이벤트 집계
+     * <p>
+     * 단건/일괄 저장과 대량 적재(GPDB1, GPDB2, 샤딩)로 저장된 이벤트를 프로세스 메모리에서 집계하므로 DB를 조회하지 않습니다.
+     * 샤딩 저장은 저장 대상 {@code sharded}로 집계합니다.
+     *
+     * @param windowMinutes 집계 구간 (분)
+     * @return 집계 스냅샷
+     */
+    public AnalyticsRollupSnapshot getLiveStats(int windowMinutes) {
+        return eventRollup.snapshot(windowMinutes);
+    }
+
+    // ===================================================
+    // 확률적 스케치 (메모리, DB 미조회)
+    // ===================================================
+    // 단건/일괄 저장과 대량 적재 경로에서 갱신됩니다.
+    // 트랜잭션 안의 저장은 커밋된 뒤에 반영하므로 롤백된 저장은 포함되지 않습니다.
+
+    /**
+     * 고유 eventData 개수 추정 (HyperLogLog)
+     *
+     * @param eventType 이벤트 유형 (null이면 전체)
+     */
+    public AnalyticsSketches.Cardinality getPayloadCardinality(String eventType) {
+        return sketches.cardinality(eventType);
+    }
+
+    /**
+     * 가장 많은 eventData 상위 k개 (Space-Saving)
+     *
+     * @param eventType 이벤트 유형 (null이면 전체)
+     * @param k         조회 개수
+     */
+    public AnalyticsSketches.TopPayloads getTopPayloads(String eventType, int k) {
+        return sketches.topPayloads(eventType, k);
+    }
+
+    /**
+     * 특정 eventData 빈도 추정 (Count-Min)
+     *
+     * @param eventType 이벤트 유형 (null이면 전체)
+     * @param eventData 조회할 eventData
+     */
+    public AnalyticsSketches.Frequency getPayloadFrequency(String eventType, String eventData) {
+        return sketches.frequency(eventType, eventData);
+    }
+
+    /**
+     * 가장 많은 이벤트 유형 상위 k개
+     */
+    public List<AnalyticsEventTypeCount> getTopEventTypes(int k) {
+        return sketches.topEventTypes(k);
+    }
+
     // ===================================================
     // 복합 사용 예시 (외부 API + Multi-DB)
     // ===================================================
@@ -196,13 +839,150 @@ public class ExternalDataService {
         log.info("[ETL] 외부 데이터 조회 완료: title={}", post.title());
 
         // 2. GPDB1에 제목 이벤트 저장
-        saveToGpdb1("POST_TITLE", post.title());
-        log.info("[ETL] GPDB1에 제목 이벤트 저장 완료");
+        log.info("[ETL] GPDB1에 제목 이벤트 저장 완료: status={}", saveToGpdb1("POST_TITLE", post.title()).status());
 
         // 3. GPDB2에 본문 이벤트 저장
-        saveToGpdb2("POST_BODY", post.body());
-        log.info("[ETL] GPDB2에 본문 이벤트 저장 완료");
+        log.info("[ETL] GPDB2에 본문 이벤트 저장 완료: status={}", saveToGpdb2("POST_BODY", post.body()).status());
 
         log.info("[ETL] 외부 데이터 수집 및 분석 DB 저장 완료");
     }
+
+    /**
+     * 여러 게시글을 병렬로 수집하여 GPDB1, GPDB2에 저장 (다건 ETL)
+     * <p>
+     * 게시글마다 가상 스레드 하나에서 외부 API를 호출하고, GPDB1/GPDB2 저장을 동시에 수행합니다.
+     * 동시에 처리되는 게시글 수는 analytics.etl.max-concurrency로 제한되므로
+     * 처리량은 호출 지연이 아니라 동시성 한도에 비례합니다.
+     * <p>
+     * 게시글 단위로 실패를 격리하여, 일부가 실패해도 나머지 결과는 그대로 반환합니다.
+     * 각 저장은 개별 트랜잭션이므로 한쪽 GPDB만 저장된 항목이 있을 수 있습니다(결과에 표시).
+     *
+     * @param postIds 외부 API 게시글 ID 목록
+     * @return 게시글별 처리 결과와 요약
+     */
+    public AnalyticsEtlResult fetchAndStoreAnalytics(List<Long> postIds) {
+        log.info("[ETL] 다건 수집 시작: {}건", postIds.size());
+        long startedAt = System.nanoTime();
+
+        List<AnalyticsEtlResult.Item> items;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<CompletableFuture<AnalyticsEtlResult.Item>> futures = postIds.stream()
+                    .map(postId -> CompletableFuture.supplyAsync(
+                            () -> fetchAndStoreWithPermit(postId, executor), executor))
+                    .toList();
+            items = futures.stream()
+                    .map(CompletableFuture::join)
+                    .toList();
+        }
+
+        AnalyticsEtlResult result = AnalyticsEtlResult.of(items, elapsedMillis(startedAt));
+        log.info("[ETL] 다건 수집 완료: 성공={}, 실패={}, 소요={}ms",
+                result.succeeded(), result.failed(), result.elapsedMs());
+        return result;
+    }
+
+    // ===================================================
+    // 내부 유틸리티
+    // ===================================================
+
+    /**
+     * 키셋 페이지를 이어 읽으며 페이지(청크)마다 consumer에 전달
+     * <p>
+     * 메모리에는 한 청크만 유지되며, 다음 청크는 이전 청크의 마지막 (occurredAt, id) 다음부터 조회합니다.
+     *
+     * @param pageFetcher   커서 다음 페이지 조회 함수 (첫 페이지는 null 커서)
+     * @param chunkConsumer 청크 단위 처리기
+     * @return 전달한 전체 건수
+     */
+    private static long exportInChunks(
+            Function<AnalyticsDataCursor, KeysetPage<AnalyticsData>> pageFetcher,
+            Consumer<List<AnalyticsData>> chunkConsumer) {
+        long exported = 0;
+        AnalyticsDataCursor after = null;
+        KeysetPage<AnalyticsData> page;
+        do {
+            page = pageFetcher.apply(after);
+            if (!page.content().isEmpty()) {
+                chunkConsumer.accept(page.content());
+                exported += page.content().size();
+                after = AnalyticsDataCursor.from(page.last());
+            }
+        } while (page.hasNext());
+        return exported;
+    }
+
+    private void checkBucketCount(AnalyticsDataTimeRange range, AnalyticsTimeBucket bucket) {
+        if (bucket.bucketsIn(range) > maxHistogramBuckets) {
+            throw new BusinessException(
+                    "조회 기간에 비해 구간 단위가 너무 작습니다. (최대 " + maxHistogramBuckets + "개 구간)",
+                    "TOO_MANY_BUCKETS");
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 실행 (트랜잭션 밖이면 바로 실행)
+     * <p>
+     * 롤백된 저장이 메모리 집계에 반영되지 않도록 합니다.
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static TransactionTemplate readOnly(PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+
+    private AnalyticsEtlResult.Item fetchAndStoreWithPermit(Long postId, ExecutorService executor) {
+        try {
+            etlPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new AnalyticsEtlResult.Item(postId, false, false, "처리가 중단되었습니다.", 0L);
+        }
+        long startedAt = System.nanoTime();
+        try {
+            SampleExternalApiClient.Post post = externalApiClient.getPostById(postId);
+
+            // GPDB1, GPDB2 저장은 서로 독립적이므로 동시에 수행합니다
+            CompletableFuture<AnalyticsSaveResult> gpdb1 = CompletableFuture.supplyAsync(
+                    () -> saveToGpdb1("POST_TITLE", post.title()), executor);
+            CompletableFuture<AnalyticsSaveResult> gpdb2 = CompletableFuture.supplyAsync(
+                    () -> saveToGpdb2("POST_BODY", post.body()), executor);
+            String gpdb1Error = errorOf(gpdb1);
+            String gpdb2Error = errorOf(gpdb2);
+
+            String error = gpdb1Error != null ? gpdb1Error : gpdb2Error;
+            return new AnalyticsEtlResult.Item(
+                    postId, gpdb1Error == null, gpdb2Error == null, error, elapsedMillis(startedAt));
+        } catch (RuntimeException e) {
+            log.warn("[ETL] 게시글 수집 실패: postId={}, error={}", postId, e.getMessage());
+            return new AnalyticsEtlResult.Item(postId, false, false, e.getMessage(), elapsedMillis(startedAt));
+        } finally {
+            etlPermits.release();
+        }
+    }
+
+    private static String errorOf(CompletableFuture<AnalyticsSaveResult> future) {
+        try {
+            return future.join().isDropped() ? DROPPED_MESSAGE : null;
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            return cause.getMessage();
+        }
+    }
+
+    private static long elapsedMillis(long startedAtNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAtNanos);
+    }
 }
@@ -0,0 +1,60 @@
+package com.template.application.external.sketch;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 분석 이벤트 스케치 설정
+ * <p>
+ * application.yml의 analytics.sketch.* 속성과 바인딩됩니다.
+ * 이벤트 유형당 메모리는 약 2^hllPrecision + cmsWidth × cmsDepth × 8 + topCapacity × maxItemLength 바이트이며,
+ * 이벤트 유형 수가 maxEventTypes로 제한되므로 전체 메모리는 이벤트 건수와 무관하게 고정됩니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "analytics.sketch")
+public class AnalyticsSketchProperties {
+
+    /**
+     * HyperLogLog precision (레지스터 2^precision개, 상대 오차 1.04 / sqrt(2^precision))
+     */
+    private int hllPrecision = 12;
+
+    /**
+     * Count-Min 행당 카운터 수 (오차 상한 e / width × 전체 건수)
+     */
+    private int cmsWidth = 1024;
+
+    /**
+     * Count-Min 해시 행 수 (오차 상한을 넘을 확률 e^-depth)
+     */
+    private int cmsDepth = 4;
+
+    /**
+     * Space-Saving 카운터 수 (상위 항목 조회 가능 개수의 상한)
+     */
+    private int topCapacity = 64;
+
+    /**
+     * 상위 항목으로 보관할 eventData 최대 길이 (초과분은 잘라서 보관, 해시는 전체 값 사용)
+     */
+    private int maxItemLength = 256;
+
+    /**
+     * 추적할 최대 이벤트 유형 수 (초과분은 _other 스케치에 합산)
+     */
+    private int maxEventTypes = 256;
+
+    /**
+     * 스냅샷 파일 경로 (비어 있으면 저장하지 않음)
+     */
+    private String snapshotPath = "";
+
+    /**
+     * 스냅샷 저장 주기 (ISO-8601)
+     */
+    private Duration snapshotInterval = Duration.ofMinutes(1);
+}
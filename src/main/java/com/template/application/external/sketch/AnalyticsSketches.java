@@ -0,0 +1,332 @@
+package com.template.application.external.sketch;
+
+import com.template.domain.analytics.AnalyticsData;
+import com.template.domain.analytics.AnalyticsEventTypeCount;
+import com.template.domain.common.hash.StableHash;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 이벤트 유형별 확률적 스케치 (고유 eventData 개수, 빈도, 상위 항목)
+ * <p>
+ * 적재 경로(ExternalDataService)에서 저장되는 이벤트마다 해당 이벤트 유형의 스케치를 갱신합니다.
+ * 원본 데이터를 조회하지 않고 고정된 메모리로 다음 질문에 근사값으로 답합니다.
+ * <ul>
+ * <li>고유 eventData 개수: {@link HyperLogLog}</li>
+ * <li>특정 eventData 빈도: {@link CountMinSketch}</li>
+ * <li>가장 많은 eventData: {@link SpaceSaving}</li>
+ * <li>가장 많은 이벤트 유형: 이벤트 유형별 건수</li>
+ * </ul>
+ * 이벤트 유형을 지정하지 않은 조회는 모든 이벤트 유형의 스케치를 병합하여 계산합니다.
+ * <p>
+ * <b>스냅샷:</b>
+ * analytics.sketch.snapshot-path가 지정되면 주기적으로(변경이 있을 때만) 파일로 저장하고,
+ * 시작 시 불러와 재시작 후에도 누적값을 이어갑니다. 스케치 크기 설정이 바뀌면 기존 스냅샷은 사용하지 않습니다.
+ * <p>
+ * <b>커밋 후 반영:</b>
+ * 트랜잭션 안의 저장은 {@link #newBatch()}로 만든 {@link Batch}에 모아 두었다가 커밋 후 {@link Batch#apply()}로 병합합니다.
+ * 입력을 메모리에 모을 수 없는 대량 적재도 이벤트 유형별 스케치 크기만큼의 메모리로 롤백된 저장을 제외할 수 있습니다.
+ * <p>
+ * <b>주의:</b> 인스턴스별 값이며, 마지막 스냅샷 이후의 갱신은 비정상 종료 시 유실됩니다.
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(AnalyticsSketchProperties.class)
+public class AnalyticsSketches implements DisposableBean {
+
+    /**
+     * 이벤트 유형 수 한도를 넘은 유형을 모으는 키
+     */
+    static final String OTHER_EVENT_TYPES = "_other";
+
+    private static final int SNAPSHOT_MAGIC = 0x534b4554;
+    private static final int SNAPSHOT_VERSION = 1;
+
+    private final AnalyticsSketchProperties properties;
+    private final Map<String, EventTypeSketch> sketches = new ConcurrentHashMap<>();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    public AnalyticsSketches(AnalyticsSketchProperties properties) {
+        this.properties = properties;
+        restore();
+    }
+
+    // ===================================================
+    // 갱신
+    // ===================================================
+
+    public void record(AnalyticsData data) {
+        sketchFor(data.getEventType()).record(payloadHash(data), payloadItem(data));
+        dirty.set(true);
+    }
+
+    public void recordAll(List<AnalyticsData> data) {
+        data.forEach(this::record);
+    }
+
+    /**
+     * 나중에 한 번에 반영할 갱신 묶음 생성 (트랜잭션 커밋 후 반영용)
+     */
+    public Batch newBatch() {
+        return new Batch();
+    }
+
+    // ===================================================
+    // 조회
+    // ===================================================
+
+    /**
+     * 고유 eventData 개수 추정
+     *
+     * @param eventType 이벤트 유형 (null이면 전체)
+     */
+    public Cardinality cardinality(String eventType) {
+        EventTypeSketch sketch = snapshotOf(eventType);
+        return new Cardinality(eventType, sketch.countUnlocked(),
+                sketch.distinctPayloads().estimate(), sketch.distinctPayloads().standardError());
+    }
+
+    /**
+     * 가장 많은 eventData 상위 k개
+     *
+     * @param eventType 이벤트 유형 (null이면 전체)
+     * @param k         조회 개수 (최대 analytics.sketch.top-capacity)
+     */
+    public TopPayloads topPayloads(String eventType, int k) {
+        EventTypeSketch sketch = snapshotOf(eventType);
+        return new TopPayloads(eventType, sketch.countUnlocked(),
+                sketch.topPayloads().top(Math.min(k, properties.getTopCapacity())));
+    }
+
+    /**
+     * 특정 eventData 빈도 추정
+     *
+     * @param eventType 이벤트 유형 (null이면 전체)
+     * @param eventData 조회할 eventData
+     */
+    public Frequency frequency(String eventType, String eventData) {
+        EventTypeSketch sketch = snapshotOf(eventType);
+        CountMinSketch frequency = sketch.payloadFrequency();
+        return new Frequency(eventType, eventData,
+                frequency.estimate(StableHash.hash64(eventData)), frequency.errorBound());
+    }
+
+    /**
+     * 가장 많은 이벤트 유형 상위 k개
+     */
+    public List<AnalyticsEventTypeCount> topEventTypes(int k) {
+        return sketches.entrySet().stream()
+                .map(entry -> new AnalyticsEventTypeCount(entry.getKey(), entry.getValue().count()))
+                .sorted(Comparator.comparingLong(AnalyticsEventTypeCount::count).reversed()
+                        .thenComparing(AnalyticsEventTypeCount::eventType))
+                .limit(k)
+                .toList();
+    }
+
+    // ===================================================
+    // 스냅샷
+    // ===================================================
+
+    /**
+     * 변경이 있으면 스냅샷 파일 저장 (임시 파일에 쓴 뒤 원자적으로 교체)
+     */
+    @Scheduled(
+            initialDelayString = "${analytics.sketch.snapshot-interval:PT1M}",
+            fixedDelayString = "${analytics.sketch.snapshot-interval:PT1M}")
+    public void persist() {
+        Path path = snapshotPath();
+        if (path == null || !dirty.getAndSet(false)) {
+            return;
+        }
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                writeHeader(out);
+                Map<String, EventTypeSketch> current = Map.copyOf(sketches);
+                out.writeInt(current.size());
+                for (Map.Entry<String, EventTypeSketch> entry : current.entrySet()) {
+                    out.writeUTF(entry.getKey());
+                    entry.getValue().writeTo(out);
+                }
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.debug("[Sketch] 스냅샷 저장: {} ({}개 이벤트 유형)", path, sketches.size());
+        } catch (IOException e) {
+            dirty.set(true);
+            log.warn("[Sketch] 스냅샷 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        persist();
+    }
+
+    private void restore() {
+        Path path = snapshotPath();
+        if (path == null || !Files.exists(path)) {
+            return;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (!readHeader(in)) {
+                log.warn("[Sketch] 스케치 설정이 바뀌어 기존 스냅샷을 사용하지 않습니다: {}", path);
+                return;
+            }
+            int size = in.readInt();
+            for (int i = 0; i < size; i++) {
+                sketches.put(in.readUTF(), EventTypeSketch.readFrom(in));
+            }
+            log.info("[Sketch] 스냅샷 복원: {} ({}개 이벤트 유형)", path, size);
+        } catch (IOException | RuntimeException e) {
+            sketches.clear();
+            log.warn("[Sketch] 스냅샷 복원 실패, 빈 스케치로 시작합니다: {}", e.getMessage());
+        }
+    }
+
+    private void writeHeader(DataOutputStream out) throws IOException {
+        out.writeInt(SNAPSHOT_MAGIC);
+        out.writeInt(SNAPSHOT_VERSION);
+        out.writeInt(properties.getHllPrecision());
+        out.writeInt(properties.getCmsWidth());
+        out.writeInt(properties.getCmsDepth());
+        out.writeInt(properties.getTopCapacity());
+    }
+
+    private boolean readHeader(DataInputStream in) throws IOException {
+        return in.readInt() == SNAPSHOT_MAGIC
+                && in.readInt() == SNAPSHOT_VERSION
+                && in.readInt() == properties.getHllPrecision()
+                && in.readInt() == properties.getCmsWidth()
+                && in.readInt() == properties.getCmsDepth()
+                && in.readInt() == properties.getTopCapacity();
+    }
+
+    private Path snapshotPath() {
+        String path = properties.getSnapshotPath();
+        return path == null || path.isBlank() ? null : Path.of(path);
+    }
+
+    // ===================================================
+    // 내부 유틸리티
+    // ===================================================
+
+    private Long payloadHash(AnalyticsData data) {
+        String eventData = data.getEventData();
+        return eventData == null ? null : StableHash.hash64(eventData);
+    }
+
+    private String payloadItem(AnalyticsData data) {
+        String eventData = data.getEventData();
+        return eventData == null || eventData.length() <= properties.getMaxItemLength()
+                ? eventData
+                : eventData.substring(0, properties.getMaxItemLength());
+    }
+
+    private EventTypeSketch sketchFor(String eventType) {
+        EventTypeSketch sketch = sketches.get(eventType);
+        if (sketch != null) {
+            return sketch;
+        }
+        String key = sketches.size() < properties.getMaxEventTypes() ? eventType : OTHER_EVENT_TYPES;
+        return sketches.computeIfAbsent(key, k -> new EventTypeSketch(properties));
+    }
+
+    /**
+     * 조회용 스케치 복사본 (이벤트 유형 미지정 시 전체 병합)
+     */
+    private EventTypeSketch snapshotOf(String eventType) {
+        if (eventType != null) {
+            EventTypeSketch sketch = sketches.get(eventType);
+            return sketch != null ? sketch.copy() : new EventTypeSketch(properties);
+        }
+        EventTypeSketch merged = new EventTypeSketch(properties);
+        sketches.values().forEach(sketch -> merged.mergeUnlocked(sketch.copy()));
+        return merged;
+    }
+
+    /**
+     * 스케치 갱신 묶음
+     * <p>
+     * 갱신을 묶음 안의 이벤트 유형별 스케치에 누적하고, {@link #apply()} 시 공유 스케치에 병합합니다.
+     * 적재 스트림을 여러 스레드가 소비해도 되도록 동시 갱신을 허용하며, apply는 한 번만 호출합니다.
+     */
+    public final class Batch {
+
+        private final Map<String, EventTypeSketch> pending = new ConcurrentHashMap<>();
+
+        private Batch() {
+        }
+
+        public void record(AnalyticsData data) {
+            String eventType = data.getEventType();
+            String key = pending.containsKey(eventType) || pending.size() < properties.getMaxEventTypes()
+                    ? eventType
+                    : OTHER_EVENT_TYPES;
+            pending.computeIfAbsent(key, k -> new EventTypeSketch(properties))
+                    .record(payloadHash(data), payloadItem(data));
+        }
+
+        /**
+         * 누적한 갱신을 공유 스케치에 병합
+         */
+        public void apply() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            pending.forEach((eventType, delta) -> sketchFor(eventType).merge(delta));
+            pending.clear();
+            dirty.set(true);
+        }
+    }
+
+    /**
+     * 고유 eventData 개수 추정 결과
+     *
+     * @param eventType             이벤트 유형 (null이면 전체)
+     * @param events                이벤트 건수
+     * @param distinctPayloads      고유 eventData 개수 추정값
+     * @param relativeStandardError 상대 표준 오차
+     */
+    public record Cardinality(String eventType, long events, long distinctPayloads, double relativeStandardError) {
+    }
+
+    /**
+     * 상위 eventData 조회 결과
+     *
+     * @param eventType 이벤트 유형 (null이면 전체)
+     * @param events    이벤트 건수
+     * @param items     상위 항목 (건수 내림차순)
+     */
+    public record TopPayloads(String eventType, long events, List<SpaceSaving.HeavyHitter> items) {
+    }
+
+    /**
+     * eventData 빈도 추정 결과
+     *
+     * @param eventType      이벤트 유형 (null이면 전체)
+     * @param eventData      조회한 eventData
+     * @param estimatedCount 추정 건수 (실제 이상)
+     * @param errorBound     오차 상한 (확률 1 - e^-depth)
+     */
+    public record Frequency(String eventType, String eventData, long estimatedCount, long errorBound) {
+    }
+}
@@ -0,0 +1,102 @@
+package com.template.application.external.sketch;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Count-Min 빈도 추정
+ * <p>
+ * depth개의 해시 행마다 width개의 카운터를 두고, 조회 시 행별 카운터 중 최솟값을 반환합니다.
+ * 추정값은 실제 빈도 이상이며, 확률 1 - e^-depth로 오차가 (e / width) × 전체 건수 이하입니다.
+ * 같은 크기의 두 스케치는 카운터 합으로 병합할 수 있습니다.
+ * <p>
+ * 행별 해시는 64비트 해시 하나의 상·하위 32비트로 만드는 이중 해싱(h1 + i × h2)을 사용합니다.
+ * 스레드 안전하지 않으므로 호출자가 동기화해야 합니다.
+ */
+public final class CountMinSketch {
+
+    private final int width;
+    private final int depth;
+    private final long[] counters;
+    private long totalCount;
+
+    public CountMinSketch(int width, int depth) {
+        if (width < 1 || depth < 1) {
+            throw new IllegalArgumentException("width, depth는 1 이상이어야 합니다.");
+        }
+        this.width = width;
+        this.depth = depth;
+        this.counters = new long[width * depth];
+    }
+
+    public void add(long hash, long count) {
+        for (int row = 0; row < depth; row++) {
+            counters[row * width + column(hash, row)] += count;
+        }
+        totalCount += count;
+    }
+
+    /**
+     * 빈도 추정 (실제 빈도 이상)
+     */
+    public long estimate(long hash) {
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, counters[row * width + column(hash, row)]);
+        }
+        return min;
+    }
+
+    public long totalCount() {
+        return totalCount;
+    }
+
+    /**
+     * 추정 오차 상한 (e / width × 전체 건수)
+     */
+    public long errorBound() {
+        return (long) Math.ceil(Math.E / width * totalCount);
+    }
+
+    public void merge(CountMinSketch other) {
+        if (other.width != width || other.depth != depth) {
+            throw new IllegalArgumentException("크기가 다른 Count-Min 스케치는 병합할 수 없습니다.");
+        }
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] += other.counters[i];
+        }
+        totalCount += other.totalCount;
+    }
+
+    public CountMinSketch copy() {
+        CountMinSketch copy = new CountMinSketch(width, depth);
+        System.arraycopy(counters, 0, copy.counters, 0, counters.length);
+        copy.totalCount = totalCount;
+        return copy;
+    }
+
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeInt(width);
+        out.writeInt(depth);
+        out.writeLong(totalCount);
+        for (long counter : counters) {
+            out.writeLong(counter);
+        }
+    }
+
+    public static CountMinSketch readFrom(DataInput in) throws IOException {
+        CountMinSketch sketch = new CountMinSketch(in.readInt(), in.readInt());
+        sketch.totalCount = in.readLong();
+        for (int i = 0; i < sketch.counters.length; i++) {
+            sketch.counters[i] = in.readLong();
+        }
+        return sketch;
+    }
+
+    private int column(long hash, int row) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        return Math.floorMod(h1 + row * h2, width);
+    }
+}
@@ -0,0 +1,129 @@
+package com.template.application.external.sketch;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 이벤트 유형 하나의 스케치 묶음 (건수, eventData 고유 개수, 빈도, 상위 항목)
+ * <p>
+ * 갱신은 짧은 배열 연산이므로 락 하나로 보호합니다.
+ * (가상 스레드 고정을 피하기 위해 synchronized 대신 ReentrantLock 사용)
+ * 조회는 락 안에서 복사본을 만든 뒤 락 밖에서 계산합니다.
+ */
+final class EventTypeSketch {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private long count;
+    private final HyperLogLog distinctPayloads;
+    private final CountMinSketch payloadFrequency;
+    private final SpaceSaving topPayloads;
+
+    EventTypeSketch(AnalyticsSketchProperties properties) {
+        this(0L,
+                new HyperLogLog(properties.getHllPrecision()),
+                new CountMinSketch(properties.getCmsWidth(), properties.getCmsDepth()),
+                new SpaceSaving(properties.getTopCapacity()));
+    }
+
+    private EventTypeSketch(long count, HyperLogLog distinctPayloads,
+                            CountMinSketch payloadFrequency, SpaceSaving topPayloads) {
+        this.count = count;
+        this.distinctPayloads = distinctPayloads;
+        this.payloadFrequency = payloadFrequency;
+        this.topPayloads = topPayloads;
+    }
+
+    /**
+     * @param payloadHash eventData 해시 (eventData가 null이면 건수만 기록)
+     * @param payloadItem 상위 항목으로 보관할 eventData (최대 길이로 자른 값)
+     */
+    void record(Long payloadHash, String payloadItem) {
+        lock.lock();
+        try {
+            count++;
+            if (payloadHash != null) {
+                distinctPayloads.add(payloadHash);
+                payloadFrequency.add(payloadHash, 1);
+                topPayloads.offer(payloadItem);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long count() {
+        lock.lock();
+        try {
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 조회용 복사본 (원본 갱신과 독립적으로 병합/조회)
+     */
+    EventTypeSketch copy() {
+        lock.lock();
+        try {
+            return new EventTypeSketch(count, distinctPayloads.copy(), payloadFrequency.copy(), topPayloads.copy());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 다른 스케치의 갱신분을 이 스케치에 병합
+     */
+    void merge(EventTypeSketch other) {
+        EventTypeSketch delta = other.copy();
+        lock.lock();
+        try {
+            mergeUnlocked(delta);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 다른 스케치를 병합 (복사본에만 사용하므로 락을 걸지 않습니다)
+     */
+    void mergeUnlocked(EventTypeSketch other) {
+        count += other.count;
+        distinctPayloads.merge(other.distinctPayloads);
+        payloadFrequency.merge(other.payloadFrequency);
+        topPayloads.merge(other.topPayloads);
+    }
+
+    long countUnlocked() {
+        return count;
+    }
+
+    HyperLogLog distinctPayloads() {
+        return distinctPayloads;
+    }
+
+    CountMinSketch payloadFrequency() {
+        return payloadFrequency;
+    }
+
+    SpaceSaving topPayloads() {
+        return topPayloads;
+    }
+
+    void writeTo(DataOutput out) throws IOException {
+        EventTypeSketch snapshot = copy();
+        out.writeLong(snapshot.count);
+        snapshot.distinctPayloads.writeTo(out);
+        snapshot.payloadFrequency.writeTo(out);
+        snapshot.topPayloads.writeTo(out);
+    }
+
+    static EventTypeSketch readFrom(DataInput in) throws IOException {
+        long count = in.readLong();
+        return new EventTypeSketch(count,
+                HyperLogLog.readFrom(in), CountMinSketch.readFrom(in), SpaceSaving.readFrom(in));
+    }
+}
@@ -0,0 +1,209 @@
+package com.template.application.external.sketch;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-Saving 상위 빈도 항목(heavy hitter) 추적
+ * <p>
+ * 최대 capacity개의 (항목, 건수, 오차) 카운터만 유지합니다. 가득 찬 상태에서 새 항목이 들어오면
+ * 건수가 가장 작은 카운터를 새 항목으로 교체하고, 그 건수를 오차로 물려받습니다.
+ * 빈도가 전체의 1 / capacity보다 큰 항목은 반드시 유지되며, 건수는 실제 이상, (건수 - 오차)는 실제 이하입니다.
+ * <p>
+ * 카운터는 건수 기준 최소 힙에도 함께 두므로, 가장 작은 카운터 찾기는 O(1),
+ * 건수 증가와 교체는 O(log capacity)입니다.
+ * <p>
+ * 스레드 안전하지 않으므로 호출자가 동기화해야 합니다.
+ */
+public final class SpaceSaving {
+
+    private final int capacity;
+    private final Map<String, Counter> counters;
+
+    /**
+     * 건수 기준 최소 힙 (heap[0]이 가장 작은 카운터, 각 카운터는 자신의 위치를 index로 보관)
+     */
+    private final Counter[] heap;
+
+    public SpaceSaving(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity는 1 이상이어야 합니다.");
+        }
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+        this.heap = new Counter[capacity];
+    }
+
+    public void offer(String item) {
+        offer(item, 1, 0);
+    }
+
+    /**
+     * 상위 k개 항목 (건수 내림차순)
+     */
+    public List<HeavyHitter> top(int k) {
+        return counters.entrySet().stream()
+                .map(entry -> new HeavyHitter(entry.getKey(), entry.getValue().count, entry.getValue().error))
+                .sorted(Comparator.comparingLong(HeavyHitter::count).reversed().thenComparing(HeavyHitter::item))
+                .limit(k)
+                .toList();
+    }
+
+    /**
+     * 다른 요약을 이 요약에 병합 (mergeable summaries)
+     * <p>
+     * 한쪽에만 있는 항목은 다른 쪽이 가득 차 있었다면 그 최솟값만큼 있었을 수 있으므로
+     * 건수와 오차에 더한 뒤, 건수 상위 capacity개만 남깁니다.
+     */
+    public void merge(SpaceSaving other) {
+        long thisMin = minCount();
+        long otherMin = other.minCount();
+        Map<String, Counter> merged = new HashMap<>(counters.size() + other.counters.size());
+        counters.forEach((item, counter) -> {
+            Counter peer = other.counters.get(item);
+            merged.put(item, peer != null
+                    ? new Counter(item, counter.count + peer.count, counter.error + peer.error)
+                    : new Counter(item, counter.count + otherMin, counter.error + otherMin));
+        });
+        other.counters.forEach((item, counter) -> merged.computeIfAbsent(item,
+                key -> new Counter(item, counter.count + thisMin, counter.error + thisMin)));
+
+        counters.clear();
+        Arrays.fill(heap, null);
+        merged.entrySet().stream()
+                .sorted(Map.Entry.<String, Counter>comparingByValue(
+                        Comparator.comparingLong((Counter counter) -> counter.count)).reversed())
+                .limit(capacity)
+                .forEach(entry -> insert(entry.getKey(), entry.getValue().count, entry.getValue().error));
+    }
+
+    public SpaceSaving copy() {
+        SpaceSaving copy = new SpaceSaving(capacity);
+        counters.forEach((item, counter) -> copy.insert(item, counter.count, counter.error));
+        return copy;
+    }
+
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeInt(capacity);
+        out.writeInt(counters.size());
+        for (Map.Entry<String, Counter> entry : counters.entrySet()) {
+            out.writeUTF(entry.getKey());
+            out.writeLong(entry.getValue().count);
+            out.writeLong(entry.getValue().error);
+        }
+    }
+
+    public static SpaceSaving readFrom(DataInput in) throws IOException {
+        SpaceSaving sketch = new SpaceSaving(in.readInt());
+        int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            sketch.offer(in.readUTF(), in.readLong(), in.readLong());
+        }
+        return sketch;
+    }
+
+    private void offer(String item, long count, long error) {
+        Counter counter = counters.get(item);
+        if (counter != null) {
+            counter.count += count;
+            siftDown(counter.index);
+            return;
+        }
+        if (counters.size() < capacity) {
+            insert(item, count, error);
+            return;
+        }
+        // 가장 작은 카운터(힙의 루트)를 새 항목으로 교체
+        Counter min = heap[0];
+        counters.remove(min.item);
+        Counter replaced = new Counter(item, min.count + count, min.count + error);
+        counters.put(item, replaced);
+        place(replaced, 0);
+        siftDown(0);
+    }
+
+    /**
+     * 빈 자리에 카운터 추가 (counters.size() &lt; capacity)
+     */
+    private void insert(String item, long count, long error) {
+        Counter counter = new Counter(item, count, error);
+        int index = counters.size();
+        counters.put(item, counter);
+        place(counter, index);
+        siftUp(index);
+    }
+
+    private long minCount() {
+        return counters.size() < capacity ? 0L : heap[0].count;
+    }
+
+    // ==================== 최소 힙 ====================
+
+    private void siftUp(int index) {
+        Counter counter = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[parent].count <= counter.count) {
+                break;
+            }
+            place(heap[parent], index);
+            index = parent;
+        }
+        place(counter, index);
+    }
+
+    private void siftDown(int index) {
+        int size = counters.size();
+        Counter counter = heap[index];
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && heap[child + 1].count < heap[child].count) {
+                child++;
+            }
+            if (counter.count <= heap[child].count) {
+                break;
+            }
+            place(heap[child], index);
+            index = child;
+        }
+        place(counter, index);
+    }
+
+    private void place(Counter counter, int index) {
+        heap[index] = counter;
+        counter.index = index;
+    }
+
+    private static final class Counter {
+
+        private final String item;
+        private long count;
+        private final long error;
+        private int index;
+
+        private Counter(String item, long count, long error) {
+            this.item = item;
+            this.count = count;
+            this.error = error;
+        }
+    }
+
+    /**
+     * 상위 빈도 항목
+     *
+     * @param item  항목
+     * @param count 추정 건수 (실제 이상)
+     * @param error 최대 과대 추정량 (count - error는 실제 이하)
+     */
+    public record HeavyHitter(String item, long count, long error) {
+    }
+}
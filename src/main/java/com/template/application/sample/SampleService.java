@@ -1,9 +1,17 @@
 package com.template.application.sample;
 
 import com.template.domain.common.exception.BusinessException;
+import com.template.domain.common.page.KeysetPage;
 import com.template.domain.sample.Sample;
+import com.template.domain.sample.SampleChangedEvent;
+import com.template.domain.sample.SampleCollectionVersion;
 import com.template.domain.sample.SampleRepository;
+import com.template.infrastructure.config.cache.CacheNames;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +29,16 @@ import java.util.List;
  * <li>프레젠테이션 DTO(Request/Response)에 의존하지 않음</li>
  * <li>트랜잭션 경계를 정의</li>
  * </ul>
+ * <p>
+ * <b>캐시:</b>
+ * 단건 조회 결과를 로컬 캐시({@value CacheNames#SAMPLES})에 보관하며,
+ * 수정 시 커밋된 값으로 갱신하고 삭제 시 제거합니다. (CacheConfig 참고)
+ * 캐시를 채우는 단건 조회는 읽기 복제본이 아닌 Primary에서 읽습니다.
+ * 복제 지연 중인 복제본에서 읽으면 이미 삭제되었거나 수정 전인 값이 만료 시까지 캐시에 남기 때문입니다.
+ * <p>
+ * <b>변경 이벤트:</b>
+ * 생성/수정/삭제 시 {@link SampleChangedEvent}를 발행하며,
+ * 제목 검색 인덱스가 커밋 이후 이를 반영합니다.
  */
 @Service
 @RequiredArgsConstructor
@@ -28,25 +46,31 @@ import java.util.List;
 public class SampleService implements SampleUseCase {
 
     private final SampleRepository sampleRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
     public Sample create(String title, String content) {
-        Sample sample = Sample.create(title, content);
-        return sampleRepository.save(sample);
+        Sample saved = sampleRepository.save(Sample.create(title, content));
+        eventPublisher.publishEvent(SampleChangedEvent.saved(saved));
+        return saved;
     }
 
     @Override
     @Transactional
+    @CachePut(cacheNames = CacheNames.SAMPLES, key = "#id")
     public Sample update(Long id, String title, String content) {
         Sample sample = sampleRepository.findById(id)
                 .orElseThrow(() -> new BusinessException("샘플을 찾을 수 없습니다.", "SAMPLE_NOT_FOUND"));
 
-        Sample updated = sample.update(title, content);
-        return sampleRepository.save(updated);
+        Sample updated = sampleRepository.save(sample.update(title, content));
+        eventPublisher.publishEvent(SampleChangedEvent.saved(updated));
+        return updated;
     }
 
     @Override
+    @Transactional // 캐시를 채우는 조회이므로 readOnly(복제본 라우팅)를 쓰지 않고 Primary에서 읽습니다
+    @Cacheable(cacheNames = CacheNames.SAMPLES, key = "#id")
     public Sample getById(Long id) {
         return sampleRepository.findById(id)
                 .orElseThrow(() -> new BusinessException("샘플을 찾을 수 없습니다.", "SAMPLE_NOT_FOUND"));
@@ -57,12 +81,29 @@ public class SampleService implements SampleUseCase {
         return sampleRepository.findAll();
     }
 
+    @Override
+    public SampleCollectionVersion getCollectionVersion() {
+        return sampleRepository.findCollectionVersion();
+    }
+
+    @Override
+    public List<Sample> searchByTitle(String keyword) {
+        return sampleRepository.findByTitleContaining(keyword);
+    }
+
+    @Override
+    public KeysetPage<Sample> getPage(Long afterId, int size) {
+        return sampleRepository.findPageAfter(afterId, size);
+    }
+
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.SAMPLES, key = "#id")
     public void delete(Long id) {
         if (sampleRepository.findById(id).isEmpty()) {
             throw new BusinessException("샘플을 찾을 수 없습니다.", "SAMPLE_NOT_FOUND");
         }
         sampleRepository.deleteById(id);
+        eventPublisher.publishEvent(SampleChangedEvent.deleted(id));
     }
 }
@@ -1,6 +1,8 @@
 package com.template.application.sample;
 
+import com.template.domain.common.page.KeysetPage;
 import com.template.domain.sample.Sample;
+import com.template.domain.sample.SampleCollectionVersion;
 
 import java.util.List;
 
@@ -53,6 +55,30 @@ public interface SampleUseCase {
      */
     List<Sample> getAll();
 
+    /**
+     * 전체 샘플 목록 버전 조회 (조건부 요청 처리용)
+     *
+     * @return 건수와 최종 수정 시간
+     */
+    SampleCollectionVersion getCollectionVersion();
+
+    /**
+     * 제목으로 샘플 검색 (부분 일치, 대소문자 무시)
+     *
+     * @param keyword 검색어
+     * @return 제목에 검색어를 포함하는 샘플 목록 (ID 오름차순)
+     */
+    List<Sample> searchByTitle(String keyword);
+
+    /**
+     * 샘플 커서 기반 페이지 조회
+     *
+     * @param afterId 이전 페이지의 마지막 ID (첫 페이지는 null)
+     * @param size    페이지 크기
+     * @return 샘플 페이지
+     */
+    KeysetPage<Sample> getPage(Long afterId, int size);
+
     /**
      * 샘플 삭제
      *
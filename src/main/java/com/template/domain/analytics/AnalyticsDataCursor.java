@@ -0,0 +1,22 @@
+package com.template.domain.analytics;
+
+import java.time.LocalDateTime;
+
+/**
+ * 분석 데이터 키셋 커서
+ * <p>
+ * 분석 데이터는 (occurredAt, id) 순서로 페이지를 나눕니다.
+ * occurredAt만으로는 같은 시각의 이벤트를 구분할 수 없으므로 id를 보조 키로 사용합니다.
+ *
+ * @param occurredAt 마지막으로 읽은 이벤트 발생 시간
+ * @param id         마지막으로 읽은 이벤트 ID
+ */
+public record AnalyticsDataCursor(LocalDateTime occurredAt, Long id) {
+
+    /**
+     * 분석 데이터로부터 커서 생성
+     */
+    public static AnalyticsDataCursor from(AnalyticsData data) {
+        return new AnalyticsDataCursor(data.getOccurredAt(), data.getId());
+    }
+}
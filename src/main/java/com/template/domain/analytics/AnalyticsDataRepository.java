@@ -1,21 +1,129 @@
 package com.template.domain.analytics;
 
+import com.template.domain.common.page.KeysetPage;
+
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 분석 데이터 리포지토리 인터페이스 (GPDB용)
  * <p>
  * GPDB1 또는 GPDB2의 분석 데이터에 접근하는 포트입니다.
- * 각 GPDB별로 별도의 구현체가 필요합니다.
+ * 각 GPDB별로 별도의 구현체가 필요하며, 두 GPDB를 샤드로 묶은 복합 구현체
+ * (shardedAnalyticsDataRepository)도 같은 인터페이스로 제공됩니다.
  */
 public interface AnalyticsDataRepository {
 
     AnalyticsData save(AnalyticsData data);
 
+    /**
+     * 분석 데이터 일괄 저장
+     * <p>
+     * 구현체는 JDBC 배치 INSERT로 여러 건을 한 번에 전송해야 하며,
+     * 건별 {@link #save(AnalyticsData)} 반복 호출보다 왕복 횟수가 적어야 합니다.
+     *
+     * @param data 저장할 분석 데이터 목록
+     * @return 저장된 건수
+     */
+    int saveAll(List<AnalyticsData> data);
+
+    /**
+     * 분석 데이터 대량 적재
+     * <p>
+     * 백필 등 대량 데이터를 DB의 대량 적재 경로(PostgreSQL COPY 등)로 저장합니다.
+     * 입력을 한 건씩 소비하므로 전체 데이터를 메모리에 올리지 않습니다.
+     * 대량 적재를 지원하지 않는 DB에서는 {@link #saveAll(List)} 배치로 대체됩니다.
+     * <p>
+     * <b>주의:</b> 해당 데이터소스의 트랜잭션 안에서 호출해야 합니다.
+     *
+     * @param data 적재할 분석 데이터 스트림
+     * @return 적재된 건수
+     */
+    long bulkLoad(Stream<AnalyticsData> data);
+
     Optional<AnalyticsData> findById(Long id);
 
     List<AnalyticsData> findByEventType(String eventType);
 
     List<AnalyticsData> findAll();
+
+    /**
+     * 이벤트 유형과 발생 시간 구간으로 조회 ((occurredAt, id) 오름차순)
+     * <p>
+     * 구간은 [from, to) 반열림 구간이며, (eventType, occurredAt, id) 인덱스로 범위 스캔됩니다.
+     *
+     * @param eventType 이벤트 유형
+     * @param range     발생 시간 구간
+     * @return 구간 안의 분석 데이터 목록
+     */
+    List<AnalyticsData> findByEventTypeAndOccurredAtBetween(String eventType, AnalyticsDataTimeRange range);
+
+    /**
+     * 발생 시간 구간 키셋 페이지 조회 ((occurredAt, id) 오름차순)
+     * <p>
+     * 구간 경계 조건을 커서 조건과 별도로 항상 포함하므로, 파티션된 테이블에서는
+     * 구간 밖 파티션을 읽지 않습니다. 구간 전체는 페이지를 이어 읽는 방식으로 나누어 조회합니다.
+     *
+     * @param range     발생 시간 구간
+     * @param eventType 이벤트 유형 (null이면 모든 이벤트 유형)
+     * @param after     이전 페이지의 마지막 커서 (첫 페이지는 null)
+     * @param size      페이지 크기
+     * @return 커서 다음부터 최대 size건의 분석 데이터
+     */
+    KeysetPage<AnalyticsData> findPageByOccurredAtBetween(
+            AnalyticsDataTimeRange range, String eventType, AnalyticsDataCursor after, int size);
+
+    /**
+     * 키셋 기반 페이지 조회 ((occurredAt, id) 오름차순)
+     *
+     * @param after 이전 페이지의 마지막 커서 (첫 페이지는 null)
+     * @param size  페이지 크기
+     * @return 커서 다음부터 최대 size건의 분석 데이터
+     */
+    KeysetPage<AnalyticsData> findPageAfter(AnalyticsDataCursor after, int size);
+
+    // ===================================================
+    // 집계 (DB에서 GROUP BY로 계산하여 집계 결과만 반환)
+    // ===================================================
+
+    /**
+     * 이벤트 유형별 건수 (이벤트 유형 오름차순)
+     *
+     * @param range 발생 시간 구간 (null이면 전체 기간)
+     * @return 이벤트 유형별 건수
+     */
+    List<AnalyticsEventTypeCount> countByEventType(AnalyticsDataTimeRange range);
+
+    /**
+     * 발생 시간 히스토그램 (구간 시작 시각 오름차순, 데이터가 없는 구간 제외)
+     *
+     * @param range     발생 시간 구간
+     * @param eventType 이벤트 유형 (null이면 전체)
+     * @param bucket    구간 단위
+     * @return 구간별 건수
+     */
+    List<AnalyticsHistogramBucket> histogram(AnalyticsDataTimeRange range, String eventType, AnalyticsTimeBucket bucket);
+
+    /**
+     * 건수와 최초/최종 발생 시간
+     *
+     * @param range     발생 시간 구간 (null이면 전체 기간)
+     * @param eventType 이벤트 유형 (null이면 전체)
+     * @return 요약 (데이터가 없으면 건수 0, 시각 null)
+     */
+    AnalyticsDataSummary summarize(AnalyticsDataTimeRange range, String eventType);
+
+    /**
+     * 전체 분석 데이터 스트리밍 조회
+     * <p>
+     * 서버 사이드 커서로 일정 크기(fetch size)씩 읽어오므로 테이블 크기와 무관하게
+     * 메모리 사용량이 일정합니다.
+     * <p>
+     * <b>주의:</b> 반환된 스트림은 트랜잭션 안에서 모두 소비하고 반드시 닫아야 합니다
+     * (try-with-resources 사용).
+     *
+     * @return 분석 데이터 스트림
+     */
+    Stream<AnalyticsData> streamAll();
 }
@@ -0,0 +1,39 @@
+package com.template.domain.analytics;
+
+import java.time.LocalDateTime;
+
+/**
+ * 분석 데이터 요약 (건수, 최초/최종 발생 시간)
+ *
+ * @param count          건수
+ * @param minOccurredAt  가장 이른 발생 시간 (데이터가 없으면 null)
+ * @param maxOccurredAt  가장 늦은 발생 시간 (데이터가 없으면 null)
+ */
+public record AnalyticsDataSummary(long count, LocalDateTime minOccurredAt, LocalDateTime maxOccurredAt) {
+
+    public static final AnalyticsDataSummary EMPTY = new AnalyticsDataSummary(0L, null, null);
+
+    /**
+     * 다른 요약과 합산 (샤드별 요약 병합용)
+     */
+    public AnalyticsDataSummary merge(AnalyticsDataSummary other) {
+        return new AnalyticsDataSummary(
+                count + other.count,
+                earlier(minOccurredAt, other.minOccurredAt),
+                later(maxOccurredAt, other.maxOccurredAt));
+    }
+
+    private static LocalDateTime earlier(LocalDateTime a, LocalDateTime b) {
+        if (a == null || b == null) {
+            return a == null ? b : a;
+        }
+        return a.isBefore(b) ? a : b;
+    }
+
+    private static LocalDateTime later(LocalDateTime a, LocalDateTime b) {
+        if (a == null || b == null) {
+            return a == null ? b : a;
+        }
+        return a.isAfter(b) ? a : b;
+    }
+}
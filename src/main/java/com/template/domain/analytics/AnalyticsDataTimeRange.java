@@ -0,0 +1,37 @@
+package com.template.domain.analytics;
+
+import com.template.domain.common.exception.BusinessException;
+
+import java.time.LocalDateTime;
+
+/**
+ * 분석 데이터 발생 시간(occurredAt) 조회 구간
+ * <p>
+ * 시작 시각은 포함하고 종료 시각은 제외하는 반열림 구간 [from, to)입니다.
+ * Greenplum 범위 파티션(START INCLUSIVE, END EXCLUSIVE)과 경계 규칙이 같으므로
+ * "2026-10-01T00:00 ~ 2026-11-01T00:00"처럼 월 단위로 조회하면 정확히 한 파티션만 읽습니다.
+ * <p>
+ * 리포지토리 구현체는 occurredAt 컬럼을 함수로 감싸지 않고
+ * {@code occurredAt >= from AND occurredAt < to}로 비교해야 플래너가 파티션을 제외(pruning)할 수 있습니다.
+ *
+ * @param from 시작 시각 (포함)
+ * @param to   종료 시각 (제외)
+ */
+public record AnalyticsDataTimeRange(LocalDateTime from, LocalDateTime to) {
+
+    public AnalyticsDataTimeRange {
+        if (from == null || to == null) {
+            throw new BusinessException("조회 시작 시각과 종료 시각을 모두 지정해야 합니다.", "INVALID_TIME_RANGE");
+        }
+        if (!from.isBefore(to)) {
+            throw new BusinessException("조회 시작 시각은 종료 시각보다 이전이어야 합니다.", "INVALID_TIME_RANGE");
+        }
+    }
+
+    /**
+     * 구간 포함 여부
+     */
+    public boolean contains(LocalDateTime occurredAt) {
+        return !occurredAt.isBefore(from) && occurredAt.isBefore(to);
+    }
+}
@@ -0,0 +1,10 @@
+package com.template.domain.analytics;
+
+/**
+ * 이벤트 유형별 건수 (집계 결과)
+ *
+ * @param eventType 이벤트 유형
+ * @param count     건수
+ */
+public record AnalyticsEventTypeCount(String eventType, long count) {
+}
@@ -0,0 +1,14 @@
+package com.template.domain.analytics;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발생 시간 히스토그램 구간 (집계 결과)
+ * <p>
+ * 데이터가 없는 구간은 결과에 포함되지 않습니다.
+ *
+ * @param bucketStart 구간 시작 시각 (구간 단위로 절삭된 occurredAt)
+ * @param count       구간 안의 건수
+ */
+public record AnalyticsHistogramBucket(LocalDateTime bucketStart, long count) {
+}
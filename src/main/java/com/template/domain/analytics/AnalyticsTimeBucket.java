@@ -0,0 +1,51 @@
+package com.template.domain.analytics;
+
+import com.template.domain.common.exception.BusinessException;
+
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+
+/**
+ * 발생 시간 히스토그램 구간 단위
+ * <p>
+ * DB의 date_trunc 단위와 1:1로 대응하며, 구간 시작 시각은 해당 단위로 절삭된 occurredAt입니다.
+ */
+public enum AnalyticsTimeBucket {
+
+    MINUTE(ChronoUnit.MINUTES),
+    HOUR(ChronoUnit.HOURS),
+    DAY(ChronoUnit.DAYS),
+    MONTH(ChronoUnit.MONTHS);
+
+    private final ChronoUnit unit;
+
+    AnalyticsTimeBucket(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    /**
+     * 요청 파라미터로부터 구간 단위 조회 (대소문자 무시)
+     */
+    public static AnalyticsTimeBucket from(String value) {
+        try {
+            return valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(
+                    "지원하지 않는 구간 단위입니다. (MINUTE, HOUR, DAY, MONTH)", "INVALID_TIME_BUCKET");
+        }
+    }
+
+    /**
+     * date_trunc 단위 문자열 (예: hour)
+     */
+    public String sqlUnit() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 조회 구간에 포함될 수 있는 최대 구간 수
+     */
+    public long bucketsIn(AnalyticsDataTimeRange range) {
+        return range.from().until(range.to(), unit) + 1;
+    }
+}
@@ -0,0 +1,15 @@
+package com.template.domain.common.exception;
+
+/**
+ * 처리 용량 초과 예외
+ * <p>
+ * 내부 버퍼나 동시성 한도가 가득 차 요청을 받아들일 수 없을 때 발생합니다.
+ * GlobalExceptionHandler에서 HTTP 429 (Too Many Requests)로 변환되며,
+ * 클라이언트는 잠시 후 재시도해야 합니다.
+ */
+public class TooManyRequestsException extends BusinessException {
+
+    public TooManyRequestsException(String message, String errorCode) {
+        super(message, errorCode);
+    }
+}
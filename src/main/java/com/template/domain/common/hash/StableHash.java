@@ -0,0 +1,32 @@
+package com.template.domain.common.hash;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 고정 64비트 문자열 해시 (FNV-1a + MurmurHash3 finalizer)
+ * <p>
+ * String.hashCode()와 달리 JVM 구현과 무관하게 값이 고정되므로,
+ * 재시작 후에도 같은 값이 필요한 곳(샤드 해시 링 위치, 스케치 스냅샷)에서 사용합니다.
+ * FNV-1a만으로는 짧은 키의 상위 비트 분포가 고르지 않으므로 finalizer로 비트를 섞습니다.
+ * <p>
+ * <b>주의:</b> 값을 바꾸면 샤드 배치와 저장된 스케치 스냅샷이 모두 무효가 됩니다.
+ */
+public final class StableHash {
+
+    private StableHash() {
+    }
+
+    public static long hash64(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xff;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,42 @@
+package com.template.domain.common.page;
+
+import java.util.List;
+
+/**
+ * 키셋(커서) 기반 페이지 결과
+ * <p>
+ * OFFSET 대신 "마지막으로 읽은 키보다 큰 행"을 조건으로 다음 페이지를 조회합니다.
+ * 인덱스 범위 스캔으로 시작 위치를 바로 찾으므로 몇 번째 페이지든 조회 비용이 같습니다.
+ * <p>
+ * 리포지토리 구현체는 요청 크기보다 1건 더 조회한 결과를 {@link #of(List, int)}에 넘겨
+ * 다음 페이지 존재 여부를 판단합니다.
+ *
+ * @param content 현재 페이지 데이터 (키 오름차순)
+ * @param hasNext 다음 페이지 존재 여부
+ * @param <T>     도메인 객체 타입
+ */
+public record KeysetPage<T>(List<T> content, boolean hasNext) {
+
+    /**
+     * size + 1건 조회 결과로 페이지 생성
+     *
+     * @param fetched 최대 size + 1건의 조회 결과
+     * @param size    요청한 페이지 크기
+     * @return 페이지 결과
+     */
+    public static <T> KeysetPage<T> of(List<T> fetched, int size) {
+        if (fetched.size() > size) {
+            return new KeysetPage<>(fetched.subList(0, size), true);
+        }
+        return new KeysetPage<>(fetched, false);
+    }
+
+    /**
+     * 현재 페이지의 마지막 항목 (다음 페이지 커서 생성용)
+     *
+     * @return 마지막 항목, 비어 있으면 null
+     */
+    public T last() {
+        return content.isEmpty() ? null : content.get(content.size() - 1);
+    }
+}
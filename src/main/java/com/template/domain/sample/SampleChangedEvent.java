@@ -0,0 +1,31 @@
+package com.template.domain.sample;
+
+/**
+ * 샘플 변경 이벤트
+ * <p>
+ * 샘플이 생성/수정/삭제될 때 애플리케이션 서비스가 발행합니다.
+ * 검색 인덱스 등 파생 데이터는 트랜잭션 커밋 이후 이 이벤트로 갱신합니다.
+ *
+ * @param id    샘플 ID
+ * @param title 변경 후 제목 (삭제된 경우 null)
+ */
+public record SampleChangedEvent(Long id, String title) {
+
+    /**
+     * 생성 또는 수정 이벤트
+     */
+    public static SampleChangedEvent saved(Sample sample) {
+        return new SampleChangedEvent(sample.getId(), sample.getTitle());
+    }
+
+    /**
+     * 삭제 이벤트
+     */
+    public static SampleChangedEvent deleted(Long id) {
+        return new SampleChangedEvent(id, null);
+    }
+
+    public boolean isDeleted() {
+        return title == null;
+    }
+}
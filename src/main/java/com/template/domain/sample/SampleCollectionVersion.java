@@ -0,0 +1,30 @@
+package com.template.domain.sample;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 샘플 전체 목록 버전
+ * <p>
+ * 전체 행을 읽지 않고 목록의 변경 여부를 판단하기 위한 집계 값입니다.
+ * 생성/수정은 최종 수정 시간을, 삭제는 건수를 바꾸므로 둘 중 하나라도 다르면 목록이 변경된 것입니다.
+ *
+ * @param count         샘플 건수
+ * @param lastUpdatedAt 가장 최근 수정 시간 (샘플이 없으면 null)
+ */
+public record SampleCollectionVersion(long count, LocalDateTime lastUpdatedAt) {
+
+    /**
+     * 이미 조회한 목록으로부터 버전 계산 (리포지토리 집계 결과와 같은 값)
+     */
+    public static SampleCollectionVersion of(List<Sample> samples) {
+        LocalDateTime lastUpdatedAt = null;
+        for (Sample sample : samples) {
+            LocalDateTime updatedAt = sample.getUpdatedAt();
+            if (updatedAt != null && (lastUpdatedAt == null || updatedAt.isAfter(lastUpdatedAt))) {
+                lastUpdatedAt = updatedAt;
+            }
+        }
+        return new SampleCollectionVersion(samples.size(), lastUpdatedAt);
+    }
+}
@@ -1,5 +1,7 @@
 package com.template.domain.sample;
 
+import com.template.domain.common.page.KeysetPage;
+
 import java.util.List;
 import java.util.Optional;
 
@@ -44,6 +46,22 @@ public interface SampleRepository {
      */
     List<Sample> findAll();
 
+    /**
+     * 전체 목록 버전 조회 (건수 + 최종 수정 시간 집계, 행을 읽지 않음)
+     *
+     * @return 전체 목록 버전
+     */
+    SampleCollectionVersion findCollectionVersion();
+
+    /**
+     * 키셋 기반 페이지 조회 (id 오름차순)
+     *
+     * @param afterId 이전 페이지의 마지막 ID (첫 페이지는 null)
+     * @param size    페이지 크기
+     * @return afterId 다음부터 최대 size건의 샘플
+     */
+    KeysetPage<Sample> findPageAfter(Long afterId, int size);
+
     /**
      * 샘플 삭제
      *
@@ -0,0 +1,20 @@
+package com.template.infrastructure.config.async;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * 비동기 실행(@Async) 설정 클래스
+ * <p>
+ * 실행기는 Spring Boot 자동설정의 applicationTaskExecutor를 사용합니다.
+ * <ul>
+ * <li>spring.threads.virtual.enabled=false: 플랫폼 스레드 풀 (spring.task.execution.pool.*)</li>
+ * <li>spring.threads.virtual.enabled=true: 작업마다 가상 스레드를 생성하는 SimpleAsyncTaskExecutor</li>
+ * </ul>
+ * 가상 스레드 모드에서는 스레드 수 제한이 없으므로, DB 접근은
+ * {@link com.template.infrastructure.config.datasource.ConcurrencyLimitingDataSource}가 제한합니다.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
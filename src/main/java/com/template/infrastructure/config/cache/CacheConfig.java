@@ -0,0 +1,25 @@
+package com.template.infrastructure.config.cache;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * 로컬 캐시 설정 클래스
+ * <p>
+ * Caffeine(W-TinyLFU) 기반 CacheManager는 Spring Boot 자동설정이 생성하며,
+ * 캐시 이름과 크기/TTL 정책은 application.yml의 spring.cache.* 에서 관리합니다.
+ * recordStats가 켜져 있으면 캐시 적중률/제거 메트릭(cache.gets, cache.evictions 등)이
+ * Actuator(Prometheus)로 자동 노출됩니다.
+ * <p>
+ * <b>어드바이저 순서:</b>
+ * 캐시 어드바이저를 트랜잭션 어드바이저(LOWEST_PRECEDENCE)보다 바깥에서 실행되도록 지정합니다.
+ * <ul>
+ * <li>캐시 적중 시 트랜잭션을 시작하지 않으므로 DB 커넥션을 점유하지 않습니다</li>
+ * <li>@CachePut / @CacheEvict는 트랜잭션 커밋 이후에 반영되어, 롤백된 값이 캐시에 남지 않습니다</li>
+ * </ul>
+ */
+@Configuration
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+public class CacheConfig {
+}
@@ -0,0 +1,17 @@
+package com.template.infrastructure.config.cache;
+
+/**
+ * 캐시 이름 상수
+ * <p>
+ * application.yml의 spring.cache.cache-names와 일치해야 합니다.
+ */
+public final class CacheNames {
+
+    /**
+     * 샘플 단건 조회 캐시 (key: 샘플 ID, value: Sample 도메인 객체)
+     */
+    public static final String SAMPLES = "samples";
+
+    private CacheNames() {
+    }
+}
@@ -0,0 +1,128 @@
+package com.template.infrastructure.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 커넥션 풀 자동 크기 조정기
+ * <p>
+ * 주기적으로 풀별 평균 커넥션 획득 대기 시간(hikaricp.connections.acquire)을 측정하여
+ * 설정된 범위(min ~ max) 안에서 maximumPoolSize를 조정합니다.
+ * <ul>
+ * <li>평균 대기 시간 &gt; targetWait: step만큼 확장</li>
+ * <li>평균 대기 시간 &lt; targetWait / 4 이고 대기 스레드가 없으며 여유 커넥션이 충분: step만큼 축소</li>
+ * <li>측정 주기 동안 커넥션 획득이 없음(유휴): 저부하로 보고 같은 조건에서 step만큼 축소</li>
+ * </ul>
+ * 동시 커넥션 제한({@link ConcurrencyLimitingDataSource})이 적용된 경우 그 한도도 함께 조정하되,
+ * datasource.concurrency-limit.max-concurrency에 명시한 값을 넘지 않습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "datasource.adaptive-pool", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(AdaptivePoolSizingProperties.class)
+public class AdaptivePoolSizer {
+
+    private final Map<String, DataSource> dataSources;
+    private final AdaptivePoolSizingProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 명시적으로 설정된 데이터소스별 최대 동시 커넥션 수 (동시 커넥션 제한 한도의 상한)
+     */
+    private final Map<String, Integer> configuredMaxConcurrency;
+
+    /**
+     * 풀별 직전 측정값 (획득 횟수, 누적 대기 시간 ns)
+     */
+    private final Map<String, long[]> lastSamples = new HashMap<>();
+
+    public AdaptivePoolSizer(
+            Map<String, DataSource> dataSources,
+            AdaptivePoolSizingProperties properties,
+            MeterRegistry meterRegistry,
+            Environment environment) {
+        this.dataSources = dataSources;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.configuredMaxConcurrency = DataSourceConcurrencyLimitConfig.properties(environment).getMaxConcurrency();
+    }
+
+    @Scheduled(
+            initialDelayString = "${datasource.adaptive-pool.interval:PT10S}",
+            fixedDelayString = "${datasource.adaptive-pool.interval:PT10S}")
+    public void resize() {
+        properties.getPools().forEach((beanName, bounds) -> {
+            DataSource dataSource = dataSources.get(beanName);
+            if (dataSource == null) {
+                return;
+            }
+            try {
+                resize(beanName, dataSource, bounds);
+            } catch (RuntimeException | SQLException e) {
+                log.warn("[AdaptivePool] {} 크기 조정 실패: {}", beanName, e.getMessage());
+            }
+        });
+    }
+
+    private void resize(String beanName, DataSource dataSource, AdaptivePoolSizingProperties.Bounds bounds)
+            throws SQLException {
+        HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        Timer acquire = meterRegistry.find("hikaricp.connections.acquire")
+                .tag("pool", hikari.getPoolName())
+                .timer();
+        if (pool == null || acquire == null) {
+            // 아직 풀이 시작되지 않음
+            return;
+        }
+
+        long count = acquire.count();
+        long totalNanos = (long) acquire.totalTime(TimeUnit.NANOSECONDS);
+        long[] last = lastSamples.put(beanName, new long[]{count, totalNanos});
+        if (last == null) {
+            return;
+        }
+        // 측정 주기 동안 획득이 없으면 대기 시간 0(유휴)으로 보고 축소 대상으로 판단합니다
+        long meanWaitNanos = count == last[0] ? 0L : (totalNanos - last[1]) / (count - last[0]);
+        long targetNanos = properties.getTargetWait().toNanos();
+
+        int current = hikari.getMaximumPoolSize();
+        int step = properties.getStep();
+        int target = current;
+        if (meanWaitNanos > targetNanos) {
+            target = Math.min(bounds.getMax(), current + step);
+        } else if (meanWaitNanos < targetNanos / 4
+                && pool.getThreadsAwaitingConnection() == 0
+                && pool.getActiveConnections() <= current - 2 * step) {
+            target = Math.max(bounds.getMin(), current - step);
+        }
+        if (target == current) {
+            return;
+        }
+
+        hikari.getHikariConfigMXBean().setMaximumPoolSize(target);
+        if (hikari.getMinimumIdle() > target) {
+            hikari.getHikariConfigMXBean().setMinimumIdle(target);
+        }
+        if (dataSource instanceof ConcurrencyLimitingDataSource limiter) {
+            Integer configured = configuredMaxConcurrency.get(beanName);
+            limiter.resize(configured == null ? target : Math.min(target, configured));
+        }
+        log.info("[AdaptivePool] {} maximumPoolSize {} -> {} (평균 획득 대기 {}ms)",
+                beanName, current, target, TimeUnit.NANOSECONDS.toMillis(meanWaitNanos));
+    }
+}
@@ -0,0 +1,52 @@
+package com.template.infrastructure.config.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 커넥션 풀 자동 크기 조정 설정
+ * <p>
+ * application.yml의 datasource.adaptive-pool.* 속성과 바인딩됩니다.
+ * pools에 등록된 데이터소스만 조정 대상입니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "datasource.adaptive-pool")
+public class AdaptivePoolSizingProperties {
+
+    /**
+     * 사용 여부
+     */
+    private boolean enabled = false;
+
+    /**
+     * 목표 평균 커넥션 획득 대기 시간 (초과 시 확장, 1/4 미만이면 축소)
+     */
+    private Duration targetWait = Duration.ofMillis(20);
+
+    /**
+     * 1회 조정 시 증감할 커넥션 수
+     */
+    private int step = 2;
+
+    /**
+     * 데이터소스 빈 이름별 풀 크기 범위
+     */
+    private Map<String, Bounds> pools = new HashMap<>();
+
+    /**
+     * 풀 크기 범위
+     */
+    @Getter
+    @Setter
+    public static class Bounds {
+
+        private int min = 5;
+        private int max = 20;
+    }
+}
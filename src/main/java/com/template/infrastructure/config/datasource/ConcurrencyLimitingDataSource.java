@@ -0,0 +1,169 @@
+package com.template.infrastructure.config.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 동시 커넥션 수 제한 데이터소스
+ * <p>
+ * 가상 스레드 모드에서는 요청 스레드 수에 상한이 없으므로, 수천 개의 스레드가 동시에
+ * 커넥션 풀(HikariCP)의 getConnection에서 대기하다 connectionTimeout으로 실패할 수 있습니다.
+ * 이 데이터소스는 풀 크기만큼의 공정(FIFO) 세마포어로 커넥션 획득을 제한하여,
+ * 초과 요청이 풀 타임아웃 대신 세마포어에서 저렴하게(가상 스레드 park) 대기하도록 합니다.
+ * <p>
+ * 반환되는 커넥션은 close() 시 세마포어를 반납하는 프록시이며,
+ * unwrap / isWrapperFor 등 나머지 호출은 실제 커넥션에 그대로 위임됩니다.
+ */
+public class ConcurrencyLimitingDataSource extends DelegatingDataSource {
+
+    private final String name;
+    private final Duration maxWait;
+    private final ResizableSemaphore permits;
+    private volatile int maxConcurrency;
+
+    /**
+     * @param name             데이터소스 이름 (메트릭 태그, 예외 메시지용)
+     * @param targetDataSource 실제 데이터소스 (커넥션 풀)
+     * @param maxConcurrency   동시에 대여할 수 있는 최대 커넥션 수
+     * @param maxWait          커넥션 획득 최대 대기 시간
+     */
+    public ConcurrencyLimitingDataSource(
+            String name, DataSource targetDataSource, int maxConcurrency, Duration maxWait) {
+        super(targetDataSource);
+        this.name = name;
+        this.maxConcurrency = maxConcurrency;
+        this.maxWait = maxWait;
+        this.permits = new ResizableSemaphore(maxConcurrency);
+    }
+
+    /**
+     * 최대 동시 커넥션 수 변경 (커넥션 풀 크기 조정 시 함께 호출)
+     * <p>
+     * 줄이는 경우 이미 대여된 커넥션은 회수하지 않으며, 반납되는 만큼 허가가 줄어듭니다.
+     *
+     * @param newMaxConcurrency 새 최대 동시 커넥션 수
+     */
+    public synchronized void resize(int newMaxConcurrency) {
+        int delta = newMaxConcurrency - maxConcurrency;
+        if (delta > 0) {
+            permits.release(delta);
+        } else if (delta < 0) {
+            permits.reducePermits(-delta);
+        }
+        maxConcurrency = newMaxConcurrency;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return limited(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return limited(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS)) {
+                throw new SQLTransientConnectionException(String.format(
+                        "%s - 커넥션 대기 시간을 초과했습니다. (maxWait=%s, 대기 중=%d)",
+                        name, maxWait, permits.getQueueLength()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException(name + " - 커넥션 대기 중 인터럽트되었습니다.", e);
+        }
+    }
+
+    /**
+     * close() 시 세마포어를 한 번만 반납하는 커넥션 프록시 생성
+     */
+    private Connection limited(Connection target) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                ConnectionProxy.class.getClassLoader(),
+                new Class<?>[]{ConnectionProxy.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "close" -> {
+                        try {
+                            target.close();
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                permits.release();
+                            }
+                        }
+                        yield null;
+                    }
+                    case "getTargetConnection" -> target;
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "toString" -> "Concurrency-limited connection [" + name + "]: " + target;
+                    default -> {
+                        try {
+                            yield method.invoke(target, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    }
+                });
+    }
+
+    /**
+     * 세마포어 상태 메트릭 등록
+     * <p>
+     * datasource.concurrency.available: 즉시 획득 가능한 허가 수<br>
+     * datasource.concurrency.waiting: 허가를 기다리는 스레드 수
+     */
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("datasource.concurrency.available", permits, Semaphore::availablePermits)
+                .tag("datasource", name)
+                .register(registry);
+        Gauge.builder("datasource.concurrency.waiting", permits, Semaphore::getQueueLength)
+                .tag("datasource", name)
+                .register(registry);
+        Gauge.builder("datasource.concurrency.max", this, ds -> ds.maxConcurrency)
+                .tag("datasource", name)
+                .register(registry);
+    }
+
+    /**
+     * 허가 수를 줄일 수 있도록 reducePermits를 노출한 공정 세마포어
+     */
+    private static final class ResizableSemaphore extends Semaphore {
+
+        ResizableSemaphore(int permits) {
+            super(permits, true);
+        }
+
+        @Override
+        protected void reducePermits(int reduction) {
+            super.reducePermits(reduction);
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package com.template.infrastructure.config.datasource;
 
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.orm.jpa.EntityManagerFactoryBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -7,14 +10,20 @@ import org.springframework.orm.jpa.JpaVendorAdapter;
 import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
 
 import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Multi-DataSource 공통 설정
  * <p>
  * Multi-DB 환경에서 Spring Boot JPA 자동설정이 비활성화되어 있으므로
  * EntityManagerFactoryBuilder를 수동으로 생성합니다.
+ * <p>
+ * 자동설정이 꺼져 있어도 application.yml의 spring.jpa.* 설정
+ * (show-sql, hibernate.ddl-auto, properties.hibernate.*)이 모든 영속성 유닛에
+ * 공통으로 적용되도록 JpaProperties, HibernateProperties를 직접 바인딩합니다.
  */
 @Configuration
+@EnableConfigurationProperties({JpaProperties.class, HibernateProperties.class})
 public class DataSourceCommonConfig {
 
     /**
@@ -23,19 +32,29 @@ public class DataSourceCommonConfig {
      * Hibernate를 JPA 구현체로 사용합니다.
      */
     @Bean
-    public JpaVendorAdapter jpaVendorAdapter() {
-        return new HibernateJpaVendorAdapter();
+    public JpaVendorAdapter jpaVendorAdapter(JpaProperties jpaProperties) {
+        HibernateJpaVendorAdapter adapter = new HibernateJpaVendorAdapter();
+        adapter.setShowSql(jpaProperties.isShowSql());
+        return adapter;
     }
 
     /**
      * EntityManagerFactoryBuilder 생성
      * <p>
      * Multi-DB 환경에서 각 DataSource 별로 EntityManagerFactory를 생성할 때
-     * 이 빌더를 사용합니다.
+     * 이 빌더를 사용합니다. 공통 JPA 속성(JDBC 배치 크기 등)은 여기서 주입되며,
+     * 각 데이터소스 설정의 개별 속성(방언 등)이 그 위에 덮어쓰입니다.
      */
     @Bean
-    public EntityManagerFactoryBuilder entityManagerFactoryBuilder(JpaVendorAdapter jpaVendorAdapter) {
-        // 빈 Map을 전달하여 NPE 방지
-        return new EntityManagerFactoryBuilder(jpaVendorAdapter, new HashMap<>(), null);
+    public EntityManagerFactoryBuilder entityManagerFactoryBuilder(
+            JpaVendorAdapter jpaVendorAdapter,
+            JpaProperties jpaProperties,
+            HibernateProperties hibernateProperties) {
+
+        Map<String, Object> properties = new HashMap<>(jpaProperties.getProperties());
+        if (hibernateProperties.getDdlAuto() != null) {
+            properties.put("hibernate.hbm2ddl.auto", hibernateProperties.getDdlAuto());
+        }
+        return new EntityManagerFactoryBuilder(jpaVendorAdapter, properties, null);
     }
 }
@@ -0,0 +1,99 @@
+package com.template.infrastructure.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Set;
+
+/**
+ * 데이터소스 동시 커넥션 제한 설정
+ * <p>
+ * datasource.concurrency-limit.enabled=true이면 Primary, GPDB1, GPDB2 데이터소스를
+ * {@link ConcurrencyLimitingDataSource}로 감쌉니다.
+ * EntityManagerFactory, 트랜잭션 매니저, MyBatis 등 모든 사용처가 감싼 데이터소스를 사용합니다.
+ * <p>
+ * 가상 스레드 모드(spring.threads.virtual.enabled=true)에서 사용하도록 설계되었으며,
+ * 기본 설정에서 두 값이 함께 켜지고 꺼집니다.
+ */
+@Slf4j
+@Configuration
+public class DataSourceConcurrencyLimitConfig {
+
+    private static final Set<String> TARGET_DATA_SOURCES =
+            Set.of("primaryDataSource", "gpdb1DataSource", "gpdb2DataSource");
+
+    /**
+     * 데이터소스 빈을 동시성 제한 데이터소스로 감싸는 후처리기
+     * <p>
+     * 다른 빈보다 먼저 생성되어야 하므로 static으로 선언합니다.
+     */
+    @Bean
+    public static BeanPostProcessor dataSourceConcurrencyLimiter(Environment environment) {
+        DataSourceConcurrencyLimitProperties properties = properties(environment);
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!properties.isEnabled() || !TARGET_DATA_SOURCES.contains(beanName)
+                        || !(bean instanceof DataSource dataSource)) {
+                    return bean;
+                }
+                return limit(beanName, dataSource, properties);
+            }
+        };
+    }
+
+    static DataSourceConcurrencyLimitProperties properties(Environment environment) {
+        return Binder.get(environment)
+                .bind(DataSourceConcurrencyLimitProperties.PREFIX, DataSourceConcurrencyLimitProperties.class)
+                .orElseGet(DataSourceConcurrencyLimitProperties::new);
+    }
+
+    /**
+     * 동시성 제한 데이터소스로 감싸기 (빈이 아닌 복제본 풀에도 사용)
+     *
+     * @param name       데이터소스 이름 (max-concurrency 키, 메트릭 태그)
+     * @param dataSource 감쌀 데이터소스
+     */
+    static ConcurrencyLimitingDataSource limit(
+            String name, DataSource dataSource, DataSourceConcurrencyLimitProperties properties) {
+        int maxConcurrency = properties.getMaxConcurrency().getOrDefault(name, poolSizeOf(dataSource));
+        log.info("[DataSource] {} 동시 커넥션 제한 적용: maxConcurrency={}, maxWait={}",
+                name, maxConcurrency, properties.getMaxWait());
+        return new ConcurrencyLimitingDataSource(name, dataSource, maxConcurrency, properties.getMaxWait());
+    }
+
+    /**
+     * 풀 크기 (쿼리 계측 등으로 감싼 경우 unwrap으로 HikariCP 풀을 찾음)
+     */
+    private static int poolSizeOf(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException e) {
+            log.warn("[DataSource] 커넥션 풀 크기 확인 실패: {}", e.getMessage());
+        }
+        return 10;
+    }
+
+    /**
+     * 동시성 제한 데이터소스의 세마포어 메트릭 등록
+     */
+    @Bean
+    public MeterBinder dataSourceConcurrencyLimitMetrics(ObjectProvider<DataSource> dataSources) {
+        return registry -> dataSources.stream()
+                .filter(ConcurrencyLimitingDataSource.class::isInstance)
+                .map(ConcurrencyLimitingDataSource.class::cast)
+                .forEach(dataSource -> dataSource.bindTo(registry));
+    }
+}
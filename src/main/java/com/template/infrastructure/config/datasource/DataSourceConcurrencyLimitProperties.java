@@ -0,0 +1,36 @@
+package com.template.infrastructure.config.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 데이터소스 동시 커넥션 제한 설정
+ * <p>
+ * application.yml의 datasource.concurrency-limit.* 속성과 바인딩됩니다.
+ * (BeanPostProcessor에서 사용하므로 Binder로 직접 바인딩합니다)
+ */
+@Getter
+@Setter
+public class DataSourceConcurrencyLimitProperties {
+
+    public static final String PREFIX = "datasource.concurrency-limit";
+
+    /**
+     * 사용 여부 (기본값: 가상 스레드 사용 여부를 따름)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 커넥션 획득 최대 대기 시간
+     */
+    private Duration maxWait = Duration.ofSeconds(30);
+
+    /**
+     * 데이터소스 빈 이름별 최대 동시 커넥션 수 (미지정 시 HikariCP maximumPoolSize)
+     */
+    private Map<String, Integer> maxConcurrency = new HashMap<>();
+}
@@ -1,16 +1,28 @@
 package com.template.infrastructure.config.datasource;
 
-import com.zaxxer.hikari.HikariDataSource;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.template.domain.analytics.AnalyticsDataRepository;
+import com.template.infrastructure.persistence.entity.AnalyticsDataEntity;
+import com.template.infrastructure.persistence.jdbc.JdbcAnalyticsDataRepository;
+import com.zaxxer.hikari.HikariConfig;
 import jakarta.persistence.EntityManagerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.orm.jpa.EntityManagerFactoryBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.init.DataSourceInitializer;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
@@ -28,16 +40,11 @@ import java.util.Map;
  * - PostgreSQL JDBC 드라이버 사용
  * - 별도의 EntityManagerFactory 및 TransactionManager 구성
  * - gpdb1 전용 리포지토리 패키지 스캔
+ * <p>
+ * 분석 데이터 리포지토리 엔진은 analytics.repository.engine.gpdb1(JPA | JDBC)로 선택합니다.
  */
 @Configuration
 @EnableTransactionManagement
-@EnableJpaRepositories(
-        // GPDB1 데이터소스를 사용할 JPA 리포지토리가 위치한 패키지
-        basePackages = "com.template.infrastructure.persistence.jpa.gpdb1",
-        // 이 데이터소스 전용 EntityManagerFactory 빈 이름
-        entityManagerFactoryRef = "gpdb1EntityManagerFactory",
-        // 이 데이터소스 전용 TransactionManager 빈 이름
-        transactionManagerRef = "gpdb1TransactionManager")
 public class Gpdb1DataSourceConfig {
 
     /**
@@ -51,55 +58,140 @@ public class Gpdb1DataSourceConfig {
         return new DataSourceProperties();
     }
 
+    /**
+     * GPDB1 커넥션 풀 설정
+     * <p>
+     * application.yml의 spring.datasource.gpdb1.hikari 하위 속성을 바인딩합니다.
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.gpdb1.hikari")
+    public HikariConfig gpdb1HikariConfig() {
+        return new HikariConfig();
+    }
+
     /**
      * GPDB1 HikariCP 데이터소스 생성
      * <p>
      * Greenplum 데이터베이스 전용 커넥션 풀을 구성합니다.
      * PostgreSQL JDBC 드라이버를 사용하여 연결합니다.
+     * 풀 메트릭(hikaricp.*)은 pool 태그(기본값: gpdb1)로 구분되어 노출됩니다.
      */
     @Bean
     public DataSource gpdb1DataSource() {
-        return gpdb1DataSourceProperties()
-                .initializeDataSourceBuilder()
-                .type(HikariDataSource.class)
-                .build();
+        return HikariDataSources.create(gpdb1DataSourceProperties(), gpdb1HikariConfig(), "gpdb1");
     }
 
+    // ===================================================
+    // 분석 데이터 리포지토리 엔진
+    // ===================================================
+
     /**
-     * GPDB1 EntityManagerFactory 생성
+     * JPA 엔진 (기본값)
      * <p>
-     * PostgreSQL/Greenplum용 Hibernate 방언을 설정합니다.
-     * 대용량 분석 쿼리에 최적화된 설정을 적용할 수 있습니다.
+     * GPDB1 전용 EntityManagerFactory, JpaTransactionManager, JPAQueryFactory와
+     * gpdb1 패키지의 JPA 리포지토리를 등록합니다.
      */
-    @Bean
-    public LocalContainerEntityManagerFactoryBean gpdb1EntityManagerFactory(
-            EntityManagerFactoryBuilder builder,
-            @Qualifier("gpdb1DataSource") DataSource dataSource) {
-
-        Map<String, Object> properties = new HashMap<>();
-        // PostgreSQL(Greenplum) 데이터베이스용 Hibernate 방언 설정
-        properties.put("hibernate.dialect", "org.hibernate.dialect.PostgreSQLDialect");
-
-        return builder
-                .dataSource(dataSource)
-                // GPDB1 데이터소스가 관리할 엔티티 패키지 경로
-                // 필요에 따라 별도의 엔티티 패키지를 지정할 수 있습니다
-                .packages("com.template.infrastructure.persistence.entity")
-                // 영속성 유닛 이름 (JPA 내부 식별자)
-                .persistenceUnit("gpdb1")
-                .properties(properties)
-                .build();
+    @Configuration
+    @ConditionalOnProperty(name = "analytics.repository.engine.gpdb1", havingValue = "JPA", matchIfMissing = true)
+    @EnableJpaRepositories(
+            // GPDB1 데이터소스를 사용할 JPA 리포지토리가 위치한 패키지
+            basePackages = "com.template.infrastructure.persistence.jpa.gpdb1",
+            // 이 데이터소스 전용 EntityManagerFactory 빈 이름
+            entityManagerFactoryRef = "gpdb1EntityManagerFactory",
+            // 이 데이터소스 전용 TransactionManager 빈 이름
+            transactionManagerRef = "gpdb1TransactionManager")
+    static class JpaEngineConfig {
+
+        /**
+         * GPDB1 EntityManagerFactory 생성
+         * <p>
+         * PostgreSQL/Greenplum용 Hibernate 방언을 설정합니다.
+         * 대용량 분석 쿼리에 최적화된 설정을 적용할 수 있습니다.
+         */
+        @Bean
+        public LocalContainerEntityManagerFactoryBean gpdb1EntityManagerFactory(
+                EntityManagerFactoryBuilder builder,
+                @Qualifier("gpdb1DataSource") DataSource dataSource) {
+
+            Map<String, Object> properties = new HashMap<>();
+            // PostgreSQL(Greenplum) 데이터베이스용 Hibernate 방언 설정
+            properties.put("hibernate.dialect", "org.hibernate.dialect.PostgreSQLDialect");
+            // 시퀀스 값을 블록의 첫 ID로 사용 (COPY 적재기, JDBC 엔진과 같은 ID 블록 규칙)
+            properties.put("hibernate.id.optimizer.pooled.preferred", "pooled-lo");
+
+            return builder
+                    .dataSource(dataSource)
+                    // GPDB1 데이터소스가 관리할 엔티티 (ddl-auto가 다른 유닛의 테이블을 만들지 않도록 패키지 전체가 아닌 클래스로 지정)
+                    .managedTypes(PersistenceManagedTypes.of(AnalyticsDataEntity.class.getName()))
+                    // 영속성 유닛 이름 (JPA 내부 식별자)
+                    .persistenceUnit("gpdb1")
+                    .properties(properties)
+                    .build();
+        }
+
+        /**
+         * GPDB1 트랜잭션 매니저 생성
+         * <p>
+         * GPDB1 관련 트랜잭션을 관리합니다.
+         * @Transactional("gpdb1TransactionManager") 형태로 명시적으로 지정하여 사용합니다.
+         */
+        @Bean
+        public PlatformTransactionManager gpdb1TransactionManager(
+                @Qualifier("gpdb1EntityManagerFactory") EntityManagerFactory entityManagerFactory) {
+            return new JpaTransactionManager(entityManagerFactory);
+        }
+
+        /**
+         * GPDB1 영속성 유닛용 JPAQueryFactory
+         */
+        @Bean
+        public JPAQueryFactory gpdb1JpaQueryFactory(
+                @Qualifier("gpdb1EntityManagerFactory") EntityManagerFactory entityManagerFactory) {
+            return new JPAQueryFactory(SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory));
+        }
     }
 
     /**
-     * GPDB1 트랜잭션 매니저 생성
+     * JDBC 엔진 (analytics.repository.engine.gpdb1=JDBC)
      * <p>
-     * GPDB1 관련 트랜잭션을 관리합니다.
-     * @Transactional("gpdb1TransactionManager") 형태로 명시적으로 지정하여 사용합니다.
+     * EntityManagerFactory 없이 {@link JdbcAnalyticsDataRepository}와
+     * DataSourceTransactionManager를 같은 빈 이름으로 등록하므로 사용처는 변경할 필요가 없습니다.
+     * Hibernate가 스키마를 만들지 않으므로, analytics.repository.init-schema=true이면
+     * 시작 시 db/analytics-schema.sql을 실행합니다.
      */
-    @Bean
-    public PlatformTransactionManager gpdb1TransactionManager(
-            @Qualifier("gpdb1EntityManagerFactory") EntityManagerFactory entityManagerFactory) {
-        return new JpaTransactionManager(entityManagerFactory);
+    @Configuration
+    @ConditionalOnProperty(name = "analytics.repository.engine.gpdb1", havingValue = "JDBC")
+    static class JdbcEngineConfig {
+
+        /**
+         * GPDB1 트랜잭션 매니저 (JDBC 커넥션 트랜잭션)
+         */
+        @Bean
+        public PlatformTransactionManager gpdb1TransactionManager(@Qualifier("gpdb1DataSource") DataSource dataSource) {
+            return new DataSourceTransactionManager(dataSource);
+        }
+
+        /**
+         * GPDB1 분석 데이터 리포지토리 (JDBC 배치 크기, fetch size는 JPA 엔진과 같은 설정 사용)
+         */
+        @Bean
+        public AnalyticsDataRepository gpdb1AnalyticsDataRepository(
+                @Qualifier("gpdb1DataSource") DataSource dataSource,
+                @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:500}") int batchSize,
+                @Value("${analytics.export.fetch-size:1000}") int fetchSize) {
+            return new JdbcAnalyticsDataRepository(dataSource, batchSize, fetchSize);
+        }
+
+        /**
+         * 분석 데이터 스키마 생성 (로컬 H2 등 스키마가 없는 환경용)
+         */
+        @Bean
+        @ConditionalOnProperty(name = "analytics.repository.init-schema", havingValue = "true")
+        public DataSourceInitializer gpdb1AnalyticsSchemaInitializer(@Qualifier("gpdb1DataSource") DataSource dataSource) {
+            DataSourceInitializer initializer = new DataSourceInitializer();
+            initializer.setDataSource(dataSource);
+            initializer.setDatabasePopulator(new ResourceDatabasePopulator(new ClassPathResource("db/analytics-schema.sql")));
+            return initializer;
+        }
     }
 }
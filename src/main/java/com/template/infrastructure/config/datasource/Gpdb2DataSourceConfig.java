@@ -1,16 +1,28 @@
 package com.template.infrastructure.config.datasource;
 
-import com.zaxxer.hikari.HikariDataSource;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.template.domain.analytics.AnalyticsDataRepository;
+import com.template.infrastructure.persistence.entity.AnalyticsDataEntity;
+import com.template.infrastructure.persistence.jdbc.JdbcAnalyticsDataRepository;
+import com.zaxxer.hikari.HikariConfig;
 import jakarta.persistence.EntityManagerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.orm.jpa.EntityManagerFactoryBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.init.DataSourceInitializer;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
@@ -31,13 +43,6 @@ import java.util.Map;
  */
 @Configuration
 @EnableTransactionManagement
-@EnableJpaRepositories(
-        // GPDB2 데이터소스를 사용할 JPA 리포지토리가 위치한 패키지
-        basePackages = "com.template.infrastructure.persistence.jpa.gpdb2",
-        // 이 데이터소스 전용 EntityManagerFactory 빈 이름
-        entityManagerFactoryRef = "gpdb2EntityManagerFactory",
-        // 이 데이터소스 전용 TransactionManager 빈 이름
-        transactionManagerRef = "gpdb2TransactionManager")
 public class Gpdb2DataSourceConfig {
 
     /**
@@ -51,52 +56,138 @@ public class Gpdb2DataSourceConfig {
         return new DataSourceProperties();
     }
 
+    /**
+     * GPDB2 커넥션 풀 설정
+     * <p>
+     * application.yml의 spring.datasource.gpdb2.hikari 하위 속성을 바인딩합니다.
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.gpdb2.hikari")
+    public HikariConfig gpdb2HikariConfig() {
+        return new HikariConfig();
+    }
+
     /**
      * GPDB2 HikariCP 데이터소스 생성
      * <p>
      * 두 번째 Greenplum 데이터베이스 전용 커넥션 풀을 구성합니다.
+     * 풀 메트릭(hikaricp.*)은 pool 태그(기본값: gpdb2)로 구분되어 노출됩니다.
      */
     @Bean
     public DataSource gpdb2DataSource() {
-        return gpdb2DataSourceProperties()
-                .initializeDataSourceBuilder()
-                .type(HikariDataSource.class)
-                .build();
+        return HikariDataSources.create(gpdb2DataSourceProperties(), gpdb2HikariConfig(), "gpdb2");
     }
 
+    // ===================================================
+    // 분석 데이터 리포지토리 엔진
+    // ===================================================
+
     /**
-     * GPDB2 EntityManagerFactory 생성
+     * JPA 엔진 (기본값)
      * <p>
-     * PostgreSQL/Greenplum용 Hibernate 방언을 설정합니다.
+     * GPDB2 전용 EntityManagerFactory, JpaTransactionManager, JPAQueryFactory와
+     * gpdb2 패키지의 JPA 리포지토리를 등록합니다.
      */
-    @Bean
-    public LocalContainerEntityManagerFactoryBean gpdb2EntityManagerFactory(
-            EntityManagerFactoryBuilder builder,
-            @Qualifier("gpdb2DataSource") DataSource dataSource) {
-
-        Map<String, Object> properties = new HashMap<>();
-        // PostgreSQL(Greenplum) 데이터베이스용 Hibernate 방언 설정
-        properties.put("hibernate.dialect", "org.hibernate.dialect.PostgreSQLDialect");
-
-        return builder
-                .dataSource(dataSource)
-                // GPDB2 데이터소스가 관리할 엔티티 패키지 경로
-                .packages("com.template.infrastructure.persistence.entity")
-                // 영속성 유닛 이름 (JPA 내부 식별자)
-                .persistenceUnit("gpdb2")
-                .properties(properties)
-                .build();
+    @Configuration
+    @ConditionalOnProperty(name = "analytics.repository.engine.gpdb2", havingValue = "JPA", matchIfMissing = true)
+    @EnableJpaRepositories(
+            // GPDB2 데이터소스를 사용할 JPA 리포지토리가 위치한 패키지
+            basePackages = "com.template.infrastructure.persistence.jpa.gpdb2",
+            // 이 데이터소스 전용 EntityManagerFactory 빈 이름
+            entityManagerFactoryRef = "gpdb2EntityManagerFactory",
+            // 이 데이터소스 전용 TransactionManager 빈 이름
+            transactionManagerRef = "gpdb2TransactionManager")
+    static class JpaEngineConfig {
+
+        /**
+         * GPDB2 EntityManagerFactory 생성
+         * <p>
+         * PostgreSQL/Greenplum용 Hibernate 방언을 설정합니다.
+         */
+        @Bean
+        public LocalContainerEntityManagerFactoryBean gpdb2EntityManagerFactory(
+                EntityManagerFactoryBuilder builder,
+                @Qualifier("gpdb2DataSource") DataSource dataSource) {
+
+            Map<String, Object> properties = new HashMap<>();
+            // PostgreSQL(Greenplum) 데이터베이스용 Hibernate 방언 설정
+            properties.put("hibernate.dialect", "org.hibernate.dialect.PostgreSQLDialect");
+            // 시퀀스 값을 블록의 첫 ID로 사용 (COPY 적재기, JDBC 엔진과 같은 ID 블록 규칙)
+            properties.put("hibernate.id.optimizer.pooled.preferred", "pooled-lo");
+
+            return builder
+                    .dataSource(dataSource)
+                    // GPDB2 데이터소스가 관리할 엔티티 (ddl-auto가 다른 유닛의 테이블을 만들지 않도록 패키지 전체가 아닌 클래스로 지정)
+                    .managedTypes(PersistenceManagedTypes.of(AnalyticsDataEntity.class.getName()))
+                    // 영속성 유닛 이름 (JPA 내부 식별자)
+                    .persistenceUnit("gpdb2")
+                    .properties(properties)
+                    .build();
+        }
+
+        /**
+         * GPDB2 트랜잭션 매니저 생성
+         * <p>
+         * GPDB2 관련 트랜잭션을 관리합니다.
+         * @Transactional("gpdb2TransactionManager") 형태로 명시적으로 지정하여 사용합니다.
+         */
+        @Bean
+        public PlatformTransactionManager gpdb2TransactionManager(
+                @Qualifier("gpdb2EntityManagerFactory") EntityManagerFactory entityManagerFactory) {
+            return new JpaTransactionManager(entityManagerFactory);
+        }
+
+        /**
+         * GPDB2 영속성 유닛용 JPAQueryFactory
+         */
+        @Bean
+        public JPAQueryFactory gpdb2JpaQueryFactory(
+                @Qualifier("gpdb2EntityManagerFactory") EntityManagerFactory entityManagerFactory) {
+            return new JPAQueryFactory(SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory));
+        }
     }
 
     /**
-     * GPDB2 트랜잭션 매니저 생성
+     * JDBC 엔진 (analytics.repository.engine.gpdb2=JDBC)
      * <p>
-     * GPDB2 관련 트랜잭션을 관리합니다.
-     * @Transactional("gpdb2TransactionManager") 형태로 명시적으로 지정하여 사용합니다.
+     * EntityManagerFactory 없이 {@link JdbcAnalyticsDataRepository}와
+     * DataSourceTransactionManager를 같은 빈 이름으로 등록하므로 사용처는 변경할 필요가 없습니다.
+     * Hibernate가 스키마를 만들지 않으므로, analytics.repository.init-schema=true이면
+     * 시작 시 db/analytics-schema.sql을 실행합니다.
      */
-    @Bean
-    public PlatformTransactionManager gpdb2TransactionManager(
-            @Qualifier("gpdb2EntityManagerFactory") EntityManagerFactory entityManagerFactory) {
-        return new JpaTransactionManager(entityManagerFactory);
+    @Configuration
+    @ConditionalOnProperty(name = "analytics.repository.engine.gpdb2", havingValue = "JDBC")
+    static class JdbcEngineConfig {
+
+        /**
+         * GPDB2 트랜잭션 매니저 (JDBC 커넥션 트랜잭션)
+         */
+        @Bean
+        public PlatformTransactionManager gpdb2TransactionManager(@Qualifier("gpdb2DataSource") DataSource dataSource) {
+            return new DataSourceTransactionManager(dataSource);
+        }
+
+        /**
+         * GPDB2 분석 데이터 리포지토리 (JDBC 배치 크기, fetch size는 JPA 엔진과 같은 설정 사용)
+         */
+        @Bean
+        public AnalyticsDataRepository gpdb2AnalyticsDataRepository(
+                @Qualifier("gpdb2DataSource") DataSource dataSource,
+                @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:500}") int batchSize,
+                @Value("${analytics.export.fetch-size:1000}") int fetchSize) {
+            return new JdbcAnalyticsDataRepository(dataSource, batchSize, fetchSize);
+        }
+
+        /**
+         * 분석 데이터 스키마 생성 (로컬 H2 등 스키마가 없는 환경용)
+         */
+        @Bean
+        @ConditionalOnProperty(name = "analytics.repository.init-schema", havingValue = "true")
+        public DataSourceInitializer gpdb2AnalyticsSchemaInitializer(@Qualifier("gpdb2DataSource") DataSource dataSource) {
+            DataSourceInitializer initializer = new DataSourceInitializer();
+            initializer.setDataSource(dataSource);
+            initializer.setDatabasePopulator(new ResourceDatabasePopulator(new ClassPathResource("db/analytics-schema.sql")));
+            return initializer;
+        }
     }
 }
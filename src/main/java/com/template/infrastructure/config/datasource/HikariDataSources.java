@@ -0,0 +1,35 @@
+package com.template.infrastructure.config.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+
+/**
+ * HikariCP 데이터소스 생성 헬퍼
+ * <p>
+ * 연결 정보(spring.datasource.{name}.*)와 풀 설정(spring.datasource.{name}.hikari.*)을
+ * 합쳐 HikariDataSource를 생성합니다. 풀은 첫 커넥션 요청 시 시작됩니다.
+ */
+final class HikariDataSources {
+
+    private HikariDataSources() {
+    }
+
+    /**
+     * @param connection      연결 정보 (url, username, password, driver-class-name)
+     * @param pool            풀 설정 (maximum-pool-size, minimum-idle, connection-timeout 등)
+     * @param defaultPoolName pool-name 미지정 시 사용할 풀 이름 (로그, 메트릭 태그)
+     */
+    static HikariDataSource create(DataSourceProperties connection, HikariConfig pool, String defaultPoolName) {
+        HikariDataSource dataSource = new HikariDataSource();
+        pool.copyStateTo(dataSource);
+        dataSource.setJdbcUrl(connection.determineUrl());
+        dataSource.setUsername(connection.determineUsername());
+        dataSource.setPassword(connection.determinePassword());
+        dataSource.setDriverClassName(connection.determineDriverClassName());
+        if (dataSource.getPoolName() == null) {
+            dataSource.setPoolName(defaultPoolName);
+        }
+        return dataSource;
+    }
+}
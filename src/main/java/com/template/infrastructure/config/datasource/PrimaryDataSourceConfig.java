@@ -1,7 +1,9 @@
 package com.template.infrastructure.config.datasource;
 
-import com.zaxxer.hikari.HikariDataSource;
+import com.template.infrastructure.persistence.entity.SampleEntity;
+import com.zaxxer.hikari.HikariConfig;
 import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -12,6 +14,7 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
@@ -60,11 +63,26 @@ public class PrimaryDataSourceConfig {
         return new DataSourceProperties();
     }
 
+    /**
+     * Primary 커넥션 풀 설정
+     * <p>
+     * application.yml의 spring.datasource.primary.hikari 하위 속성을 바인딩합니다.
+     * - maximum-pool-size, minimum-idle: 풀 크기
+     * - connection-timeout: 커넥션 획득 대기 시간
+     * - leak-detection-threshold: 커넥션 누수 감지 시간
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.primary.hikari")
+    public HikariConfig primaryHikariConfig() {
+        return new HikariConfig();
+    }
+
     /**
      * Primary HikariCP 데이터소스 생성
      * <p>
      * HikariCP는 고성능의 JDBC 커넥션 풀 라이브러리입니다.
      * Spring Boot 2.x부터 기본 커넥션 풀로 채택되었습니다.
+     * 풀 메트릭(hikaricp.*)은 pool 태그(기본값: primary)로 구분되어 노출됩니다.
      * <p>
      * 
      * @Primary 어노테이션으로 기본 DataSource로 지정됩니다.
@@ -72,10 +90,7 @@ public class PrimaryDataSourceConfig {
     @Primary
     @Bean
     public DataSource primaryDataSource() {
-        return primaryDataSourceProperties()
-                .initializeDataSourceBuilder()
-                .type(HikariDataSource.class)
-                .build();
+        return HikariDataSources.create(primaryDataSourceProperties(), primaryHikariConfig(), "primary");
     }
 
     /**
@@ -83,20 +98,24 @@ public class PrimaryDataSourceConfig {
      * <p>
      * JPA의 핵심 구성 요소로, 엔티티의 생명주기를 관리합니다.
      * Oracle 데이터베이스에 특화된 Hibernate 방언(Dialect)을 설정합니다.
+     * <p>
+     * 읽기 복제본이 활성화되어 있으면(datasource.read-replica.enabled=true)
+     * 읽기 전용 트랜잭션을 복제본으로 보내는 primaryRoutingDataSource를 사용합니다.
      */
     @Primary
     @Bean
     public LocalContainerEntityManagerFactoryBean primaryEntityManagerFactory(
-            EntityManagerFactoryBuilder builder) {
+            EntityManagerFactoryBuilder builder,
+            @Qualifier("primaryRoutingDataSource") ObjectProvider<DataSource> primaryRoutingDataSource) {
 
         Map<String, Object> properties = new HashMap<>();
         // Oracle 데이터베이스용 Hibernate 방언 설정
         properties.put("hibernate.dialect", "org.hibernate.dialect.OracleDialect");
 
         return builder
-                .dataSource(primaryDataSource())
-                // Primary 데이터소스가 관리할 엔티티 패키지 경로
-                .packages("com.template.infrastructure.persistence.entity")
+                .dataSource(primaryRoutingDataSource.getIfAvailable(this::primaryDataSource))
+                // Primary 데이터소스가 관리할 엔티티 (ddl-auto가 다른 유닛의 테이블을 만들지 않도록 패키지 전체가 아닌 클래스로 지정)
+                .managedTypes(PersistenceManagedTypes.of(SampleEntity.class.getName()))
                 // 영속성 유닛 이름 (JPA 내부 식별자)
                 .persistenceUnit("primary")
                 .properties(properties)
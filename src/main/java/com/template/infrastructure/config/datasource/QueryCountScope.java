@@ -0,0 +1,90 @@
+package com.template.infrastructure.config.datasource;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요청 단위 SQL 실행 횟수 집계 (N+1 감지용)
+ * <p>
+ * {@link RepeatedQueryDetectionFilter}가 요청 시작 시 현재 스레드에 열고, 요청 종료 시 닫습니다.
+ * 열린 범위가 없으면(스케줄러, 다른 스레드 등) 집계하지 않습니다.
+ * 한 요청은 한 스레드에서 처리되므로 내부 맵은 동기화하지 않습니다.
+ */
+final class QueryCountScope {
+
+    private static final ThreadLocal<QueryCountScope> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, Count> counts = new HashMap<>();
+
+    private QueryCountScope() {
+    }
+
+    /**
+     * 현재 스레드에 집계 범위 열기
+     */
+    static QueryCountScope open() {
+        QueryCountScope scope = new QueryCountScope();
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * 현재 스레드의 집계 범위 닫기
+     */
+    void close() {
+        CURRENT.remove();
+    }
+
+    /**
+     * SQL 실행 1회 기록 (열린 범위가 없으면 무시)
+     */
+    static void record(String dataSource, SqlStatementShape shape) {
+        QueryCountScope scope = CURRENT.get();
+        if (scope != null) {
+            scope.counts.computeIfAbsent(dataSource + '\u0000' + shape.sql(), key -> new Count(dataSource, shape))
+                    .executions++;
+        }
+    }
+
+    /**
+     * threshold번을 넘게 실행된 SQL 형태 목록
+     */
+    List<Count> repeatedMoreThan(int threshold) {
+        List<Count> repeated = new ArrayList<>();
+        for (Count count : counts.values()) {
+            if (count.executions > threshold) {
+                repeated.add(count);
+            }
+        }
+        return repeated;
+    }
+
+    /**
+     * 데이터소스별 SQL 형태 실행 횟수
+     */
+    static final class Count {
+
+        private final String dataSource;
+        private final SqlStatementShape shape;
+        private int executions;
+
+        private Count(String dataSource, SqlStatementShape shape) {
+            this.dataSource = dataSource;
+            this.shape = shape;
+        }
+
+        String dataSource() {
+            return dataSource;
+        }
+
+        SqlStatementShape shape() {
+            return shape;
+        }
+
+        int executions() {
+            return executions;
+        }
+    }
+}
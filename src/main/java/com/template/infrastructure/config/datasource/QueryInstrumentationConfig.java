@@ -0,0 +1,127 @@
+package com.template.infrastructure.config.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * JDBC 쿼리 계측 설정
+ * <p>
+ * datasource.query-instrumentation.enabled=true(기본값)이면 Primary, GPDB1, GPDB2 데이터소스를
+ * {@link QueryInstrumentedDataSource}로 감싸 SQL 실행 시간/행 수 메트릭과 느린 쿼리 로그를 남기고,
+ * {@link RepeatedQueryDetectionFilter}로 요청 단위 반복 SQL(N+1)을 감지합니다.
+ * spring.jpa.show-sql(모든 SQL을 표준 출력에 기록)을 대체합니다.
+ * <p>
+ * <b>감싸는 순서:</b>
+ * 이 후처리기는 Ordered로 동시 커넥션 제한({@link DataSourceConcurrencyLimitConfig})보다 먼저 적용되므로
+ * 계측 데이터소스가 안쪽에 위치합니다. 커넥션 풀 자동 크기 조정은 바깥의 제한 데이터소스를 그대로 찾고,
+ * unwrap(HikariDataSource.class)은 계측 데이터소스를 거쳐 풀까지 위임됩니다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = QueryInstrumentationProperties.PREFIX, name = "enabled",
+        havingValue = "true", matchIfMissing = true)
+public class QueryInstrumentationConfig {
+
+    private static final Set<String> TARGET_DATA_SOURCES =
+            Set.of("primaryDataSource", "gpdb1DataSource", "gpdb2DataSource");
+
+    /**
+     * 데이터소스 빈을 계측 데이터소스로 감싸는 후처리기
+     * <p>
+     * 다른 빈보다 먼저 생성되어야 하므로 static으로 선언합니다.
+     */
+    @Bean
+    public static BeanPostProcessor dataSourceQueryInstrumentation(Environment environment) {
+        return new InstrumentingPostProcessor(properties(environment));
+    }
+
+    /**
+     * 계측 데이터소스의 메트릭 기록 시작
+     */
+    @Bean
+    public MeterBinder dataSourceQueryMetrics(ObjectProvider<DataSource> dataSources) {
+        return registry -> {
+            Set<QueryInstrumentedDataSource> bound = Collections.newSetFromMap(new IdentityHashMap<>());
+            dataSources.forEach(dataSource -> {
+                try {
+                    if (dataSource.isWrapperFor(QueryInstrumentedDataSource.class)) {
+                        QueryInstrumentedDataSource instrumented = dataSource.unwrap(QueryInstrumentedDataSource.class);
+                        if (bound.add(instrumented)) {
+                            instrumented.bindTo(registry);
+                        }
+                    }
+                } catch (SQLException | RuntimeException e) {
+                    log.warn("[DataSource] 쿼리 메트릭 등록 실패: {}", e.getMessage());
+                }
+            });
+        };
+    }
+
+    /**
+     * 요청 단위 반복 SQL(N+1) 감지 필터
+     */
+    @Bean
+    public RepeatedQueryDetectionFilter repeatedQueryDetectionFilter(Environment environment, MeterRegistry meterRegistry) {
+        return new RepeatedQueryDetectionFilter(properties(environment).getRepeatedThreshold(), meterRegistry);
+    }
+
+    static QueryInstrumentationProperties properties(Environment environment) {
+        return Binder.get(environment)
+                .bind(QueryInstrumentationProperties.PREFIX, QueryInstrumentationProperties.class)
+                .orElseGet(QueryInstrumentationProperties::new);
+    }
+
+    /**
+     * 계측 데이터소스로 감싸기 (빈이 아닌 복제본 풀에도 사용)
+     *
+     * @param name       데이터소스 이름 (slow-thresholds 키, 메트릭 태그)
+     * @param dataSource 감쌀 데이터소스
+     */
+    static QueryInstrumentedDataSource instrument(
+            String name, DataSource dataSource, QueryInstrumentationProperties properties) {
+        log.info("[DataSource] {} 쿼리 계측 적용: slowThreshold={}, repeatedThreshold={}",
+                name, properties.slowThresholdOf(name), properties.getRepeatedThreshold());
+        return new QueryInstrumentedDataSource(name, dataSource, properties.slowThresholdOf(name),
+                properties.getMaxStatements(), properties.getMaxSqlLength());
+    }
+
+    /**
+     * 계측 데이터소스 적용 (동시 커넥션 제한보다 먼저 적용되도록 Ordered 구현)
+     */
+    private static final class InstrumentingPostProcessor implements BeanPostProcessor, Ordered {
+
+        private final QueryInstrumentationProperties properties;
+
+        private InstrumentingPostProcessor(QueryInstrumentationProperties properties) {
+            this.properties = properties;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!TARGET_DATA_SOURCES.contains(beanName) || !(bean instanceof DataSource dataSource)) {
+                return bean;
+            }
+            return instrument(beanName, dataSource, properties);
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+}
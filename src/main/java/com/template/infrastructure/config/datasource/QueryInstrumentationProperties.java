@@ -0,0 +1,58 @@
+package com.template.infrastructure.config.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JDBC 쿼리 계측 설정
+ * <p>
+ * application.yml의 datasource.query-instrumentation.* 속성과 바인딩됩니다.
+ * (BeanPostProcessor에서 사용하므로 Binder로 직접 바인딩합니다)
+ */
+@Getter
+@Setter
+public class QueryInstrumentationProperties {
+
+    public static final String PREFIX = "datasource.query-instrumentation";
+
+    /**
+     * 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 느린 쿼리 로그 기준 실행 시간 (slowThresholds에 없는 데이터소스에 적용)
+     */
+    private Duration slowThreshold = Duration.ofSeconds(1);
+
+    /**
+     * 데이터소스 빈 이름별 느린 쿼리 기준 실행 시간
+     */
+    private Map<String, Duration> slowThresholds = new HashMap<>();
+
+    /**
+     * 한 요청에서 같은 형태의 SQL이 이 횟수를 넘게 실행되면 경고합니다 (N+1 감지, 0이면 사용 안 함)
+     */
+    private int repeatedThreshold = 10;
+
+    /**
+     * 데이터소스별로 개별 statement 태그를 부여할 SQL 형태 수 (초과분은 _other로 합산)
+     */
+    private int maxStatements = 500;
+
+    /**
+     * 로그에 남길 SQL 최대 길이
+     */
+    private int maxSqlLength = 2000;
+
+    /**
+     * 데이터소스의 느린 쿼리 기준 실행 시간
+     */
+    public Duration slowThresholdOf(String beanName) {
+        return slowThresholds.getOrDefault(beanName, slowThreshold);
+    }
+}
@@ -0,0 +1,423 @@
+package com.template.infrastructure.config.datasource;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * JDBC 쿼리 계측 데이터소스
+ * <p>
+ * 커넥션, Statement, ResultSet을 프록시로 감싸 실제로 실행되는 SQL을 계측합니다.
+ * Hibernate, JdbcTemplate, MyBatis 등 사용 기술과 무관하게 같은 기준으로 측정됩니다.
+ * <ul>
+ * <li><b>jdbc.query:</b> 실행 시간 (datasource, statement, operation 태그)</li>
+ * <li><b>jdbc.query.rows:</b> 조회 행 수(ResultSet을 읽은 행) 또는 변경 행 수</li>
+ * <li><b>느린 쿼리 로그:</b> 실행 시간이 기준을 넘으면 datasource, elapsedMs, rows, statementId, sql을
+ * 구조화된 필드로 기록합니다. 조회는 ResultSet을 닫을 때 행 수와 함께 기록합니다</li>
+ * <li><b>N+1 감지:</b> 실행마다 {@link QueryCountScope}에 SQL 형태를 기록합니다</li>
+ * </ul>
+ * SQL은 {@link SqlStatementShape}으로 리터럴을 제거한 형태로만 기록하므로 로그에 값이 남지 않습니다.
+ * statement 태그는 형태 식별자이며, 형태 수가 maxStatements를 넘으면 _other로 합산합니다.
+ * <p>
+ * 메트릭은 {@link #bindTo(MeterRegistry)} 이후부터 기록합니다. (기동 중 스키마 생성 등은 제외)
+ * COPY 등 unwrap으로 드라이버 커넥션을 직접 사용하는 경로는 계측되지 않습니다.
+ */
+@Slf4j
+public class QueryInstrumentedDataSource extends DelegatingDataSource {
+
+    private static final String OTHER_STATEMENT = "_other";
+
+    private final String name;
+    private final long slowThresholdNanos;
+    private final int maxStatements;
+    private final int maxSqlLength;
+
+    /**
+     * 원본 SQL → 통계 (같은 SQL 재정규화 방지)
+     */
+    private final ConcurrentMap<String, StatementStats> bySql = new ConcurrentHashMap<>();
+
+    /**
+     * SQL 형태 → 통계 (개별 statement 태그를 가진 형태만 보관)
+     */
+    private final ConcurrentMap<String, StatementStats> byShape = new ConcurrentHashMap<>();
+
+    private volatile MeterRegistry registry;
+
+    /**
+     * @param name             데이터소스 빈 이름 (메트릭 태그, 로그용)
+     * @param targetDataSource 실제 데이터소스
+     * @param slowThreshold    느린 쿼리 로그 기준 실행 시간
+     * @param maxStatements    개별 statement 태그를 부여할 SQL 형태 수
+     * @param maxSqlLength     로그에 남길 SQL 최대 길이
+     */
+    public QueryInstrumentedDataSource(
+            String name, DataSource targetDataSource, Duration slowThreshold, int maxStatements, int maxSqlLength) {
+        super(targetDataSource);
+        this.name = name;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.maxStatements = maxStatements;
+        this.maxSqlLength = maxSqlLength;
+    }
+
+    /**
+     * 메트릭 기록 시작
+     */
+    public void bindTo(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return instrumented(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return instrumented(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    // ==================== 프록시 ====================
+
+    private Connection instrumented(Connection target) {
+        return (Connection) Proxy.newProxyInstance(
+                ConnectionProxy.class.getClassLoader(),
+                new Class<?>[]{ConnectionProxy.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "createStatement" -> instrumented(
+                            (Statement) invoke(target, method, args), (Connection) proxy, null);
+                    case "prepareStatement", "prepareCall" -> instrumented(
+                            (Statement) invoke(target, method, args), (Connection) proxy, statsOf((String) args[0]));
+                    case "getTargetConnection" -> target;
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "toString" -> "Instrumented connection [" + name + "]: " + target;
+                    default -> invoke(target, method, args);
+                });
+    }
+
+    private Statement instrumented(Statement target, Connection connection, StatementStats prepared) {
+        Class<?> type = target instanceof CallableStatement ? CallableStatement.class
+                : target instanceof PreparedStatement ? PreparedStatement.class
+                : Statement.class;
+        return (Statement) Proxy.newProxyInstance(
+                ConnectionProxy.class.getClassLoader(),
+                new Class<?>[]{type},
+                new StatementHandler(target, connection, prepared));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    /**
+     * Statement 실행 계측
+     */
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final Connection connection;
+        private final StatementStats prepared;
+
+        /**
+         * 일반 Statement의 addBatch(sql) 중 첫 SQL (executeBatch 시 형태로 사용)
+         */
+        private String batchSql;
+
+        /**
+         * execute() 결과가 ResultSet인 실행 (getResultSet 호출 시 행 수 집계 시작)
+         */
+        private Execution pendingQuery;
+
+        private ResultSetHandler openResultSet;
+
+        private StatementHandler(Statement target, Connection connection, StatementStats prepared) {
+            this.target = target;
+            this.connection = connection;
+            this.prepared = prepared;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            return switch (method.getName()) {
+                case "executeQuery" -> {
+                    Execution execution = execution(args);
+                    yield wrap((ResultSet) execution.run(target, method, args), (Statement) proxy, execution);
+                }
+                case "execute" -> {
+                    Execution execution = execution(args);
+                    boolean hasResultSet = (Boolean) execution.run(target, method, args);
+                    if (hasResultSet) {
+                        pendingQuery = execution;
+                    } else {
+                        execution.complete(target.getUpdateCount());
+                    }
+                    yield hasResultSet;
+                }
+                case "executeUpdate", "executeLargeUpdate" -> {
+                    Execution execution = execution(args);
+                    Object result = execution.run(target, method, args);
+                    execution.complete(((Number) result).longValue());
+                    yield result;
+                }
+                case "executeBatch", "executeLargeBatch" -> {
+                    Execution execution = execution(args);
+                    batchSql = null;
+                    Object result = execution.run(target, method, args);
+                    execution.complete(batchRows(result));
+                    yield result;
+                }
+                case "addBatch" -> {
+                    if (args != null && args.length == 1 && batchSql == null) {
+                        batchSql = (String) args[0];
+                    }
+                    yield QueryInstrumentedDataSource.invoke(target, method, args);
+                }
+                case "getResultSet" -> {
+                    ResultSet resultSet = (ResultSet) QueryInstrumentedDataSource.invoke(target, method, args);
+                    if (resultSet == null || pendingQuery == null) {
+                        yield resultSet;
+                    }
+                    Execution execution = pendingQuery;
+                    pendingQuery = null;
+                    yield wrap(resultSet, (Statement) proxy, execution);
+                }
+                case "close" -> {
+                    finishOpenResultSet();
+                    yield QueryInstrumentedDataSource.invoke(target, method, args);
+                }
+                case "getConnection" -> connection;
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "toString" -> "Instrumented statement [" + name + "]: " + target;
+                default -> QueryInstrumentedDataSource.invoke(target, method, args);
+            };
+        }
+
+        private ResultSet wrap(ResultSet resultSet, Statement statement, Execution execution) {
+            finishOpenResultSet();
+            openResultSet = new ResultSetHandler(resultSet, statement, execution);
+            return (ResultSet) Proxy.newProxyInstance(
+                    ConnectionProxy.class.getClassLoader(), new Class<?>[]{ResultSet.class}, openResultSet);
+        }
+
+        private void finishOpenResultSet() {
+            if (openResultSet != null) {
+                openResultSet.finish();
+                openResultSet = null;
+            }
+        }
+
+        private Execution execution(Object[] args) {
+            if (args != null && args.length > 0 && args[0] instanceof String sql) {
+                return new Execution(statsOf(sql));
+            }
+            if (prepared != null) {
+                return new Execution(prepared);
+            }
+            return new Execution(statsOf(batchSql != null ? batchSql : "batch"));
+        }
+
+        private static long batchRows(Object result) {
+            long rows = 0;
+            if (result instanceof int[] counts) {
+                for (int count : counts) {
+                    rows += Math.max(count, 0);
+                }
+            } else if (result instanceof long[] counts) {
+                for (long count : counts) {
+                    rows += Math.max(count, 0);
+                }
+            }
+            return rows;
+        }
+    }
+
+    /**
+     * ResultSet 행 수 집계 (close 또는 Statement close 시 한 번 기록)
+     */
+    private final class ResultSetHandler implements InvocationHandler {
+
+        private final ResultSet target;
+        private final Statement statement;
+        private final Execution execution;
+        private long rows;
+        private boolean finished;
+
+        private ResultSetHandler(ResultSet target, Statement statement, Execution execution) {
+            this.target = target;
+            this.statement = statement;
+            this.execution = execution;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            return switch (method.getName()) {
+                case "next" -> {
+                    Object hasNext = QueryInstrumentedDataSource.invoke(target, method, args);
+                    if ((Boolean) hasNext) {
+                        rows++;
+                    }
+                    yield hasNext;
+                }
+                case "close" -> {
+                    try {
+                        yield QueryInstrumentedDataSource.invoke(target, method, args);
+                    } finally {
+                        finish();
+                    }
+                }
+                case "getStatement" -> statement;
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "toString" -> "Instrumented result set [" + name + "]: " + target;
+                default -> QueryInstrumentedDataSource.invoke(target, method, args);
+            };
+        }
+
+        private void finish() {
+            if (!finished) {
+                finished = true;
+                if (execution != null) {
+                    execution.complete(rows);
+                }
+            }
+        }
+    }
+
+    // ==================== 기록 ====================
+
+    /**
+     * SQL 1회 실행 (실행 시간은 즉시, 행 수와 느린 쿼리 로그는 complete 시 기록)
+     */
+    private final class Execution {
+
+        private final StatementStats stats;
+        private long elapsedNanos;
+
+        private Execution(StatementStats stats) {
+            this.stats = stats;
+        }
+
+        Object run(Statement target, Method method, Object[] args) throws Throwable {
+            QueryCountScope.record(name, stats.shape);
+            long startedAt = System.nanoTime();
+            try {
+                return QueryInstrumentedDataSource.invoke(target, method, args);
+            } finally {
+                elapsedNanos = System.nanoTime() - startedAt;
+                Timer timer = stats.timer();
+                if (timer != null) {
+                    timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+                }
+            }
+        }
+
+        void complete(long rows) {
+            DistributionSummary rowsSummary = stats.rows();
+            if (rowsSummary != null && rows >= 0) {
+                rowsSummary.record(rows);
+            }
+            if (elapsedNanos >= slowThresholdNanos) {
+                String sql = stats.shape.sql();
+                log.warn("[SlowQuery] {} {} {} {} {}",
+                        kv("datasource", name),
+                        kv("elapsedMs", TimeUnit.NANOSECONDS.toMillis(elapsedNanos)),
+                        kv("rows", rows),
+                        kv("statementId", stats.shape.id()),
+                        kv("sql", sql.length() > maxSqlLength ? sql.substring(0, maxSqlLength) + "..." : sql));
+            }
+        }
+    }
+
+    private StatementStats statsOf(String sql) {
+        StatementStats stats = bySql.get(sql);
+        if (stats != null) {
+            return stats;
+        }
+        SqlStatementShape shape = SqlStatementShape.of(sql);
+        stats = byShape.get(shape.sql());
+        if (stats == null) {
+            stats = byShape.size() < maxStatements
+                    ? byShape.computeIfAbsent(shape.sql(), key -> new StatementStats(shape, shape.id()))
+                    : new StatementStats(shape, OTHER_STATEMENT);
+        }
+        // 동적 SQL(리터럴 포함)로 원본 SQL 캐시가 무한히 커지지 않도록 제한합니다
+        if (bySql.size() < maxStatements * 4) {
+            bySql.putIfAbsent(sql, stats);
+        }
+        return stats;
+    }
+
+    /**
+     * SQL 형태별 메트릭 (MeterRegistry 바인딩 후 첫 기록 시 등록)
+     */
+    private final class StatementStats {
+
+        private final SqlStatementShape shape;
+        private final String statementTag;
+        private volatile Timer timer;
+        private volatile DistributionSummary rows;
+
+        private StatementStats(SqlStatementShape shape, String statementTag) {
+            this.shape = shape;
+            this.statementTag = statementTag;
+        }
+
+        Timer timer() {
+            Timer current = timer;
+            MeterRegistry meterRegistry = registry;
+            if (current == null && meterRegistry != null) {
+                current = Timer.builder("jdbc.query")
+                        .description("SQL 실행 시간")
+                        .tag("datasource", name)
+                        .tag("statement", statementTag)
+                        .tag("operation", shape.operation())
+                        .register(meterRegistry);
+                timer = current;
+            }
+            return current;
+        }
+
+        DistributionSummary rows() {
+            DistributionSummary current = rows;
+            MeterRegistry meterRegistry = registry;
+            if (current == null && meterRegistry != null) {
+                current = DistributionSummary.builder("jdbc.query.rows")
+                        .description("SQL 조회/변경 행 수")
+                        .baseUnit("rows")
+                        .tag("datasource", name)
+                        .tag("statement", statementTag)
+                        .tag("operation", shape.operation())
+                        .register(meterRegistry);
+                rows = current;
+            }
+            return current;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.template.infrastructure.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Primary 읽기 복제본 라우팅 설정
+ * <p>
+ * datasource.read-replica.enabled=true이면 복제본별 HikariCP 풀을 만들고,
+ * Primary EntityManagerFactory가 {@link ReadReplicaRoutingDataSource}를 사용하도록
+ * primaryRoutingDataSource 빈을 등록합니다.
+ * <p>
+ * <b>라우팅 대상:</b>
+ * <ul>
+ *   <li>JPA(Primary 영속성 유닛)의 @Transactional(readOnly = true) → 복제본</li>
+ *   <li>쓰기 트랜잭션, MyBatis 등 primaryDataSource 직접 사용처 → Primary</li>
+ * </ul>
+ * 복제 지연이 있으므로 쓰기 직후 바로 읽어야 하는 조회는 쓰기 트랜잭션 안에서 수행해야 합니다.
+ * <p>
+ * 복제본 풀은 빈이 아니어서 데이터소스 빈 후처리기가 적용되지 않으므로, Primary와 같은 순서로
+ * 쿼리 계측({@link QueryInstrumentedDataSource}) → 동시 커넥션 제한({@link ConcurrencyLimitingDataSource})을
+ * 여기서 직접 적용합니다. 각 설정의 데이터소스별 값(slow-thresholds, max-concurrency)은 복제본 이름을 키로 사용합니다.
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+@ConditionalOnProperty(prefix = "datasource.read-replica", name = "enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    private final ReadReplicaProperties properties;
+    private final Environment environment;
+
+    public ReadReplicaConfig(ReadReplicaProperties properties, Environment environment) {
+        this.properties = properties;
+        this.environment = environment;
+    }
+
+    /**
+     * 읽기/쓰기 라우팅 데이터소스
+     * <p>
+     * 복제본 풀 메트릭(hikaricp.*)은 복제본 이름을 pool 태그로 노출합니다.
+     * 헬스 체크는 빈 자체의 @Scheduled 메서드로 주기 실행됩니다.
+     */
+    @Bean
+    public ReadReplicaRoutingDataSource readReplicaRoutingDataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            MeterRegistry meterRegistry) {
+
+        MicrometerMetricsTrackerFactory metricsTrackerFactory = new MicrometerMetricsTrackerFactory(meterRegistry);
+        QueryInstrumentationProperties instrumentation = QueryInstrumentationConfig.properties(environment);
+        DataSourceConcurrencyLimitProperties concurrencyLimit = DataSourceConcurrencyLimitConfig.properties(environment);
+        List<ReadReplicaRoutingDataSource.Replica> replicas = properties.getReplicas().stream()
+                .map(replica -> {
+                    HikariDataSource pool = createPool(replica, metricsTrackerFactory);
+                    DataSource dataSource = pool;
+                    if (instrumentation.isEnabled()) {
+                        dataSource = QueryInstrumentationConfig.instrument(replica.getName(), dataSource, instrumentation);
+                    }
+                    if (concurrencyLimit.isEnabled()) {
+                        dataSource = DataSourceConcurrencyLimitConfig.limit(
+                                replica.getName(), dataSource, concurrencyLimit);
+                    }
+                    return new ReadReplicaRoutingDataSource.Replica(replica.getName(), pool, dataSource, meterRegistry);
+                })
+                .toList();
+
+        log.info("[ReadReplica] 복제본 {}개 라우팅 활성화: balancing={}",
+                replicas.size(), properties.getBalancing());
+        return new ReadReplicaRoutingDataSource(
+                primaryDataSource, replicas, properties.getBalancing(), properties.getHealthCheckTimeout());
+    }
+
+    /**
+     * Primary EntityManagerFactory가 사용할 데이터소스
+     * <p>
+     * readOnly 여부는 트랜잭션 시작 이후에 등록되므로,
+     * 실제 커넥션 획득을 첫 SQL 실행 시점까지 미루어 라우팅이 올바르게 동작하도록 합니다.
+     */
+    @Bean
+    public DataSource primaryRoutingDataSource(ReadReplicaRoutingDataSource readReplicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readReplicaRoutingDataSource);
+    }
+
+    /**
+     * 복제본 상태, 쿼리 계측, 동시 커넥션 제한 메트릭 등록
+     */
+    @Bean
+    public MeterBinder readReplicaMetrics(ReadReplicaRoutingDataSource readReplicaRoutingDataSource) {
+        return readReplicaRoutingDataSource::bindTo;
+    }
+
+    private HikariDataSource createPool(
+            ReadReplicaProperties.Replica replica, MicrometerMetricsTrackerFactory metricsTrackerFactory) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(replica.getName());
+        dataSource.setJdbcUrl(replica.getUrl());
+        dataSource.setUsername(replica.getUsername());
+        dataSource.setPassword(replica.getPassword());
+        if (replica.getDriverClassName() != null) {
+            dataSource.setDriverClassName(replica.getDriverClassName());
+        }
+        dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+        dataSource.setReadOnly(true);
+        dataSource.setMetricsTrackerFactory(metricsTrackerFactory);
+        return dataSource;
+    }
+}
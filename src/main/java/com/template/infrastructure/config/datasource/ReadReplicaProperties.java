@@ -0,0 +1,78 @@
+package com.template.infrastructure.config.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Primary 읽기 전용 복제본(Read Replica) 설정
+ * <p>
+ * application.yml의 datasource.read-replica.* 속성과 바인딩됩니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "datasource.read-replica")
+public class ReadReplicaProperties {
+
+    /**
+     * 사용 여부 (false면 모든 요청이 Primary로 전달)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 복제본 선택 방식
+     */
+    private Balancing balancing = Balancing.ROUND_ROBIN;
+
+    /**
+     * 헬스 체크 주기 (ISO-8601)
+     */
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    /**
+     * 헬스 체크 커넥션 검증 타임아웃
+     */
+    private Duration healthCheckTimeout = Duration.ofSeconds(2);
+
+    /**
+     * 복제본 목록
+     */
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * 복제본 선택 방식
+     */
+    public enum Balancing {
+        /** 순서대로 돌아가며 선택 */
+        ROUND_ROBIN,
+        /** 사용 중인 커넥션이 가장 적은 복제본 선택 */
+        LEAST_CONNECTIONS
+    }
+
+    /**
+     * 복제본 연결 정보
+     */
+    @Getter
+    @Setter
+    public static class Replica {
+
+        /**
+         * 복제본 이름 (풀 이름, 메트릭 태그)
+         */
+        private String name;
+
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+
+        /**
+         * 최대 커넥션 수
+         */
+        private int maximumPoolSize = 10;
+    }
+}
@@ -0,0 +1,239 @@
+package com.template.infrastructure.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Primary 읽기/쓰기 분리 라우팅 데이터소스
+ * <p>
+ * 읽기 전용 트랜잭션(@Transactional(readOnly = true))은 정상 상태인 복제본 중 하나로,
+ * 그 외(쓰기 트랜잭션, 트랜잭션 밖 호출)는 Primary로 라우팅합니다.
+ * 정상 상태인 복제본이 없으면 읽기도 Primary로 보냅니다.
+ * <p>
+ * 복제본 데이터소스는 Primary와 같이 쿼리 계측, 동시 커넥션 제한이 적용된 데이터소스이며,
+ * 헬스 체크만 커넥션 풀에 직접 접근합니다.
+ * <p>
+ * <b>주의:</b> 트랜잭션 시작 시점에는 readOnly 여부가 아직 등록되지 않으므로,
+ * 반드시 LazyConnectionDataSourceProxy로 감싸 첫 SQL 실행 시점에 커넥션을 얻도록 해야 합니다.
+ * <p>
+ * <b>복제 지연:</b> 복제본은 이미 삭제되었거나 수정 전인 행을 반환할 수 있으므로,
+ * 결과를 캐시에 오래 보관하는 조회(SampleService.getById, 제목 인덱스 재구성)는 readOnly 트랜잭션을 쓰지 않고 Primary에서 읽습니다.
+ */
+@Slf4j
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY_KEY = "primary";
+
+    private final List<Replica> replicas;
+    private final ReadReplicaProperties.Balancing balancing;
+    private final Duration healthCheckTimeout;
+    private final AtomicInteger roundRobin = new AtomicInteger();
+
+    /**
+     * 헬스 체크 실행기 (커넥션 획득이 멈춰도 스케줄러 스레드를 점유하지 않도록 분리)
+     */
+    private final ExecutorService healthCheckExecutor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("replica-health-", 0).factory());
+
+    public ReadReplicaRoutingDataSource(
+            DataSource primary,
+            List<Replica> replicas,
+            ReadReplicaProperties.Balancing balancing,
+            Duration healthCheckTimeout) {
+        this.replicas = replicas;
+        this.balancing = balancing;
+        this.healthCheckTimeout = healthCheckTimeout;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY_KEY, primary);
+        replicas.forEach(replica -> targets.put(replica.name(), replica.dataSource()));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY_KEY;
+        }
+        Replica replica = select();
+        if (replica == null) {
+            return PRIMARY_KEY;
+        }
+        replica.routed().increment();
+        return replica.name();
+    }
+
+    private Replica select() {
+        List<Replica> healthy = replicas.stream().filter(Replica::isHealthy).toList();
+        if (healthy.isEmpty()) {
+            return null;
+        }
+        return switch (balancing) {
+            case ROUND_ROBIN -> healthy.get(Math.floorMod(roundRobin.getAndIncrement(), healthy.size()));
+            case LEAST_CONNECTIONS -> healthy.stream()
+                    .min(Comparator.comparingInt(Replica::activeConnections))
+                    .orElseThrow();
+        };
+    }
+
+    /**
+     * 복제본 헬스 체크
+     * <p>
+     * 복제본마다 별도 스레드에서 커넥션 풀의 커넥션을 얻어 검증하고, healthCheckTimeout 안에 끝나지 않거나
+     * 실패한 복제본은 다음 검사에서 복구될 때까지 라우팅 대상에서 제외합니다.
+     * 응답 없는 복제본의 검사가 아직 진행 중이면 새 검사를 시작하지 않고 계속 제외합니다.
+     */
+    @Scheduled(fixedDelayString = "${datasource.read-replica.health-check-interval:PT5S}")
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            Future<Boolean> inFlight = replica.healthCheck;
+            if (inFlight == null || inFlight.isDone()) {
+                replica.healthCheck = healthCheckExecutor.submit(() -> validate(replica));
+            }
+        }
+        long deadline = System.nanoTime() + healthCheckTimeout.toNanos();
+        for (Replica replica : replicas) {
+            boolean healthy;
+            try {
+                healthy = replica.healthCheck.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException | ExecutionException e) {
+                healthy = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (healthy != replica.isHealthy()) {
+                log.warn("[ReadReplica] {} 상태 변경: {}", replica.name(), healthy ? "UP" : "DOWN");
+            }
+            replica.setHealthy(healthy);
+        }
+    }
+
+    private boolean validate(Replica replica) {
+        try (Connection connection = replica.pool().getConnection()) {
+            return connection.isValid((int) Math.max(1, healthCheckTimeout.toSeconds()));
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 복제본별 메트릭 등록
+     * <p>
+     * datasource.replica.routed: 라우팅된 읽기 트랜잭션 수<br>
+     * datasource.replica.healthy: 정상 여부 (1: 정상, 0: 제외)<br>
+     * 복제본은 빈이 아니므로 쿼리 계측(jdbc.query.*)과 동시 커넥션 제한(datasource.concurrency.*) 메트릭도 여기서 등록합니다.
+     */
+    public void bindTo(MeterRegistry registry) {
+        for (Replica replica : replicas) {
+            Gauge.builder("datasource.replica.healthy", replica, r -> r.isHealthy() ? 1 : 0)
+                    .tag("replica", replica.name())
+                    .register(registry);
+
+            DataSource dataSource = replica.dataSource();
+            if (dataSource instanceof ConcurrencyLimitingDataSource limiter) {
+                limiter.bindTo(registry);
+            }
+            try {
+                if (dataSource.isWrapperFor(QueryInstrumentedDataSource.class)) {
+                    dataSource.unwrap(QueryInstrumentedDataSource.class).bindTo(registry);
+                }
+            } catch (SQLException e) {
+                log.warn("[ReadReplica] {} 쿼리 메트릭 등록 실패: {}", replica.name(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 헬스 체크 중지, 복제본 커넥션 풀 종료 (Primary 풀은 자체 빈에서 종료)
+     */
+    public void close() {
+        healthCheckExecutor.shutdownNow();
+        replicas.forEach(replica -> replica.pool().close());
+    }
+
+    /**
+     * 복제본 (커넥션 풀 + 라우팅 데이터소스 + 상태)
+     */
+    public static final class Replica {
+
+        private final String name;
+        private final HikariDataSource pool;
+        private final DataSource dataSource;
+        private final Counter routed;
+        private volatile boolean healthy = true;
+
+        /**
+         * 진행 중인(또는 마지막) 헬스 체크 (스케줄러 스레드에서만 접근)
+         */
+        private Future<Boolean> healthCheck;
+
+        /**
+         * @param name       복제본 이름
+         * @param pool       복제본 커넥션 풀 (헬스 체크, 사용량 확인, 종료)
+         * @param dataSource 라우팅 대상 데이터소스 (커넥션 풀을 계측/제한 데이터소스로 감싼 것)
+         * @param registry   메트릭 레지스트리
+         */
+        public Replica(String name, HikariDataSource pool, DataSource dataSource, MeterRegistry registry) {
+            this.name = name;
+            this.pool = pool;
+            this.dataSource = dataSource;
+            this.routed = Counter.builder("datasource.replica.routed")
+                    .tag("replica", name)
+                    .register(registry);
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public HikariDataSource pool() {
+            return pool;
+        }
+
+        public DataSource dataSource() {
+            return dataSource;
+        }
+
+        Counter routed() {
+            return routed;
+        }
+
+        boolean isHealthy() {
+            return healthy;
+        }
+
+        void setHealthy(boolean healthy) {
+            this.healthy = healthy;
+        }
+
+        int activeConnections() {
+            HikariPoolMXBean mxBean = pool.getHikariPoolMXBean();
+            return mxBean == null ? 0 : mxBean.getActiveConnections();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.template.infrastructure.config.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * 요청 단위 반복 SQL(N+1) 감지 필터
+ * <p>
+ * 요청마다 {@link QueryCountScope}를 열고, 요청이 끝나면 같은 형태의 SQL이
+ * threshold번을 넘게 실행된 경우 경고 로그를 남기고 jdbc.query.repeated 카운터(datasource 태그)를 증가시킵니다.
+ * 다른 스레드(비동기 작업, 병렬 샤드 조회 등)에서 실행된 SQL은 집계되지 않습니다.
+ * threshold가 0 이하이면 동작하지 않습니다.
+ */
+@Slf4j
+public class RepeatedQueryDetectionFilter extends OncePerRequestFilter {
+
+    private final int threshold;
+    private final MeterRegistry meterRegistry;
+
+    public RepeatedQueryDetectionFilter(int threshold, MeterRegistry meterRegistry) {
+        this.threshold = threshold;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return threshold <= 0;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryCountScope scope = QueryCountScope.open();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            scope.close();
+            report(request, scope);
+        }
+    }
+
+    private void report(HttpServletRequest request, QueryCountScope scope) {
+        for (QueryCountScope.Count count : scope.repeatedMoreThan(threshold)) {
+            log.warn("[RepeatedQuery] {} {} {} {} {}",
+                    kv("request", request.getMethod() + " " + request.getRequestURI()),
+                    kv("datasource", count.dataSource()),
+                    kv("executions", count.executions()),
+                    kv("statementId", count.shape().id()),
+                    kv("sql", count.shape().sql()));
+            Counter.builder("jdbc.query.repeated")
+                    .description("같은 SQL 형태가 한 요청에서 기준 횟수를 넘게 실행된 건수")
+                    .tag("datasource", count.dataSource())
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.template.infrastructure.config.datasource;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * SQL 형태 (리터럴과 공백 차이를 없앤 SQL)
+ * <p>
+ * 값만 다른 SQL을 같은 형태로 묶어 메트릭 태그와 N+1 감지 키로 사용합니다.
+ * <ul>
+ * <li>문자열/숫자 리터럴 → ?</li>
+ * <li>연속 공백(줄바꿈 포함) → 공백 하나</li>
+ * <li>IN (?, ?, ...) → IN (?)</li>
+ * </ul>
+ *
+ * @param sql       정규화된 SQL
+ * @param id        형태 식별자 (정규화된 SQL 해시, 8자리 16진수)
+ * @param operation SELECT, INSERT, UPDATE, DELETE, MERGE, CALL, OTHER
+ */
+record SqlStatementShape(String sql, String id, String operation) {
+
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\?(?:, ?\\?)+\\)");
+
+    private static final Set<String> OPERATIONS = Set.of("SELECT", "INSERT", "UPDATE", "DELETE", "MERGE", "CALL");
+
+    static SqlStatementShape of(String rawSql) {
+        String sql = IN_LIST.matcher(stripLiterals(rawSql)).replaceAll("(?)");
+        return new SqlStatementShape(sql, String.format("%08x", sql.hashCode()), operationOf(sql));
+    }
+
+    private static String stripLiterals(String rawSql) {
+        StringBuilder out = new StringBuilder(rawSql.length());
+        boolean pendingSpace = false;
+        int length = rawSql.length();
+        for (int i = 0; i < length; i++) {
+            char c = rawSql.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = true;
+                continue;
+            }
+            if (pendingSpace && !out.isEmpty()) {
+                out.append(' ');
+            }
+            pendingSpace = false;
+
+            if (c == '\'') {
+                // '' 는 문자열 안의 작은따옴표
+                i++;
+                while (i < length && !(rawSql.charAt(i) == '\'' && (i + 1 >= length || rawSql.charAt(i + 1) != '\''))) {
+                    i += rawSql.charAt(i) == '\'' ? 2 : 1;
+                }
+                out.append('?');
+            } else if (Character.isDigit(c) && !partOfIdentifier(out)) {
+                while (i + 1 < length && (Character.isDigit(rawSql.charAt(i + 1)) || rawSql.charAt(i + 1) == '.')) {
+                    i++;
+                }
+                out.append('?');
+            } else {
+                out.append(c);
+            }
+        }
+        return out.toString();
+    }
+
+    private static boolean partOfIdentifier(StringBuilder out) {
+        if (out.isEmpty()) {
+            return false;
+        }
+        char previous = out.charAt(out.length() - 1);
+        return Character.isLetterOrDigit(previous) || previous == '_' || previous == '$';
+    }
+
+    private static String operationOf(String sql) {
+        int end = sql.indexOf(' ');
+        String keyword = (end < 0 ? sql : sql.substring(0, end)).toUpperCase(Locale.ROOT);
+        if ("WITH".equals(keyword)) {
+            return "SELECT";
+        }
+        return OPERATIONS.contains(keyword) ? keyword : "OTHER";
+    }
+}
@@ -0,0 +1,136 @@
+package com.template.infrastructure.config.feign;
+
+import feign.Client;
+import feign.hc5.ApacheHttp5Client;
+import feign.http2client.Http2Client;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.ConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.util.TimeValue;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * Feign HTTP 엔진 설정
+ * <p>
+ * Feign 기본 클라이언트(HttpURLConnection)는 커넥션 풀을 조정할 수 없으므로,
+ * external.http-client.engine 값에 따라 아래 엔진 중 하나를 {@link Client} 빈으로 등록합니다.
+ * <ul>
+ * <li>HC5 (기본값): Apache HttpClient 5 커넥션 풀. 최대 커넥션, Keep-Alive, 유휴 커넥션 제거를 설정할 수 있으며
+ * 풀 상태(leased, pending, available)를 httpcomponents.httpclient.pool.* 메트릭으로 노출합니다</li>
+ * <li>JDK: java.net.http.HttpClient (HTTP/2). 하나의 커넥션에서 요청을 다중화하므로 풀 설정이 필요 없습니다</li>
+ * </ul>
+ * <p>
+ * Spring Cloud OpenFeign의 HttpClient 자동설정(spring.cloud.openfeign.httpclient.hc5.enabled)은 꺼두고
+ * 이 설정에서 엔진을 직접 관리합니다.
+ */
+@Configuration
+@EnableConfigurationProperties(FeignHttpClientProperties.class)
+public class FeignHttpClientConfig {
+
+    /**
+     * Apache HttpClient 5 엔진 (커넥션 풀)
+     */
+    @Configuration
+    @ConditionalOnProperty(prefix = "external.http-client", name = "engine", havingValue = "hc5", matchIfMissing = true)
+    static class Hc5EngineConfig {
+
+        @Bean(destroyMethod = "close")
+        public PoolingHttpClientConnectionManager feignConnectionManager(FeignHttpClientProperties properties) {
+            return PoolingHttpClientConnectionManagerBuilder.create()
+                    .setMaxConnTotal(properties.getMaxConnections())
+                    .setMaxConnPerRoute(properties.getMaxConnectionsPerRoute())
+                    .setDefaultConnectionConfig(ConnectionConfig.custom()
+                            .setTimeToLive(toTimeValue(properties.getTimeToLive()))
+                            // 유휴 후 재사용 직전에 커넥션 상태를 확인 (서버가 먼저 끊은 커넥션 재사용 방지)
+                            .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                            .build())
+                    .build();
+        }
+
+        @Bean(destroyMethod = "close")
+        public CloseableHttpClient feignHttpClient(
+                PoolingHttpClientConnectionManager feignConnectionManager,
+                FeignHttpClientProperties properties) {
+            TimeValue defaultKeepAlive = toTimeValue(properties.getKeepAlive());
+            return HttpClients.custom()
+                    .setConnectionManager(feignConnectionManager)
+                    .disableCookieManagement()
+                    .setKeepAliveStrategy(keepAliveStrategy(defaultKeepAlive))
+                    .evictExpiredConnections()
+                    .evictIdleConnections(toTimeValue(properties.getIdleEviction()))
+                    .build();
+        }
+
+        @Bean
+        public Client feignClient(CloseableHttpClient feignHttpClient) {
+            return new ApacheHttp5Client(feignHttpClient);
+        }
+
+        /**
+         * 서버가 Keep-Alive 헤더로 timeout을 알려주면 그 값을, 아니면 설정값을 사용
+         */
+        private static ConnectionKeepAliveStrategy keepAliveStrategy(TimeValue defaultKeepAlive) {
+            return (response, context) -> {
+                Header header = response.getFirstHeader("Keep-Alive");
+                if (header == null || header.getValue() == null) {
+                    return defaultKeepAlive;
+                }
+                for (String param : header.getValue().split(",")) {
+                    String[] pair = param.trim().split("=", 2);
+                    if (pair.length == 2 && "timeout".equalsIgnoreCase(pair[0].trim())) {
+                        try {
+                            return TimeValue.ofSeconds(Long.parseLong(pair[1].trim()));
+                        } catch (NumberFormatException ignored) {
+                            // 잘못된 헤더 값은 무시하고 기본값 사용
+                        }
+                    }
+                }
+                return defaultKeepAlive;
+            };
+        }
+
+        private static TimeValue toTimeValue(Duration duration) {
+            return TimeValue.ofMilliseconds(duration.toMillis());
+        }
+
+        /**
+         * 커넥션 풀 메트릭 (httpcomponents.httpclient.pool.total.connections{state=leased|available},
+         * httpcomponents.httpclient.pool.total.pending 등)
+         */
+        @Bean
+        public MeterBinder feignConnectionPoolMetrics(PoolingHttpClientConnectionManager feignConnectionManager) {
+            return new PoolingHttpClientConnectionManagerMetricsBinder(feignConnectionManager, "feign");
+        }
+    }
+
+    /**
+     * JDK HttpClient 엔진 (HTTP/2)
+     */
+    @Configuration
+    @ConditionalOnProperty(prefix = "external.http-client", name = "engine", havingValue = "jdk")
+    static class JdkEngineConfig {
+
+        @Bean
+        public Client feignClient() {
+            // HTTP/2를 지원하지 않는 서버에는 HTTP/1.1로 자동 협상됩니다.
+            // JDK 클라이언트의 Keep-Alive는 jdk.httpclient.keepalive.timeout 시스템 속성으로 조정합니다.
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_2)
+                    .followRedirects(HttpClient.Redirect.NORMAL)
+                    .build();
+            return new Http2Client(httpClient);
+        }
+    }
+}
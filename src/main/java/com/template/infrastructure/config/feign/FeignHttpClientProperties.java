@@ -0,0 +1,57 @@
+package com.template.infrastructure.config.feign;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Feign HTTP 엔진 설정
+ * <p>
+ * application.yml의 external.http-client.* 속성과 바인딩됩니다.
+ * 요청별 연결/읽기 타임아웃은 {@link FeignConfig#requestOptions()}에서 관리합니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "external.http-client")
+public class FeignHttpClientProperties {
+
+    /**
+     * HTTP 엔진 (HC5: Apache HttpClient 5 커넥션 풀, JDK: java.net.http.HttpClient HTTP/2)
+     */
+    private Engine engine = Engine.HC5;
+
+    /**
+     * 전체 최대 커넥션 수 (HC5)
+     */
+    private int maxConnections = 200;
+
+    /**
+     * 호스트(route)별 최대 커넥션 수 (HC5)
+     */
+    private int maxConnectionsPerRoute = 50;
+
+    /**
+     * 서버가 Keep-Alive 시간을 알려주지 않을 때 커넥션을 재사용할 최대 시간
+     */
+    private Duration keepAlive = Duration.ofSeconds(30);
+
+    /**
+     * 이 시간 이상 사용되지 않은 커넥션을 풀에서 제거 (HC5)
+     */
+    private Duration idleEviction = Duration.ofSeconds(30);
+
+    /**
+     * 커넥션 최대 수명 (DNS 변경 반영용, HC5)
+     */
+    private Duration timeToLive = Duration.ofMinutes(5);
+
+    /**
+     * Feign HTTP 엔진 종류
+     */
+    public enum Engine {
+        HC5,
+        JDK
+    }
+}
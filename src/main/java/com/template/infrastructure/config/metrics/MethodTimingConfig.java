@@ -0,0 +1,151 @@
+package com.template.infrastructure.config.metrics;
+
+import com.template.application.sample.SampleUseCase;
+import com.template.domain.analytics.AnalyticsDataRepository;
+import com.template.domain.common.exception.BusinessException;
+import com.template.infrastructure.external.sample.CachingSampleExternalApiClient;
+import com.template.infrastructure.external.sample.SampleExternalApiClient;
+import feign.FeignException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+
+/**
+ * 유스케이스/리포지토리/외부 API 호출 시간 측정 설정
+ * <p>
+ * 느린 요청이 Oracle, Greenplum, 외부 API 중 어디에서 발생했는지 구분할 수 있도록
+ * 다음 빈의 인터페이스 메서드를 {@link TimingMethodInterceptor}로 감쌉니다.
+ * <ul>
+ * <li><b>sample.usecase:</b> {@link SampleUseCase} (트랜잭션, 캐시 포함 전체 시간) - method, outcome</li>
+ * <li><b>analytics.repository:</b> {@link AnalyticsDataRepository} - target(gpdb1, gpdb2, sharded), method, outcome</li>
+ * <li><b>external.api.client:</b> {@link SampleExternalApiClient} Feign 호출 (캐시 계층 제외) - client, method, status</li>
+ * </ul>
+ * outcome은 성공 시 SUCCESS, 실패 시 BusinessException의 에러 코드(없으면 예외 클래스 이름)입니다.
+ * status는 성공 시 2xx, Feign 예외는 HTTP 상태 코드(연결 실패는 IO_ERROR), 에러 디코더가 변환한 예외는 에러 코드입니다.
+ * <p>
+ * 이미 프록시인 빈(@Transactional, @Repository 등)은 기존 프록시의 가장 바깥에 인터셉터를 추가하고,
+ * 그 외 빈은 새 프록시로 감쌉니다.
+ * 퍼센타일 히스토그램과 SLO 구간은 application.yml의 management.metrics.distribution.* 에서 설정합니다.
+ */
+@Slf4j
+@Configuration
+public class MethodTimingConfig {
+
+    private static final String REPOSITORY_BEAN_SUFFIX = "AnalyticsDataRepository";
+
+    /**
+     * 측정 대상 빈을 감싸는 후처리기
+     * <p>
+     * 다른 빈보다 먼저 생성되어야 하므로 static으로 선언하며,
+     * MeterRegistry는 첫 기록 시점에 조회합니다.
+     */
+    @Bean
+    public static BeanPostProcessor methodTimingPostProcessor(
+            Environment environment, ObjectProvider<MeterRegistry> meterRegistry) {
+        MethodTimingProperties properties = Binder.get(environment)
+                .bind(MethodTimingProperties.PREFIX, MethodTimingProperties.class)
+                .orElseGet(MethodTimingProperties::new);
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!properties.isEnabled()) {
+                    return bean;
+                }
+                if (properties.isUseCase() && bean instanceof SampleUseCase) {
+                    return instrument(bean, beanName, SampleUseCase.class, new TimingMethodInterceptor(
+                            "sample.usecase", Tags.empty(), "outcome",
+                            MethodTimingConfig::outcome, meterRegistry));
+                }
+                if (properties.isRepository() && bean instanceof AnalyticsDataRepository) {
+                    return instrument(bean, beanName, AnalyticsDataRepository.class, new TimingMethodInterceptor(
+                            "analytics.repository", Tags.of("target", repositoryTarget(beanName)), "outcome",
+                            MethodTimingConfig::outcome, meterRegistry));
+                }
+                if (properties.isExternalApi() && bean instanceof SampleExternalApiClient
+                        && !(bean instanceof CachingSampleExternalApiClient)) {
+                    return instrument(bean, beanName, SampleExternalApiClient.class, new TimingMethodInterceptor(
+                            "external.api.client", Tags.of("client", "sample"), "status",
+                            MethodTimingConfig::status, meterRegistry));
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static Object instrument(Object bean, String beanName, Class<?> api, MethodInterceptor interceptor) {
+        Advisor advisor = new DefaultPointcutAdvisor(new ApiMethodPointcut(api), interceptor);
+        log.info("[Metrics] {} 호출 시간 측정 적용 ({})", beanName, api.getSimpleName());
+
+        if (bean instanceof Advised advised && AopUtils.isAopProxy(bean) && !advised.isFrozen()) {
+            advised.addAdvisor(0, advisor);
+            return bean;
+        }
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        Class<?> beanClass = bean.getClass();
+        proxyFactory.setProxyTargetClass(!Proxy.isProxyClass(beanClass) && !Modifier.isFinal(beanClass.getModifiers()));
+        proxyFactory.addAdvisor(advisor);
+        return proxyFactory.getProxy(beanClass.getClassLoader());
+    }
+
+    /**
+     * 리포지토리 빈 이름에서 대상 식별자 추출 (gpdb1AnalyticsDataRepository → gpdb1)
+     */
+    private static String repositoryTarget(String beanName) {
+        return beanName.endsWith(REPOSITORY_BEAN_SUFFIX) && beanName.length() > REPOSITORY_BEAN_SUFFIX.length()
+                ? beanName.substring(0, beanName.length() - REPOSITORY_BEAN_SUFFIX.length())
+                : beanName;
+    }
+
+    private static String outcome(Throwable failure) {
+        if (failure == null) {
+            return "SUCCESS";
+        }
+        return failure instanceof BusinessException e ? e.getErrorCode() : failure.getClass().getSimpleName();
+    }
+
+    private static String status(Throwable failure) {
+        if (failure == null) {
+            return "2xx";
+        }
+        if (failure instanceof FeignException e) {
+            return e.status() > 0 ? String.valueOf(e.status()) : "IO_ERROR";
+        }
+        return outcome(failure);
+    }
+
+    /**
+     * 지정한 인터페이스에 선언된 메서드만 측정 (destroy, toString 등 제외)
+     */
+    private static final class ApiMethodPointcut extends StaticMethodMatcherPointcut {
+
+        private final Class<?> api;
+
+        private ApiMethodPointcut(Class<?> api) {
+            this.api = api;
+        }
+
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            return ReflectionUtils.findMethod(api, method.getName(), method.getParameterTypes()) != null;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.template.infrastructure.config.metrics;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 유스케이스/리포지토리/외부 API 호출 시간 측정 설정
+ * <p>
+ * application.yml의 metrics.timing.* 속성과 바인딩됩니다.
+ * (BeanPostProcessor에서 사용하므로 Binder로 직접 바인딩합니다)
+ * <p>
+ * 꺼진 대상은 프록시를 적용하지 않으므로 호출 경로에 추가 비용이 없습니다.
+ * 히스토그램과 SLO 구간은 management.metrics.distribution.* 에서 메트릭 이름별로 지정합니다.
+ */
+@Getter
+@Setter
+public class MethodTimingProperties {
+
+    public static final String PREFIX = "metrics.timing";
+
+    /**
+     * 전체 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * SampleUseCase 메서드 측정 (sample.usecase)
+     */
+    private boolean useCase = true;
+
+    /**
+     * AnalyticsDataRepository 메서드 측정 (analytics.repository, target=gpdb1|gpdb2|sharded)
+     */
+    private boolean repository = true;
+
+    /**
+     * SampleExternalApiClient(Feign) 메서드 측정 (external.api.client, status 태그)
+     */
+    private boolean externalApi = true;
+}
@@ -5,9 +5,14 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 
 /**
  * QueryDSL 설정 클래스
+ * <p>
+ * Primary 영속성 유닛의 JPAQueryFactory를 기본 주입 대상으로 등록합니다.
+ * GPDB 팩토리(gpdb1JpaQueryFactory, gpdb2JpaQueryFactory)는 JPA 엔진을 사용할 때만 필요하므로
+ * 각 GPDB 데이터소스 설정에서 등록하며, @Qualifier로 지정하여 사용합니다.
  */
 @Configuration
 public class QueryDslConfig {
@@ -18,6 +23,7 @@ public class QueryDslConfig {
     /**
      * JPAQueryFactory를 빈으로 등록하여 리포지토리에서 데이터 조회를 지원합니다.
      */
+    @Primary
     @Bean
     public JPAQueryFactory jpaQueryFactory() {
         return new JPAQueryFactory(entityManager);
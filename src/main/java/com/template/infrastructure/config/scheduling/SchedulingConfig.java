@@ -0,0 +1,14 @@
+package com.template.infrastructure.config.scheduling;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링(@Scheduled) 설정 클래스
+ * <p>
+ * 스케줄러는 Spring Boot 자동설정의 taskScheduler를 사용합니다 (spring.task.scheduling.*).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
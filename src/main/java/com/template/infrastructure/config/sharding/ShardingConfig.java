@@ -0,0 +1,39 @@
+package com.template.infrastructure.config.sharding;
+
+import com.template.domain.analytics.AnalyticsDataRepository;
+import com.template.infrastructure.persistence.sharding.ShardedAnalyticsDataRepository;
+import com.template.infrastructure.persistence.sharding.ShardingProperties;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+/**
+ * 분석 데이터 샤딩 설정
+ * <p>
+ * GPDB1, GPDB2를 샤드로 묶은 {@link ShardedAnalyticsDataRepository}를
+ * shardedAnalyticsDataRepository 빈으로 등록합니다.
+ * <p>
+ * 샤드 이름은 해시 링의 위치를 결정하므로, 운영 중 변경하면 기존 데이터의 재배치가 필요합니다.
+ */
+@Configuration
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    @Bean
+    public ShardedAnalyticsDataRepository shardedAnalyticsDataRepository(
+            @Qualifier("gpdb1AnalyticsDataRepository") AnalyticsDataRepository gpdb1Repository,
+            @Qualifier("gpdb1TransactionManager") PlatformTransactionManager gpdb1TransactionManager,
+            @Qualifier("gpdb2AnalyticsDataRepository") AnalyticsDataRepository gpdb2Repository,
+            @Qualifier("gpdb2TransactionManager") PlatformTransactionManager gpdb2TransactionManager,
+            ShardingProperties properties) {
+        return new ShardedAnalyticsDataRepository(
+                List.of(
+                        ShardedAnalyticsDataRepository.Shard.of("gpdb1", gpdb1Repository, gpdb1TransactionManager),
+                        ShardedAnalyticsDataRepository.Shard.of("gpdb2", gpdb2Repository, gpdb2TransactionManager)),
+                properties);
+    }
+}
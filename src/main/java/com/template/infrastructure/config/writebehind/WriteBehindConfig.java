@@ -0,0 +1,50 @@
+package com.template.infrastructure.config.writebehind;
+
+import com.template.domain.analytics.AnalyticsDataRepository;
+import com.template.infrastructure.persistence.writebehind.AnalyticsWriteBehindBuffer;
+import com.template.infrastructure.persistence.writebehind.WriteBehindProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 분석 데이터 쓰기 지연(write-behind) 버퍼 설정
+ * <p>
+ * GPDB1, GPDB2 각각에 독립된 버퍼를 등록합니다.
+ * analytics.write-behind.enabled=false(기본값)이면 flusher 스레드가 시작되지 않으며,
+ * 서비스는 요청 스레드에서 즉시 저장합니다.
+ */
+@Configuration
+@EnableConfigurationProperties(WriteBehindProperties.class)
+public class WriteBehindConfig {
+
+    /**
+     * GPDB1 쓰기 지연 버퍼
+     */
+    @Bean
+    public AnalyticsWriteBehindBuffer gpdb1WriteBehindBuffer(
+            @Qualifier("gpdb1AnalyticsDataRepository") AnalyticsDataRepository repository,
+            @Qualifier("gpdb1TransactionManager") PlatformTransactionManager transactionManager,
+            WriteBehindProperties properties,
+            MeterRegistry meterRegistry) {
+        return new AnalyticsWriteBehindBuffer(
+                "gpdb1", repository, new TransactionTemplate(transactionManager), properties, meterRegistry);
+    }
+
+    /**
+     * GPDB2 쓰기 지연 버퍼
+     */
+    @Bean
+    public AnalyticsWriteBehindBuffer gpdb2WriteBehindBuffer(
+            @Qualifier("gpdb2AnalyticsDataRepository") AnalyticsDataRepository repository,
+            @Qualifier("gpdb2TransactionManager") PlatformTransactionManager transactionManager,
+            WriteBehindProperties properties,
+            MeterRegistry meterRegistry) {
+        return new AnalyticsWriteBehindBuffer(
+                "gpdb2", repository, new TransactionTemplate(transactionManager), properties, meterRegistry);
+    }
+}
@@ -0,0 +1,107 @@
+package com.template.infrastructure.external.sample;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 샘플 외부 API 캐시 계층 (stale-while-revalidate + 요청 병합)
+ * <p>
+ * Feign 클라이언트를 감싸 {@link SampleExternalApiClient}의 기본 주입 대상(@Primary)이 됩니다.
+ * 메서드별로 Caffeine AsyncLoadingCache를 두며 다음과 같이 동작합니다.
+ * <ul>
+ * <li><b>요청 병합(single-flight):</b> 같은 키의 동시 미스는 하나의 외부 호출 결과(CompletableFuture)를 공유합니다</li>
+ * <li><b>stale-while-revalidate:</b> refreshAfter 이후 조회는 기존 값을 즉시 반환하고 백그라운드에서 갱신합니다.
+ * 갱신이 실패하면 기존 값을 계속 제공합니다</li>
+ * <li><b>만료:</b> expireAfter가 지나면 값을 폐기하며, 다음 조회는 외부 API 응답을 기다립니다</li>
+ * </ul>
+ * <p>
+ * 외부 호출은 가상 스레드에서 수행되며, 캐시 통계는 cache.* 메트릭(cache=external.sample.*)으로 노출됩니다.
+ * 외부 호출 실패는 캐시하지 않고 원래 예외 그대로 호출자에게 전달합니다.
+ */
+@Slf4j
+@Primary
+@Component
+@EnableConfigurationProperties(SampleExternalApiCacheProperties.class)
+public class CachingSampleExternalApiClient implements SampleExternalApiClient, DisposableBean {
+
+    private static final String ALL_POSTS_KEY = "all";
+
+    private final ExecutorService loaderExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final AsyncLoadingCache<String, List<Post>> postsCache;
+    private final AsyncLoadingCache<Long, Post> postByIdCache;
+    private final AsyncLoadingCache<Long, List<Post>> postsByUserCache;
+
+    public CachingSampleExternalApiClient(
+            @Qualifier("sampleExternalApiFeignClient") SampleExternalApiClient delegate,
+            SampleExternalApiCacheProperties properties,
+            MeterRegistry meterRegistry) {
+        this.postsCache = build(properties.getPosts(), key -> delegate.getPosts());
+        this.postByIdCache = build(properties.getPostById(), delegate::getPostById);
+        this.postsByUserCache = build(properties.getPostsByUser(), delegate::getPostsByUserId);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, postsCache, "external.sample.posts");
+        CaffeineCacheMetrics.monitor(meterRegistry, postByIdCache, "external.sample.post_by_id");
+        CaffeineCacheMetrics.monitor(meterRegistry, postsByUserCache, "external.sample.posts_by_user");
+    }
+
+    private <K, V> AsyncLoadingCache<K, V> build(SampleExternalApiCacheProperties.Spec spec, CacheLoader<K, V> loader) {
+        return Caffeine.newBuilder()
+                .maximumSize(spec.getMaximumSize())
+                .refreshAfterWrite(spec.getRefreshAfter())
+                .expireAfterWrite(spec.getExpireAfter())
+                .executor(loaderExecutor)
+                .recordStats()
+                .buildAsync(loader);
+    }
+
+    @Override
+    public List<Post> getPosts() {
+        return join(postsCache, ALL_POSTS_KEY);
+    }
+
+    @Override
+    public Post getPostById(Long id) {
+        return join(postByIdCache, id);
+    }
+
+    @Override
+    public List<Post> getPostsByUserId(Long userId) {
+        return join(postsByUserCache, userId);
+    }
+
+    /**
+     * 캐시 조회 후 결과 대기
+     * <p>
+     * 로딩 실패 시 CompletionException을 벗겨 Feign 예외 등 원래 예외를 그대로 던집니다.
+     */
+    private static <K, V> V join(AsyncLoadingCache<K, V> cache, K key) {
+        try {
+            return cache.get(key).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        loaderExecutor.close();
+    }
+}
@@ -0,0 +1,58 @@
+package com.template.infrastructure.external.sample;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 샘플 외부 API 응답 캐시 설정
+ * <p>
+ * application.yml의 external.api.sample.cache.* 속성과 바인딩되며, 메서드별로 TTL을 지정합니다.
+ * <ul>
+ * <li>refreshAfter: 이 시간이 지난 뒤 첫 조회 시 기존 값을 즉시 반환하고 백그라운드에서 갱신</li>
+ * <li>expireAfter: 이 시간이 지나면 값을 폐기하고 다음 조회는 외부 API 응답을 기다림</li>
+ * </ul>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "external.api.sample.cache")
+public class SampleExternalApiCacheProperties {
+
+    /**
+     * 게시글 목록 (getPosts)
+     */
+    private Spec posts = new Spec(Duration.ofSeconds(30), Duration.ofMinutes(5), 1);
+
+    /**
+     * 게시글 단건 (getPostById)
+     */
+    private Spec postById = new Spec(Duration.ofMinutes(1), Duration.ofMinutes(10), 10_000);
+
+    /**
+     * 사용자별 게시글 (getPostsByUserId)
+     */
+    private Spec postsByUser = new Spec(Duration.ofSeconds(30), Duration.ofMinutes(5), 1_000);
+
+    /**
+     * 메서드별 캐시 정책
+     */
+    @Getter
+    @Setter
+    public static class Spec {
+
+        private Duration refreshAfter;
+        private Duration expireAfter;
+        private long maximumSize;
+
+        public Spec() {
+        }
+
+        public Spec(Duration refreshAfter, Duration expireAfter, long maximumSize) {
+            this.refreshAfter = refreshAfter;
+            this.expireAfter = expireAfter;
+            this.maximumSize = maximumSize;
+        }
+    }
+}
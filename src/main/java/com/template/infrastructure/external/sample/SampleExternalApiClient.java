@@ -43,9 +43,19 @@ import java.util.Map;
  * <b>주의:</b> 실제 사용 시 url을 application.yml의 외부 설정으로 관리하세요.
  * 예: url = "${external.api.sample.url}"
  *
+ * <p>
+ * <b>캐시:</b> 이 Feign 빈은 @Primary가 아니며, 기본 주입 대상은 캐시 계층인
+ * {@link CachingSampleExternalApiClient}입니다. 캐시 없이 직접 호출해야 하는 경우에만
+ * {@code @Qualifier("sampleExternalApiFeignClient")}로 주입받으세요.
+ *
  * @see com.template.infrastructure.config.feign.FeignConfig
  */
-@FeignClient(name = "sampleExternalApi", url = "${external.api.sample.url:https://jsonplaceholder.typicode.com}", configuration = FeignConfig.class)
+@FeignClient(
+        name = "sampleExternalApi",
+        url = "${external.api.sample.url:https://jsonplaceholder.typicode.com}",
+        configuration = FeignConfig.class,
+        qualifiers = "sampleExternalApiFeignClient",
+        primary = false)
 public interface SampleExternalApiClient {
 
     /**
@@ -11,9 +11,29 @@ import java.time.LocalDateTime;
  * 분석 데이터 JPA 엔티티 (GPDB용)
  * <p>
  * GPDB1, GPDB2에서 사용되는 분석 데이터 엔티티입니다.
+ * <p>
+ * <b>ID 생성 전략:</b>
+ * IDENTITY 전략은 INSERT 직후 생성된 키를 읽어야 하므로 Hibernate의 JDBC 배치 INSERT가
+ * 비활성화됩니다. 대량 적재를 위해 pooled-lo 옵티마이저를 사용하는 SEQUENCE 전략을 적용하여
+ * 시퀀스 1회 조회로 {@value #ID_ALLOCATION_SIZE}개의 ID를 메모리에서 할당합니다.
+ * <p>
+ * 시퀀스 값 v를 블록의 첫 ID로 보고 [v, v + {@value #ID_ALLOCATION_SIZE} - 1] 범위를 사용합니다.
+ * 기본 pooled 옵티마이저는 첫 시퀀스 값이 initialValue와 같으면 다음 값까지 한 블록으로 사용하므로,
+ * 그 사이 다른 저장 경로(COPY 적재기, JDBC 엔진)가 예약한 블록과 ID가 겹칠 수 있습니다.
+ * pooled-lo는 시작 값과 무관하게 항상 같은 규칙이므로 GPDB 영속성 유닛에서
+ * {@code hibernate.id.optimizer.pooled.preferred=pooled-lo}로 지정합니다.
+ * <p>
+ * <b>운영 스키마:</b>
+ * 운영 Greenplum에서는 ddl-auto를 사용하지 않고 db/greenplum/analytics-schema.sql로
+ * occurredAt 월 단위 범위 파티션 테이블을 생성합니다. (인덱스 정의는 이 엔티티와 동일)
  */
 @Entity
-@Table(name = "analytics_data")
+@Table(name = "analytics_data", indexes = {
+        // 키셋 페이지 조회 ((occurredAt, id) 순서) 및 발생 시간 구간 조회용 복합 인덱스
+        @Index(name = "idx_analytics_data_occurred_at_id", columnList = "occurredAt, id"),
+        // 이벤트 유형 + 발생 시간 구간 조회용 복합 인덱스 (정렬 순서까지 인덱스로 처리)
+        @Index(name = "idx_analytics_data_event_type_occurred_at_id", columnList = "eventType, occurredAt, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -21,8 +41,17 @@ import java.time.LocalDateTime;
 @EntityListeners(AuditingEntityListener.class)
 public class AnalyticsDataEntity {
 
+    /**
+     * 시퀀스 1회 조회 시 할당받는 ID 개수 (시퀀스 INCREMENT BY 값과 일치해야 함)
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "analytics_data_id_generator")
+    @SequenceGenerator(
+            name = "analytics_data_id_generator",
+            sequenceName = "analytics_data_seq",
+            allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false)
@@ -22,7 +22,10 @@ import java.time.LocalDateTime;
  * </ul>
  */
 @Entity
-@Table(name = "samples")
+@Table(name = "samples", indexes = {
+        // 전체 목록 버전(max(updatedAt), count) 조회를 인덱스만으로 처리
+        @Index(name = "idx_samples_updated_at", columnList = "updatedAt")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
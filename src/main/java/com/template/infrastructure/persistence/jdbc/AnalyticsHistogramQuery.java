@@ -0,0 +1,57 @@
+package com.template.infrastructure.persistence.jdbc;
+
+import com.template.domain.analytics.AnalyticsDataTimeRange;
+import com.template.domain.analytics.AnalyticsHistogramBucket;
+import com.template.domain.analytics.AnalyticsTimeBucket;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 발생 시간 히스토그램 SQL (GPDB1/GPDB2 공용, JPA/JDBC 엔진 공용)
+ * <p>
+ * 구간 절삭은 date_trunc로 DB에서 수행하고 GROUP BY 결과(구간 수만큼의 행)만 가져옵니다.
+ * JPQL에는 DB 간 이식 가능한 시간 절삭 함수가 없으므로 JPA 엔진도 이 네이티브 SQL을 사용합니다.
+ * (PostgreSQL/Greenplum, H2 모두 date_trunc('unit', ts) 지원)
+ * <p>
+ * 데이터소스 유틸리티로 커넥션을 얻으므로 호출자의 트랜잭션(JPA/DataSource)에 참여합니다.
+ */
+public final class AnalyticsHistogramQuery {
+
+    private final JdbcClient jdbcClient;
+
+    public AnalyticsHistogramQuery(DataSource dataSource) {
+        this.jdbcClient = JdbcClient.create(dataSource);
+    }
+
+    /**
+     * @param range     발생 시간 구간 (occurredAt을 가공하지 않고 비교하여 파티션 제외)
+     * @param eventType 이벤트 유형 (null이면 전체)
+     * @param bucket    구간 단위 (SQL에 리터럴로 포함되므로 열거형 값만 허용)
+     * @return 구간별 건수 (구간 시작 시각 오름차순)
+     */
+    public List<AnalyticsHistogramBucket> fetch(
+            AnalyticsDataTimeRange range, String eventType, AnalyticsTimeBucket bucket) {
+        // GROUP BY 식과 SELECT 식이 같아야 하므로 단위를 바인드 변수가 아닌 리터럴로 넣습니다
+        String bucketExpression = "date_trunc('" + bucket.sqlUnit() + "', occurredAt)";
+        StringBuilder sql = new StringBuilder("SELECT ").append(bucketExpression)
+                .append(" AS bucketStart, COUNT(*) AS cnt FROM analytics_data")
+                .append(" WHERE occurredAt >= ? AND occurredAt < ?");
+        List<Object> params = new ArrayList<>(List.of(Timestamp.valueOf(range.from()), Timestamp.valueOf(range.to())));
+        if (eventType != null) {
+            sql.append(" AND eventType = ?");
+            params.add(eventType);
+        }
+        sql.append(" GROUP BY ").append(bucketExpression).append(" ORDER BY bucketStart");
+
+        return jdbcClient.sql(sql.toString())
+                .params(params)
+                .query((rs, rowNum) -> new AnalyticsHistogramBucket(
+                        rs.getObject("bucketStart", LocalDateTime.class), rs.getLong("cnt")))
+                .list();
+    }
+}
@@ -0,0 +1,270 @@
+package com.template.infrastructure.persistence.jdbc;
+
+import com.template.domain.analytics.AnalyticsData;
+import com.template.domain.analytics.AnalyticsDataCursor;
+import com.template.domain.analytics.AnalyticsDataRepository;
+import com.template.domain.analytics.AnalyticsDataSummary;
+import com.template.domain.analytics.AnalyticsDataTimeRange;
+import com.template.domain.analytics.AnalyticsEventTypeCount;
+import com.template.domain.analytics.AnalyticsHistogramBucket;
+import com.template.domain.analytics.AnalyticsTimeBucket;
+import com.template.domain.common.page.KeysetPage;
+import com.template.infrastructure.persistence.entity.AnalyticsDataEntity;
+import com.template.infrastructure.persistence.jpa.AnalyticsDataCopyLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * 분석 데이터 리포지토리 구현체 (JDBC 엔진, GPDB1/GPDB2 공용)
+ * <p>
+ * JPA(EntityManagerFactory, 영속성 컨텍스트) 없이 {@link JdbcClient}로 직접 SQL을 실행합니다.
+ * 추가 전용(append-only) 테이블의 단순 INSERT/SELECT만 수행하므로
+ * 엔티티 관리, 변경 감지, Hibernate 메타모델 비용이 없습니다.
+ * <p>
+ * analytics.repository.engine.{gpdb1|gpdb2}=JDBC일 때 해당 데이터소스 설정에서 등록되며,
+ * 트랜잭션 매니저도 DataSourceTransactionManager로 바뀝니다.
+ * <p>
+ * <b>ID 할당:</b>
+ * JPA 엔티티와 같은 시퀀스(analytics_data_seq)와 pooled-lo 블록 규칙을 사용하므로
+ * 엔진을 바꾸거나 COPY 적재와 섞어 써도 ID가 겹치지 않습니다.
+ * <p>
+ * <b>컬럼명:</b>
+ * Hibernate가 생성한 스키마와 같도록 따옴표 없는 camelCase 컬럼명을 사용합니다.
+ */
+public class JdbcAnalyticsDataRepository implements AnalyticsDataRepository {
+
+    private static final String SELECT_COLUMNS =
+            "SELECT id, eventType, eventData, occurredAt, createdAt FROM analytics_data";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO analytics_data (id, eventType, eventData, occurredAt, createdAt) VALUES (?, ?, ?, ?, ?)";
+
+    private static final RowMapper<AnalyticsData> ROW_MAPPER = (rs, rowNum) -> AnalyticsData.builder()
+            .id(rs.getLong("id"))
+            .eventType(rs.getString("eventType"))
+            .eventData(rs.getString("eventData"))
+            .occurredAt(rs.getObject("occurredAt", LocalDateTime.class))
+            .createdAt(rs.getObject("createdAt", LocalDateTime.class))
+            .build();
+
+    private final DataSource dataSource;
+    private final JdbcClient jdbcClient;
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcClient streamingJdbcClient;
+    private final PooledIdAllocator idAllocator;
+    private final AnalyticsHistogramQuery histogramQuery;
+    private final int batchSize;
+
+    /**
+     * @param dataSource  대상 데이터소스
+     * @param batchSize   JDBC 배치 INSERT 크기
+     * @param fetchSize   스트리밍 조회 시 한 번에 가져올 행 수 (서버 사이드 커서 fetch size)
+     */
+    public JdbcAnalyticsDataRepository(DataSource dataSource, int batchSize, int fetchSize) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcClient = JdbcClient.create(jdbcTemplate);
+
+        JdbcTemplate streamingTemplate = new JdbcTemplate(dataSource);
+        streamingTemplate.setFetchSize(fetchSize);
+        this.streamingJdbcClient = JdbcClient.create(streamingTemplate);
+
+        this.idAllocator = new PooledIdAllocator(jdbcClient, AnalyticsDataEntity.ID_ALLOCATION_SIZE);
+        this.histogramQuery = new AnalyticsHistogramQuery(dataSource);
+        this.batchSize = batchSize;
+    }
+
+    // ===================================================
+    // 저장
+    // ===================================================
+
+    @Override
+    public AnalyticsData save(AnalyticsData data) {
+        AnalyticsData row = withIdAndCreatedAt(data, LocalDateTime.now());
+        jdbcClient.sql(INSERT_SQL)
+                .params(row.getId(), row.getEventType(), row.getEventData(),
+                        timestamp(row.getOccurredAt()), timestamp(row.getCreatedAt()))
+                .update();
+        return row;
+    }
+
+    @Override
+    public int saveAll(List<AnalyticsData> data) {
+        LocalDateTime createdAt = LocalDateTime.now();
+        List<AnalyticsData> rows = data.stream()
+                .map(item -> withIdAndCreatedAt(item, createdAt))
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, batchSize, (statement, row) -> {
+            statement.setLong(1, row.getId());
+            statement.setString(2, row.getEventType());
+            statement.setString(3, row.getEventData());
+            statement.setTimestamp(4, timestamp(row.getOccurredAt()));
+            statement.setTimestamp(5, timestamp(row.getCreatedAt()));
+        });
+        return rows.size();
+    }
+
+    @Override
+    public long bulkLoad(Stream<AnalyticsData> data) {
+        return new AnalyticsDataCopyLoader(dataSource, batchSize).load(data, this::saveAll);
+    }
+
+    // ===================================================
+    // 조회
+    // ===================================================
+
+    @Override
+    public Optional<AnalyticsData> findById(Long id) {
+        return jdbcClient.sql(SELECT_COLUMNS + " WHERE id = ?")
+                .param(id)
+                .query(ROW_MAPPER)
+                .optional();
+    }
+
+    @Override
+    public List<AnalyticsData> findByEventType(String eventType) {
+        return jdbcClient.sql(SELECT_COLUMNS + " WHERE eventType = ?")
+                .param(eventType)
+                .query(ROW_MAPPER)
+                .list();
+    }
+
+    @Override
+    public List<AnalyticsData> findAll() {
+        return jdbcClient.sql(SELECT_COLUMNS)
+                .query(ROW_MAPPER)
+                .list();
+    }
+
+    @Override
+    public List<AnalyticsData> findByEventTypeAndOccurredAtBetween(String eventType, AnalyticsDataTimeRange range) {
+        return jdbcClient.sql(SELECT_COLUMNS
+                        + " WHERE eventType = ? AND occurredAt >= ? AND occurredAt < ? ORDER BY occurredAt, id")
+                .params(eventType, timestamp(range.from()), timestamp(range.to()))
+                .query(ROW_MAPPER)
+                .list();
+    }
+
+    /**
+     * 구간 경계(occurredAt >= ? AND occurredAt < ?)는 커서 조건과 별도로 항상 포함하여
+     * 파티션 제외에 사용되도록 합니다. (행 값 비교만으로는 파티션이 제외되지 않습니다)
+     */
+    @Override
+    public KeysetPage<AnalyticsData> findPageByOccurredAtBetween(
+            AnalyticsDataTimeRange range, String eventType, AnalyticsDataCursor after, int size) {
+        StringBuilder sql = new StringBuilder(SELECT_COLUMNS);
+        List<Object> params = new ArrayList<>();
+        appendFilters(sql, params, range, eventType);
+        if (after != null) {
+            sql.append(" AND (occurredAt, id) > (?, ?)");
+            params.add(timestamp(after.occurredAt()));
+            params.add(after.id());
+        }
+        sql.append(" ORDER BY occurredAt, id LIMIT ?");
+        params.add(size + 1);
+        return KeysetPage.of(jdbcClient.sql(sql.toString()).params(params).query(ROW_MAPPER).list(), size);
+    }
+
+    /**
+     * 행 값 비교 (occurredAt, id) > (?, ?)로 (occurredAt, id) 복합 인덱스를 범위 스캔합니다.
+     */
+    @Override
+    public KeysetPage<AnalyticsData> findPageAfter(AnalyticsDataCursor after, int size) {
+        JdbcClient.StatementSpec statement = after == null
+                ? jdbcClient.sql(SELECT_COLUMNS + " ORDER BY occurredAt, id LIMIT ?")
+                .param(size + 1)
+                : jdbcClient.sql(SELECT_COLUMNS + " WHERE (occurredAt, id) > (?, ?) ORDER BY occurredAt, id LIMIT ?")
+                .params(timestamp(after.occurredAt()), after.id(), size + 1);
+        return KeysetPage.of(statement.query(ROW_MAPPER).list(), size);
+    }
+
+    // ===================================================
+    // 집계
+    // ===================================================
+
+    @Override
+    public List<AnalyticsEventTypeCount> countByEventType(AnalyticsDataTimeRange range) {
+        StringBuilder sql = new StringBuilder("SELECT eventType, COUNT(*) AS cnt FROM analytics_data");
+        List<Object> params = new ArrayList<>();
+        appendFilters(sql, params, range, null);
+        sql.append(" GROUP BY eventType ORDER BY eventType");
+        return jdbcClient.sql(sql.toString())
+                .params(params)
+                .query((rs, rowNum) -> new AnalyticsEventTypeCount(rs.getString("eventType"), rs.getLong("cnt")))
+                .list();
+    }
+
+    @Override
+    public List<AnalyticsHistogramBucket> histogram(
+            AnalyticsDataTimeRange range, String eventType, AnalyticsTimeBucket bucket) {
+        return histogramQuery.fetch(range, eventType, bucket);
+    }
+
+    @Override
+    public AnalyticsDataSummary summarize(AnalyticsDataTimeRange range, String eventType) {
+        StringBuilder sql = new StringBuilder(
+                "SELECT COUNT(*) AS cnt, MIN(occurredAt) AS minOccurredAt, MAX(occurredAt) AS maxOccurredAt"
+                        + " FROM analytics_data");
+        List<Object> params = new ArrayList<>();
+        appendFilters(sql, params, range, eventType);
+        return jdbcClient.sql(sql.toString())
+                .params(params)
+                .query((rs, rowNum) -> new AnalyticsDataSummary(
+                        rs.getLong("cnt"),
+                        rs.getObject("minOccurredAt", LocalDateTime.class),
+                        rs.getObject("maxOccurredAt", LocalDateTime.class)))
+                .single();
+    }
+
+    @Override
+    public Stream<AnalyticsData> streamAll() {
+        return streamingJdbcClient.sql(SELECT_COLUMNS)
+                .query(ROW_MAPPER)
+                .stream();
+    }
+
+    /**
+     * 발생 시간 구간과 이벤트 유형 조건 추가 (null인 조건은 생략)
+     * <p>
+     * 구간은 occurredAt을 가공하지 않고 비교하여 파티션 제외에 사용되도록 합니다.
+     */
+    private static void appendFilters(StringBuilder sql, List<Object> params,
+                                      AnalyticsDataTimeRange range, String eventType) {
+        List<String> conditions = new ArrayList<>();
+        if (range != null) {
+            conditions.add("occurredAt >= ? AND occurredAt < ?");
+            params.add(timestamp(range.from()));
+            params.add(timestamp(range.to()));
+        }
+        if (eventType != null) {
+            conditions.add("eventType = ?");
+            params.add(eventType);
+        }
+        if (!conditions.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+    }
+
+    private AnalyticsData withIdAndCreatedAt(AnalyticsData data, LocalDateTime createdAt) {
+        return AnalyticsData.builder()
+                .id(idAllocator.next())
+                .eventType(data.getEventType())
+                .eventData(data.getEventData())
+                .occurredAt(data.getOccurredAt())
+                .createdAt(createdAt)
+                .build();
+    }
+
+    private static Timestamp timestamp(LocalDateTime value) {
+        return value == null ? null : Timestamp.valueOf(value);
+    }
+}
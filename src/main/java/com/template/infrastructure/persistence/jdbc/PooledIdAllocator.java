@@ -0,0 +1,48 @@
+package com.template.infrastructure.persistence.jdbc;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 시퀀스 기반 pooled ID 할당기
+ * <p>
+ * 시퀀스 1회 조회로 얻은 값 v를 블록의 첫 ID로 보고 [v, v + allocationSize - 1] 범위를
+ * 메모리에서 할당합니다. Hibernate pooled-lo 옵티마이저, COPY 적재기와 같은 규칙이므로
+ * 같은 시퀀스를 쓰는 다른 저장 경로와 ID가 겹치지 않습니다.
+ * <p>
+ * 시퀀스 조회는 호출자의 트랜잭션 커넥션을 사용하지만, 시퀀스 값은 롤백되지 않으므로
+ * 트랜잭션이 롤백되어도 이미 받은 블록은 그대로 사용합니다.
+ * <p>
+ * 시퀀스 조회 중 가상 스레드가 캐리어 스레드에 고정되지 않도록 synchronized 대신 ReentrantLock을 사용합니다.
+ */
+class PooledIdAllocator {
+
+    private static final String NEXT_VALUE_SQL = "SELECT nextval('analytics_data_seq')";
+
+    private final JdbcClient jdbcClient;
+    private final int allocationSize;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private long next;
+    private long last = -1;
+
+    PooledIdAllocator(JdbcClient jdbcClient, int allocationSize) {
+        this.jdbcClient = jdbcClient;
+        this.allocationSize = allocationSize;
+    }
+
+    long next() {
+        lock.lock();
+        try {
+            if (next > last) {
+                long blockStart = jdbcClient.sql(NEXT_VALUE_SQL).query(Long.class).single();
+                next = blockStart;
+                last = blockStart + allocationSize - 1;
+            }
+            return next++;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.template.infrastructure.persistence.jpa;
+
+import com.template.domain.analytics.AnalyticsData;
+import com.template.infrastructure.persistence.entity.AnalyticsDataEntity;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.support.SQLExceptionTranslator;
+import org.springframework.jdbc.support.SQLStateSQLExceptionTranslator;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+
+/**
+ * 분석 데이터 COPY 기반 대량 적재기 (GPDB1, GPDB2 공용)
+ * <p>
+ * PostgreSQL/Greenplum에서는 {@code COPY analytics_data FROM STDIN}(CSV)으로
+ * 행을 스트리밍 전송합니다. 입력 스트림을 한 행씩 CSV로 변환해 바로 전송하므로
+ * 적재 건수와 무관하게 메모리 사용량이 일정합니다.
+ * <p>
+ * <b>ID 할당:</b>
+ * COPY는 Hibernate ID 생성기를 거치지 않으므로, 엔티티와 같은 시퀀스(analytics_data_seq)에서
+ * {@value AnalyticsDataEntity#ID_ALLOCATION_SIZE}개 단위 블록을 미리 예약하여 사용합니다.
+ * pooled-lo 옵티마이저와 같은 블록 규칙(시퀀스 값이 블록의 첫 ID)을 따르므로 JPA 저장 경로와 ID가 겹치지 않습니다.
+ * COPY 진행 중에는 같은 커넥션으로 쿼리를 보낼 수 없으므로, 예약한 ID를 모두 쓰면
+ * 현재 COPY를 끝내고 다음 블록을 예약한 뒤 새 COPY를 시작합니다.
+ * <p>
+ * <b>Fallback:</b>
+ * PostgreSQL 커넥션이 아니면(local 프로파일의 H2 등) 입력을 배치 크기만큼 나누어
+ * 전달받은 일괄 저장 함수(JDBC 배치 INSERT)로 저장합니다.
+ * <p>
+ * <b>주의:</b> 호출자의 트랜잭션 커넥션을 사용하므로 반드시 해당 데이터소스의 트랜잭션 안에서 호출해야 합니다.
+ */
+public class AnalyticsDataCopyLoader {
+
+    private static final String COPY_SQL =
+            "COPY analytics_data (id, eventType, eventData, occurredAt, createdAt) FROM STDIN WITH (FORMAT csv)";
+
+    private static final String RESERVE_ID_BLOCKS_SQL =
+            "SELECT nextval('analytics_data_seq') FROM generate_series(1, ?)";
+
+    /**
+     * COPY 1회당 예약할 ID 블록 수 (블록당 ID_ALLOCATION_SIZE개, 즉 COPY 1회당 최대 10,000행)
+     */
+    private static final int ID_BLOCKS_PER_COPY = 200;
+
+    /**
+     * COPY 전송 버퍼 크기 (바이트)
+     */
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private static final String TASK = "COPY analytics_data";
+
+    private static final SQLExceptionTranslator EXCEPTION_TRANSLATOR = new SQLStateSQLExceptionTranslator();
+
+    private final DataSource dataSource;
+    private final int fallbackBatchSize;
+
+    /**
+     * @param dataSource        적재 대상 데이터소스
+     * @param fallbackBatchSize COPY를 사용할 수 없을 때의 배치 INSERT 크기
+     */
+    public AnalyticsDataCopyLoader(DataSource dataSource, int fallbackBatchSize) {
+        this.dataSource = dataSource;
+        this.fallbackBatchSize = fallbackBatchSize;
+    }
+
+    /**
+     * 분석 데이터 대량 적재
+     *
+     * @param rows     적재할 분석 데이터 스트림
+     * @param fallback COPY를 사용할 수 없을 때 호출할 일괄 저장 함수
+     * @return 적재된 건수
+     */
+    public long load(Stream<AnalyticsData> rows, ToIntFunction<List<AnalyticsData>> fallback) {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            if (connection.isWrapperFor(PGConnection.class)) {
+                return copyIn(connection, connection.unwrap(PGConnection.class), rows.iterator());
+            }
+            return loadInBatches(rows.iterator(), fallback);
+        } catch (SQLException e) {
+            throw translate(e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    /**
+     * SQLState로 분류할 수 없는 오류(Greenplum XX000 등)는 원인을 보존하여 UncategorizedSQLException으로 변환
+     */
+    private static DataAccessException translate(SQLException e) {
+        DataAccessException translated = EXCEPTION_TRANSLATOR.translate(TASK, COPY_SQL, e);
+        return translated != null ? translated : new UncategorizedSQLException(TASK, COPY_SQL, e);
+    }
+
+    // ===================================================
+    // COPY (PostgreSQL / Greenplum)
+    // ===================================================
+
+    private long copyIn(Connection connection, PGConnection pgConnection, Iterator<AnalyticsData> rows)
+            throws SQLException {
+        long loaded = 0;
+        while (rows.hasNext()) {
+            long[] idBlocks = reserveIdBlocks(connection);
+            loaded += copyChunk(pgConnection, rows, idBlocks);
+        }
+        return loaded;
+    }
+
+    /**
+     * 예약한 ID 블록을 모두 쓰거나 입력이 끝날 때까지 COPY 한 번으로 전송
+     */
+    private long copyChunk(PGConnection pgConnection, Iterator<AnalyticsData> rows, long[] idBlocks)
+            throws SQLException {
+        PGCopyOutputStream out = new PGCopyOutputStream(pgConnection, COPY_SQL, COPY_BUFFER_SIZE);
+        boolean completed = false;
+        try {
+            Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+            StringBuilder line = new StringBuilder(256);
+            LocalDateTime createdAt = LocalDateTime.now();
+
+            for (long blockStart : idBlocks) {
+                long blockEnd = blockStart + AnalyticsDataEntity.ID_ALLOCATION_SIZE - 1;
+                for (long id = blockStart; id <= blockEnd && rows.hasNext(); id++) {
+                    line.setLength(0);
+                    appendCsvRow(line, id, rows.next(), createdAt);
+                    writer.append(line);
+                }
+            }
+            writer.flush();
+            long copied = out.endCopy();
+            completed = true;
+            return copied;
+        } catch (IOException e) {
+            throw new UncheckedIOException("COPY 데이터 전송에 실패했습니다.", e);
+        } finally {
+            // 실패 시 COPY를 취소해야 같은 트랜잭션 커넥션으로 롤백할 수 있습니다
+            if (!completed && out.isActive()) {
+                out.cancelCopy();
+            }
+        }
+    }
+
+    /**
+     * 시퀀스에서 ID 블록 예약 (각 값은 블록의 첫 ID)
+     */
+    private long[] reserveIdBlocks(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(RESERVE_ID_BLOCKS_SQL)) {
+            statement.setInt(1, ID_BLOCKS_PER_COPY);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                long[] blockStarts = new long[ID_BLOCKS_PER_COPY];
+                int count = 0;
+                while (resultSet.next()) {
+                    blockStarts[count++] = resultSet.getLong(1);
+                }
+                return blockStarts;
+            }
+        }
+    }
+
+    private static void appendCsvRow(StringBuilder line, long id, AnalyticsData data, LocalDateTime createdAt) {
+        line.append(id).append(',');
+        appendQuoted(line, data.getEventType());
+        line.append(',');
+        appendQuoted(line, data.getEventData());
+        line.append(',');
+        if (data.getOccurredAt() != null) {
+            line.append(data.getOccurredAt());
+        }
+        line.append(',').append(createdAt).append('\n');
+    }
+
+    /**
+     * CSV 문자열 값 기록 (null은 따옴표 없는 빈 값 = NULL, 빈 문자열은 "")
+     */
+    private static void appendQuoted(StringBuilder line, String value) {
+        if (value == null) {
+            return;
+        }
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                line.append('"');
+            }
+            line.append(c);
+        }
+        line.append('"');
+    }
+
+    // ===================================================
+    // Fallback (H2 등)
+    // ===================================================
+
+    private long loadInBatches(Iterator<AnalyticsData> rows, ToIntFunction<List<AnalyticsData>> saveAll) {
+        List<AnalyticsData> batch = new ArrayList<>(fallbackBatchSize);
+        long loaded = 0;
+        while (rows.hasNext()) {
+            batch.add(rows.next());
+            if (batch.size() == fallbackBatchSize) {
+                loaded += saveAll.applyAsInt(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            loaded += saveAll.applyAsInt(batch);
+        }
+        return loaded;
+    }
+}
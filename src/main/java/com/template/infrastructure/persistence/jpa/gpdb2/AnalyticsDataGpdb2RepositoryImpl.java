@@ -1,13 +1,38 @@
 package com.template.infrastructure.persistence.jpa.gpdb2;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.DateTimeExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.template.domain.analytics.AnalyticsData;
+import com.template.domain.analytics.AnalyticsDataCursor;
 import com.template.domain.analytics.AnalyticsDataRepository;
+import com.template.domain.analytics.AnalyticsDataSummary;
+import com.template.domain.analytics.AnalyticsDataTimeRange;
+import com.template.domain.analytics.AnalyticsEventTypeCount;
+import com.template.domain.analytics.AnalyticsHistogramBucket;
+import com.template.domain.analytics.AnalyticsTimeBucket;
+import com.template.domain.common.page.KeysetPage;
+import com.template.infrastructure.persistence.jdbc.AnalyticsHistogramQuery;
+import com.template.infrastructure.persistence.jpa.AnalyticsDataCopyLoader;
+import com.template.infrastructure.persistence.entity.QAnalyticsDataEntity;
 import com.template.infrastructure.persistence.mapper.AnalyticsDataMapper;
-import lombok.RequiredArgsConstructor;
+import com.template.infrastructure.persistence.mapper.AnalyticsDataProjection;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 분석 데이터 리포지토리 구현체 (GPDB2)
@@ -25,35 +50,227 @@ import java.util.Optional;
  * }
  * }
  * </pre>
+ * <p>
+ * <b>일괄 저장:</b>
+ * {@link #saveAll(List)}은 EntityManager에 직접 persist 한 뒤 JDBC 배치 크기마다
+ * flush/clear 하여 영속성 컨텍스트 크기를 일정하게 유지합니다.
+ * (hibernate.jdbc.batch_size, hibernate.order_inserts 설정 필요)
+ * <p>
+ * <b>조회:</b>
+ * 모든 조회는 {@link AnalyticsDataProjection}으로 컬럼을 도메인 객체에 바로 담습니다.
+ * 엔티티를 로딩하지 않으므로 영속성 컨텍스트와 변경 감지 스냅샷 비용이 없습니다.
+ * <p>
+ * <b>기간 조회:</b>
+ * 발생 시간 구간은 occurredAt 컬럼을 그대로 비교({@code >= from AND < to})하므로
+ * occurredAt 범위 파티션 테이블에서 구간 밖 파티션이 제외됩니다.
+ * <p>
+ * <b>집계:</b>
+ * 이벤트 유형별 건수와 요약(건수, 최초/최종 발생 시간)은 QueryDSL GROUP BY/집계 함수로,
+ * 히스토그램은 {@link AnalyticsHistogramQuery}(date_trunc 네이티브 SQL)로 DB에서 계산합니다.
+ * <p>
+ * <b>스트리밍 조회:</b>
+ * {@link #streamAll()}은 fetch size를 지정한 읽기 전용 커서로 조회합니다.
+ * <p>
+ * <b>대량 적재:</b>
+ * {@link #bulkLoad(Stream)}은 {@link AnalyticsDataCopyLoader}로 COPY FROM STDIN 스트리밍 적재를 수행하며,
+ * H2(local 프로파일)에서는 {@link #saveAll(List)} 배치로 대체됩니다.
+ * <p>
+ * analytics.repository.engine.gpdb2=JDBC이면 이 구현체 대신 JdbcAnalyticsDataRepository가 등록됩니다.
  */
 @Repository("gpdb2AnalyticsDataRepository")
-@RequiredArgsConstructor
+@ConditionalOnProperty(name = "analytics.repository.engine.gpdb2", havingValue = "JPA", matchIfMissing = true)
 public class AnalyticsDataGpdb2RepositoryImpl implements AnalyticsDataRepository {
 
+    private static final QAnalyticsDataEntity ENTITY = QAnalyticsDataEntity.analyticsDataEntity;
+    private static final AnalyticsDataProjection PROJECTION = new AnalyticsDataProjection(ENTITY);
+
     private final AnalyticsDataGpdb2JpaRepository jpaRepository;
     private final AnalyticsDataMapper mapper;
+    private final JPAQueryFactory queryFactory;
+    private final DataSource dataSource;
+    private final AnalyticsHistogramQuery histogramQuery;
+
+    @PersistenceContext(unitName = "gpdb2")
+    private EntityManager entityManager;
+
+    /**
+     * flush/clear 주기 (Hibernate JDBC 배치 크기와 동일하게 맞춥니다)
+     */
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:500}")
+    private int batchSize;
+
+    /**
+     * 스트리밍 조회 시 한 번에 가져올 행 수 (서버 사이드 커서 fetch size)
+     */
+    @Value("${analytics.export.fetch-size:1000}")
+    private int exportFetchSize;
+
+    /**
+     * 생성자 주입
+     * <p>
+     * GPDB2 영속성 유닛에 연결된 JPAQueryFactory와 DataSource를 @Qualifier로 구분하여 주입받습니다.
+     */
+    public AnalyticsDataGpdb2RepositoryImpl(
+            AnalyticsDataGpdb2JpaRepository jpaRepository,
+            AnalyticsDataMapper mapper,
+            @Qualifier("gpdb2JpaQueryFactory") JPAQueryFactory queryFactory,
+            @Qualifier("gpdb2DataSource") DataSource dataSource) {
+        this.jpaRepository = jpaRepository;
+        this.mapper = mapper;
+        this.queryFactory = queryFactory;
+        this.dataSource = dataSource;
+        this.histogramQuery = new AnalyticsHistogramQuery(dataSource);
+    }
 
     @Override
     public AnalyticsData save(AnalyticsData data) {
         return mapper.toDomain(jpaRepository.save(mapper.toEntity(data)));
     }
 
+    @Override
+    public int saveAll(List<AnalyticsData> data) {
+        for (int i = 0; i < data.size(); i++) {
+            entityManager.persist(mapper.toEntity(data.get(i)));
+            if ((i + 1) % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return data.size();
+    }
+
+    @Override
+    public long bulkLoad(Stream<AnalyticsData> data) {
+        return new AnalyticsDataCopyLoader(dataSource, batchSize).load(data, this::saveAll);
+    }
+
     @Override
     public Optional<AnalyticsData> findById(Long id) {
-        return jpaRepository.findById(id).map(mapper::toDomain);
+        return Optional.ofNullable(selectProjection()
+                .where(ENTITY.id.eq(id))
+                .fetchOne());
     }
 
     @Override
     public List<AnalyticsData> findByEventType(String eventType) {
-        return jpaRepository.findByEventType(eventType).stream()
-                .map(mapper::toDomain)
-                .toList();
+        return selectProjection()
+                .where(ENTITY.eventType.eq(eventType))
+                .fetch();
     }
 
     @Override
     public List<AnalyticsData> findAll() {
-        return jpaRepository.findAll().stream()
-                .map(mapper::toDomain)
+        return selectProjection().fetch();
+    }
+
+    @Override
+    public List<AnalyticsData> findByEventTypeAndOccurredAtBetween(String eventType, AnalyticsDataTimeRange range) {
+        return selectProjection()
+                .where(ENTITY.eventType.eq(eventType), within(ENTITY, range))
+                .orderBy(ENTITY.occurredAt.asc(), ENTITY.id.asc())
+                .fetch();
+    }
+
+    @Override
+    public KeysetPage<AnalyticsData> findPageByOccurredAtBetween(
+            AnalyticsDataTimeRange range, String eventType, AnalyticsDataCursor after, int size) {
+        List<AnalyticsData> fetched = selectProjection()
+                .where(within(ENTITY, range),
+                        eventType == null ? null : ENTITY.eventType.eq(eventType),
+                        after(ENTITY, after))
+                .orderBy(ENTITY.occurredAt.asc(), ENTITY.id.asc())
+                .limit(size + 1L)
+                .fetch();
+        return KeysetPage.of(fetched, size);
+    }
+
+    @Override
+    public KeysetPage<AnalyticsData> findPageAfter(AnalyticsDataCursor after, int size) {
+        List<AnalyticsData> fetched = selectProjection()
+                .where(after(ENTITY, after))
+                .orderBy(ENTITY.occurredAt.asc(), ENTITY.id.asc())
+                .limit(size + 1L)
+                .fetch();
+        return KeysetPage.of(fetched, size);
+    }
+
+    @Override
+    public List<AnalyticsEventTypeCount> countByEventType(AnalyticsDataTimeRange range) {
+        NumberExpression<Long> count = ENTITY.count();
+        List<Tuple> rows = queryFactory
+                .select(ENTITY.eventType, count)
+                .from(ENTITY)
+                .where(within(ENTITY, range))
+                .groupBy(ENTITY.eventType)
+                .orderBy(ENTITY.eventType.asc())
+                .fetch();
+        return rows.stream()
+                .map(row -> new AnalyticsEventTypeCount(row.get(ENTITY.eventType), row.get(count)))
                 .toList();
     }
+
+    @Override
+    public List<AnalyticsHistogramBucket> histogram(
+            AnalyticsDataTimeRange range, String eventType, AnalyticsTimeBucket bucket) {
+        return histogramQuery.fetch(range, eventType, bucket);
+    }
+
+    @Override
+    public AnalyticsDataSummary summarize(AnalyticsDataTimeRange range, String eventType) {
+        NumberExpression<Long> count = ENTITY.count();
+        DateTimeExpression<LocalDateTime> min = ENTITY.occurredAt.min();
+        DateTimeExpression<LocalDateTime> max = ENTITY.occurredAt.max();
+        Tuple row = queryFactory
+                .select(count, min, max)
+                .from(ENTITY)
+                .where(within(ENTITY, range), eventType == null ? null : ENTITY.eventType.eq(eventType))
+                .fetchOne();
+        if (row == null) {
+            return AnalyticsDataSummary.EMPTY;
+        }
+        return new AnalyticsDataSummary(row.get(count), row.get(min), row.get(max));
+    }
+
+    @Override
+    public Stream<AnalyticsData> streamAll() {
+        return selectProjection()
+                .setHint(HibernateHints.HINT_FETCH_SIZE, exportFetchSize)
+                .stream();
+    }
+
+    /**
+     * 읽기 전용 프로젝션 조회 (엔티티 로딩 없이 도메인 객체로 조회)
+     */
+    private JPAQuery<AnalyticsData> selectProjection() {
+        return queryFactory
+                .select(PROJECTION)
+                .from(ENTITY)
+                .setHint(HibernateHints.HINT_READ_ONLY, true);
+    }
+
+    /**
+     * from <= occurredAt < to 조건 (파티션 제외가 가능하도록 컬럼을 가공하지 않습니다)
+     */
+    private BooleanExpression within(QAnalyticsDataEntity entity, AnalyticsDataTimeRange range) {
+        if (range == null) {
+            return null;
+        }
+        return entity.occurredAt.goe(range.from()).and(entity.occurredAt.lt(range.to()));
+    }
+
+    /**
+     * (occurredAt, id) > (cursor.occurredAt, cursor.id) 조건
+     * <p>
+     * JPQL은 행 값 비교를 지원하지 않으므로 OR 조건으로 풀어서 작성합니다.
+     * (occurredAt, id) 복합 인덱스로 범위 스캔됩니다.
+     */
+    private BooleanExpression after(QAnalyticsDataEntity entity, AnalyticsDataCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return entity.occurredAt.gt(cursor.occurredAt())
+                .or(entity.occurredAt.eq(cursor.occurredAt()).and(entity.id.gt(cursor.id())));
+    }
 }
@@ -1,14 +1,26 @@
 package com.template.infrastructure.persistence.jpa.primary;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.DateTimeExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.template.domain.common.page.KeysetPage;
 import com.template.domain.sample.Sample;
+import com.template.domain.sample.SampleCollectionVersion;
 import com.template.domain.sample.SampleRepository;
 import com.template.infrastructure.persistence.entity.QSampleEntity;
 import com.template.infrastructure.persistence.entity.SampleEntity;
 import com.template.infrastructure.persistence.mapper.SampleMapper;
+import com.template.infrastructure.persistence.mapper.SampleProjection;
+import com.template.infrastructure.persistence.search.SampleTitleIndex;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,34 +40,77 @@ import java.util.Optional;
  * └─────────────────┘          └─────────────────────────┘
  * </pre>
  *
+ * <p>
+ * <b>조회:</b>
+ * 모든 조회는 {@link SampleProjection}으로 컬럼을 도메인 객체에 바로 담습니다.
+ * 엔티티를 로딩하지 않으므로 영속성 컨텍스트와 변경 감지 스냅샷 비용이 없습니다.
+ * <p>
+ * <b>제목 검색:</b>
+ * {@link #findByTitleContaining(String)}은 {@link SampleTitleIndex}에서 일치하는 ID를 찾은 뒤
+ * 해당 ID만 조회합니다. 인덱스가 준비되기 전에는 {@code LIKE} 조회로 처리합니다.
+ *
  * @see com.template.domain.sample.SampleRepository
  */
 @Repository
 @RequiredArgsConstructor
 public class SampleRepositoryImpl implements SampleRepository {
 
+    /**
+     * ID 목록 조회 시 IN 절 최대 크기 (Oracle 제한: 1000)
+     */
+    private static final int IN_CLAUSE_LIMIT = 1000;
+
+    private static final QSampleEntity ENTITY = QSampleEntity.sampleEntity;
+    private static final SampleProjection PROJECTION = new SampleProjection(ENTITY);
+
     private final SampleJpaRepository jpaRepository;
     private final JPAQueryFactory queryFactory;
     private final SampleMapper mapper;
+    private final SampleTitleIndex titleIndex;
 
     @Override
     public Sample save(Sample domain) {
         SampleEntity entity = mapper.toEntity(domain);
-        SampleEntity saved = jpaRepository.save(entity);
+        // 감사 필드(createdAt, updatedAt)는 flush 시점에 채워지므로, 반환 값이 실제 저장된 값을 갖도록 flush 합니다.
+        // 반환 값은 SampleService에서 @CachePut으로 캐시에 그대로 보관되므로, flush 하지 않으면
+        // 캐시된 샘플이 이전 수정 시간(또는 null)을 계속 반환합니다.
+        SampleEntity saved = jpaRepository.saveAndFlush(entity);
         return mapper.toDomain(saved);
     }
 
     @Override
     public Optional<Sample> findById(Long id) {
-        return jpaRepository.findById(id)
-                .map(mapper::toDomain);
+        return Optional.ofNullable(selectProjection()
+                .where(ENTITY.id.eq(id))
+                .fetchOne());
     }
 
     @Override
     public List<Sample> findAll() {
-        return jpaRepository.findAll().stream()
-                .map(mapper::toDomain)
-                .toList();
+        return selectProjection().fetch();
+    }
+
+    @Override
+    public SampleCollectionVersion findCollectionVersion() {
+        NumberExpression<Long> count = ENTITY.count();
+        DateTimeExpression<LocalDateTime> lastUpdatedAt = ENTITY.updatedAt.max();
+        Tuple row = queryFactory
+                .select(count, lastUpdatedAt)
+                .from(ENTITY)
+                .fetchOne();
+        return row == null
+                ? new SampleCollectionVersion(0, null)
+                : new SampleCollectionVersion(row.get(count), row.get(lastUpdatedAt));
+    }
+
+    @Override
+    public KeysetPage<Sample> findPageAfter(Long afterId, int size) {
+        List<Sample> fetched = selectProjection()
+                .where(afterId == null ? null : ENTITY.id.gt(afterId))
+                .orderBy(ENTITY.id.asc())
+                .limit(size + 1L)
+                .fetch();
+        return KeysetPage.of(fetched, size);
     }
 
     @Override
@@ -65,14 +120,33 @@ public class SampleRepositoryImpl implements SampleRepository {
 
     @Override
     public List<Sample> findByTitleContaining(String title) {
-        QSampleEntity entity = QSampleEntity.sampleEntity;
+        if (titleIndex.isReady()) {
+            return findAllById(titleIndex.search(title));
+        }
+
+        return selectProjection()
+                .where(ENTITY.title.containsIgnoreCase(title))
+                .fetch();
+    }
+
+    private List<Sample> findAllById(List<Long> ids) {
+        List<Sample> samples = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_LIMIT) {
+            samples.addAll(selectProjection()
+                    .where(ENTITY.id.in(ids.subList(from, Math.min(from + IN_CLAUSE_LIMIT, ids.size()))))
+                    .fetch());
+        }
+        samples.sort(Comparator.comparing(Sample::getId));
+        return samples;
+    }
 
+    /**
+     * 읽기 전용 프로젝션 조회 (엔티티 로딩 없이 도메인 객체로 조회)
+     */
+    private JPAQuery<Sample> selectProjection() {
         return queryFactory
-                .selectFrom(entity)
-                .where(entity.title.containsIgnoreCase(title))
-                .fetch()
-                .stream()
-                .map(mapper::toDomain)
-                .toList();
+                .select(PROJECTION)
+                .from(ENTITY)
+                .setHint(HibernateHints.HINT_READ_ONLY, true);
     }
 }
@@ -0,0 +1,41 @@
+package com.template.infrastructure.persistence.mapper;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.MappingProjection;
+import com.template.domain.analytics.AnalyticsData;
+import com.template.infrastructure.persistence.entity.QAnalyticsDataEntity;
+
+/**
+ * 분석 데이터 조회 프로젝션 (컬럼 → 도메인 객체)
+ * <p>
+ * 엔티티를 로딩하지 않고 조회한 컬럼 값으로 {@link AnalyticsData}를 바로 생성합니다.
+ * 영속성 컨텍스트에 엔티티와 변경 감지용 스냅샷이 쌓이지 않으므로,
+ * 수정하지 않는 조회 결과에 {@link AnalyticsDataMapper#toDomain} 대신 사용합니다.
+ *
+ * <pre>
+ * {@code
+ * queryFactory.select(new AnalyticsDataProjection(entity)).from(entity).fetch();
+ * }
+ * </pre>
+ */
+public class AnalyticsDataProjection extends MappingProjection<AnalyticsData> {
+
+    private final transient QAnalyticsDataEntity entity;
+
+    public AnalyticsDataProjection(QAnalyticsDataEntity entity) {
+        super(AnalyticsData.class,
+                entity.id, entity.eventType, entity.eventData, entity.occurredAt, entity.createdAt);
+        this.entity = entity;
+    }
+
+    @Override
+    protected AnalyticsData map(Tuple row) {
+        return AnalyticsData.builder()
+                .id(row.get(entity.id))
+                .eventType(row.get(entity.eventType))
+                .eventData(row.get(entity.eventData))
+                .occurredAt(row.get(entity.occurredAt))
+                .createdAt(row.get(entity.createdAt))
+                .build();
+    }
+}
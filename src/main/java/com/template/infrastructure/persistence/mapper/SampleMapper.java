@@ -37,6 +37,8 @@ public class SampleMapper {
                 .id(domain.getId())
                 .title(domain.getTitle())
                 .content(domain.getContent())
+                // 수정(merge) 시 반환되는 엔티티가 생성 시간을 잃지 않도록 전달합니다 (컬럼은 updatable = false)
+                .createdAt(domain.getCreatedAt())
                 .build();
     }
 
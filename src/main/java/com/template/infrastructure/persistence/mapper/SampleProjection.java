@@ -0,0 +1,35 @@
+package com.template.infrastructure.persistence.mapper;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.MappingProjection;
+import com.template.domain.sample.Sample;
+import com.template.infrastructure.persistence.entity.QSampleEntity;
+
+/**
+ * 샘플 조회 프로젝션 (컬럼 → 도메인 객체)
+ * <p>
+ * 엔티티를 로딩하지 않고 조회한 컬럼 값으로 {@link Sample}을 바로 생성합니다.
+ * 영속성 컨텍스트에 엔티티와 변경 감지용 스냅샷이 쌓이지 않으므로,
+ * 수정하지 않는 조회 결과에 {@link SampleMapper#toDomain} 대신 사용합니다.
+ */
+public class SampleProjection extends MappingProjection<Sample> {
+
+    private final transient QSampleEntity entity;
+
+    public SampleProjection(QSampleEntity entity) {
+        super(Sample.class,
+                entity.id, entity.title, entity.content, entity.createdAt, entity.updatedAt);
+        this.entity = entity;
+    }
+
+    @Override
+    protected Sample map(Tuple row) {
+        return Sample.builder()
+                .id(row.get(entity.id))
+                .title(row.get(entity.title))
+                .content(row.get(entity.content))
+                .createdAt(row.get(entity.createdAt))
+                .updatedAt(row.get(entity.updatedAt))
+                .build();
+    }
+}
@@ -0,0 +1,211 @@
+package com.template.infrastructure.persistence.search;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * 샘플 제목 트라이그램(3-gram) 역색인 (인메모리)
+ * <p>
+ * 제목을 소문자로 정규화한 뒤 연속된 세 글자마다 샘플 ID 목록을 보관합니다.
+ * 부분 문자열 검색 시 검색어의 트라이그램 목록을 교집합하여 후보를 좁히고,
+ * 보관 중인 제목으로 실제 포함 여부를 확인하므로 결과는 {@code LIKE '%검색어%'}와 같습니다.
+ * <p>
+ * <b>동시성:</b>
+ * 변경은 한 번에 하나씩(synchronized) 적용되고 검색은 잠금 없이 수행됩니다.
+ * 변경 도중의 검색은 최종적으로 제목 확인을 거치므로 잘못된 결과를 반환하지 않습니다.
+ * <p>
+ * <b>재구성:</b>
+ * 재구성 스캔은 DB의 제목으로 색인을 맞추고, 스캔에 없는 ID(다른 인스턴스에서 삭제된 샘플)는 제거합니다.
+ * 재구성 중에 도착한 변경 이벤트가 더 최신이므로, 그 사이 변경/삭제된 ID는 스캔 결과로 덮어쓰지 않습니다.
+ * <p>
+ * <b>다중 인스턴스:</b>
+ * 색인은 인스턴스마다 따로 보관되며 변경 이벤트는 해당 변경을 처리한 인스턴스에만 전달됩니다.
+ * 다른 인스턴스의 변경은 다음 주기적 재구성({@code sample.title-index.rebuild-interval})까지 반영되지 않으므로,
+ * 인스턴스가 여러 개이면 검색 결과가 최대 재구성 주기만큼 늦을 수 있습니다.
+ * 즉시 반영이 필요하면 변경 이벤트를 메시지 브로커로 전파하거나 DB 전문 검색 색인을 사용해야 합니다.
+ */
+@Component
+public class SampleTitleIndex {
+
+    private static final int GRAM = 3;
+
+    /**
+     * 샘플 ID → 정규화된 제목
+     */
+    private final Map<Long, String> titles = new ConcurrentHashMap<>();
+
+    /**
+     * 트라이그램 → 샘플 ID 목록
+     */
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+
+    /**
+     * 재구성 중 변경 이벤트로 변경/삭제된 ID (재구성 스캔이 덮어쓰지 않도록)
+     */
+    private final Set<Long> changedDuringRebuild = new HashSet<>();
+
+    /**
+     * 재구성 스캔으로 읽은 ID (스캔에 없는 ID를 제거하기 위해)
+     */
+    private final Set<Long> scanned = new HashSet<>();
+
+    private volatile boolean ready;
+    private boolean rebuilding;
+
+    // ===================================================
+    // 변경
+    // ===================================================
+
+    /**
+     * 샘플 색인 (이미 있으면 제목 변경분만 반영)
+     */
+    public synchronized void index(Long id, String title) {
+        if (rebuilding) {
+            changedDuringRebuild.add(id);
+        }
+        put(id, title);
+    }
+
+    /**
+     * 샘플 색인 제거
+     */
+    public synchronized void remove(Long id) {
+        if (rebuilding) {
+            changedDuringRebuild.add(id);
+        }
+        delete(id);
+    }
+
+    /**
+     * 재구성 시작
+     *
+     * @return 이미 재구성 중이면 false
+     */
+    synchronized boolean beginRebuild() {
+        if (rebuilding) {
+            return false;
+        }
+        rebuilding = true;
+        return true;
+    }
+
+    /**
+     * 재구성 스캔으로 읽은 샘플 색인 (재구성 중 변경 이벤트로 반영된 ID는 건너뜀)
+     */
+    synchronized void indexScanned(Long id, String title) {
+        scanned.add(id);
+        if (!changedDuringRebuild.contains(id)) {
+            put(id, title);
+        }
+    }
+
+    /**
+     * 재구성 종료 (스캔을 끝까지 마친 경우에만 스캔에 없는 ID 제거)
+     */
+    synchronized void endRebuild(boolean completed) {
+        if (completed) {
+            titles.keySet().stream()
+                    .filter(id -> !scanned.contains(id) && !changedDuringRebuild.contains(id))
+                    .toList()
+                    .forEach(this::delete);
+        }
+        rebuilding = false;
+        changedDuringRebuild.clear();
+        scanned.clear();
+        ready = ready || completed;
+    }
+
+    private void put(Long id, String title) {
+        String normalized = normalize(title);
+        String previous = titles.put(id, normalized);
+        if (normalized.equals(previous)) {
+            return;
+        }
+        if (previous != null) {
+            trigrams(previous).forEach(gram -> removePosting(gram, id));
+        }
+        trigrams(normalized).forEach(gram -> postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(id));
+    }
+
+    private void delete(Long id) {
+        String previous = titles.remove(id);
+        if (previous != null) {
+            trigrams(previous).forEach(gram -> removePosting(gram, id));
+        }
+    }
+
+    // ===================================================
+    // 검색
+    // ===================================================
+
+    /**
+     * 재구성이 끝나 검색에 사용할 수 있는지 여부
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 제목에 검색어를 포함하는 샘플 ID 조회 (대소문자 무시)
+     *
+     * @param keyword 검색어
+     * @return 샘플 ID 목록 (오름차순)
+     */
+    public List<Long> search(String keyword) {
+        String query = normalize(keyword);
+        Stream<Long> candidates;
+        if (query.length() < GRAM) {
+            // 트라이그램을 만들 수 없는 짧은 검색어는 보관 중인 제목을 직접 확인합니다
+            candidates = titles.keySet().stream();
+        } else {
+            List<Set<Long>> lists = trigrams(query).distinct()
+                    .map(gram -> postings.getOrDefault(gram, Set.of()))
+                    .sorted(Comparator.comparingInt(Set::size))
+                    .toList();
+            // 가장 짧은 목록을 기준으로 나머지 목록과 교집합합니다
+            candidates = lists.get(0).stream()
+                    .filter(id -> lists.stream().skip(1).allMatch(list -> list.contains(id)));
+        }
+        return candidates
+                .filter(id -> {
+                    String title = titles.get(id);
+                    return title != null && title.contains(query);
+                })
+                .sorted()
+                .toList();
+    }
+
+    /**
+     * 색인된 샘플 수
+     */
+    public int size() {
+        return titles.size();
+    }
+
+    private void removePosting(String gram, Long id) {
+        Set<Long> ids = postings.get(gram);
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    private static Stream<String> trigrams(String text) {
+        return Stream.iterate(0, i -> i + GRAM <= text.length(), i -> i + 1)
+                .map(i -> text.substring(i, i + GRAM));
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+}
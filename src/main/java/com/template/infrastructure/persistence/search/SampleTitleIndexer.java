@@ -0,0 +1,105 @@
+package com.template.infrastructure.persistence.search;
+
+import com.template.domain.sample.SampleChangedEvent;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 샘플 제목 인덱스 관리자
+ * <p>
+ * 애플리케이션 시작 시 samples 테이블을 스트리밍 스캔하여 {@link SampleTitleIndex}를 재구성하고,
+ * 이후에는 {@link SampleChangedEvent}를 트랜잭션 커밋 이후에 반영합니다.
+ * 롤백된 변경은 인덱스에 반영되지 않습니다.
+ * <p>
+ * 변경 이벤트는 변경을 처리한 인스턴스에만 전달되므로, 다른 인스턴스의 변경(및 이벤트 없이 DB에 직접 적용된 변경)은
+ * {@code sample.title-index.rebuild-interval} 주기의 재구성으로 반영합니다.
+ * <p>
+ * 재구성이 끝나기 전(또는 실패한 경우)의 검색은 리포지토리가 DB 조회로 처리합니다.
+ * <p>
+ * <b>주의:</b> 재구성 스캔은 읽기 전용 트랜잭션으로 실행하지 않습니다.
+ * 읽기 복제본 라우팅 시 읽기 전용 트랜잭션은 복제본으로 가며, 복제 지연으로 스캔에서 빠진 최근 생성 샘플은
+ * 재구성 완료 시 인덱스에서 삭제되므로 스캔은 항상 Primary에서 읽습니다.
+ */
+@Slf4j
+@Component
+public class SampleTitleIndexer {
+
+    /**
+     * 재구성 스캔 시 한 번에 가져올 행 수 (서버 사이드 커서 fetch size)
+     */
+    private static final int FETCH_SIZE = 1000;
+
+    private final SampleTitleIndex index;
+    private final TransactionTemplate scanTransaction;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public SampleTitleIndexer(
+            SampleTitleIndex index,
+            @Qualifier("primaryTransactionManager") PlatformTransactionManager transactionManager) {
+        this.index = index;
+        // 복제본 라우팅 대상이 되지 않도록 readOnly를 지정하지 않습니다 (스캔 자체는 조회만 수행)
+        this.scanTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 인덱스 재구성 (Primary에서 id, title만 조회하는 스트리밍 스캔)
+     * <p>
+     * 시작 시 한 번, 이후 주기적으로 실행되며 이미 재구성 중이면 건너뜁니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${sample.title-index.rebuild-interval:PT10M}",
+            fixedDelayString = "${sample.title-index.rebuild-interval:PT10M}")
+    public void rebuild() {
+        if (!index.beginRebuild()) {
+            return;
+        }
+        long startedAt = System.nanoTime();
+        boolean completed = false;
+        try {
+            scanTransaction.executeWithoutResult(status -> {
+                try (Stream<Object[]> rows = entityManager
+                        .createQuery("select s.id, s.title from SampleEntity s", Object[].class)
+                        .setHint(HibernateHints.HINT_FETCH_SIZE, FETCH_SIZE)
+                        .getResultStream()) {
+                    rows.forEach(row -> index.indexScanned((Long) row[0], (String) row[1]));
+                }
+            });
+            completed = true;
+            log.info("[SampleSearch] 제목 인덱스 재구성 완료: {}건, {}ms",
+                    index.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        } catch (RuntimeException e) {
+            log.warn("[SampleSearch] 제목 인덱스 재구성 실패, DB 검색을 사용합니다: {}", e.getMessage());
+        } finally {
+            index.endRebuild(completed);
+        }
+    }
+
+    /**
+     * 커밋된 샘플 변경 반영
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSampleChanged(SampleChangedEvent event) {
+        if (event.isDeleted()) {
+            index.remove(event.id());
+        } else {
+            index.index(event.id(), event.title());
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.template.infrastructure.persistence.sharding;
+
+import com.template.domain.common.hash.StableHash;
+
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * 일관된 해시(consistent hashing) 링
+ * <p>
+ * 노드마다 가상 노드 여러 개를 링에 배치하고, 키의 해시값에서 시계 방향으로
+ * 가장 가까운 가상 노드의 노드를 선택합니다.
+ * 노드가 추가/제거되어도 전체 키 중 약 1/N만 다른 노드로 이동합니다.
+ * <p>
+ * 생성 후 변경되지 않으므로 스레드 안전합니다.
+ *
+ * @param <T> 노드 타입
+ */
+public final class ConsistentHashRing<T> {
+
+    private final NavigableMap<Long, T> ring = new TreeMap<>();
+
+    /**
+     * @param nodes        노드 이름과 노드 (이름이 같으면 재시작 후에도 같은 위치에 배치됨)
+     * @param virtualNodes 노드당 가상 노드 수
+     */
+    public ConsistentHashRing(Map<String, T> nodes, int virtualNodes) {
+        if (nodes.isEmpty() || virtualNodes < 1) {
+            throw new IllegalArgumentException("노드와 가상 노드 수는 1 이상이어야 합니다.");
+        }
+        nodes.forEach((name, node) -> {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.put(StableHash.hash64(name + "#" + i), node);
+            }
+        });
+    }
+
+    /**
+     * 키가 속한 노드 조회
+     *
+     * @param key 샤드 키 (null은 빈 문자열로 취급)
+     * @return 노드
+     */
+    public T nodeFor(String key) {
+        Map.Entry<Long, T> entry = ring.ceilingEntry(StableHash.hash64(Objects.requireNonNullElse(key, "")));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+}
@@ -0,0 +1,150 @@
+package com.template.infrastructure.persistence.sharding;
+
+import com.template.domain.analytics.AnalyticsData;
+import com.template.domain.analytics.AnalyticsDataCursor;
+import com.template.domain.common.page.KeysetPage;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+
+/**
+ * 샤드별 키셋 페이지를 (occurredAt, id) 순서로 병합하는 반복자 (k-way merge)
+ * <p>
+ * 샤드마다 현재 페이지를 소비하는 동안 다음 페이지를 비동기로 미리 조회하므로,
+ * 샤드 조회 지연이 겹쳐지고 메모리에는 샤드당 최대 두 페이지만 유지됩니다.
+ * 페이지마다 짧은 트랜잭션으로 조회하므로 장시간 커서를 열어 두지 않습니다.
+ */
+final class ShardMergeIterator implements Iterator<AnalyticsData>, AutoCloseable {
+
+    /**
+     * 병합 순서 ((occurredAt, id) 오름차순, 키셋 페이지 순서와 동일)
+     */
+    static final Comparator<AnalyticsData> ORDER =
+            Comparator.comparing(AnalyticsData::getOccurredAt).thenComparing(AnalyticsData::getId);
+
+    private final List<ShardCursor> cursors;
+    private final PriorityQueue<ShardCursor> heads =
+            new PriorityQueue<>(Comparator.comparing(ShardCursor::head, ORDER));
+
+    /**
+     * @param pageFetchers 샤드별 페이지 조회 함수 (커서, 크기) → 페이지
+     * @param pageSize     샤드별 페이지 크기
+     * @param executor     페이지 선조회 실행기
+     */
+    ShardMergeIterator(
+            List<BiFunction<AnalyticsDataCursor, Integer, KeysetPage<AnalyticsData>>> pageFetchers,
+            int pageSize,
+            Executor executor) {
+        // 모든 샤드의 첫 페이지를 동시에 조회한 뒤 병합을 시작합니다
+        this.cursors = pageFetchers.stream()
+                .map(fetcher -> new ShardCursor(fetcher, pageSize, executor))
+                .toList();
+        for (ShardCursor cursor : cursors) {
+            if (cursor.advance()) {
+                heads.add(cursor);
+            }
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !heads.isEmpty();
+    }
+
+    @Override
+    public AnalyticsData next() {
+        ShardCursor cursor = heads.poll();
+        if (cursor == null) {
+            throw new NoSuchElementException();
+        }
+        AnalyticsData next = cursor.head();
+        if (cursor.advance()) {
+            heads.add(cursor);
+        }
+        return next;
+    }
+
+    /**
+     * 진행 중인 선조회 취소 (스트림을 끝까지 소비하지 않고 닫은 경우)
+     */
+    @Override
+    public void close() {
+        cursors.forEach(ShardCursor::cancel);
+    }
+
+    /**
+     * 샤드 하나의 읽기 위치
+     */
+    private static final class ShardCursor {
+
+        private final BiFunction<AnalyticsDataCursor, Integer, KeysetPage<AnalyticsData>> fetcher;
+        private final int pageSize;
+        private final Executor executor;
+
+        private Iterator<AnalyticsData> page = Collections.emptyIterator();
+        private CompletableFuture<KeysetPage<AnalyticsData>> nextPage;
+        private AnalyticsData head;
+
+        ShardCursor(
+                BiFunction<AnalyticsDataCursor, Integer, KeysetPage<AnalyticsData>> fetcher,
+                int pageSize,
+                Executor executor) {
+            this.fetcher = fetcher;
+            this.pageSize = pageSize;
+            this.executor = executor;
+            this.nextPage = fetchAsync(null);
+        }
+
+        AnalyticsData head() {
+            return head;
+        }
+
+        /**
+         * 다음 항목으로 이동
+         *
+         * @return 이동했으면 true, 샤드의 데이터를 모두 읽었으면 false
+         */
+        boolean advance() {
+            while (!page.hasNext()) {
+                if (nextPage == null) {
+                    head = null;
+                    return false;
+                }
+                KeysetPage<AnalyticsData> fetched = join(nextPage);
+                nextPage = fetched.hasNext() ? fetchAsync(AnalyticsDataCursor.from(fetched.last())) : null;
+                page = fetched.content().iterator();
+            }
+            head = page.next();
+            return true;
+        }
+
+        void cancel() {
+            if (nextPage != null) {
+                nextPage.cancel(true);
+            }
+        }
+
+        private CompletableFuture<KeysetPage<AnalyticsData>> fetchAsync(AnalyticsDataCursor after) {
+            return CompletableFuture.supplyAsync(() -> fetcher.apply(after, pageSize), executor);
+        }
+
+        private static <T> T join(CompletableFuture<T> future) {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+}
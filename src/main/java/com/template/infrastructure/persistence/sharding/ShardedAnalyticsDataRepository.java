@@ -0,0 +1,472 @@
+package com.template.infrastructure.persistence.sharding;
+
+import com.template.domain.analytics.AnalyticsData;
+import com.template.domain.analytics.AnalyticsDataCursor;
+import com.template.domain.analytics.AnalyticsDataRepository;
+import com.template.domain.analytics.AnalyticsDataSummary;
+import com.template.domain.analytics.AnalyticsDataTimeRange;
+import com.template.domain.analytics.AnalyticsEventTypeCount;
+import com.template.domain.analytics.AnalyticsHistogramBucket;
+import com.template.domain.analytics.AnalyticsTimeBucket;
+import com.template.domain.common.page.KeysetPage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 샤딩된 분석 데이터 리포지토리 (GPDB1 + GPDB2)
+ * <p>
+ * 샤드 키(analytics.sharding.key)의 일관된 해시로 저장할 샤드를 정하고,
+ * 여러 샤드가 필요한 조회는 모든 샤드에 동시에 요청한 뒤 결과를 병합합니다(scatter-gather).
+ * 호출자는 GPDB 구성을 알 필요 없이 하나의 {@link AnalyticsDataRepository}로 사용합니다.
+ * <p>
+ * <b>라우팅:</b>
+ * <ul>
+ *   <li>save, saveAll, bulkLoad: 샤드 키로 샤드를 정해 저장 (샤드별 동시 실행)</li>
+ *   <li>findByEventType, findByEventTypeAndOccurredAtBetween: 샤드 키가 EVENT_TYPE이면 해당 샤드만, 아니면 모든 샤드</li>
+ *   <li>findPageByOccurredAtBetween: 이벤트 유형이 지정되고 샤드 키가 EVENT_TYPE이면 해당 샤드만, 아니면 모든 샤드</li>
+ *   <li>findAll, findPageAfter, streamAll: 모든 샤드 조회 후 (occurredAt, id) 순서로 병합</li>
+ *   <li>findById: 전역 ID의 샤드 번호로 해당 샤드만 조회</li>
+ *   <li>집계: 샤드마다 GROUP BY 결과만 받아 합산 (이벤트 유형이 지정되고 샤드 키가 EVENT_TYPE이면 해당 샤드만)</li>
+ * </ul>
+ * <p>
+ * <b>트랜잭션:</b>
+ * 샤드 작업마다 해당 샤드의 트랜잭션 매니저로 개별 트랜잭션을 시작하므로
+ * 호출자가 트랜잭션을 열 필요가 없습니다. 샤드 간 원자성은 보장되지 않아,
+ * 여러 샤드에 걸친 저장이 일부 샤드에서만 실패하면 나머지 샤드의 저장은 커밋된 상태로 남습니다.
+ * <p>
+ * <b>ID:</b> 샤드마다 시퀀스가 독립적이어서 샤드 간에 ID가 겹치므로,
+ * 이 리포지토리가 반환하고 받는 ID와 커서는 샤드 번호를 포함한 전역 ID입니다({@link ShardedIds}).
+ * 샤드 번호는 샤드 목록의 순서이므로 순서를 바꾸면 기존 전역 ID가 달라집니다.
+ */
+@Slf4j
+public class ShardedAnalyticsDataRepository implements AnalyticsDataRepository, DisposableBean {
+
+    /**
+     * 대량 적재 시 샤드별 대기열 크기
+     */
+    private static final int BULK_LOAD_QUEUE_CAPACITY = 1024;
+
+    /**
+     * 대량 적재 대기열 종료 표시
+     */
+    private static final AnalyticsData END_OF_STREAM = AnalyticsData.builder().build();
+
+    /**
+     * 대량 적재 대기열 취소 표시 (입력 처리 실패 시 샤드 트랜잭션 롤백)
+     */
+    private static final AnalyticsData ABORTED = AnalyticsData.builder().build();
+
+    private final List<Shard> shards;
+    private final Map<Shard, Integer> shardNumbers = new IdentityHashMap<>();
+    private final ConsistentHashRing<Shard> ring;
+    private final ShardingProperties properties;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * @param shards     샤드 목록 (순서가 전역 ID의 샤드 번호)
+     * @param properties 샤딩 설정
+     */
+    public ShardedAnalyticsDataRepository(List<Shard> shards, ShardingProperties properties) {
+        if (shards.size() > ShardedIds.MAX_SHARDS) {
+            throw new IllegalArgumentException("샤드는 최대 " + ShardedIds.MAX_SHARDS + "개까지 구성할 수 있습니다.");
+        }
+        this.shards = List.copyOf(shards);
+        this.properties = properties;
+        for (int number = 0; number < this.shards.size(); number++) {
+            shardNumbers.put(this.shards.get(number), number);
+        }
+        Map<String, Shard> nodes = new LinkedHashMap<>();
+        shards.forEach(shard -> nodes.put(shard.name(), shard));
+        this.ring = new ConsistentHashRing<>(nodes, properties.getVirtualNodes());
+        log.info("[Sharding] 분석 데이터 샤드 {} 구성: key={}",
+                nodes.keySet(), properties.getKey());
+    }
+
+    // ===================================================
+    // 저장
+    // ===================================================
+
+    @Override
+    public AnalyticsData save(AnalyticsData data) {
+        Shard shard = shardOf(data);
+        return ShardedIds.toGlobal(numberOf(shard), shard.write(repository -> repository.save(data)));
+    }
+
+    @Override
+    public int saveAll(List<AnalyticsData> data) {
+        Map<Shard, List<AnalyticsData>> partitions = data.stream()
+                .collect(Collectors.groupingBy(this::shardOf, LinkedHashMap::new, Collectors.toList()));
+
+        List<CompletableFuture<Integer>> futures = partitions.entrySet().stream()
+                .map(partition -> CompletableFuture.supplyAsync(
+                        () -> partition.getKey().write(repository -> repository.saveAll(partition.getValue())),
+                        executor))
+                .toList();
+        return futures.stream().mapToInt(ShardedAnalyticsDataRepository::join).sum();
+    }
+
+    /**
+     * 샤드별 대량 적재
+     * <p>
+     * 샤드마다 하나의 트랜잭션에서 {@link AnalyticsDataRepository#bulkLoad(Stream)}를 실행하고,
+     * 호출 스레드는 입력을 한 건씩 읽어 해당 샤드의 대기열로 전달합니다.
+     * 대기열 크기가 제한되어 있으므로 입력 전체를 메모리에 올리지 않습니다.
+     */
+    @Override
+    public long bulkLoad(Stream<AnalyticsData> data) {
+        Map<Shard, BlockingQueue<AnalyticsData>> queues = new LinkedHashMap<>();
+        Map<Shard, CompletableFuture<Long>> loads = new LinkedHashMap<>();
+        for (Shard shard : shards) {
+            BlockingQueue<AnalyticsData> queue = new ArrayBlockingQueue<>(BULK_LOAD_QUEUE_CAPACITY);
+            queues.put(shard, queue);
+            loads.put(shard, CompletableFuture.supplyAsync(
+                    () -> shard.write(repository -> repository.bulkLoad(drain(queue))), executor));
+        }
+
+        boolean completed = false;
+        try {
+            data.forEach(item -> {
+                Shard shard = shardOf(item);
+                put(queues.get(shard), item, loads.get(shard));
+            });
+            completed = true;
+        } finally {
+            // 입력을 끝까지 읽지 못했으면 샤드 적재를 취소(롤백)하고, 대기열에서 멈추지 않도록 표시를 보냅니다
+            AnalyticsData marker = completed ? END_OF_STREAM : ABORTED;
+            queues.forEach((shard, queue) -> signal(queue, marker, loads.get(shard)));
+            if (!completed) {
+                loads.values().forEach(load -> load.exceptionally(e -> 0L).join());
+            }
+        }
+        return loads.values().stream().mapToLong(ShardedAnalyticsDataRepository::join).sum();
+    }
+
+    // ===================================================
+    // 조회
+    // ===================================================
+
+    /**
+     * 전역 ID의 샤드 번호로 해당 샤드만 조회합니다.
+     */
+    @Override
+    public Optional<AnalyticsData> findById(Long id) {
+        int number = id == null ? -1 : ShardedIds.shardOf(id);
+        if (number < 0 || number >= shards.size()) {
+            return Optional.empty();
+        }
+        return shards.get(number).read(repository -> repository.findById(ShardedIds.localId(id)))
+                .map(data -> ShardedIds.toGlobal(number, data));
+    }
+
+    @Override
+    public List<AnalyticsData> findByEventType(String eventType) {
+        if (properties.getKey() == ShardingProperties.Key.EVENT_TYPE) {
+            return readData(ring.nodeFor(eventType), repository -> repository.findByEventType(eventType));
+        }
+        return merge(scatterData(repository -> repository.findByEventType(eventType)));
+    }
+
+    @Override
+    public List<AnalyticsData> findByEventTypeAndOccurredAtBetween(String eventType, AnalyticsDataTimeRange range) {
+        if (properties.getKey() == ShardingProperties.Key.EVENT_TYPE) {
+            return readData(ring.nodeFor(eventType),
+                    repository -> repository.findByEventTypeAndOccurredAtBetween(eventType, range));
+        }
+        return merge(scatterData(
+                repository -> repository.findByEventTypeAndOccurredAtBetween(eventType, range)));
+    }
+
+    /**
+     * 샤드별 구간 페이지를 병합하여 앞에서부터 size건을 반환합니다. ({@link #findPageAfter}와 같은 방식)
+     */
+    @Override
+    public KeysetPage<AnalyticsData> findPageByOccurredAtBetween(
+            AnalyticsDataTimeRange range, String eventType, AnalyticsDataCursor after, int size) {
+        if (routesToSingleShard(eventType)) {
+            return readPage(ring.nodeFor(eventType), after, (repository, localAfter) ->
+                    repository.findPageByOccurredAtBetween(range, eventType, localAfter, size));
+        }
+        return mergePages(scatterPages(after,
+                (repository, localAfter) -> repository.findPageByOccurredAtBetween(range, eventType, localAfter, size)),
+                size);
+    }
+
+    @Override
+    public List<AnalyticsData> findAll() {
+        return merge(scatterData(repository -> repository.findAll()));
+    }
+
+    /**
+     * 모든 샤드에서 커서 다음 size건씩 조회한 뒤 병합하여 앞에서부터 size건을 반환합니다.
+     * 각 샤드가 (occurredAt, id) 순서로 반환하므로 병합 결과도 전체 순서와 같습니다.
+     */
+    @Override
+    public KeysetPage<AnalyticsData> findPageAfter(AnalyticsDataCursor after, int size) {
+        return mergePages(scatterPages(after, (repository, localAfter) -> repository.findPageAfter(localAfter, size)),
+                size);
+    }
+
+    /**
+     * 모든 샤드를 키셋 페이지 단위로 읽으며 (occurredAt, id) 순서로 병합한 스트림
+     * <p>
+     * 페이지마다 개별 읽기 전용 트랜잭션으로 조회하므로 호출자가 트랜잭션을 열 필요가 없습니다.
+     * 스트림은 반드시 닫아야 합니다(진행 중인 선조회 취소).
+     */
+    @Override
+    public Stream<AnalyticsData> streamAll() {
+        List<BiFunction<AnalyticsDataCursor, Integer, KeysetPage<AnalyticsData>>> pageFetchers = shards.stream()
+                .<BiFunction<AnalyticsDataCursor, Integer, KeysetPage<AnalyticsData>>>map(shard ->
+                        (after, size) -> readPage(shard, after,
+                                (repository, localAfter) -> repository.findPageAfter(localAfter, size)))
+                .toList();
+        ShardMergeIterator iterator = new ShardMergeIterator(pageFetchers, properties.getScanPageSize(), executor);
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(iterator::close);
+    }
+
+    // ===================================================
+    // 집계 (샤드별 부분 집계 합산)
+    // ===================================================
+
+    @Override
+    public List<AnalyticsEventTypeCount> countByEventType(AnalyticsDataTimeRange range) {
+        Map<String, Long> counts = new TreeMap<>();
+        scatter(repository -> repository.countByEventType(range)).forEach(shardCounts ->
+                shardCounts.forEach(count -> counts.merge(count.eventType(), count.count(), Long::sum)));
+        return counts.entrySet().stream()
+                .map(entry -> new AnalyticsEventTypeCount(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    @Override
+    public List<AnalyticsHistogramBucket> histogram(
+            AnalyticsDataTimeRange range, String eventType, AnalyticsTimeBucket bucket) {
+        if (routesToSingleShard(eventType)) {
+            return ring.nodeFor(eventType).read(repository -> repository.histogram(range, eventType, bucket));
+        }
+        Map<LocalDateTime, Long> counts = new TreeMap<>();
+        scatter(repository -> repository.histogram(range, eventType, bucket)).forEach(shardBuckets ->
+                shardBuckets.forEach(item -> counts.merge(item.bucketStart(), item.count(), Long::sum)));
+        return counts.entrySet().stream()
+                .map(entry -> new AnalyticsHistogramBucket(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    @Override
+    public AnalyticsDataSummary summarize(AnalyticsDataTimeRange range, String eventType) {
+        if (routesToSingleShard(eventType)) {
+            return ring.nodeFor(eventType).read(repository -> repository.summarize(range, eventType));
+        }
+        return scatter(repository -> repository.summarize(range, eventType)).stream()
+                .reduce(AnalyticsDataSummary.EMPTY, AnalyticsDataSummary::merge);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    // ===================================================
+    // 샤드 선택 / 병렬 실행
+    // ===================================================
+
+    private Shard shardOf(AnalyticsData data) {
+        return ring.nodeFor(properties.getKey().of(data));
+    }
+
+    private int numberOf(Shard shard) {
+        return shardNumbers.get(shard);
+    }
+
+    /**
+     * 이벤트 유형이 지정되고 샤드 키가 EVENT_TYPE이면 해당 이벤트 유형은 한 샤드에만 있습니다
+     */
+    private boolean routesToSingleShard(String eventType) {
+        return eventType != null && properties.getKey() == ShardingProperties.Key.EVENT_TYPE;
+    }
+
+    /**
+     * 모든 샤드에 동시에 읽기 요청 (결과는 샤드 순서)
+     */
+    private <T> List<T> scatter(Function<AnalyticsDataRepository, T> query) {
+        List<CompletableFuture<T>> futures = shards.stream()
+                .map(shard -> CompletableFuture.supplyAsync(() -> shard.read(query), executor))
+                .toList();
+        return futures.stream().map(ShardedAnalyticsDataRepository::join).toList();
+    }
+
+    /**
+     * 모든 샤드에 동시에 데이터 조회 요청 (결과 ID는 전역 ID)
+     */
+    private List<List<AnalyticsData>> scatterData(
+            Function<AnalyticsDataRepository, List<AnalyticsData>> query) {
+        List<CompletableFuture<List<AnalyticsData>>> futures = shards.stream()
+                .map(shard -> CompletableFuture.supplyAsync(() -> readData(shard, query), executor))
+                .toList();
+        return futures.stream().map(ShardedAnalyticsDataRepository::join).toList();
+    }
+
+    /**
+     * 모든 샤드에 동시에 키셋 페이지 조회 요청 (전역 커서를 샤드별 로컬 커서로 변환)
+     */
+    private List<KeysetPage<AnalyticsData>> scatterPages(
+            AnalyticsDataCursor after,
+            BiFunction<AnalyticsDataRepository, AnalyticsDataCursor, KeysetPage<AnalyticsData>> query) {
+        List<CompletableFuture<KeysetPage<AnalyticsData>>> futures = shards.stream()
+                .map(shard -> CompletableFuture.supplyAsync(
+                        () -> readPage(shard, after, query), executor))
+                .toList();
+        return futures.stream().map(ShardedAnalyticsDataRepository::join).toList();
+    }
+
+    private List<AnalyticsData> readData(
+            Shard shard, Function<AnalyticsDataRepository, List<AnalyticsData>> query) {
+        int number = numberOf(shard);
+        return shard.read(query).stream()
+                .map(data -> ShardedIds.toGlobal(number, data))
+                .toList();
+    }
+
+    private KeysetPage<AnalyticsData> readPage(
+            Shard shard, AnalyticsDataCursor after,
+            BiFunction<AnalyticsDataRepository, AnalyticsDataCursor, KeysetPage<AnalyticsData>> query) {
+        int number = numberOf(shard);
+        AnalyticsDataCursor localAfter = ShardedIds.localCursor(number, after);
+        KeysetPage<AnalyticsData> page = shard.read(repository -> query.apply(repository, localAfter));
+        return new KeysetPage<>(
+                page.content().stream().map(data -> ShardedIds.toGlobal(number, data)).toList(),
+                page.hasNext());
+    }
+
+    private static List<AnalyticsData> merge(List<List<AnalyticsData>> results) {
+        List<AnalyticsData> merged = new ArrayList<>(results.stream().mapToInt(List::size).sum());
+        results.forEach(merged::addAll);
+        merged.sort(ShardMergeIterator.ORDER);
+        return merged;
+    }
+
+    private static KeysetPage<AnalyticsData> mergePages(List<KeysetPage<AnalyticsData>> pages, int size) {
+        List<AnalyticsData> merged = merge(pages.stream().map(KeysetPage::content).toList());
+        boolean hasNext = merged.size() > size || pages.stream().anyMatch(KeysetPage::hasNext);
+        return new KeysetPage<>(merged.subList(0, Math.min(size, merged.size())), hasNext);
+    }
+
+    private static Stream<AnalyticsData> drain(BlockingQueue<AnalyticsData> queue) {
+        return Stream.generate(() -> take(queue))
+                .takeWhile(item -> item != END_OF_STREAM)
+                .map(item -> {
+                    if (item == ABORTED) {
+                        throw new IllegalStateException("입력 처리 실패로 대량 적재를 취소합니다.");
+                    }
+                    return item;
+                });
+    }
+
+    private static AnalyticsData take(BlockingQueue<AnalyticsData> queue) {
+        try {
+            return queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("대량 적재가 중단되었습니다.", e);
+        }
+    }
+
+    /**
+     * 대기열에 추가하되, 샤드 적재가 먼저 실패하면 대기하지 않고 해당 예외를 던집니다.
+     */
+    private static void put(BlockingQueue<AnalyticsData> queue, AnalyticsData item, CompletableFuture<Long> load) {
+        try {
+            while (!queue.offer(item, 100, TimeUnit.MILLISECONDS)) {
+                if (load.isDone()) {
+                    join(load);
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("대량 적재가 중단되었습니다.", e);
+        }
+    }
+
+    /**
+     * 종료/취소 표시 전달 (샤드 적재가 이미 끝났으면 생략하며, 예외를 던지지 않습니다)
+     */
+    private static void signal(BlockingQueue<AnalyticsData> queue, AnalyticsData marker, CompletableFuture<Long> load) {
+        try {
+            while (!queue.offer(marker, 100, TimeUnit.MILLISECONDS)) {
+                if (load.isDone()) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 샤드 (리포지토리 + 해당 데이터소스의 트랜잭션)
+     *
+     * @param name       샤드 이름 (해시 링 위치 결정, 변경 시 데이터 재배치 필요)
+     * @param repository 샤드 리포지토리
+     * @param write      쓰기 트랜잭션
+     * @param readOnly   읽기 전용 트랜잭션
+     */
+    public record Shard(
+            String name,
+            AnalyticsDataRepository repository,
+            TransactionTemplate write,
+            TransactionTemplate readOnly) {
+
+        public static Shard of(String name, AnalyticsDataRepository repository,
+                               PlatformTransactionManager transactionManager) {
+            TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+            return new Shard(name, repository, new TransactionTemplate(transactionManager), readOnly);
+        }
+
+        <T> T write(Function<AnalyticsDataRepository, T> action) {
+            return write.execute(status -> action.apply(repository));
+        }
+
+        <T> T read(Function<AnalyticsDataRepository, T> query) {
+            return readOnly.execute(status -> query.apply(repository));
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.template.infrastructure.persistence.sharding;
+
+import com.template.domain.analytics.AnalyticsData;
+import com.template.domain.analytics.AnalyticsDataCursor;
+
+/**
+ * 샤드 간에 겹치지 않는 전역 ID 변환
+ * <p>
+ * 샤드마다 시퀀스가 독립적이라 샤드 ID(로컬 ID)는 샤드 간에 겹칠 수 있으므로,
+ * 샤딩 리포지토리 밖으로는 상위 비트에 샤드 번호를 넣은 전역 ID를 사용합니다.
+ * <pre>
+ * 전역 ID = (샤드 번호 &lt;&lt; 55) | 로컬 ID
+ * </pre>
+ * 샤드 번호 0의 전역 ID는 로컬 ID와 같습니다. 로컬 ID는 2^55 미만이어야 하며, 샤드는 최대 256개입니다.
+ * <p>
+ * 전역 ID로 (occurredAt, id)를 정렬하면 같은 시각의 이벤트는 샤드 번호, 로컬 ID 순서가 되므로
+ * 키셋 커서를 샤드별 로컬 커서로 변환할 수 있습니다({@link #localCursor}).
+ */
+final class ShardedIds {
+
+    static final int SHARD_SHIFT = 55;
+    static final int MAX_SHARDS = 1 << (Long.SIZE - 1 - SHARD_SHIFT);
+
+    private static final long LOCAL_ID_MASK = (1L << SHARD_SHIFT) - 1;
+
+    private ShardedIds() {
+    }
+
+    /**
+     * 로컬 ID → 전역 ID
+     */
+    static long globalId(int shard, long localId) {
+        if (localId < 0 || localId > LOCAL_ID_MASK) {
+            throw new IllegalStateException("샤드 로컬 ID가 전역 ID 범위를 벗어났습니다: shard=" + shard + ", id=" + localId);
+        }
+        return ((long) shard << SHARD_SHIFT) | localId;
+    }
+
+    /**
+     * 전역 ID의 샤드 번호 (음수 ID는 -1)
+     */
+    static int shardOf(long globalId) {
+        return globalId < 0 ? -1 : (int) (globalId >>> SHARD_SHIFT);
+    }
+
+    /**
+     * 전역 ID의 로컬 ID
+     */
+    static long localId(long globalId) {
+        return globalId & LOCAL_ID_MASK;
+    }
+
+    /**
+     * 샤드에서 읽은 데이터의 ID를 전역 ID로 변환 (ID가 없으면 그대로)
+     */
+    static AnalyticsData toGlobal(int shard, AnalyticsData data) {
+        if (data.getId() == null) {
+            return data;
+        }
+        return AnalyticsData.builder()
+                .id(globalId(shard, data.getId()))
+                .eventType(data.getEventType())
+                .eventData(data.getEventData())
+                .occurredAt(data.getOccurredAt())
+                .createdAt(data.getCreatedAt())
+                .build();
+    }
+
+    /**
+     * 전역 커서 → 샤드 로컬 커서
+     * <p>
+     * 커서와 같은 시각의 이벤트 중 커서보다 뒤인 것은
+     * 커서 샤드에서는 로컬 ID가 더 큰 것, 번호가 더 큰 샤드에서는 전부, 번호가 더 작은 샤드에서는 없음입니다.
+     */
+    static AnalyticsDataCursor localCursor(int shard, AnalyticsDataCursor after) {
+        if (after == null) {
+            return null;
+        }
+        int cursorShard = shardOf(after.id());
+        long localId = shard == cursorShard ? localId(after.id())
+                : shard < cursorShard ? Long.MAX_VALUE
+                : Long.MIN_VALUE;
+        return new AnalyticsDataCursor(after.occurredAt(), localId);
+    }
+}
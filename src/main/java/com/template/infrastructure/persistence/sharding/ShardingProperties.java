@@ -0,0 +1,54 @@
+package com.template.infrastructure.persistence.sharding;
+
+import com.template.domain.analytics.AnalyticsData;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.function.Function;
+
+/**
+ * 분석 데이터 샤딩 설정
+ * <p>
+ * application.yml의 analytics.sharding.* 속성과 바인딩됩니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "analytics.sharding")
+public class ShardingProperties {
+
+    /**
+     * 샤드 키 (같은 키의 데이터는 항상 같은 샤드에 저장)
+     */
+    private Key key = Key.EVENT_TYPE;
+
+    /**
+     * 샤드당 해시 링 가상 노드 수 (클수록 분포가 고르게 됨)
+     */
+    private int virtualNodes = 160;
+
+    /**
+     * 전체 스트리밍 조회 시 샤드별 페이지 크기
+     */
+    private int scanPageSize = 1000;
+
+    /**
+     * 샤드 키 종류
+     */
+    public enum Key {
+        /** 이벤트 유형 (이벤트 유형별 조회가 단일 샤드로 라우팅됨) */
+        EVENT_TYPE(AnalyticsData::getEventType),
+        /** 이벤트 데이터 (분포는 고르지만 이벤트 유형별 조회가 모든 샤드로 분산됨) */
+        EVENT_DATA(AnalyticsData::getEventData);
+
+        private final Function<AnalyticsData, String> extractor;
+
+        Key(Function<AnalyticsData, String> extractor) {
+            this.extractor = extractor;
+        }
+
+        public String of(AnalyticsData data) {
+            return extractor.apply(data);
+        }
+    }
+}
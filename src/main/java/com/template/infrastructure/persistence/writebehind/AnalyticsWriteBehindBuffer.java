@@ -0,0 +1,337 @@
+package com.template.infrastructure.persistence.writebehind;
+
+import com.template.domain.analytics.AnalyticsData;
+import com.template.domain.analytics.AnalyticsDataRepository;
+import com.template.domain.common.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.jctools.queues.MpscArrayQueue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 분석 데이터 쓰기 지연(write-behind) 버퍼
+ * <p>
+ * 요청 스레드는 이벤트를 lock-free MPSC 큐에 넣고 바로 반환하며,
+ * 전용 flusher 스레드 하나가 큐를 비워 배치 단위로 저장합니다.
+ * 요청 스레드는 DB 커넥션이나 트랜잭션을 점유하지 않습니다.
+ * <p>
+ * <b>저장 시점:</b>
+ * <ul>
+ * <li>버퍼에 batchSize 건 이상 쌓였을 때</li>
+ * <li>배치의 첫 이벤트가 들어온 뒤 flushInterval이 지났을 때</li>
+ * <li>애플리케이션 종료 시 (남은 이벤트를 모두 저장한 뒤 종료)</li>
+ * </ul>
+ * <p>
+ * <b>저장 실패:</b>
+ * 실패한 배치는 maxRetries 번까지 retryBackoff부터 두 배씩 늘어나는 간격으로 다시 저장합니다.
+ * 재시도 중에는 flusher가 멈추므로 큐가 차면 backpressure 정책이 적용됩니다.
+ * 끝내 실패한 배치는 이벤트 유형별 건수를 에러 로그로 남기고, 이벤트 한 건마다
+ * {@code <클래스명>.failed} 로거에 기록한 뒤 버립니다. 이 로거를 별도 파일로 보내면 재적재에 사용할 수 있습니다.
+ * <p>
+ * <b>메모리:</b> 큐는 {@link #start()}에서 만들므로 쓰기 지연을 사용하지 않으면 큐를 할당하지 않습니다.
+ * <p>
+ * <b>주의:</b> 저장 전에 프로세스가 비정상 종료되면 버퍼의 이벤트는 유실됩니다.
+ * 유실을 허용할 수 없는 데이터에는 사용하지 마세요.
+ */
+@Slf4j
+public class AnalyticsWriteBehindBuffer implements SmartLifecycle {
+
+    private static final String METRIC_PREFIX = "analytics.write_behind";
+
+    /**
+     * 재시도 후에도 저장하지 못해 버린 이벤트 기록용 로거
+     */
+    private static final Logger FAILED_EVENTS = LoggerFactory.getLogger(AnalyticsWriteBehindBuffer.class.getName() + ".failed");
+
+    private final String target;
+    private final AnalyticsDataRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final WriteBehindProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * start()에서 생성 (running 기록 전에 할당하므로 running을 확인한 스레드에는 항상 보입니다)
+     */
+    private MpscArrayQueue<AnalyticsData> queue;
+
+    private final Counter droppedCounter;
+    private final Counter rejectedCounter;
+    private final Counter flushedCounter;
+    private final Counter failedCounter;
+    private final Timer flushTimer;
+
+    private volatile boolean running;
+    private volatile Thread flusher;
+
+    /**
+     * @param target              저장 대상 식별자 (gpdb1, gpdb2) - 스레드 이름과 메트릭 태그에 사용
+     * @param repository          저장 대상 리포지토리
+     * @param transactionTemplate 저장 대상 데이터소스의 트랜잭션 템플릿
+     * @param properties          버퍼 설정
+     * @param meterRegistry       메트릭 레지스트리
+     */
+    public AnalyticsWriteBehindBuffer(
+            String target,
+            AnalyticsDataRepository repository,
+            TransactionTemplate transactionTemplate,
+            WriteBehindProperties properties,
+            MeterRegistry meterRegistry) {
+        this.target = target;
+        this.repository = repository;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+
+        this.droppedCounter = counter(meterRegistry, "dropped");
+        this.rejectedCounter = counter(meterRegistry, "rejected");
+        this.flushedCounter = counter(meterRegistry, "flushed");
+        this.failedCounter = counter(meterRegistry, "failed");
+        this.flushTimer = Timer.builder(METRIC_PREFIX + ".flush")
+                .description("배치 저장 소요 시간")
+                .tag("target", target)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(METRIC_PREFIX + ".events")
+                .tag("target", target)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 쓰기 지연 사용 여부
+     */
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 이벤트를 버퍼에 추가
+     * <p>
+     * 버퍼가 가득 찬 경우 설정된 정책(BLOCK, DROP, REJECT)에 따라 처리합니다.
+     * DROP 정책으로 버려진 이벤트는 false를 반환하므로, 호출자는 이 이벤트를 저장된 것으로 취급하면 안 됩니다.
+     *
+     * @param data 저장할 분석 데이터
+     * @return 버퍼에 추가되었으면 true, DROP 정책으로 버려졌으면 false
+     * @throws TooManyRequestsException 버퍼가 가득 차 이벤트를 받아들일 수 없는 경우 (BLOCK, REJECT)
+     */
+    public boolean enqueue(AnalyticsData data) {
+        if (!running) {
+            throw new IllegalStateException("쓰기 지연 버퍼가 실행 중이 아닙니다: " + target);
+        }
+        if (!queue.offer(data) && !offerOnFull(data)) {
+            return false;
+        }
+        // 배치 하나 분량이 쌓이면 flushInterval을 기다리지 않고 flusher를 깨웁니다
+        if (queue.size() >= properties.getBatchSize()) {
+            LockSupport.unpark(flusher);
+        }
+        return true;
+    }
+
+    private boolean offerOnFull(AnalyticsData data) {
+        switch (properties.getBackpressure()) {
+            case DROP -> {
+                droppedCounter.increment();
+                return false;
+            }
+            case REJECT -> {
+                rejectedCounter.increment();
+                throw tooManyRequests();
+            }
+            default -> {
+                LockSupport.unpark(flusher);
+                long deadline = System.nanoTime() + properties.getBlockTimeout().toNanos();
+                while (!queue.offer(data)) {
+                    if (System.nanoTime() - deadline >= 0) {
+                        rejectedCounter.increment();
+                        throw tooManyRequests();
+                    }
+                    LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+                }
+                return true;
+            }
+        }
+    }
+
+    private TooManyRequestsException tooManyRequests() {
+        return new TooManyRequestsException(
+                "분석 데이터 처리량이 한도를 초과했습니다. 잠시 후 다시 시도해주세요.",
+                "WRITE_BEHIND_BUFFER_FULL");
+    }
+
+    // ===================================================
+    // Flusher
+    // ===================================================
+
+    private void runFlusher() {
+        int batchSize = properties.getBatchSize();
+        long flushIntervalNanos = properties.getFlushInterval().toNanos();
+        List<AnalyticsData> batch = new ArrayList<>(batchSize);
+        long batchStartedAt = 0L;
+
+        // 종료 요청 후에도 큐가 빌 때까지 저장을 계속합니다
+        while (running || !queue.isEmpty() || !batch.isEmpty()) {
+            if (batch.isEmpty() && !queue.isEmpty()) {
+                batchStartedAt = System.nanoTime();
+            }
+            queue.drain(batch::add, batchSize - batch.size());
+
+            if (batch.isEmpty()) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+                continue;
+            }
+
+            long waited = System.nanoTime() - batchStartedAt;
+            if (batch.size() >= batchSize || waited >= flushIntervalNanos || !running) {
+                flush(batch);
+                batch.clear();
+            } else {
+                LockSupport.parkNanos(this, flushIntervalNanos - waited);
+            }
+        }
+    }
+
+    /**
+     * 종료 시 flusher가 끝난 뒤 큐에 남은 이벤트 저장
+     * <p>
+     * flusher의 마지막 확인 이후 running 확인을 통과한 요청이 넣은 이벤트를 저장합니다.
+     */
+    private void drainRemaining() {
+        int batchSize = properties.getBatchSize();
+        List<AnalyticsData> batch = new ArrayList<>(batchSize);
+        while (queue.drain(batch::add, batchSize) > 0) {
+            flush(batch);
+            batch.clear();
+        }
+    }
+
+    private void flush(List<AnalyticsData> batch) {
+        long backoffNanos = properties.getRetryBackoff().toNanos();
+        for (int attempt = 0; ; attempt++) {
+            try {
+                flushTimer.record(() -> transactionTemplate.executeWithoutResult(status -> repository.saveAll(batch)));
+                flushedCounter.increment(batch.size());
+                return;
+            } catch (Throwable e) {
+                // Error(OOM 등)도 여기서 처리해야 유일한 flusher 스레드가 죽지 않습니다.
+                if (attempt >= properties.getMaxRetries()) {
+                    discard(batch, e);
+                    return;
+                }
+                log.warn("[WriteBehind] {} 배치 저장 실패: {}건, {}/{}번째 재시도 예정",
+                        target, batch.size(), attempt + 1, properties.getMaxRetries(), e);
+                // saveAll은 실행할 때마다 새 ID를 발급하므로 같은 배치를 그대로 다시 저장해도 됩니다
+                LockSupport.parkNanos(this, backoffNanos);
+                backoffNanos *= 2;
+            }
+        }
+    }
+
+    /**
+     * 재시도 후에도 저장하지 못한 배치 버리기 (유형별 건수는 에러 로그, 이벤트는 건별로 failed 로거에 기록)
+     */
+    private void discard(List<AnalyticsData> batch, Throwable e) {
+        failedCounter.increment(batch.size());
+        Map<String, Integer> countByEventType = new TreeMap<>();
+        batch.forEach(data -> countByEventType.merge(data.getEventType(), 1, Integer::sum));
+        log.error("[WriteBehind] {} 배치 저장 실패: {}건 유실, 이벤트 유형별 건수={}",
+                target, batch.size(), countByEventType, e);
+        for (AnalyticsData data : batch) {
+            FAILED_EVENTS.warn("target={}, eventType={}, occurredAt={}, eventData={}",
+                    target, data.getEventType(), data.getOccurredAt(), data.getEventData());
+        }
+    }
+
+    /**
+     * flusher 스레드가 예기치 않게 종료된 경우
+     * <p>
+     * 이후 이벤트가 저장되지 않은 채 큐에 쌓이지 않도록 버퍼를 중지 상태로 전환합니다.
+     * 이후 enqueue는 예외로 실패하므로 호출자가 유실을 알 수 있습니다.
+     */
+    private void onFlusherDied(Thread thread, Throwable e) {
+        running = false;
+        log.error("[WriteBehind] {} flusher 스레드 비정상 종료: 버퍼 중지, 대기 중 {}건",
+                target, queue.size(), e);
+    }
+
+    // ===================================================
+    // Lifecycle
+    // ===================================================
+
+    @Override
+    public void start() {
+        if (!properties.isEnabled() || running) {
+            return;
+        }
+        if (queue == null) {
+            queue = new MpscArrayQueue<>(properties.getCapacity());
+            Gauge.builder(METRIC_PREFIX + ".buffer.size", queue, MpscArrayQueue::size)
+                    .description("쓰기 지연 버퍼에 대기 중인 이벤트 수")
+                    .tag("target", target)
+                    .register(meterRegistry);
+            Gauge.builder(METRIC_PREFIX + ".buffer.capacity", queue, MpscArrayQueue::capacity)
+                    .tag("target", target)
+                    .register(meterRegistry);
+        }
+        running = true;
+        flusher = Thread.ofPlatform()
+                .name("write-behind-" + target)
+                .daemon(true)
+                .uncaughtExceptionHandler(this::onFlusherDied)
+                .start(this::runFlusher);
+        log.info("[WriteBehind] {} 버퍼 시작: capacity={}, batchSize={}, flushInterval={}, backpressure={}",
+                target, queue.capacity(), properties.getBatchSize(),
+                properties.getFlushInterval(), properties.getBackpressure());
+    }
+
+    @Override
+    public void stop() {
+        Thread thread = flusher;
+        if (!running || thread == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        drainRemaining();
+        log.info("[WriteBehind] {} 버퍼 종료: 남은 이벤트 저장 완료", target);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 웹 서버가 종료된 뒤, 데이터소스가 닫히기 전에 종료되도록
+     * 웹 서버 시작/종료 라이프사이클(SMART_LIFECYCLE_PHASE - 1024)보다 낮은 phase를 사용합니다.
+     * <p>
+     * 종료는 phase가 높은 순서로 진행되므로, server.shutdown=graceful 설정과 함께
+     * 처리 중인 요청이 모두 끝나고 웹 서버가 멈춘 다음 버퍼를 비웁니다.
+     */
+    @Override
+    public int getPhase() {
+        return WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 2048;
+    }
+}
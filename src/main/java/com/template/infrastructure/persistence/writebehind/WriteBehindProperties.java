@@ -0,0 +1,71 @@
+package com.template.infrastructure.persistence.writebehind;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 분석 데이터 쓰기 지연(write-behind) 버퍼 설정
+ * <p>
+ * application.yml의 analytics.write-behind.* 속성과 바인딩되며,
+ * GPDB1, GPDB2 버퍼에 공통으로 적용됩니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "analytics.write-behind")
+public class WriteBehindProperties {
+
+    /**
+     * 쓰기 지연 사용 여부 (false면 요청 스레드에서 즉시 저장)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 버퍼 용량 (2의 거듭제곱으로 올림)
+     */
+    private int capacity = 65_536;
+
+    /**
+     * 한 번에 저장할 최대 건수 (JDBC 배치 크기와 맞추는 것을 권장)
+     */
+    private int batchSize = 500;
+
+    /**
+     * 배치가 차지 않아도 저장을 수행하는 최대 대기 시간
+     */
+    private Duration flushInterval = Duration.ofMillis(200);
+
+    /**
+     * 버퍼가 가득 찼을 때의 처리 정책
+     */
+    private Backpressure backpressure = Backpressure.BLOCK;
+
+    /**
+     * BLOCK 정책에서 빈 자리를 기다리는 최대 시간 (초과 시 429 응답)
+     */
+    private Duration blockTimeout = Duration.ofSeconds(1);
+
+    /**
+     * 배치 저장 실패 시 최대 재시도 횟수 (0이면 재시도하지 않고 버림)
+     */
+    private int maxRetries = 2;
+
+    /**
+     * 첫 재시도 대기 시간 (재시도마다 두 배로 증가)
+     */
+    private Duration retryBackoff = Duration.ofMillis(200);
+
+    /**
+     * 버퍼 포화 시 처리 정책
+     */
+    public enum Backpressure {
+        /** 빈 자리가 생길 때까지 blockTimeout 동안 대기 */
+        BLOCK,
+        /** 이벤트를 버리고 dropped 카운터만 증가 */
+        DROP,
+        /** 즉시 TooManyRequestsException 발생 (HTTP 429) */
+        REJECT
+    }
+}
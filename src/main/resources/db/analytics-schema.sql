@@ -0,0 +1,19 @@
+-- ===================================================
+-- 분석 데이터 스키마 (JDBC 엔진용, GPDB1/GPDB2 공통)
+-- ===================================================
+-- JPA 엔진은 Hibernate(ddl-auto)가 같은 스키마를 생성합니다.
+-- 운영 Greenplum의 파티션 테이블은 db/greenplum/analytics-schema.sql을 사용합니다.
+-- 시퀀스 증가값은 AnalyticsDataEntity.ID_ALLOCATION_SIZE와 일치해야 합니다.
+-- ===================================================
+CREATE SEQUENCE IF NOT EXISTS analytics_data_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS analytics_data (
+    id         BIGINT       NOT NULL PRIMARY KEY,
+    eventType  VARCHAR(255) NOT NULL,
+    eventData  TEXT,
+    occurredAt TIMESTAMP    NOT NULL,
+    createdAt  TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_analytics_data_occurred_at_id ON analytics_data (occurredAt, id);
+CREATE INDEX IF NOT EXISTS idx_analytics_data_event_type_occurred_at_id ON analytics_data (eventType, occurredAt, id);
@@ -0,0 +1,32 @@
+-- ===================================================
+-- 분석 데이터 ID 전환 마이그레이션 (IDENTITY → analytics_data_seq)
+-- ===================================================
+-- AnalyticsDataEntity의 ID 생성 전략이 IDENTITY에서 SEQUENCE(pooled-lo)로 바뀌었으므로,
+-- IDENTITY로 생성된 기존 analytics_data 테이블은 애플리케이션 배포 전에 GPDB1, GPDB2에서 각각 한 번 실행합니다.
+--
+-- 주의:
+--   * 시퀀스 시작 값은 max(id)를 50의 배수로 올림한 값 + 1입니다.
+--     pooled-lo 규칙(시퀀스 값 v가 [v, v + 49] 블록의 첫 ID)에 맞춰 기존 ID와 겹치지 않는 첫 블록에서 시작합니다.
+--   * 50은 AnalyticsDataEntity.ID_ALLOCATION_SIZE(시퀀스 INCREMENT BY)와 일치해야 합니다.
+--   * max(id) 조회와 시퀀스 지정 사이에 INSERT가 끼어들지 않도록 테이블을 잠그고 한 트랜잭션으로 실행합니다.
+--   * 새로 만드는 테이블은 db/greenplum/analytics-schema.sql을 사용하며 이 스크립트가 필요 없습니다.
+-- ===================================================
+BEGIN;
+
+LOCK TABLE analytics_data IN EXCLUSIVE MODE;
+
+-- IDENTITY 기본값 제거 (IDENTITY가 사용하던 내부 시퀀스도 함께 삭제됩니다)
+ALTER TABLE analytics_data ALTER COLUMN id DROP IDENTITY IF EXISTS;
+-- Greenplum 6처럼 BIGSERIAL(DEFAULT nextval(...))로 생성된 경우 위 문장 대신 아래 문장을 실행합니다
+-- ALTER TABLE analytics_data ALTER COLUMN id DROP DEFAULT;
+
+CREATE SEQUENCE IF NOT EXISTS analytics_data_seq START WITH 1 INCREMENT BY 50;
+
+-- is_called = false: 다음 nextval이 지정한 값을 그대로 반환합니다
+SELECT setval('analytics_data_seq', (COALESCE(MAX(id), 0) + 49) / 50 * 50 + 1, false)
+  FROM analytics_data;
+
+COMMIT;
+
+-- 확인: 다음 블록의 첫 ID가 max(id)보다 커야 합니다
+-- SELECT last_value, is_called, (SELECT MAX(id) FROM analytics_data) AS max_id FROM analytics_data_seq;
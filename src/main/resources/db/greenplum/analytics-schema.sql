@@ -0,0 +1,50 @@
+-- ===================================================
+-- 분석 데이터 스키마 (운영 Greenplum, GPDB1/GPDB2 공통)
+-- ===================================================
+-- occurredAt 월 단위 범위 파티션 테이블입니다.
+-- 애플리케이션의 기간 조회는 occurredAt >= :from AND occurredAt < :to 형태로
+-- 컬럼을 가공하지 않고 비교하므로, 플래너(ORCA/Postgres 플래너 모두)가
+-- 구간 밖 파티션을 제외(partition pruning)합니다.
+--
+-- 주의:
+--   * 파티션 경계는 START INCLUSIVE / END EXCLUSIVE로, AnalyticsDataTimeRange [from, to)와 같습니다.
+--   * DEFAULT 파티션은 모든 기간 조회에서 함께 스캔되므로 두지 않습니다.
+--     범위를 벗어난 INSERT는 실패하므로 아래 "파티션 추가"를 미리 실행해야 합니다.
+--   * 시퀀스 증가값은 AnalyticsDataEntity.ID_ALLOCATION_SIZE와 일치해야 합니다.
+--   * 인덱스는 AnalyticsDataEntity의 @Index 정의와 동일하게 유지합니다.
+-- ===================================================
+CREATE SEQUENCE IF NOT EXISTS analytics_data_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE analytics_data (
+    id         BIGINT       NOT NULL,
+    eventType  VARCHAR(255) NOT NULL,
+    eventData  TEXT,
+    occurredAt TIMESTAMP    NOT NULL,
+    createdAt  TIMESTAMP
+)
+WITH (appendoptimized = true, orientation = column, compresstype = zstd, compresslevel = 1)
+DISTRIBUTED BY (id)
+PARTITION BY RANGE (occurredAt)
+(
+    START (TIMESTAMP '2026-01-01 00:00:00') INCLUSIVE
+    END (TIMESTAMP '2028-01-01 00:00:00') EXCLUSIVE
+    EVERY (INTERVAL '1 month')
+);
+
+-- 파티션 테이블에 만든 인덱스는 모든 하위 파티션에 생성됩니다
+CREATE INDEX idx_analytics_data_occurred_at_id ON analytics_data (occurredAt, id);
+CREATE INDEX idx_analytics_data_event_type_occurred_at_id ON analytics_data (eventType, occurredAt, id);
+
+-- ===================================================
+-- 파티션 추가 (매월 배치로 다음 기간을 미리 생성)
+-- ===================================================
+-- ALTER TABLE analytics_data ADD PARTITION
+--     START (TIMESTAMP '2028-01-01 00:00:00') INCLUSIVE
+--     END (TIMESTAMP '2028-02-01 00:00:00') EXCLUSIVE;
+--
+-- 보관 기간이 지난 파티션 삭제 (DELETE 없이 파티션 단위로 제거)
+-- ALTER TABLE analytics_data DROP PARTITION FOR (TIMESTAMP '2026-01-01 00:00:00');
+--
+-- 파티션 제외 확인: 실행 계획에 구간 안의 파티션만 나타나야 합니다
+-- EXPLAIN SELECT * FROM analytics_data
+--  WHERE occurredAt >= TIMESTAMP '2026-10-01' AND occurredAt < TIMESTAMP '2026-11-01';
@@ -0,0 +1,17 @@
+-- ===================================================
+-- Primary 읽기 복제본 스키마 (local 프로파일 H2 전용)
+-- ===================================================
+-- local 프로파일의 복제본은 Primary와 분리된 H2 인메모리 DB이므로
+-- 커넥션 URL의 INIT=RUNSCRIPT로 이 스크립트를 실행해 samples 테이블을 만듭니다.
+-- 복제는 되지 않으므로 복제본에서 읽은 데이터는 Primary와 다릅니다(복제 지연 확인용).
+-- 컬럼은 SampleEntity(Hibernate ddl-auto)가 생성하는 스키마와 같아야 합니다.
+-- ===================================================
+CREATE TABLE IF NOT EXISTS samples (
+    id        BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title     VARCHAR(255) NOT NULL,
+    content   TEXT,
+    createdAt TIMESTAMP    NOT NULL,
+    updatedAt TIMESTAMP    NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_samples_updated_at ON samples (updatedAt);
@@ -0,0 +1,64 @@
+package com.template.api.support.page;
+
+import com.template.domain.common.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorTokenTest {
+
+    @Test
+    @DisplayName("인코딩한 키 값들을 그대로 디코딩한다")
+    void roundTrips() {
+        String token = CursorToken.encode("2026-01-01T09:00:00.123456", "42");
+
+        assertThat(CursorToken.decode(token, 2)).containsExactly("2026-01-01T09:00:00.123456", "42");
+    }
+
+    @Test
+    @DisplayName("토큰은 URL에 그대로 쓸 수 있는 문자만 포함하고, 키 값을 평문으로 노출하지 않는다")
+    void isUrlSafe() {
+        String token = CursorToken.encode("제목?&=/+", "42");
+
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+        assertThat(token).doesNotContain("42");
+    }
+
+    @Test
+    @DisplayName("빈 키 값도 자리를 유지한다")
+    void keepsEmptyKeys() {
+        assertThat(CursorToken.decode(CursorToken.encode("", "1"), 2)).containsExactly("", "1");
+    }
+
+    @Test
+    @DisplayName("Base64가 아닌 토큰은 INVALID_CURSOR로 거부한다")
+    void rejectsMalformedToken() {
+        assertInvalid("not a token!");
+        assertInvalid("%%%");
+    }
+
+    @Test
+    @DisplayName("키 개수가 다르게 변조된 토큰은 INVALID_CURSOR로 거부한다")
+    void rejectsTamperedKeyCount() {
+        String tampered = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("2026-01-01T09:00|42|extra".getBytes(StandardCharsets.UTF_8));
+
+        assertInvalid(tampered);
+        assertInvalid(CursorToken.encode("42"), 2);
+    }
+
+    private static void assertInvalid(String token) {
+        assertInvalid(token, 2);
+    }
+
+    private static void assertInvalid(String token, int keyCount) {
+        assertThatThrownBy(() -> CursorToken.decode(token, keyCount))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "INVALID_CURSOR");
+    }
+}
@@ -0,0 +1,163 @@
+package com.template.api.v1.controller.sample;
+
+import com.template.application.sample.SampleUseCase;
+import com.template.domain.sample.Sample;
+import com.template.domain.sample.SampleCollectionVersion;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class SampleControllerETagTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+    private SampleUseCase sampleUseCase;
+    private MeterRegistry meterRegistry;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        sampleUseCase = mock(SampleUseCase.class);
+        meterRegistry = new SimpleMeterRegistry();
+        SampleResponseJsonCache responseJsonCache = new SampleResponseJsonCache(
+                Jackson2ObjectMapperBuilder.json().build(), meterRegistry, 100);
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new SampleController(sampleUseCase, responseJsonCache, new SampleETags(meterRegistry)))
+                .build();
+    }
+
+    @Test
+    @DisplayName("단건: If-None-Match가 현재 ETag와 같으면 본문 없이 304로 응답한다")
+    void itemNotModifiedWhenETagMatches() throws Exception {
+        Sample sample = sample(1L, "제목", CREATED_AT);
+        given(sampleUseCase.getById(1L)).willReturn(sample);
+
+        mockMvc.perform(get("/api/v1/samples/1").header(HttpHeaders.IF_NONE_MATCH, SampleETags.of(sample)))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, SampleETags.of(sample)))
+                .andExpect(content().bytes(new byte[0]));
+
+        assertThat(count("item", "hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("단건: 수정 후에는 이전 ETag로 요청해도 200과 새 ETag로 응답한다")
+    void itemModifiedAfterUpdate() throws Exception {
+        Sample before = sample(1L, "제목", CREATED_AT);
+        Sample after = sample(1L, "수정된 제목", CREATED_AT.plusSeconds(5));
+        given(sampleUseCase.getById(1L)).willReturn(after);
+
+        mockMvc.perform(get("/api/v1/samples/1").header(HttpHeaders.IF_NONE_MATCH, SampleETags.of(before)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, SampleETags.of(after)))
+                .andExpect(jsonPath("$.data.title").value("수정된 제목"));
+
+        assertThat(SampleETags.of(after)).isNotEqualTo(SampleETags.of(before));
+        assertThat(count("item", "miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("단건: 약한(W/) ETag, 여러 ETag 목록도 일치로 판단한다")
+    void itemMatchesWeakAndListedETags() throws Exception {
+        Sample sample = sample(1L, "제목", CREATED_AT);
+        given(sampleUseCase.getById(1L)).willReturn(sample);
+
+        for (String ifNoneMatch : List.of(
+                "W/" + SampleETags.of(sample),
+                "\"other\", W/" + SampleETags.of(sample))) {
+            mockMvc.perform(get("/api/v1/samples/1").header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch))
+                    .andExpect(status().isNotModified());
+        }
+    }
+
+    @Test
+    @DisplayName("단건: GET의 If-None-Match: *는 일치로 보지 않고 200으로 응답한다 (Spring은 *를 변경 요청에만 적용)")
+    void itemIgnoresWildcardForGet() throws Exception {
+        Sample sample = sample(1L, "제목", CREATED_AT);
+        given(sampleUseCase.getById(1L)).willReturn(sample);
+
+        mockMvc.perform(get("/api/v1/samples/1").header(HttpHeaders.IF_NONE_MATCH, "*"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, SampleETags.of(sample)));
+    }
+
+    @Test
+    @DisplayName("단건: If-None-Match가 없으면 ETag와 함께 200으로 응답하고 메트릭을 집계하지 않는다")
+    void itemWithoutCondition() throws Exception {
+        Sample sample = sample(1L, "제목", CREATED_AT);
+        given(sampleUseCase.getById(1L)).willReturn(sample);
+
+        mockMvc.perform(get("/api/v1/samples/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, SampleETags.of(sample)));
+
+        assertThat(count("item", "hit") + count("item", "miss")).isZero();
+    }
+
+    @Test
+    @DisplayName("목록: 집계 버전이 일치하면 전체 목록을 조회하지 않고 304로 응답한다")
+    void listNotModifiedWithoutLoadingRows() throws Exception {
+        SampleCollectionVersion version = new SampleCollectionVersion(2, CREATED_AT);
+        given(sampleUseCase.getCollectionVersion()).willReturn(version);
+
+        mockMvc.perform(get("/api/v1/samples").header(HttpHeaders.IF_NONE_MATCH, SampleETags.of(version)))
+                .andExpect(status().isNotModified());
+
+        verify(sampleUseCase, never()).getAll();
+        assertThat(count("list", "hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("목록: 삭제로 건수가 바뀌면 200과 조회한 목록 기준 ETag로 응답한다")
+    void listModifiedAfterDelete() throws Exception {
+        SampleCollectionVersion before = new SampleCollectionVersion(2, CREATED_AT);
+        List<Sample> samples = List.of(sample(1L, "제목", CREATED_AT));
+        given(sampleUseCase.getCollectionVersion()).willReturn(SampleCollectionVersion.of(samples));
+        given(sampleUseCase.getAll()).willReturn(samples);
+
+        mockMvc.perform(get("/api/v1/samples").header(HttpHeaders.IF_NONE_MATCH, SampleETags.of(before)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, SampleETags.of(SampleCollectionVersion.of(samples))))
+                .andExpect(jsonPath("$.data.length()").value(1));
+
+        assertThat(count("list", "miss")).isEqualTo(1);
+    }
+
+    private double count(String endpoint, String result) {
+        return meterRegistry.get("sample.conditional.requests")
+                .tag("endpoint", endpoint)
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+
+    private static Sample sample(Long id, String title, LocalDateTime updatedAt) {
+        return Sample.builder()
+                .id(id)
+                .title(title)
+                .content("내용")
+                .createdAt(CREATED_AT)
+                .updatedAt(updatedAt)
+                .build();
+    }
+}
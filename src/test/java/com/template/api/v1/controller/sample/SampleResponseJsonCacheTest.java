@@ -0,0 +1,135 @@
+package com.template.api.v1.controller.sample;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.template.api.support.response.ApiResponse;
+import com.template.api.v1.response.SampleResponse;
+import com.template.domain.sample.Sample;
+import com.template.domain.sample.SampleChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SampleResponseJsonCacheTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+    private ObjectMapper objectMapper;
+    private MeterRegistry meterRegistry;
+    private SampleResponseJsonCache cache;
+
+    @BeforeEach
+    void setUp() {
+        // application.yml의 spring.jackson 설정(non_null, ISO 8601 날짜)과 같게 구성합니다
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new SampleResponseJsonCache(objectMapper, meterRegistry, 100);
+    }
+
+    @Test
+    @DisplayName("단건 응답은 ApiResponse<SampleResponse>를 직접 직렬화한 것과 같다")
+    void writesSameJsonAsJackson() throws IOException {
+        Sample sample = sample(1L, "제목", CREATED_AT);
+
+        assertThat(write(sample)).isEqualTo(objectMapper.writeValueAsString(ApiResponse.success(SampleResponse.from(sample))));
+    }
+
+    @Test
+    @DisplayName("목록 응답은 ApiResponse<List<SampleResponse>>를 직접 직렬화한 것과 같다 (빈 목록 포함)")
+    void writesSameJsonForLists() throws IOException {
+        List<Sample> samples = List.of(sample(1L, "첫째", CREATED_AT), sample(2L, "둘째", CREATED_AT));
+
+        assertThat(writeAll(samples)).isEqualTo(objectMapper.writeValueAsString(
+                ApiResponse.success(samples.stream().map(SampleResponse::from).toList())));
+        assertThat(writeAll(List.of())).isEqualTo(objectMapper.writeValueAsString(ApiResponse.success(List.of())));
+    }
+
+    @Test
+    @DisplayName("같은 샘플을 다시 쓰면 캐시된 바이트를 사용한다")
+    void reusesCachedBytes() throws IOException {
+        Sample sample = sample(1L, "제목", CREATED_AT);
+
+        write(sample);
+        write(sample);
+
+        assertThat(gets("miss")).isEqualTo(1);
+        assertThat(gets("hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("수정 시간이나 제목/내용이 달라진 샘플은 이전 바이트를 쓰지 않고 다시 직렬화한다")
+    void reEncodesChangedSample() throws IOException {
+        write(sample(1L, "제목", CREATED_AT));
+
+        assertThat(write(sample(1L, "제목", CREATED_AT.plusSeconds(1)))).contains("2026-01-01T09:00:01");
+        // 수정 직후 updatedAt이 같은 값으로 남아 있어도 제목이 다르면 새 값으로 응답합니다
+        assertThat(write(sample(1L, "수정된 제목", CREATED_AT.plusSeconds(1)))).contains("수정된 제목");
+    }
+
+    @Test
+    @DisplayName("수정/삭제 이벤트를 받으면 해당 ID의 바이트를 제거한다")
+    void invalidatesOnSampleChanged() throws IOException {
+        Sample first = sample(1L, "첫째", CREATED_AT);
+        Sample second = sample(2L, "둘째", CREATED_AT);
+        write(first);
+        write(second);
+
+        cache.onSampleChanged(SampleChangedEvent.deleted(1L));
+        write(first);
+        write(second);
+
+        assertThat(gets("miss")).isEqualTo(3);
+        assertThat(gets("hit")).isEqualTo(1);
+    }
+
+    private String write(Sample sample) throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        cache.write(response, sample);
+        return body(response);
+    }
+
+    private String writeAll(List<Sample> samples) throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        cache.writeAll(response, samples);
+        return body(response);
+    }
+
+    private static String body(MockHttpServletResponse response) {
+        byte[] bytes = response.getContentAsByteArray();
+        assertThat(response.getContentLengthLong()).isEqualTo(bytes.length);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", "sample.response_json")
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+
+    private static Sample sample(Long id, String title, LocalDateTime updatedAt) {
+        return Sample.builder()
+                .id(id)
+                .title(title)
+                .content("내용")
+                .createdAt(CREATED_AT)
+                .updatedAt(updatedAt)
+                .build();
+    }
+}
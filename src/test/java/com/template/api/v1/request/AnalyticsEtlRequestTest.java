@@ -0,0 +1,58 @@
+package com.template.api.v1.request;
+
+import com.template.domain.common.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AnalyticsEtlRequestTest {
+
+    @Test
+    @DisplayName("범위 요청은 양 끝을 포함한 ID 목록으로 변환된다")
+    void resolvesRange() {
+        AnalyticsEtlRequest request = new AnalyticsEtlRequest(null, 3L, 6L);
+
+        assertThat(request.resolvePostIds()).containsExactly(3L, 4L, 5L, 6L);
+    }
+
+    @Test
+    @DisplayName("long 범위를 넘는 범위 크기는 오버플로 없이 거부된다")
+    void rejectsOverflowingRange() {
+        AnalyticsEtlRequest request = new AnalyticsEtlRequest(null, Long.MIN_VALUE, Long.MAX_VALUE);
+
+        assertThatThrownBy(request::resolvePostIds)
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(String.valueOf(AnalyticsEtlRequest.MAX_POSTS));
+    }
+
+    @Test
+    @DisplayName("최대 건수를 넘는 범위는 거부된다")
+    void rejectsTooLargeRange() {
+        AnalyticsEtlRequest request = new AnalyticsEtlRequest(null, 1L, AnalyticsEtlRequest.MAX_POSTS + 1L);
+
+        assertThatThrownBy(request::resolvePostIds).isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    @DisplayName("postIds에 null이나 중복 ID가 있으면 거부된다")
+    void rejectsNullAndDuplicateIds() {
+        assertThatThrownBy(() -> new AnalyticsEtlRequest(Arrays.asList(1L, null), null, null).resolvePostIds())
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> new AnalyticsEtlRequest(List.of(1L, 2L, 1L), null, null).resolvePostIds())
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("중복");
+    }
+
+    @Test
+    @DisplayName("postIds와 범위를 함께 지정하면 거부된다")
+    void rejectsListAndRangeTogether() {
+        AnalyticsEtlRequest request = new AnalyticsEtlRequest(List.of(1L), 1L, 2L);
+
+        assertThatThrownBy(request::resolvePostIds).isInstanceOf(BusinessException.class);
+    }
+}
@@ -0,0 +1,64 @@
+package com.template.application.external;
+
+import com.template.domain.analytics.AnalyticsData;
+import com.template.domain.analytics.AnalyticsEventTypeCount;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AnalyticsEventRollupTest {
+
+    @Test
+    @DisplayName("건수 묶음은 apply 전에는 집계에 반영되지 않는다")
+    void batchIsInvisibleUntilApplied() {
+        AnalyticsEventRollup rollup = new AnalyticsEventRollup(60, 100);
+        AnalyticsEventRollup.Batch batch = rollup.newBatch("gpdb1");
+
+        batch.record(AnalyticsData.create("CLICK", "a"));
+
+        assertThat(rollup.snapshot(1).total()).isZero();
+
+        batch.apply();
+
+        assertThat(rollup.snapshot(1).total()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("일괄 기록은 대상별, 이벤트 유형별 건수를 건별 기록과 같게 더한다")
+    void recordAllMatchesSingleRecords() {
+        AnalyticsEventRollup rollup = new AnalyticsEventRollup(60, 100);
+        rollup.record("gpdb1", "CLICK");
+
+        rollup.recordAll("sharded", List.of(
+                AnalyticsData.create("CLICK", "a"),
+                AnalyticsData.create("VIEW", "b"),
+                AnalyticsData.create("CLICK", "c")));
+
+        AnalyticsRollupSnapshot snapshot = rollup.snapshot(1);
+        assertThat(snapshot.total()).isEqualTo(4);
+        assertThat(snapshot.byTarget()).containsEntry("gpdb1", 1L).containsEntry("sharded", 3L);
+        assertThat(snapshot.byEventType()).containsExactly(
+                new AnalyticsEventTypeCount("CLICK", 3),
+                new AnalyticsEventTypeCount("VIEW", 1));
+    }
+
+    @Test
+    @DisplayName("묶음의 이벤트 유형 수가 한도를 넘으면 나머지는 기타로 합산한다")
+    void batchCapsEventTypes() {
+        AnalyticsEventRollup rollup = new AnalyticsEventRollup(60, 2);
+        AnalyticsEventRollup.Batch batch = rollup.newBatch("gpdb2");
+        for (int i = 0; i < 10; i++) {
+            batch.record(AnalyticsData.create("TYPE-" + i, "x"));
+        }
+        batch.apply();
+
+        AnalyticsRollupSnapshot snapshot = rollup.snapshot(1);
+        assertThat(snapshot.total()).isEqualTo(10);
+        assertThat(snapshot.byEventType()).extracting(AnalyticsEventTypeCount::count)
+                .containsOnly(1L, 8L)
+                .hasSize(3);
+    }
+}
@@ -0,0 +1,47 @@
+package com.template.application.external.sketch;
+
+import com.template.domain.analytics.AnalyticsData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AnalyticsSketchesTest {
+
+    @Test
+    @DisplayName("갱신 묶음은 apply 전에는 조회에 반영되지 않는다")
+    void batchIsInvisibleUntilApplied() {
+        AnalyticsSketches sketches = new AnalyticsSketches(new AnalyticsSketchProperties());
+        AnalyticsSketches.Batch batch = sketches.newBatch();
+
+        batch.record(AnalyticsData.create("CLICK", "a"));
+        batch.record(AnalyticsData.create("CLICK", "b"));
+
+        assertThat(sketches.cardinality("CLICK").events()).isZero();
+        assertThat(sketches.frequency("CLICK", "a").estimatedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("apply한 갱신 묶음은 건별 기록과 같은 결과를 준다")
+    void appliedBatchMatchesDirectRecording() {
+        AnalyticsSketches direct = new AnalyticsSketches(new AnalyticsSketchProperties());
+        AnalyticsSketches batched = new AnalyticsSketches(new AnalyticsSketchProperties());
+        direct.record(AnalyticsData.create("CLICK", "seed"));
+        batched.record(AnalyticsData.create("CLICK", "seed"));
+
+        AnalyticsSketches.Batch batch = batched.newBatch();
+        for (int i = 0; i < 100; i++) {
+            AnalyticsData data = AnalyticsData.create(i % 2 == 0 ? "CLICK" : "VIEW", "payload-" + (i % 10));
+            direct.record(data);
+            batch.record(data);
+        }
+        batch.apply();
+
+        for (String eventType : new String[]{"CLICK", "VIEW"}) {
+            assertThat(batched.cardinality(eventType)).isEqualTo(direct.cardinality(eventType));
+            assertThat(batched.frequency(eventType, "payload-0"))
+                    .isEqualTo(direct.frequency(eventType, "payload-0"));
+        }
+        assertThat(batched.topEventTypes(2)).isEqualTo(direct.topEventTypes(2));
+    }
+}
@@ -0,0 +1,76 @@
+package com.template.application.external.sketch;
+
+import com.template.domain.common.hash.StableHash;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CountMinSketchTest {
+
+    private static final int WIDTH = 2_048;
+    private static final int DEPTH = 5;
+
+    @Test
+    @DisplayName("추정값은 실제 빈도 이상이고, 과대 추정량은 오차 상한 이하이다")
+    void estimatesWithinErrorBound() {
+        CountMinSketch sketch = new CountMinSketch(WIDTH, DEPTH);
+        Map<Integer, Long> actual = record(sketch, new Random(42), 200_000);
+
+        assertThat(sketch.totalCount()).isEqualTo(200_000);
+        actual.forEach((item, count) -> {
+            long estimate = sketch.estimate(hash(item));
+            assertThat(estimate).isGreaterThanOrEqualTo(count);
+            assertThat(estimate - count).isLessThanOrEqualTo(sketch.errorBound());
+        });
+    }
+
+    @Test
+    @DisplayName("병합 결과는 두 입력을 하나의 스케치에 기록한 것과 같다")
+    void mergeEqualsCombinedStream() {
+        CountMinSketch left = new CountMinSketch(WIDTH, DEPTH);
+        CountMinSketch right = new CountMinSketch(WIDTH, DEPTH);
+        CountMinSketch combined = new CountMinSketch(WIDTH, DEPTH);
+        record(left, new Random(1), 50_000);
+        record(right, new Random(2), 50_000);
+        record(combined, new Random(1), 50_000);
+        record(combined, new Random(2), 50_000);
+
+        left.merge(right);
+
+        assertThat(left.totalCount()).isEqualTo(combined.totalCount());
+        for (int item = 0; item < 1_000; item++) {
+            assertThat(left.estimate(hash(item))).isEqualTo(combined.estimate(hash(item)));
+        }
+    }
+
+    @Test
+    @DisplayName("크기가 다르면 병합할 수 없다")
+    void rejectsMergeWithDifferentSize() {
+        assertThatThrownBy(() -> new CountMinSketch(WIDTH, DEPTH).merge(new CountMinSketch(WIDTH, DEPTH + 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * 치우친 분포(item = 난수의 제곱 스케일)로 total건 기록하고 실제 빈도 반환
+     */
+    private static Map<Integer, Long> record(CountMinSketch sketch, Random random, int total) {
+        Map<Integer, Long> actual = new HashMap<>();
+        for (int i = 0; i < total; i++) {
+            double r = random.nextDouble();
+            int item = (int) (r * r * 10_000);
+            sketch.add(hash(item), 1);
+            actual.merge(item, 1L, Long::sum);
+        }
+        return actual;
+    }
+
+    private static long hash(int item) {
+        return StableHash.hash64("item-" + item);
+    }
+}
@@ -0,0 +1,94 @@
+package com.template.application.external.sketch;
+
+import com.template.domain.common.hash.StableHash;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class HyperLogLogTest {
+
+    private static final int PRECISION = 12;
+
+    @Test
+    @DisplayName("고유 값 개수 추정은 표준 오차의 3배 이내이다")
+    void estimatesWithinErrorBound() {
+        HyperLogLog sketch = sketchOf(0, 100_000);
+
+        double tolerance = 3 * sketch.standardError() * 100_000;
+        assertThat((double) sketch.estimate()).isCloseTo(100_000, within(tolerance));
+    }
+
+    @Test
+    @DisplayName("작은 개수는 선형 계수로 보정되어 거의 정확하다")
+    void smallCardinalityUsesLinearCounting() {
+        assertThat(new HyperLogLog(PRECISION).estimate()).isZero();
+        assertThat((double) sketchOf(0, 1_000).estimate()).isCloseTo(1_000, within(30.0));
+    }
+
+    @Test
+    @DisplayName("중복 값은 개수를 늘리지 않는다")
+    void ignoresDuplicates() {
+        HyperLogLog sketch = sketchOf(0, 10_000);
+        long before = sketch.estimate();
+
+        for (int i = 0; i < 10_000; i++) {
+            sketch.add(hash(i));
+        }
+
+        assertThat(sketch.estimate()).isEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("병합 결과는 합집합의 고유 값 개수를 추정한다")
+    void mergeEstimatesUnion() {
+        HyperLogLog left = sketchOf(0, 60_000);
+        HyperLogLog right = sketchOf(40_000, 100_000);
+        HyperLogLog union = sketchOf(0, 100_000);
+
+        left.merge(right);
+
+        assertThat(left.estimate()).isEqualTo(union.estimate());
+        double tolerance = 3 * left.standardError() * 100_000;
+        assertThat((double) left.estimate()).isCloseTo(100_000, within(tolerance));
+    }
+
+    @Test
+    @DisplayName("precision이 다르면 병합할 수 없다")
+    void rejectsMergeWithDifferentPrecision() {
+        assertThatThrownBy(() -> new HyperLogLog(PRECISION).merge(new HyperLogLog(PRECISION + 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("스냅샷으로 저장 후 복원해도 추정값이 같다")
+    void roundTripsThroughSnapshot() throws IOException {
+        HyperLogLog sketch = sketchOf(0, 5_000);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        sketch.writeTo(new DataOutputStream(bytes));
+
+        HyperLogLog restored = HyperLogLog.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertThat(restored.estimate()).isEqualTo(sketch.estimate());
+    }
+
+    private static HyperLogLog sketchOf(int fromInclusive, int toExclusive) {
+        HyperLogLog sketch = new HyperLogLog(PRECISION);
+        for (int i = fromInclusive; i < toExclusive; i++) {
+            sketch.add(hash(i));
+        }
+        return sketch;
+    }
+
+    private static long hash(int i) {
+        return StableHash.hash64("user-" + i);
+    }
+}
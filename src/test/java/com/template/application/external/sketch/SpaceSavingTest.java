@@ -0,0 +1,100 @@
+package com.template.application.external.sketch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpaceSavingTest {
+
+    private static final int CAPACITY = 50;
+
+    @Test
+    @DisplayName("빈도가 전체의 1/capacity보다 큰 항목은 유지되고, 건수와 오차가 실제 빈도를 감싼다")
+    void keepsHeavyHittersWithinBounds() {
+        SpaceSaving sketch = new SpaceSaving(CAPACITY);
+        Map<String, Long> actual = record(sketch, new Random(7), 100_000);
+
+        assertBounds(sketch, actual, 100_000);
+    }
+
+    @Test
+    @DisplayName("상위 항목은 건수 내림차순으로 반환된다")
+    void returnsTopInDescendingOrder() {
+        SpaceSaving sketch = new SpaceSaving(CAPACITY);
+        for (int i = 0; i < 30; i++) {
+            sketch.offer("a");
+        }
+        for (int i = 0; i < 20; i++) {
+            sketch.offer("b");
+        }
+        sketch.offer("c");
+
+        assertThat(sketch.top(2)).extracting(SpaceSaving.HeavyHitter::item).containsExactly("a", "b");
+        assertThat(sketch.top(1).get(0).count()).isEqualTo(30);
+        assertThat(sketch.top(1).get(0).error()).isZero();
+    }
+
+    @Test
+    @DisplayName("가득 찬 상태의 새 항목은 가장 작은 카운터를 교체하고 그 건수를 오차로 물려받는다")
+    void replacesSmallestCounter() {
+        SpaceSaving sketch = new SpaceSaving(2);
+        sketch.offer("a");
+        sketch.offer("a");
+        sketch.offer("b");
+
+        sketch.offer("c");
+
+        assertThat(sketch.top(2)).containsExactly(
+                new SpaceSaving.HeavyHitter("a", 2, 0),
+                new SpaceSaving.HeavyHitter("c", 2, 1));
+    }
+
+    @Test
+    @DisplayName("병합 결과도 합친 입력에 대해 같은 보장을 만족한다")
+    void mergeKeepsBounds() {
+        SpaceSaving left = new SpaceSaving(CAPACITY);
+        SpaceSaving right = new SpaceSaving(CAPACITY);
+        Map<String, Long> actual = record(left, new Random(11), 60_000);
+        record(right, new Random(12), 40_000).forEach((item, count) -> actual.merge(item, count, Long::sum));
+
+        left.merge(right);
+
+        assertBounds(left, actual, 100_000);
+    }
+
+    private static void assertBounds(SpaceSaving sketch, Map<String, Long> actual, long total) {
+        List<SpaceSaving.HeavyHitter> top = sketch.top(CAPACITY);
+        Map<String, SpaceSaving.HeavyHitter> tracked = new HashMap<>();
+        top.forEach(hitter -> tracked.put(hitter.item(), hitter));
+
+        actual.forEach((item, count) -> {
+            if (count > total / CAPACITY) {
+                assertThat(tracked).containsKey(item);
+            }
+        });
+        tracked.values().forEach(hitter -> {
+            long count = actual.getOrDefault(hitter.item(), 0L);
+            assertThat(hitter.count()).isGreaterThanOrEqualTo(count);
+            assertThat(hitter.count() - hitter.error()).isLessThanOrEqualTo(count);
+        });
+    }
+
+    /**
+     * 지프(Zipf) 분포에 가까운 입력을 total건 기록하고 실제 빈도 반환
+     */
+    private static Map<String, Long> record(SpaceSaving sketch, Random random, int total) {
+        Map<String, Long> actual = new HashMap<>();
+        for (int i = 0; i < total; i++) {
+            String item = "event-" + (int) Math.floor(Math.pow(1_000, random.nextDouble()));
+            sketch.offer(item);
+            actual.merge(item, 1L, Long::sum);
+        }
+        return actual;
+    }
+}
@@ -0,0 +1,69 @@
+package com.template.infrastructure.config.datasource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlStatementShapeTest {
+
+    @Test
+    @DisplayName("문자열/숫자 리터럴을 ?로 바꾼다 (작은따옴표 이스케이프 포함)")
+    void replacesLiterals() {
+        SqlStatementShape shape = SqlStatementShape.of(
+                "select * from samples where id = 42 and score > 1.5 and title = 'it''s ''quoted''' and x = -7");
+
+        assertThat(shape.sql()).isEqualTo(
+                "select * from samples where id = ? and score > ? and title = ? and x = -?");
+    }
+
+    @Test
+    @DisplayName("식별자 안의 숫자는 그대로 둔다")
+    void keepsDigitsInIdentifiers() {
+        assertThat(SqlStatementShape.of("select s1_0.id, col2 from samples s1_0 where s1_0.id = ?").sql())
+                .isEqualTo("select s1_0.id, col2 from samples s1_0 where s1_0.id = ?");
+    }
+
+    @Test
+    @DisplayName("줄바꿈/탭을 포함한 연속 공백을 공백 하나로 줄이고 앞뒤 공백을 제거한다")
+    void collapsesWhitespace() {
+        assertThat(SqlStatementShape.of("  select\n\t a,\r\n   b  from t  ").sql())
+                .isEqualTo("select a, b from t");
+    }
+
+    @Test
+    @DisplayName("IN 목록은 항목 수와 관계없이 같은 형태가 된다")
+    void collapsesInLists() {
+        SqlStatementShape one = SqlStatementShape.of("select * from t where id in (?)");
+        SqlStatementShape many = SqlStatementShape.of("select * from t where id in (?, ?, ?)");
+        SqlStatementShape literals = SqlStatementShape.of("select * from t where id in (1,2,3,4)");
+
+        assertThat(many.sql()).isEqualTo("select * from t where id in (?)");
+        assertThat(literals.sql()).isEqualTo(many.sql());
+        assertThat(many.id()).isEqualTo(one.id()).isEqualTo(literals.id());
+    }
+
+    @Test
+    @DisplayName("값만 다른 SQL은 같은 8자리 16진수 ID를, 다른 SQL은 다른 ID를 갖는다")
+    void derivesStableId() {
+        SqlStatementShape first = SqlStatementShape.of("select * from t where id = 1");
+        SqlStatementShape second = SqlStatementShape.of("select *\n  from t where id = 999");
+
+        assertThat(first.id()).matches("[0-9a-f]{8}").isEqualTo(second.id());
+        assertThat(SqlStatementShape.of("select * from u where id = 1").id()).isNotEqualTo(first.id());
+    }
+
+    @Test
+    @DisplayName("첫 키워드로 작업 유형을 구분한다 (WITH는 SELECT)")
+    void classifiesOperation() {
+        assertThat(SqlStatementShape.of("SELECT 1").operation()).isEqualTo("SELECT");
+        assertThat(SqlStatementShape.of("with recent as (select * from t) select * from recent").operation())
+                .isEqualTo("SELECT");
+        assertThat(SqlStatementShape.of("insert into t values (?, ?)").operation()).isEqualTo("INSERT");
+        assertThat(SqlStatementShape.of("update t set a = ?").operation()).isEqualTo("UPDATE");
+        assertThat(SqlStatementShape.of("delete from t").operation()).isEqualTo("DELETE");
+        assertThat(SqlStatementShape.of("merge into t using s on (1 = 1)").operation()).isEqualTo("MERGE");
+        assertThat(SqlStatementShape.of("call proc(?)").operation()).isEqualTo("CALL");
+        assertThat(SqlStatementShape.of("commit").operation()).isEqualTo("OTHER");
+    }
+}
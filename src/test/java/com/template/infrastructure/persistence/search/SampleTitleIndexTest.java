@@ -0,0 +1,100 @@
+package com.template.infrastructure.persistence.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SampleTitleIndexTest {
+
+    private SampleTitleIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SampleTitleIndex();
+        index.index(1L, "Spring Boot Template");
+        index.index(2L, "Spring Batch Guide");
+        index.index(3L, "Hello World");
+    }
+
+    @Test
+    @DisplayName("검색어를 부분 문자열로 포함하는 제목만 대소문자 무시하고 찾는다")
+    void searchesSubstringIgnoringCase() {
+        assertThat(index.search("SPRING")).containsExactly(1L, 2L);
+        assertThat(index.search("boot temp")).containsExactly(1L);
+        assertThat(index.search("template guide")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("트라이그램이 모두 있어도 연속된 부분 문자열이 아니면 찾지 않는다")
+    void verifiesCandidatesAgainstTitle() {
+        index.index(4L, "abc xbcd");
+
+        // "abcd"의 트라이그램(abc, bcd)은 모두 있지만 제목에 "abcd"는 없습니다
+        assertThat(index.search("abcd")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("3글자 미만 검색어는 보관 중인 제목을 직접 확인한다")
+    void searchesShortQueries() {
+        assertThat(index.search("o")).containsExactly(1L, 3L);
+        assertThat(index.search("GU")).containsExactly(2L);
+        assertThat(index.search("")).containsExactly(1L, 2L, 3L);
+        assertThat(index.search(null)).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("제목 변경/삭제 후에는 이전 제목으로 찾지 않는다")
+    void reflectsUpdatesAndRemovals() {
+        index.index(1L, "Renamed");
+        index.remove(2L);
+
+        assertThat(index.search("spring")).isEmpty();
+        assertThat(index.search("renamed")).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("재구성은 DB 제목으로 색인을 맞추고 스캔에 없는 ID를 제거한다")
+    void rebuildReconcilesWithScan() {
+        assertThat(index.beginRebuild()).isTrue();
+        index.indexScanned(1L, "Spring Boot Template v2");
+        index.indexScanned(4L, "Spring Cloud");
+        index.endRebuild(true);
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.search("spring")).containsExactly(1L, 4L);
+        assertThat(index.search("v2")).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("재구성 중 변경 이벤트는 스캔 결과보다 우선한다")
+    void eventsDuringRebuildWin() {
+        index.beginRebuild();
+        index.index(1L, "Changed During Rebuild");
+        index.remove(3L);
+        index.index(5L, "Created During Rebuild");
+        index.indexScanned(1L, "Spring Boot Template");
+        index.indexScanned(3L, "Hello World");
+        index.endRebuild(true);
+
+        assertThat(index.search("during")).containsExactly(1L, 5L);
+        assertThat(index.search("hello")).isEmpty();
+        assertThat(index.search("spring")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("실패한 재구성은 색인을 지우지 않고, 진행 중에는 다시 시작하지 않는다")
+    void failedRebuildKeepsIndex() {
+        assertThat(index.beginRebuild()).isTrue();
+        assertThat(index.beginRebuild()).isFalse();
+        index.indexScanned(1L, "Spring Boot Template");
+        index.endRebuild(false);
+
+        assertThat(index.isReady()).isFalse();
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.beginRebuild()).isTrue();
+    }
+}
@@ -0,0 +1,98 @@
+package com.template.infrastructure.persistence.sharding;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConsistentHashRingTest {
+
+    private static final int VIRTUAL_NODES = 160;
+    private static final int KEYS = 30_000;
+
+    @Test
+    @DisplayName("가상 노드 160개면 키가 노드별로 고르게(기대값 ±20% 이내) 분산된다")
+    void distributesKeysEvenly() {
+        ConsistentHashRing<String> ring = ringOf("gpdb1", "gpdb2", "gpdb3");
+
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < KEYS; i++) {
+            counts.merge(ring.nodeFor(key(i)), 1, Integer::sum);
+        }
+
+        assertThat(counts).hasSize(3);
+        double expected = KEYS / 3.0;
+        counts.values().forEach(count -> assertThat((double) count).isBetween(expected * 0.8, expected * 1.2));
+    }
+
+    @Test
+    @DisplayName("같은 키는 링을 다시 만들어도 같은 노드로 간다")
+    void isStableAcrossInstances() {
+        ConsistentHashRing<String> first = ringOf("gpdb1", "gpdb2");
+        ConsistentHashRing<String> second = ringOf("gpdb2", "gpdb1");
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(second.nodeFor(key(i))).isEqualTo(first.nodeFor(key(i)));
+        }
+        assertThat(first.nodeFor(null)).isEqualTo(first.nodeFor(""));
+    }
+
+    @Test
+    @DisplayName("노드를 추가하면 약 1/N의 키만, 모두 새 노드로 이동한다")
+    void movesOnlyKeysOfAddedNode() {
+        ConsistentHashRing<String> before = ringOf("gpdb1", "gpdb2", "gpdb3");
+        ConsistentHashRing<String> after = ringOf("gpdb1", "gpdb2", "gpdb3", "gpdb4");
+
+        int moved = 0;
+        for (int i = 0; i < KEYS; i++) {
+            String from = before.nodeFor(key(i));
+            String to = after.nodeFor(key(i));
+            if (!from.equals(to)) {
+                moved++;
+                assertThat(to).isEqualTo("gpdb4");
+            }
+        }
+
+        assertThat((double) moved / KEYS).isBetween(0.15, 0.35);
+    }
+
+    @Test
+    @DisplayName("노드를 제거하면 제거된 노드의 키만 이동한다")
+    void movesOnlyKeysOfRemovedNode() {
+        ConsistentHashRing<String> before = ringOf("gpdb1", "gpdb2", "gpdb3");
+        ConsistentHashRing<String> after = ringOf("gpdb1", "gpdb2");
+
+        for (int i = 0; i < KEYS; i++) {
+            String from = before.nodeFor(key(i));
+            if (!from.equals("gpdb3")) {
+                assertThat(after.nodeFor(key(i))).isEqualTo(from);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("노드가 없거나 가상 노드 수가 1 미만이면 생성할 수 없다")
+    void rejectsInvalidArguments() {
+        assertThatThrownBy(() -> new ConsistentHashRing<>(Map.of(), VIRTUAL_NODES))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ConsistentHashRing<>(Map.of("gpdb1", "gpdb1"), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ConsistentHashRing<String> ringOf(String... names) {
+        Map<String, String> nodes = new LinkedHashMap<>();
+        for (String name : names) {
+            nodes.put(name, name);
+        }
+        return new ConsistentHashRing<>(nodes, VIRTUAL_NODES);
+    }
+
+    private static String key(int i) {
+        return "EVENT_TYPE_" + i;
+    }
+}
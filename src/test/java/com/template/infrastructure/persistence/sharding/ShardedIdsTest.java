@@ -0,0 +1,62 @@
+package com.template.infrastructure.persistence.sharding;
+
+import com.template.domain.analytics.AnalyticsData;
+import com.template.domain.analytics.AnalyticsDataCursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ShardedIdsTest {
+
+    private static final LocalDateTime AT = LocalDateTime.of(2026, 10, 1, 0, 0);
+
+    @Test
+    @DisplayName("같은 로컬 ID도 샤드가 다르면 전역 ID가 다르고, 샤드 번호와 로컬 ID로 되돌릴 수 있다")
+    void globalIdsAreDisjointAcrossShards() {
+        long first = ShardedIds.globalId(0, 42L);
+        long second = ShardedIds.globalId(1, 42L);
+
+        assertThat(first).isEqualTo(42L).isNotEqualTo(second);
+        assertThat(ShardedIds.shardOf(second)).isEqualTo(1);
+        assertThat(ShardedIds.localId(second)).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("로컬 ID가 전역 ID 범위를 벗어나면 거부된다")
+    void rejectsOutOfRangeLocalId() {
+        assertThatThrownBy(() -> ShardedIds.globalId(1, 1L << ShardedIds.SHARD_SHIFT))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> ShardedIds.globalId(1, -1L))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("데이터 ID만 전역 ID로 바뀌고 나머지 값은 유지된다")
+    void convertsDataToGlobalId() {
+        AnalyticsData data = AnalyticsData.builder()
+                .id(7L).eventType("CLICK").eventData("{}").occurredAt(AT).createdAt(AT)
+                .build();
+
+        AnalyticsData global = ShardedIds.toGlobal(1, data);
+
+        assertThat(global.getId()).isEqualTo(ShardedIds.globalId(1, 7L));
+        assertThat(global.getEventType()).isEqualTo("CLICK");
+        assertThat(global.getOccurredAt()).isEqualTo(AT);
+    }
+
+    @Test
+    @DisplayName("전역 커서는 샤드 번호에 따라 같은 시각의 이벤트를 모두 건너뛰거나, 이어서 읽거나, 모두 읽도록 변환된다")
+    void convertsCursorPerShard() {
+        AnalyticsDataCursor after = new AnalyticsDataCursor(AT, ShardedIds.globalId(1, 5L));
+
+        assertThat(ShardedIds.localCursor(0, after).id()).isEqualTo(Long.MAX_VALUE);
+        assertThat(ShardedIds.localCursor(1, after).id()).isEqualTo(5L);
+        assertThat(ShardedIds.localCursor(2, after).id()).isEqualTo(Long.MIN_VALUE);
+        assertThat(ShardedIds.localCursor(2, after).occurredAt()).isEqualTo(AT);
+        assertThat(ShardedIds.localCursor(0, null)).isNull();
+    }
+}